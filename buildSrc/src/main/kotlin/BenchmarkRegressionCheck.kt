@@ -0,0 +1,173 @@
+/*
+ * Copyright OpenSearch Contributors.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+import groovy.json.JsonOutput
+import groovy.json.JsonSlurper
+import org.gradle.api.DefaultTask
+import org.gradle.api.GradleException
+import org.gradle.api.file.DirectoryProperty
+import org.gradle.api.file.RegularFileProperty
+import org.gradle.api.provider.Property
+import org.gradle.api.tasks.Input
+import org.gradle.api.tasks.InputFile
+import org.gradle.api.tasks.OutputDirectory
+import org.gradle.api.tasks.PathSensitive
+import org.gradle.api.tasks.PathSensitivity
+import org.gradle.api.tasks.TaskAction
+
+/**
+ * Compares the allocation per operation and the throughput of a JMH result file against a baseline and fails when a
+ * benchmark allocates more or runs slower than the tolerances allow. Benchmarks without a baseline fail the check
+ * unless [failOnMissingBaseline] is turned off, so that an outdated baseline cannot let new benchmarks pass. A
+ * baseline without any benchmark has not been recorded yet, the check then only reports the results and warns.
+ * The comparison is written as JSON and HTML report.
+ */
+abstract class BenchmarkRegressionCheck : DefaultTask() {
+
+  @get:InputFile
+  @get:PathSensitive(PathSensitivity.NONE)
+  abstract val results: RegularFileProperty
+
+  @get:InputFile
+  @get:PathSensitive(PathSensitivity.NONE)
+  abstract val baseline: RegularFileProperty
+
+  /** Allowed relative increase of the bytes allocated per operation, 0.1 for 10%. */
+  @get:Input
+  abstract val allocationTolerance: Property<Double>
+
+  /** Allowed relative decrease of the operations per second, 0.2 for 20%. */
+  @get:Input
+  abstract val throughputTolerance: Property<Double>
+
+  /** Whether benchmarks missing from the baseline fail the check. */
+  @get:Input
+  abstract val failOnMissingBaseline: Property<Boolean>
+
+  @get:OutputDirectory
+  abstract val reportDirectory: DirectoryProperty
+
+  init {
+    failOnMissingBaseline.convention(true)
+  }
+
+  @TaskAction
+  fun check() {
+    val current = read(results.get().asFile)
+    val baselines = read(baseline.get().asFile)
+
+    val comparisons = current.map { (name, measurement) -> compare(name, measurement, baselines[name]) }
+    val regressions = comparisons.filter { it["status"] == "REGRESSION" }
+    val missing = comparisons.filter { it["status"] == "NO_BASELINE" }
+
+    val directory = reportDirectory.get().asFile
+    directory.mkdirs()
+    directory.resolve("report.json").writeText(JsonOutput.prettyPrint(JsonOutput.toJson(mapOf(
+      "allocationTolerance" to allocationTolerance.get(),
+      "throughputTolerance" to throughputTolerance.get(),
+      "benchmarks" to comparisons
+    ))))
+    directory.resolve("report.html").writeText(html(comparisons))
+
+    comparisons.forEach { logger.lifecycle(line(it)) }
+
+    if (regressions.isNotEmpty()) {
+      throw GradleException("${regressions.size} benchmark(s) regressed, see ${directory.resolve("report.html")}")
+    }
+    if (baselines.isEmpty()) {
+      logger.warn("No baseline recorded in ${baseline.get().asFile}, record one with updateBenchmarkBaseline on " +
+        "the machine that runs the check")
+    } else if (missing.isNotEmpty() && failOnMissingBaseline.get()) {
+      throw GradleException("${missing.size} benchmark(s) have no baseline in ${baseline.get().asFile}, record " +
+        "one with updateBenchmarkBaseline or pass -Pbenchmark.failOnMissingBaseline=false")
+    }
+  }
+
+  private fun compare(name: String, measurement: Measurement, baseline: Measurement?): Map<String, Any?> {
+    if (baseline == null) {
+      return mapOf("benchmark" to name, "status" to "NO_BASELINE", "throughput" to measurement.throughput,
+        "allocation" to measurement.allocation)
+    }
+
+    val throughputChange = change(measurement.throughput, baseline.throughput)
+    val allocationChange = change(measurement.allocation, baseline.allocation)
+    val regressed = (throughputChange != null && throughputChange < -throughputTolerance.get())
+      || (allocationChange != null && allocationChange > allocationTolerance.get())
+
+    return mapOf(
+      "benchmark" to name,
+      "status" to if (regressed) "REGRESSION" else "OK",
+      "throughput" to measurement.throughput,
+      "baselineThroughput" to baseline.throughput,
+      "throughputChange" to throughputChange,
+      "allocation" to measurement.allocation,
+      "baselineAllocation" to baseline.allocation,
+      "allocationChange" to allocationChange
+    )
+  }
+
+  private fun change(current: Double?, baseline: Double?): Double? =
+    if (current == null || baseline == null || baseline == 0.0) null else (current - baseline) / baseline
+
+  private fun line(comparison: Map<String, Any?>): String =
+    String.format("%-12s %s  %s ops/s (%s)  %s B/op (%s)", comparison["status"], comparison["benchmark"],
+      number(comparison["throughput"]), percent(comparison["throughputChange"]),
+      number(comparison["allocation"]), percent(comparison["allocationChange"]))
+
+  private fun html(comparisons: List<Map<String, Any?>>): String {
+    val rows = comparisons.joinToString("\n") {
+      val style = if (it["status"] == "REGRESSION") " style=\"background:#fdd\"" else ""
+      "<tr$style><td>${it["status"]}</td><td>${escape(it["benchmark"].toString())}</td>" +
+        "<td>${number(it["throughput"])}</td><td>${number(it["baselineThroughput"])}</td>" +
+        "<td>${percent(it["throughputChange"])}</td><td>${number(it["allocation"])}</td>" +
+        "<td>${number(it["baselineAllocation"])}</td><td>${percent(it["allocationChange"])}</td></tr>"
+    }
+    return """
+      |<!DOCTYPE html>
+      |<html><head><meta charset="utf-8"><title>Benchmark regression check</title></head><body>
+      |<h1>Benchmark regression check</h1>
+      |<p>Tolerances: allocation +${percent(allocationTolerance.get())}, throughput -${percent(throughputTolerance.get())}</p>
+      |<table border="1" cellpadding="4" cellspacing="0">
+      |<tr><th>Status</th><th>Benchmark</th><th>ops/s</th><th>Baseline ops/s</th><th>Change</th><th>B/op</th><th>Baseline B/op</th><th>Change</th></tr>
+      |$rows
+      |</table></body></html>
+      |""".trimMargin()
+  }
+
+  private fun number(value: Any?): String = if (value is Number) String.format("%,.1f", value.toDouble()) else "-"
+
+  private fun percent(value: Any?): String =
+    if (value is Number) String.format("%+.1f%%", value.toDouble() * 100) else "-"
+
+  private fun escape(value: String): String = value.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;")
+
+  private class Measurement(val throughput: Double?, val allocation: Double?)
+
+  /**
+   * Reads a JMH result file into measurements keyed by the short benchmark name and its parameters, for example
+   * `SearchRequestBenchmarks.searchRequest[queryType=criteria]`.
+   */
+  private fun read(file: java.io.File): Map<String, Measurement> {
+    @Suppress("UNCHECKED_CAST")
+    val entries = JsonSlurper().parse(file) as List<Map<String, Any?>>
+
+    return entries.associate { entry ->
+      val benchmark = (entry["benchmark"] as String).split('.').takeLast(2).joinToString(".")
+      @Suppress("UNCHECKED_CAST")
+      val params = (entry["params"] as Map<String, Any?>?).orEmpty().toSortedMap()
+        .map { (key, value) -> "$key=$value" }.joinToString(",")
+      val name = if (params.isEmpty()) benchmark else "$benchmark[$params]"
+
+      @Suppress("UNCHECKED_CAST")
+      val primary = entry["primaryMetric"] as Map<String, Any?>
+      @Suppress("UNCHECKED_CAST")
+      val secondary = (entry["secondaryMetrics"] as Map<String, Map<String, Any?>>?).orEmpty()
+      // JMH before 1.36 prefixes the profiler metrics with a middle dot
+      val allocation = secondary.entries.firstOrNull { it.key.endsWith("gc.alloc.rate.norm") }?.value?.get("score")
+
+      name to Measurement((primary["score"] as Number?)?.toDouble(), (allocation as Number?)?.toDouble())
+    }
+  }
+}
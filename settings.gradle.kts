@@ -54,6 +54,18 @@ dependencyResolutionManagement {
       library("databind", "tools.jackson.core", "jackson-databind").versionRef("jackson")
     }
     
+    create("micrometerLibs") {
+      version("micrometer", "1.16.4")
+      library("core", "io.micrometer", "micrometer-core").versionRef("micrometer")
+      library("observation", "io.micrometer", "micrometer-observation").versionRef("micrometer")
+    }
+
+    create("benchmarkLibs") {
+      version("jmh", "1.37")
+      library("jmh-core", "org.openjdk.jmh", "jmh-core").versionRef("jmh")
+      library("jmh-generator", "org.openjdk.jmh", "jmh-generator-annprocess").versionRef("jmh")
+    }
+
     create("jakarta") {
       library("json-bind", "jakarta.json.bind:jakarta.json.bind-api:2.0.0")
     }
@@ -62,9 +74,11 @@ dependencyResolutionManagement {
       version("spotless", "6.25.0")
       version("editorconfig", "0.0.3")
       version("release", "3.1.0")
+      version("jmh", "0.7.3")
       plugin("editorconfig", "org.ec4j.editorconfig").versionRef("editorconfig")
       plugin("spotless", "com.diffplug.spotless").versionRef("spotless")
       plugin("release", "net.researchgate.release").versionRef("release")
+      plugin("jmh", "me.champeau.jmh").versionRef("jmh")
       library("editorconfig", "gradle.plugin.org.ec4j.gradle", "editorconfig-gradle-plugin").versionRef("editorconfig")
       library("spotless", "com.diffplug.spotless", "spotless-plugin-gradle").versionRef("spotless")
       library("release", "net.researchgate", "gradle-release").versionRef("release")
@@ -96,6 +110,7 @@ dependencyResolutionManagement {
 }
 
 include("spring-data-opensearch")
+include("spring-data-opensearch-benchmarks")
 include("spring-data-opensearch-docker-compose")
 include("spring-data-opensearch-starter")
 include("spring-data-opensearch-test-autoconfigure")
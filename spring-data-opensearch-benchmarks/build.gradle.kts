@@ -0,0 +1,136 @@
+/*
+ * Copyright OpenSearch Contributors.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+plugins {
+  alias(pluginLibs.plugins.spotless)
+  alias(pluginLibs.plugins.editorconfig)
+  alias(pluginLibs.plugins.jmh)
+  id("java-conventions")
+}
+
+buildscript {
+  dependencies {
+    classpath(pluginLibs.editorconfig)
+    classpath(pluginLibs.spotless)
+  }
+}
+
+val loadtest by sourceSets.creating
+
+dependencies {
+  jmh(project(":spring-data-opensearch"))
+  jmh(jacksonLibs.core)
+  jmh(jacksonLibs.databind)
+  jmh(opensearchLibs.java.client) {
+    exclude("com.fasterxml.jackson.core", "*")
+    exclude("com.fasterxml.jackson.databind", "*")
+  }
+  jmh(benchmarkLibs.jmh.core)
+  jmhAnnotationProcessor(benchmarkLibs.jmh.generator)
+
+  "loadtestImplementation"(project(":spring-data-opensearch"))
+  "loadtestImplementation"(jacksonLibs.core)
+  "loadtestImplementation"(jacksonLibs.databind)
+  "loadtestImplementation"(opensearchLibs.java.client) {
+    exclude("com.fasterxml.jackson.core", "*")
+    exclude("com.fasterxml.jackson.databind", "*")
+  }
+  "loadtestImplementation"("org.wiremock:wiremock:3.13.2") {
+    exclude("commons-logging", "commons-logging")
+    exclude("org.ow2.asm", "asm")
+  }
+}
+
+description = "Spring Data OpenSearch Benchmarks"
+
+// Runs all benchmarks unless a pattern is given, for example -Pjmh.includes=RequestConverter
+jmh {
+  jmhVersion.set(benchmarkLibs.versions.jmh)
+  includes.set(listOfNotNull(providers.gradleProperty("jmh.includes").orNull))
+  fork.set(1)
+  warmupIterations.set(3)
+  warmup.set("2s")
+  iterations.set(5)
+  timeOnIteration.set("2s")
+  profilers.add("gc")
+  resultFormat.set("JSON")
+  resultsFile.set(layout.buildDirectory.file("results/jmh/results.json"))
+  jvmArgs.addAll("-Xms1g", "-Xmx1g")
+}
+
+// Short suite of the hot paths whose allocation and throughput are compared against the committed baseline
+val benchmarkGateResults = layout.buildDirectory.file("results/jmh-gate/results.json")
+
+val jmhGate = tasks.register<JavaExec>("jmhGate") {
+  group = "benchmark"
+  description = "Runs the short benchmark suite compared by benchmarkRegressionCheck"
+  val jmhJar = tasks.named<Jar>("jmhJar")
+  dependsOn(jmhJar)
+  classpath = files(jmhJar.flatMap { it.archiveFile })
+  mainClass.set("org.openjdk.jmh.Main")
+  args(
+    "SearchRequestBenchmarks.searchRequest|BulkRequestBenchmarks.documentBulkRequest|SearchResponseBenchmarks.readEntities",
+    "-p", "entities=1000", "-p", "lazyDocuments=false",
+    "-p", "client=osc", "-p", "hits=100", "-p", "shape=PLAIN",
+    "-f", "1", "-wi", "3", "-w", "1s", "-i", "5", "-r", "1s", "-bm", "thrpt", "-tu", "s",
+    "-jvmArgs", "-Xms1g -Xmx1g",
+    "-prof", "gc", "-rf", "json", "-rff", benchmarkGateResults.get().asFile.path
+  )
+  outputs.file(benchmarkGateResults)
+  doFirst {
+    benchmarkGateResults.get().asFile.parentFile.mkdirs()
+  }
+}
+
+// Fails on regressions, the tolerances can be overridden with -Pbenchmark.allocationTolerance=0.05 and the baseline
+// with -Pbenchmark.baseline=<results.json of another run>; the benchmark-gate job of the main and pull request
+// workflow runs it against the results of the pull request's base commit
+tasks.register<BenchmarkRegressionCheck>("benchmarkRegressionCheck") {
+  group = "verification"
+  description = "Compares the allocation and throughput of the short benchmark suite against a baseline"
+  dependsOn(jmhGate)
+  results.set(benchmarkGateResults)
+  baseline.set(providers.gradleProperty("benchmark.baseline").map { layout.projectDirectory.file(it) }
+    .orElse(layout.projectDirectory.file("baselines/benchmark-gate.json")))
+  allocationTolerance.set(providers.gradleProperty("benchmark.allocationTolerance").map { it.toDouble() }.orElse(0.10))
+  throughputTolerance.set(providers.gradleProperty("benchmark.throughputTolerance").map { it.toDouble() }.orElse(0.25))
+  failOnMissingBaseline.set(providers.gradleProperty("benchmark.failOnMissingBaseline").map { it.toBoolean() }
+    .orElse(true))
+  reportDirectory.set(layout.buildDirectory.dir("reports/benchmark-regression"))
+}
+
+tasks.register<Copy>("updateBenchmarkBaseline") {
+  group = "benchmark"
+  description = "Replaces the committed baseline with the results of the short benchmark suite"
+  dependsOn(jmhGate)
+  from(benchmarkGateResults)
+  into(layout.projectDirectory.dir("baselines"))
+  rename { "benchmark-gate.json" }
+}
+
+// Drives a template against a local stub cluster, for example
+// -Ploadtest.template=reactive -Ploadtest.operation=bulk -Ploadtest.concurrency=64 -Ploadtest.latency=uniform:2ms:20ms
+tasks.register<JavaExec>("loadTest") {
+  group = "benchmark"
+  description = "Runs the load test of the templates against a local stub cluster"
+  classpath = loadtest.runtimeClasspath
+  mainClass.set("org.opensearch.data.client.loadtest.LoadTest")
+  jvmArgs("-Xms1g", "-Xmx1g")
+  systemProperties(providers.gradlePropertiesPrefixedBy("loadtest.").get())
+  systemProperty("loadtest.resultsDirectory", layout.buildDirectory.dir("results/loadtest").get().asFile.path)
+}
+
+spotless {
+  java {
+    target("src/jmh/java/**/*.java", "src/loadtest/java/**/*.java")
+
+    trimTrailingWhitespace()
+    indentWithSpaces()
+    endWithNewline()
+
+    removeUnusedImports()
+    importOrder()
+  }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.opensearch.client.json.jackson.JacksonJsonpMapper;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.elasticsearch.annotations.DateFormat;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.annotations.Field;
+import org.springframework.data.elasticsearch.annotations.FieldType;
+import org.springframework.data.elasticsearch.core.convert.MappingElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.mapping.SimpleElasticsearchMappingContext;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQueryBuilder;
+
+/**
+ * Entities, converter and mapper shared by the benchmarks. The entities are shaped like typical catalog documents
+ * with text, keyword, numeric, date and nested fields.
+ */
+final class BenchmarkFixtures {
+
+    static final IndexCoordinates PRODUCTS = IndexCoordinates.of("benchmark-products");
+
+    private BenchmarkFixtures() {}
+
+    static MappingElasticsearchConverter converter() {
+
+        SimpleElasticsearchMappingContext mappingContext = new SimpleElasticsearchMappingContext();
+        mappingContext.setInitialEntitySet(Set.of(Product.class));
+        mappingContext.afterPropertiesSet();
+
+        MappingElasticsearchConverter converter = new MappingElasticsearchConverter(mappingContext);
+        converter.afterPropertiesSet();
+        return converter;
+    }
+
+    static JacksonJsonpMapper jsonpMapper() {
+        return new JacksonJsonpMapper();
+    }
+
+    static RequestConverter requestConverter() {
+        return new RequestConverter(converter(), jsonpMapper());
+    }
+
+    static Product product(int i) {
+
+        Product product = new Product();
+        product.id = "product-" + i;
+        product.name = "Product " + i;
+        product.description = "A product with a description long enough to resemble a catalog entry, number " + i;
+        product.price = 10 + (i % 1000) / 10.0;
+        product.stock = i % 250;
+        product.tags = List.of("tag-" + (i % 7), "tag-" + (i % 13), "tag-" + (i % 31));
+        product.available = LocalDate.of(2024, 1, 1).plusDays(i % 365);
+        product.variants = List.of(new Variant("S", i % 10), new Variant("M", i % 20), new Variant("L", i % 5));
+        return product;
+    }
+
+    static List<IndexQuery> indexQueries(int count) {
+
+        List<IndexQuery> queries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Product product = product(i);
+            queries.add(new IndexQueryBuilder().withId(product.id).withObject(product).build());
+        }
+        return queries;
+    }
+
+    @Document(indexName = "benchmark-products")
+    static class Product {
+        @Id String id;
+        @Field(type = FieldType.Text) String name;
+        @Field(type = FieldType.Text) String description;
+        @Field(type = FieldType.Double) double price;
+        @Field(type = FieldType.Integer) int stock;
+        @Field(type = FieldType.Keyword) List<String> tags;
+        @Field(type = FieldType.Date, format = DateFormat.date) LocalDate available;
+        @Field(type = FieldType.Nested) List<Variant> variants;
+    }
+
+    static class Variant {
+        @Field(type = FieldType.Keyword) String size;
+        @Field(type = FieldType.Integer) int stock;
+
+        Variant() {}
+
+        Variant(String size, int stock) {
+            this.size = size;
+            this.stock = stock;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import java.util.List;
+import org.opensearch.client.opensearch.core.BulkRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.elasticsearch.core.query.BulkOptions;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+
+/**
+ * Builds bulk requests for entities. With lazy documents the entities are only converted when the request is
+ * serialized, so that variant measures the request assembly alone.
+ */
+@State(Scope.Benchmark)
+public class BulkRequestBenchmarks {
+
+    @Param({ "1000", "10000" }) int entities;
+
+    @Param({ "false", "true" }) boolean lazyDocuments;
+
+    private RequestConverter requestConverter;
+    private List<IndexQuery> queries;
+
+    @Setup
+    public void setup() {
+        requestConverter = BenchmarkFixtures.requestConverter();
+        queries = BenchmarkFixtures.indexQueries(entities);
+    }
+
+    @Benchmark
+    public BulkRequest documentBulkRequest() {
+        return requestConverter.documentBulkRequest(queries, BulkOptions.defaultOptions(), BenchmarkFixtures.PRODUCTS,
+                null, lazyDocuments);
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import org.opensearch.client.opensearch._types.query_dsl.Query;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.elasticsearch.core.query.Criteria;
+
+/**
+ * Creates queries from criteria chains as derived query methods and criteria queries produce them: conditions joined
+ * with and and or, with a nested sub criteria every fifth link.
+ */
+@State(Scope.Benchmark)
+public class CriteriaQueryBenchmarks {
+
+    @Param({ "5", "25", "100" }) int depth;
+
+    private Criteria criteria;
+
+    @Setup
+    public void setup() {
+
+        Criteria chain = new Criteria("field0").is("value0");
+        for (int i = 1; i < depth; i++) {
+            Criteria link = new Criteria("field" + i).is("value" + i);
+            if (i % 5 == 0) {
+                chain = chain.subCriteria(
+                        new Criteria("nested" + i).contains("part").or("other" + i).startsWith("pre"));
+            } else if (i % 2 == 0) {
+                chain = chain.or(link);
+            } else {
+                chain = chain.and(link);
+            }
+        }
+        criteria = chain;
+    }
+
+    @Benchmark
+    public Query createQuery() {
+        return CriteriaQueryProcessor.createQuery(criteria);
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import org.opensearch.client.json.jackson.JacksonJsonpMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.elasticsearch.core.query.Criteria;
+import org.springframework.data.elasticsearch.core.query.CriteriaQuery;
+
+/**
+ * Serializes request parts with {@link JsonUtils#toJson(Object, org.opensearch.client.json.JsonpMapper)}, which
+ * renders the requests of the slow operation log and the error bodies of failed requests.
+ */
+@State(Scope.Benchmark)
+public class JsonSerializationBenchmarks {
+
+    @Param({ "query", "searchRequest" }) String payload;
+
+    private JacksonJsonpMapper jsonpMapper;
+    private Object object;
+
+    @Setup
+    public void setup() {
+
+        jsonpMapper = BenchmarkFixtures.jsonpMapper();
+        CriteriaQuery query = new CriteriaQuery(new Criteria("name").matches("phone") //
+                .and(new Criteria("price").between(10, 100)) //
+                .and(new Criteria("tags").in("tag-1", "tag-2", "tag-3")));
+        object = switch (payload) {
+            case "query" -> CriteriaQueryProcessor.createQuery(query.getCriteria());
+            case "searchRequest" -> BenchmarkFixtures.requestConverter().searchRequest(query, null,
+                    BenchmarkFixtures.Product.class, BenchmarkFixtures.PRODUCTS, false);
+            default -> throw new IllegalArgumentException("unknown payload " + payload);
+        };
+    }
+
+    @Benchmark
+    public String toJson() {
+        return JsonUtils.toJson(object, jsonpMapper);
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Canned search response bodies as the cluster returns them to both clients, with typed keys for the aggregations.
+ * The hits are documents of {@link BenchmarkFixtures.Product}.
+ */
+final class ResponseBodies {
+
+    private ResponseBodies() {}
+
+    /**
+     * What the hits carry besides their source.
+     */
+    enum Shape {
+
+        PLAIN,
+
+        HIGHLIGHTS,
+
+        INNER_HITS,
+
+        AGGREGATIONS,
+
+        FIELDS,
+
+        /**
+         * Fifty nested variants per hit instead of three.
+         */
+        LARGE_NESTED
+    }
+
+    static byte[] searchResponse(int hits, Shape shape) {
+
+        StringBuilder body = new StringBuilder(hits * 600);
+        body.append("{\"took\":12,\"timed_out\":false,") //
+                .append("\"_shards\":{\"total\":3,\"successful\":3,\"skipped\":0,\"failed\":0},") //
+                .append("\"hits\":{\"total\":{\"value\":").append(hits * 10).append(",\"relation\":\"eq\"},") //
+                .append("\"max_score\":1.0,\"hits\":[");
+
+        for (int i = 0; i < hits; i++) {
+            if (i > 0) {
+                body.append(',');
+            }
+            hit(body, i, shape);
+        }
+        body.append("]}");
+
+        if (shape == Shape.AGGREGATIONS) {
+            body.append(",\"aggregations\":{\"sterms#by_tag\":{\"doc_count_error_upper_bound\":0,")
+                    .append("\"sum_other_doc_count\":0,\"buckets\":[");
+            for (int i = 0; i < 31; i++) {
+                if (i > 0) {
+                    body.append(',');
+                }
+                body.append("{\"key\":\"tag-").append(i).append("\",\"doc_count\":").append(100 - i).append('}');
+            }
+            body.append("]},\"avg#avg_price\":{\"value\":54.95},") //
+                    .append("\"date_histogram#per_month\":{\"buckets\":[");
+            for (int i = 0; i < 12; i++) {
+                if (i > 0) {
+                    body.append(',');
+                }
+                body.append("{\"key_as_string\":\"2024-").append(String.format("%02d", i + 1))
+                        .append("-01T00:00:00.000Z\",\"key\":").append(1704067200000L + i * 2_629_746_000L)
+                        .append(",\"doc_count\":").append(40 + i).append('}');
+            }
+            body.append("]}}");
+        }
+
+        return body.append('}').toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void hit(StringBuilder body, int i, Shape shape) {
+
+        body.append("{\"_index\":\"benchmark-products\",\"_id\":\"product-").append(i).append("\",\"_score\":1.0,");
+        body.append("\"_source\":");
+        source(body, i, shape == Shape.LARGE_NESTED ? 50 : 3);
+
+        switch (shape) {
+            case HIGHLIGHTS -> body.append(",\"highlight\":{\"name\":[\"<em>Product</em> ").append(i)
+                    .append("\"],\"description\":[\"A <em>product</em> with a description long enough\",")
+                    .append("\"to resemble a catalog entry, <em>number</em> ").append(i).append("\"]}");
+            case FIELDS -> body.append(",\"fields\":{\"price\":[").append(10 + (i % 1000) / 10.0)
+                    .append("],\"tags\":[\"tag-").append(i % 7).append("\",\"tag-").append(i % 13)
+                    .append("\"],\"available\":[\"2024-01-01\"]}");
+            case INNER_HITS -> {
+                body.append(",\"inner_hits\":{\"variants\":{\"hits\":{\"total\":{\"value\":3,\"relation\":\"eq\"},")
+                        .append("\"max_score\":1.0,\"hits\":[");
+                for (int v = 0; v < 3; v++) {
+                    if (v > 0) {
+                        body.append(',');
+                    }
+                    body.append("{\"_index\":\"benchmark-products\",\"_id\":\"product-").append(i)
+                            .append("\",\"_nested\":{\"field\":\"variants\",\"offset\":").append(v)
+                            .append("},\"_score\":1.0,\"_source\":{\"size\":\"").append(size(v))
+                            .append("\",\"stock\":").append(v + i % 10).append("}}");
+                }
+                body.append("]}}}");
+            }
+            default -> {
+            }
+        }
+
+        body.append('}');
+    }
+
+    private static void source(StringBuilder body, int i, int variants) {
+
+        body.append("{\"id\":\"product-").append(i) //
+                .append("\",\"name\":\"Product ").append(i) //
+                .append("\",\"description\":\"A product with a description long enough to resemble a catalog entry,")
+                .append(" number ").append(i) //
+                .append("\",\"price\":").append(10 + (i % 1000) / 10.0) //
+                .append(",\"stock\":").append(i % 250) //
+                .append(",\"tags\":[\"tag-").append(i % 7).append("\",\"tag-").append(i % 13).append("\",\"tag-")
+                .append(i % 31).append("\"]") //
+                .append(",\"available\":\"2024-0").append(1 + i % 9).append("-1").append(i % 10).append('"') //
+                .append(",\"variants\":[");
+        for (int v = 0; v < variants; v++) {
+            if (v > 0) {
+                body.append(',');
+            }
+            body.append("{\"size\":\"").append(size(v)).append("\",\"stock\":").append(v + i % 10).append('}');
+        }
+        body.append("]}");
+    }
+
+    private static String size(int variant) {
+        return switch (variant % 5) {
+            case 0 -> "XS";
+            case 1 -> "S";
+            case 2 -> "M";
+            case 3 -> "L";
+            default -> "XL";
+        };
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import org.opensearch.client.json.JsonData;
+import org.opensearch.client.opensearch._types.SortOrder;
+import org.opensearch.client.opensearch._types.aggregations.Aggregation;
+import org.opensearch.client.opensearch.core.SearchRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.elasticsearch.core.query.Criteria;
+import org.springframework.data.elasticsearch.core.query.CriteriaQuery;
+import org.springframework.data.elasticsearch.core.query.Query;
+import org.springframework.data.elasticsearch.core.query.StringQuery;
+
+/**
+ * Builds search requests from the three kinds of queries the templates accept. Each query is paged, sorted and
+ * targets a mapped entity, so the request building includes the property to field name mapping.
+ */
+@State(Scope.Benchmark)
+public class SearchRequestBenchmarks {
+
+    @Param({ "criteria", "string", "native" }) String queryType;
+
+    private RequestConverter requestConverter;
+    private Query query;
+
+    @Setup
+    public void setup() {
+
+        requestConverter = BenchmarkFixtures.requestConverter();
+        query = switch (queryType) {
+            case "criteria" -> new CriteriaQuery(new Criteria("name").matches("phone") //
+                    .and(new Criteria("price").between(10, 100)) //
+                    .and(new Criteria("tags").in("tag-1", "tag-2", "tag-3")) //
+                    .and(new Criteria("stock").greaterThan(0)));
+            case "string" -> new StringQuery("""
+                    { "bool": { "must": [ { "match": { "name": "phone" } } ],
+                      "filter": [ { "range": { "price": { "gte": 10, "lte": 100 } } },
+                                  { "terms": { "tags": [ "tag-1", "tag-2", "tag-3" ] } } ] } }
+                    """);
+            case "native" -> NativeQuery.builder() //
+                    .withQuery(q -> q.bool(b -> b //
+                            .must(m -> m.match(t -> t.field("name").query(v -> v.stringValue("phone")))) //
+                            .filter(f -> f.range(r -> r.field("price").gte(JsonData.of(10)).lte(JsonData.of(100)))))) //
+                    .withAggregation("by_tag", Aggregation.of(a -> a.terms(t -> t.field("tags").size(10)))) //
+                    .withSort(s -> s.field(f -> f.field("price").order(SortOrder.Desc))) //
+                    .build();
+            default -> throw new IllegalArgumentException("unknown query type " + queryType);
+        };
+        query.setPageable(PageRequest.of(2, 20, Sort.by("price")));
+    }
+
+    @Benchmark
+    public SearchRequest searchRequest() {
+        return requestConverter.searchRequest(query, null, BenchmarkFixtures.Product.class,
+                BenchmarkFixtures.PRODUCTS, false);
+    }
+}
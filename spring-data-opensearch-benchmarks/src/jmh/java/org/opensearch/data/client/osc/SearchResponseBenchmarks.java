@@ -0,0 +1,145 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import jakarta.json.stream.JsonParser;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.jackson.JacksonJsonpMapper;
+import org.opensearch.client.opensearch.core.SearchResponse;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.xcontent.json.JsonXContent;
+import org.opensearch.core.xcontent.DeprecationHandler;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.search.SearchModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.elasticsearch.core.SearchHitMapping;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.convert.MappingElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.document.SearchDocumentResponse;
+
+/**
+ * Reads canned search responses the way the templates do, in three stages that each include the previous ones:
+ * parsing the body, building the {@link SearchDocumentResponse} with its documents and mapping the documents to
+ * entities. The {@code osc} client parses the sources into {@link EntityAsMap}, the {@code orhlc} client into
+ * {@link org.opensearch.action.search.SearchResponse} with lazily parsed sources.
+ */
+@State(Scope.Benchmark)
+public class SearchResponseBenchmarks {
+
+    @Param({ "osc", "orhlc" }) String client;
+
+    @Param({ "10", "100", "1000" }) int hits;
+
+    @Param({ "PLAIN", "HIGHLIGHTS", "INNER_HITS", "AGGREGATIONS", "FIELDS",
+        "LARGE_NESTED" }) ResponseBodies.Shape shape;
+
+    private byte[] body;
+    private MappingElasticsearchConverter converter;
+    private SearchDocumentResponse.EntityCreator<BenchmarkFixtures.Product> entityCreator;
+    private ResponseReader reader;
+
+    @Setup
+    public void setup() {
+
+        body = ResponseBodies.searchResponse(hits, shape);
+        converter = BenchmarkFixtures.converter();
+        entityCreator = document -> CompletableFuture
+                .completedFuture(converter.read(BenchmarkFixtures.Product.class, document));
+        reader = switch (client) {
+            case "osc" -> new JavaClientReader(BenchmarkFixtures.jsonpMapper());
+            case "orhlc" -> new RestHighLevelClientReader();
+            default -> throw new IllegalArgumentException("unknown client " + client);
+        };
+    }
+
+    @Benchmark
+    public Object parse() throws IOException {
+        return reader.parse(body);
+    }
+
+    @Benchmark
+    public SearchDocumentResponse buildDocumentResponse() throws IOException {
+        return reader.documentResponse(reader.parse(body), entityCreator);
+    }
+
+    @Benchmark
+    public SearchHits<BenchmarkFixtures.Product> readEntities() throws IOException {
+
+        SearchDocumentResponse response = reader.documentResponse(reader.parse(body), entityCreator);
+        List<BenchmarkFixtures.Product> entities = response.getSearchDocuments().stream()
+                .map(document -> converter.read(BenchmarkFixtures.Product.class, document))
+                .toList();
+        return SearchHitMapping.mappingFor(BenchmarkFixtures.Product.class, converter).mapHits(response, entities);
+    }
+
+    private interface ResponseReader {
+
+        Object parse(byte[] body) throws IOException;
+
+        SearchDocumentResponse documentResponse(Object response,
+                SearchDocumentResponse.EntityCreator<BenchmarkFixtures.Product> entityCreator);
+    }
+
+    private static class JavaClientReader implements ResponseReader {
+
+        private final JacksonJsonpMapper jsonpMapper;
+        private final JsonpDeserializer<SearchResponse<EntityAsMap>> deserializer = SearchResponse
+                .createSearchResponseDeserializer(JsonpDeserializer.of(EntityAsMap.class));
+
+        JavaClientReader(JacksonJsonpMapper jsonpMapper) {
+            this.jsonpMapper = jsonpMapper;
+        }
+
+        @Override
+        public Object parse(byte[] body) {
+            try (JsonParser parser = jsonpMapper.jsonProvider().createParser(new ByteArrayInputStream(body))) {
+                return deserializer.deserialize(parser, jsonpMapper);
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public SearchDocumentResponse documentResponse(Object response,
+                SearchDocumentResponse.EntityCreator<BenchmarkFixtures.Product> entityCreator) {
+            return SearchDocumentResponseBuilder.from((SearchResponse<EntityAsMap>) response, entityCreator,
+                    jsonpMapper);
+        }
+    }
+
+    private static class RestHighLevelClientReader implements ResponseReader {
+
+        private final NamedXContentRegistry registry = new NamedXContentRegistry(
+                new SearchModule(Settings.EMPTY, List.of()).getNamedXContents());
+
+        @Override
+        public Object parse(byte[] body) throws IOException {
+            try (XContentParser parser = JsonXContent.jsonXContent.createParser(registry,
+                    DeprecationHandler.IGNORE_DEPRECATIONS, body)) {
+                return org.opensearch.action.search.SearchResponse.fromXContent(parser);
+            }
+        }
+
+        @Override
+        public SearchDocumentResponse documentResponse(Object response,
+                SearchDocumentResponse.EntityCreator<BenchmarkFixtures.Product> entityCreator) {
+            return org.opensearch.data.client.orhlc.SearchDocumentResponseBuilder
+                    .from((org.opensearch.action.search.SearchResponse) response, entityCreator);
+        }
+    }
+}
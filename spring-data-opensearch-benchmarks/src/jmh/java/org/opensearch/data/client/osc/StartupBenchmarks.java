@@ -0,0 +1,189 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+
+package org.opensearch.data.client.osc;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.opensearch.OpenSearchClient;
+import org.opensearch.client.opensearch.indices.GetAliasRequest;
+import org.opensearch.client.opensearch.indices.GetAliasResponse;
+import org.opensearch.client.opensearch.indices.get_alias.IndexAliases;
+import org.opensearch.client.transport.Endpoint;
+import org.opensearch.client.transport.OpenSearchTransport;
+import org.opensearch.client.transport.TransportOptions;
+import org.opensearch.client.transport.endpoints.BooleanResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.client.ClientConfiguration;
+import org.springframework.data.elasticsearch.core.convert.MappingElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.index.MappingBuilder;
+import org.springframework.data.elasticsearch.core.mapping.SimpleElasticsearchMappingContext;
+
+/**
+ * Measures the phases an application goes through before its first request: scanning for entities, initializing the
+ * mapping context and building the index mapping, creating the client and its transport, and bootstrapping the
+ * indices of the repositories. Each phase is timed as a single shot, which is what an application pays once at startup,
+ * rather than as throughput.
+ * <p>
+ * The index bootstrap runs against a transport answering every request after a fixed latency, so it compares the
+ * existence checks the repositories send one after the other with the single request for the names of all indices
+ * and aliases a {@link RepositoryIndexBootstrap} answers them from.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class StartupBenchmarks {
+
+    @Param({ "sequential", "parallel" }) String bootstrap;
+
+    @Param({ "10", "50" }) int repositories;
+
+    private ExecutorService executor;
+    private OpenSearchTemplate template;
+
+    @Setup
+    public void setup() {
+
+        executor = Executors.newFixedThreadPool(4);
+        template = new OpenSearchTemplate(new OpenSearchClient(new LatencyTransport(Duration.ofMillis(5))),
+                BenchmarkFixtures.converter());
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public Set<BeanDefinition> entityScan() {
+
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter(new AnnotationTypeFilter(Document.class));
+        return scanner.findCandidateComponents(StartupBenchmarks.class.getPackageName());
+    }
+
+    @Benchmark
+    public String mappingContext() {
+
+        SimpleElasticsearchMappingContext mappingContext = new SimpleElasticsearchMappingContext();
+        mappingContext.setInitialEntitySet(Set.of(BenchmarkFixtures.Product.class));
+        mappingContext.afterPropertiesSet();
+
+        MappingElasticsearchConverter converter = new MappingElasticsearchConverter(mappingContext);
+        converter.afterPropertiesSet();
+        return new MappingBuilder(converter).buildPropertyMapping(BenchmarkFixtures.Product.class);
+    }
+
+    @Benchmark
+    public OpenSearchTransport clientCreation() throws IOException {
+
+        OpenSearchClient client = OpenSearchClients.createImperative(ClientConfiguration.create("localhost:9200"));
+        OpenSearchTransport transport = client._transport();
+        transport.close();
+        return transport;
+    }
+
+    @Benchmark
+    public int indexBootstrap() {
+
+        if (bootstrap.equals("sequential")) {
+            int existing = 0;
+            for (int i = 0; i < repositories; i++) {
+                existing += template.indexOps(BenchmarkFixtures.Product.class).exists() ? 1 : 0;
+            }
+            return existing;
+        }
+
+        int existing = 0;
+        RepositoryIndexBootstrap indexBootstrap = new RepositoryIndexBootstrap(executor);
+        try (RepositoryIndexBootstrap.Scope ignored = indexBootstrap.bootstrapRepositories()) {
+            for (int i = 0; i < repositories; i++) {
+                existing += template.indexOps(BenchmarkFixtures.Product.class).exists() ? 1 : 0;
+            }
+        }
+        indexBootstrap.await(Duration.ofMinutes(1));
+        return existing;
+    }
+
+    /**
+     * Answers every request with an existing index of the benchmark entity after a fixed latency.
+     */
+    static class LatencyTransport implements OpenSearchTransport {
+
+        private final Duration latency;
+        private final JsonpMapper mapper = BenchmarkFixtures.jsonpMapper();
+
+        LatencyTransport(Duration latency) {
+            this.latency = latency;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <RequestT, ResponseT, ErrorT> ResponseT performRequest(RequestT request,
+                Endpoint<RequestT, ResponseT, ErrorT> endpoint, TransportOptions options) throws IOException {
+
+            try {
+                Thread.sleep(latency.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+            if (request instanceof GetAliasRequest) {
+                return (ResponseT) GetAliasResponse.of(response -> response //
+                        .result("benchmark-products", IndexAliases.of(aliases -> aliases.aliases(Map.of()))));
+            }
+            return (ResponseT) new BooleanResponse(true);
+        }
+
+        @Override
+        public <RequestT, ResponseT, ErrorT> CompletableFuture<ResponseT> performRequestAsync(RequestT request,
+                Endpoint<RequestT, ResponseT, ErrorT> endpoint, TransportOptions options) {
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    return performRequest(request, endpoint, options);
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+        }
+
+        @Override
+        public JsonpMapper jsonpMapper() {
+            return mapper;
+        }
+
+        @Override
+        public TransportOptions options() {
+            return null;
+        }
+
+        @Override
+        public void close() {}
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.loadtest;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock free latency histogram with a resolution of 10 microseconds up to 10 seconds, so that the requests completing
+ * on the I/O threads of the reactive client can record without contention. Latencies above the range are counted in
+ * the last bucket, the maximum is kept exactly.
+ */
+class LatencyHistogram {
+
+    private static final long RESOLUTION_NANOS = TimeUnit.MICROSECONDS.toNanos(10);
+    private static final int BUCKETS = 1_000_000;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    void record(long nanos) {
+        buckets.incrementAndGet((int) Math.min(nanos / RESOLUTION_NANOS, BUCKETS - 1));
+        count.increment();
+        max.accumulate(nanos);
+    }
+
+    void recordError() {
+        errors.increment();
+    }
+
+    long getCount() {
+        return count.sum();
+    }
+
+    long getErrors() {
+        return errors.sum();
+    }
+
+    long getMaxNanos() {
+        return max.get();
+    }
+
+    /**
+     * @param percentile the percentile between 0 and 100
+     * @return the upper bound of the bucket holding the percentile in nanoseconds
+     */
+    long getPercentileNanos(double percentile) {
+
+        long total = getCount();
+        if (total == 0) {
+            return 0;
+        }
+
+        long rank = (long) Math.ceil(total * percentile / 100);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += buckets.get(i);
+            if (seen >= rank) {
+                return Math.min((i + 1) * RESOLUTION_NANOS, getMaxNanos());
+            }
+        }
+
+        return getMaxNanos();
+    }
+}
@@ -0,0 +1,374 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.loadtest;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.pool.PoolStats;
+import org.opensearch.client.RestClient;
+import org.opensearch.client.transport.TransportOptions;
+import org.opensearch.data.client.osc.ConnectionPoolMonitor;
+import org.opensearch.data.client.osc.NativeQuery;
+import org.opensearch.data.client.osc.OpenSearchClients;
+import org.opensearch.data.client.osc.OpenSearchTemplate;
+import org.opensearch.data.client.osc.ReactiveOpenSearchTemplate;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.elasticsearch.core.convert.MappingElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.mapping.SimpleElasticsearchMappingContext;
+import org.springframework.data.elasticsearch.core.query.Query;
+import org.springframework.lang.Nullable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Drives the {@link OpenSearchTemplate} or the {@link ReactiveOpenSearchTemplate} against a {@link StubCluster} at a
+ * fixed concurrency and reports the throughput, the latency percentiles, the allocation of the client threads and the
+ * use of the connection pool. The imperative template runs one thread per concurrent request, the reactive template
+ * keeps the requests in flight with {@link Flux#flatMap(java.util.function.Function, int)}.
+ * <p>
+ * Run it with {@code ./gradlew :spring-data-opensearch-benchmarks:loadTest}, see {@link LoadTestSettings} for the
+ * {@code -Ploadtest.*} settings.
+ */
+public class LoadTest {
+
+    private static final long MAX_RESPONSE_SIZE = 100 * 1024 * 1024;
+
+    private final LoadTestSettings settings;
+    private final ConnectionPoolMonitor connectionPoolMonitor = new ConnectionPoolMonitor();
+
+    LoadTest(LoadTestSettings settings) {
+        this.settings = settings;
+    }
+
+    public static void main(String[] args) throws Exception {
+
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        Result result = new LoadTest(settings).run();
+
+        System.out.println(result.format());
+
+        String resultsDirectory = System.getProperty("loadtest.resultsDirectory");
+        if (resultsDirectory != null) {
+            Path file = Path.of(resultsDirectory).resolve(settings.name() + ".json");
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, result.toJson());
+            System.out.println("results written to " + file);
+        }
+    }
+
+    Result run() throws Exception {
+
+        // the workers live for the whole run: threads that ended before the end snapshot would drop out of the
+        // allocation deltas, and the measurement would start with fresh threads instead of the warmed up ones
+        AtomicInteger threads = new AtomicInteger();
+        ExecutorService workers = Executors.newFixedThreadPool(settings.concurrency(),
+                runnable -> new Thread(runnable, "loadtest-worker-" + threads.incrementAndGet()));
+
+        try (StubCluster cluster = new StubCluster(settings);
+                RestClient restClient = restClient(cluster.getHostAndPort())) {
+
+            Operation operation = operation(restClient);
+
+            System.out.printf("warming up %s for %ss%n", settings.name(), settings.warmup().toSeconds());
+            drive(operation, workers, new LatencyHistogram(), settings.warmup());
+
+            System.out.printf("measuring %s for %ss%n", settings.name(), settings.duration().toSeconds());
+            LatencyHistogram histogram = new LatencyHistogram();
+            ResourceUsage start = ResourceUsage.snapshot();
+            PoolSampler poolSampler = new PoolSampler(connectionPoolMonitor);
+            long connectionsOpened = connectionPoolMonitor.getConnectionsOpened();
+            long begin = System.nanoTime();
+
+            try {
+                drive(operation, workers, histogram, settings.duration());
+            } finally {
+                poolSampler.stop();
+            }
+
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - begin);
+            ResourceUsage usage = ResourceUsage.snapshot().minus(start);
+
+            return new Result(settings, elapsed, histogram, usage, poolSampler,
+                    connectionPoolMonitor.getConnectionsOpened() - connectionsOpened);
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    private RestClient restClient(String hostAndPort) {
+
+        String[] hostPort = hostAndPort.split(":");
+        return RestClient.builder(new HttpHost("http", hostPort[0], Integer.parseInt(hostPort[1]))) //
+                .setCompressionEnabled(settings.compression()) //
+                .setHttpClientConfigCallback(builder -> connectionPoolMonitor.configure(builder,
+                        PoolingAsyncClientConnectionManagerBuilder.create() //
+                                .setMaxConnTotal(settings.maxConnections()) //
+                                .setMaxConnPerRoute(settings.maxConnections()) //
+                                .build())) //
+                .build();
+    }
+
+    private Operation operation(RestClient restClient) {
+
+        List<LoadTestProduct> batch = IntStream.range(0, settings.batchSize()).mapToObj(LoadTestProduct::of).toList();
+        Query searchQuery = NativeQuery.builder() //
+                .withQuery(q -> q.match(m -> m.field("name").query(v -> v.stringValue("product")))) //
+                .withPageable(PageRequest.of(0, settings.hits())) //
+                .build();
+        Query mgetQuery = NativeQuery.builder() //
+                .withIds(batch.stream().map(LoadTestProduct::getId).toList()) //
+                .build();
+
+        if (settings.isReactive()) {
+            MappingElasticsearchConverter converter = new MappingElasticsearchConverter(
+                    new SimpleElasticsearchMappingContext());
+            converter.afterPropertiesSet();
+            ReactiveOpenSearchTemplate template = new ReactiveOpenSearchTemplate(
+                    OpenSearchClients.createReactive(restClient), converter);
+
+            return switch (settings.operation()) {
+                case "search" -> reactive(() -> template.search(searchQuery, LoadTestProduct.class).then());
+                case "bulk" -> reactive(() -> template.saveAll(Mono.just(batch), LoadTestProduct.class).then());
+                case "mget" -> reactive(() -> template.multiGet(mgetQuery, LoadTestProduct.class).then());
+                default -> throw new IllegalArgumentException("unknown operation " + settings.operation());
+            };
+        }
+
+        TransportOptions transportOptions = settings.streamingResponses()
+                ? OpenSearchClients.withStreamingResponses(null, MAX_RESPONSE_SIZE)
+                : null;
+        OpenSearchTemplate template = new OpenSearchTemplate(
+                OpenSearchClients.createImperative(restClient, transportOptions));
+
+        return switch (settings.operation()) {
+            case "search" -> imperative(() -> template.search(searchQuery, LoadTestProduct.class));
+            case "bulk" -> imperative(() -> template.save(batch));
+            case "mget" -> imperative(() -> template.multiGet(mgetQuery, LoadTestProduct.class));
+            default -> throw new IllegalArgumentException("unknown operation " + settings.operation());
+        };
+    }
+
+    private void drive(Operation operation, ExecutorService workers, LatencyHistogram histogram, Duration duration)
+            throws Exception {
+
+        long deadline = System.nanoTime() + duration.toNanos();
+
+        if (operation.reactive() != null) {
+            Supplier<Mono<Void>> request = operation.reactive();
+            Flux.range(0, Integer.MAX_VALUE) //
+                    .takeWhile(i -> System.nanoTime() < deadline) //
+                    .flatMap(i -> {
+                        long start = System.nanoTime();
+                        return request.get() //
+                                .doOnSuccess(ignored -> histogram.record(System.nanoTime() - start)) //
+                                .onErrorResume(e -> {
+                                    histogram.recordError();
+                                    return Mono.empty();
+                                });
+                    }, settings.concurrency()) //
+                    .blockLast();
+            return;
+        }
+
+        Runnable request = operation.imperative();
+        List<Future<?>> futures = IntStream.range(0, settings.concurrency()).<Future<?>> mapToObj(
+                i -> workers.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        try {
+                            request.run();
+                            histogram.record(System.nanoTime() - start);
+                        } catch (RuntimeException e) {
+                            histogram.recordError();
+                        }
+                    }
+                })).toList();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+    }
+
+    private static Operation imperative(Runnable request) {
+        return new Operation(request, null);
+    }
+
+    private static Operation reactive(Supplier<Mono<Void>> request) {
+        return new Operation(null, request);
+    }
+
+    private record Operation(@Nullable Runnable imperative, @Nullable Supplier<Mono<Void>> reactive) {
+    }
+
+    /**
+     * Bytes allocated by the client side threads and the garbage collections. The threads of the stub cluster, which
+     * runs in the same JVM, are recognized by the {@code qtp} prefix of the Jetty thread pool and left out.
+     */
+    record ResourceUsage(long allocatedBytes, long gcCount, long gcMillis, Map<Long, Long> allocatedPerThread) {
+
+        static ResourceUsage snapshot() {
+
+            com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory
+                    .getThreadMXBean();
+            Map<Long, Long> allocatedPerThread = new HashMap<>();
+            long[] threadIds = threadMXBean.getAllThreadIds();
+            ThreadInfo[] threadInfos = threadMXBean.getThreadInfo(threadIds);
+            long[] allocated = threadMXBean.getThreadAllocatedBytes(threadIds);
+            for (int i = 0; i < threadIds.length; i++) {
+                if (threadInfos[i] != null && !threadInfos[i].getThreadName().startsWith("qtp") && allocated[i] >= 0) {
+                    allocatedPerThread.put(threadIds[i], allocated[i]);
+                }
+            }
+
+            long gcCount = 0;
+            long gcMillis = 0;
+            for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+                gcCount += Math.max(0, gc.getCollectionCount());
+                gcMillis += Math.max(0, gc.getCollectionTime());
+            }
+
+            return new ResourceUsage(allocatedPerThread.values().stream().mapToLong(Long::longValue).sum(), gcCount,
+                    gcMillis, allocatedPerThread);
+        }
+
+        /**
+         * @return the usage between the given snapshot and this one, threads that ended in between are not counted
+         */
+        ResourceUsage minus(ResourceUsage start) {
+
+            long allocated = 0;
+            for (Map.Entry<Long, Long> thread : allocatedPerThread.entrySet()) {
+                allocated += thread.getValue() - start.allocatedPerThread.getOrDefault(thread.getKey(), 0L);
+            }
+
+            return new ResourceUsage(allocated, gcCount - start.gcCount, gcMillis - start.gcMillis, Map.of());
+        }
+    }
+
+    /**
+     * Samples the leased and pending connections of the pool while the load test measures.
+     */
+    static class PoolSampler {
+
+        private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(
+                runnable -> new Thread(runnable, "loadtest-pool-sampler"));
+        private int samples;
+        private long leasedSum;
+        private int maxLeased;
+        private int maxPending;
+
+        PoolSampler(ConnectionPoolMonitor monitor) {
+            executor.scheduleAtFixedRate(() -> sample(monitor.getTotalStats()), 0, 50, TimeUnit.MILLISECONDS);
+        }
+
+        private synchronized void sample(PoolStats stats) {
+            samples++;
+            leasedSum += stats.getLeased();
+            maxLeased = Math.max(maxLeased, stats.getLeased());
+            maxPending = Math.max(maxPending, stats.getPending());
+        }
+
+        void stop() throws InterruptedException {
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.SECONDS);
+        }
+
+        synchronized double getAverageLeased() {
+            return samples > 0 ? (double) leasedSum / samples : 0;
+        }
+
+        synchronized int getMaxLeased() {
+            return maxLeased;
+        }
+
+        synchronized int getMaxPending() {
+            return maxPending;
+        }
+    }
+
+    record Result(LoadTestSettings settings, Duration elapsed, LatencyHistogram histogram, ResourceUsage usage,
+            PoolSampler pool, long connectionsOpened) {
+
+        private static final double[] PERCENTILES = { 50, 90, 99, 99.9 };
+
+        double throughput() {
+            return histogram.getCount() / (elapsed.toNanos() / 1e9);
+        }
+
+        String format() {
+
+            StringBuilder report = new StringBuilder();
+            report.append(String.format(Locale.ROOT, "%n%s with %s, %d connections, latency %s%n", settings.name(),
+                    settings.isReactive() ? "reactive template" : "imperative template", settings.maxConnections(),
+                    settings.latency()));
+            report.append(String.format(Locale.ROOT, "  throughput      %,.1f ops/s (%,d ops, %,d errors)%n",
+                    throughput(), histogram.getCount(), histogram.getErrors()));
+            for (double percentile : PERCENTILES) {
+                report.append(String.format(Locale.ROOT, "  p%-14s %.2f ms%n", percentile,
+                        histogram.getPercentileNanos(percentile) / 1e6));
+            }
+            report.append(String.format(Locale.ROOT, "  max             %.2f ms%n", histogram.getMaxNanos() / 1e6));
+            report.append(String.format(Locale.ROOT, "  allocation      %,.1f MB/s, %,.0f bytes/op%n",
+                    usage.allocatedBytes() / 1e6 / (elapsed.toNanos() / 1e9), bytesPerOperation()));
+            report.append(String.format(Locale.ROOT, "  gc              %d collections, %d ms%n", usage.gcCount(),
+                    usage.gcMillis()));
+            report.append(String.format(Locale.ROOT,
+                    "  connections     %.1f leased on average, %d max leased, %d max pending, %d opened%n",
+                    pool.getAverageLeased(), pool.getMaxLeased(), pool.getMaxPending(), connectionsOpened));
+            return report.toString();
+        }
+
+        String toJson() {
+
+            StringBuilder json = new StringBuilder("{");
+            json.append(String.format(Locale.ROOT,
+                    "\"name\":\"%s\",\"template\":\"%s\",\"operation\":\"%s\",\"concurrency\":%d,"
+                            + "\"latency\":\"%s\",\"maxConnections\":%d,\"streamingResponses\":%b,\"compression\":%b,",
+                    settings.name(), settings.template(), settings.operation(), settings.concurrency(),
+                    settings.latency(), settings.maxConnections(), settings.streamingResponses(),
+                    settings.compression()));
+            json.append(String.format(Locale.ROOT, "\"operations\":%d,\"errors\":%d,\"throughput\":%.3f,",
+                    histogram.getCount(), histogram.getErrors(), throughput()));
+            for (double percentile : PERCENTILES) {
+                json.append(String.format(Locale.ROOT, "\"p%s_ms\":%.3f,", percentile,
+                        histogram.getPercentileNanos(percentile) / 1e6));
+            }
+            json.append(String.format(Locale.ROOT, "\"max_ms\":%.3f,", histogram.getMaxNanos() / 1e6));
+            json.append(String.format(Locale.ROOT,
+                    "\"allocatedBytes\":%d,\"bytesPerOperation\":%.1f,\"gcCount\":%d,\"gcMillis\":%d,",
+                    usage.allocatedBytes(), bytesPerOperation(), usage.gcCount(), usage.gcMillis()));
+            json.append(String.format(Locale.ROOT,
+                    "\"averageLeased\":%.2f,\"maxLeased\":%d,\"maxPending\":%d,\"connectionsOpened\":%d",
+                    pool.getAverageLeased(), pool.getMaxLeased(), pool.getMaxPending(), connectionsOpened));
+            return json.append('}').toString();
+        }
+
+        private double bytesPerOperation() {
+            return histogram.getCount() > 0 ? (double) usage.allocatedBytes() / histogram.getCount() : 0;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.loadtest;
+
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.elasticsearch.annotations.DateFormat;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.annotations.Field;
+import org.springframework.data.elasticsearch.annotations.FieldType;
+
+/**
+ * Entity read and written by the load test, matching the documents the {@link StubCluster} returns.
+ */
+@Document(indexName = LoadTestProduct.INDEX, createIndex = false)
+public class LoadTestProduct {
+
+    static final String INDEX = "loadtest-products";
+
+    @Id private String id;
+    @Field(type = FieldType.Text) private String name;
+    @Field(type = FieldType.Text) private String description;
+    @Field(type = FieldType.Double) private double price;
+    @Field(type = FieldType.Keyword) private List<String> tags;
+    @Field(type = FieldType.Date, format = DateFormat.date) private LocalDate available;
+
+    static LoadTestProduct of(int i) {
+
+        LoadTestProduct product = new LoadTestProduct();
+        product.id = "product-" + i;
+        product.name = "Product " + i;
+        product.description = "A product with a description long enough to resemble a catalog entry, number " + i;
+        product.price = 10 + (i % 1000) / 10.0;
+        product.tags = List.of("tag-" + (i % 7), "tag-" + (i % 13));
+        product.available = LocalDate.of(2024, 1, 1).plusDays(i % 365);
+        return product;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public double getPrice() {
+        return price;
+    }
+
+    public void setPrice(double price) {
+        this.price = price;
+    }
+
+    public List<String> getTags() {
+        return tags;
+    }
+
+    public void setTags(List<String> tags) {
+        this.tags = tags;
+    }
+
+    public LocalDate getAvailable() {
+        return available;
+    }
+
+    public void setAvailable(LocalDate available) {
+        this.available = available;
+    }
+}
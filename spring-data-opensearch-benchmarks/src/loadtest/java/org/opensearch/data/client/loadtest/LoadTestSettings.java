@@ -0,0 +1,79 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.loadtest;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Settings of a load test run, read from the {@code loadtest.*} system properties the Gradle task passes on.
+ *
+ * @param template {@code imperative} or {@code reactive}
+ * @param operation {@code search}, {@code bulk} or {@code mget}
+ * @param concurrency the number of requests in flight
+ * @param warmup the time to run before measuring
+ * @param duration the time to measure
+ * @param latency the latency distribution of the stub cluster, see {@link StubCluster#delay(String)}
+ * @param hits the number of hits of a search response
+ * @param batchSize the number of documents per bulk or mget request
+ * @param maxConnections the size of the connection pool, also used per route
+ * @param streamingResponses whether the imperative client streams response bodies to the parser
+ * @param compression whether request bodies are compressed
+ */
+record LoadTestSettings(String template, String operation, int concurrency, Duration warmup, Duration duration,
+        String latency, int hits, int batchSize, int maxConnections, boolean streamingResponses,
+        boolean compression) {
+
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings( //
+                property("template", "imperative"), //
+                property("operation", "search"), //
+                Integer.parseInt(property("concurrency", "32")), //
+                duration(property("warmup", "10s")), //
+                duration(property("duration", "30s")), //
+                property("latency", "lognormal:5ms:0.3"), //
+                Integer.parseInt(property("hits", "20")), //
+                Integer.parseInt(property("batchSize", "100")), //
+                Integer.parseInt(property("maxConnections", "30")), //
+                Boolean.parseBoolean(property("streamingResponses", "false")), //
+                Boolean.parseBoolean(property("compression", "false")));
+    }
+
+    boolean isReactive() {
+        return "reactive".equals(template);
+    }
+
+    /**
+     * @return a name for the results file, for example {@code imperative-search-c32}
+     */
+    String name() {
+        return template + '-' + operation + "-c" + concurrency;
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty("loadtest." + name, defaultValue).trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Parses durations like {@code 500ms}, {@code 30s} or {@code 2m}.
+     */
+    static Duration duration(String value) {
+
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        } else if (value.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(value.substring(0, value.length() - 1)));
+        } else if (value.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+
+        throw new IllegalArgumentException("duration must end with ms, s or m: " + value);
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.loadtest;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import com.github.tomakehurst.wiremock.http.DelayDistribution;
+import com.github.tomakehurst.wiremock.http.FixedDelayDistribution;
+import com.github.tomakehurst.wiremock.http.LogNormal;
+import com.github.tomakehurst.wiremock.http.UniformDistribution;
+
+/**
+ * Local HTTP stub answering the search, bulk and multi get requests of the templates with realistic payloads after a
+ * random delay. The stub keeps no request journal and answers asynchronously, so that delayed responses do not hold
+ * its threads and the stub does not limit the throughput.
+ */
+class StubCluster implements AutoCloseable {
+
+    private static final String JSON = "application/json";
+
+    private final WireMockServer server;
+
+    StubCluster(LoadTestSettings settings) {
+
+        server = new WireMockServer(WireMockConfiguration.options() //
+                .dynamicPort() //
+                .disableRequestJournal() //
+                .containerThreads(Math.max(16, settings.concurrency() / 4)) //
+                .asynchronousResponseEnabled(true) //
+                .asynchronousResponseThreads(Math.max(8, settings.concurrency())));
+        server.start();
+
+        DelayDistribution delay = delay(settings.latency());
+        server.stubFor(post(urlPathMatching("/[^/]+/_search")) //
+                .willReturn(json(searchResponse(settings.hits()), delay)));
+        server.stubFor(post(urlPathMatching("(/[^/]+)?/_bulk")) //
+                .willReturn(json(bulkResponse(settings.batchSize()), delay)));
+        server.stubFor(post(urlPathMatching("(/[^/]+)?/_mget")) //
+                .willReturn(json(mgetResponse(settings.batchSize()), delay)));
+    }
+
+    String getHostAndPort() {
+        return "localhost:" + server.port();
+    }
+
+    @Override
+    public void close() {
+        server.stop();
+    }
+
+    /**
+     * Parses a latency distribution:
+     * <ul>
+     * <li>{@code fixed:5ms}</li>
+     * <li>{@code uniform:2ms:20ms} for a uniform distribution between the two values</li>
+     * <li>{@code lognormal:5ms:0.3} for a log normal distribution with the median and the sigma, which gives the long
+     * tail of real clusters</li>
+     * </ul>
+     */
+    static DelayDistribution delay(String specification) {
+
+        String[] parts = specification.split(":");
+
+        return switch (parts[0]) {
+            case "fixed" -> new FixedDelayDistribution(millis(parts[1]));
+            case "uniform" -> new UniformDistribution(millis(parts[1]), millis(parts[2]));
+            case "lognormal" -> new LogNormal(millis(parts[1]), Double.parseDouble(parts[2]));
+            default -> throw new IllegalArgumentException("unknown latency distribution " + specification);
+        };
+    }
+
+    private static int millis(String value) {
+        return (int) LoadTestSettings.duration(value).toMillis();
+    }
+
+    private static ResponseDefinitionBuilder json(String body, DelayDistribution delay) {
+        return aResponse().withStatus(200).withHeader("Content-Type", JSON).withBody(body).withRandomDelay(delay);
+    }
+
+    static String searchResponse(int hits) {
+
+        StringBuilder body = new StringBuilder(hits * 400);
+        body.append("{\"took\":4,\"timed_out\":false,") //
+                .append("\"_shards\":{\"total\":3,\"successful\":3,\"skipped\":0,\"failed\":0},") //
+                .append("\"hits\":{\"total\":{\"value\":").append(hits * 50).append(",\"relation\":\"eq\"},") //
+                .append("\"max_score\":1.0,\"hits\":[");
+        for (int i = 0; i < hits; i++) {
+            if (i > 0) {
+                body.append(',');
+            }
+            body.append("{\"_index\":\"").append(LoadTestProduct.INDEX).append("\",\"_id\":\"product-").append(i)
+                    .append("\",\"_score\":1.0,\"_source\":");
+            source(body, i);
+            body.append('}');
+        }
+        return body.append("]}}").toString();
+    }
+
+    static String bulkResponse(int items) {
+
+        StringBuilder body = new StringBuilder(items * 200);
+        body.append("{\"took\":7,\"errors\":false,\"items\":[");
+        for (int i = 0; i < items; i++) {
+            if (i > 0) {
+                body.append(',');
+            }
+            body.append("{\"index\":{\"_index\":\"").append(LoadTestProduct.INDEX).append("\",\"_id\":\"product-")
+                    .append(i).append("\",\"_version\":1,\"result\":\"created\",")
+                    .append("\"_shards\":{\"total\":2,\"successful\":2,\"failed\":0},")
+                    .append("\"_seq_no\":").append(i).append(",\"_primary_term\":1,\"status\":201}}");
+        }
+        return body.append("]}").toString();
+    }
+
+    static String mgetResponse(int documents) {
+
+        StringBuilder body = new StringBuilder(documents * 400);
+        body.append("{\"docs\":[");
+        for (int i = 0; i < documents; i++) {
+            if (i > 0) {
+                body.append(',');
+            }
+            body.append("{\"_index\":\"").append(LoadTestProduct.INDEX).append("\",\"_id\":\"product-").append(i)
+                    .append("\",\"_version\":1,\"_seq_no\":").append(i)
+                    .append(",\"_primary_term\":1,\"found\":true,\"_source\":");
+            source(body, i);
+            body.append('}');
+        }
+        return body.append("]}").toString();
+    }
+
+    private static void source(StringBuilder body, int i) {
+
+        LoadTestProduct product = LoadTestProduct.of(i);
+        body.append("{\"id\":\"").append(product.getId()) //
+                .append("\",\"name\":\"").append(product.getName()) //
+                .append("\",\"description\":\"").append(product.getDescription()) //
+                .append("\",\"price\":").append(product.getPrice()) //
+                .append(",\"tags\":[\"").append(String.join("\",\"", product.getTags())).append("\"]") //
+                .append(",\"available\":\"").append(product.getAvailable()).append("\"}");
+    }
+}
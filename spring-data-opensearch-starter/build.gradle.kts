@@ -34,6 +34,8 @@ dependencies {
     exclude("com.fasterxml.jackson.databind", "*")
   }
   compileOnly(jakarta.json.bind)
+  compileOnly(micrometerLibs.core)
+  compileOnly(micrometerLibs.observation)
   annotationProcessor(springLibs.boot.configuration.processor)
   testImplementation(springLibs.test) {
     exclude("ch.qos.logback", "logback-classic")
@@ -42,6 +44,8 @@ dependencies {
   testImplementation(opensearchLibs.testcontainers)
   testImplementation(jacksonLibs.core)
   testImplementation(jacksonLibs.databind)
+  testImplementation(micrometerLibs.core)
+  testImplementation(micrometerLibs.observation)
   testImplementation(opensearchLibs.sniffer) {
     exclude("commons-logging", "commons-logging")
   }
@@ -15,14 +15,31 @@ import org.opensearch.client.opensearch.OpenSearchClient;
 import org.opensearch.client.transport.OpenSearchTransport;
 import org.opensearch.client.transport.rest_client.RestClientOptions;
 import org.opensearch.client.transport.rest_client.RestClientTransport;
+import org.opensearch.data.client.osc.CorrelatingOpenSearchTransport;
+import org.opensearch.data.client.osc.CorrelationIdProvider;
+import org.opensearch.data.client.osc.FlightRecordingOpenSearchTransport;
+import org.opensearch.data.client.osc.OperationRoutingOpenSearchTransport;
+import org.opensearch.data.client.osc.RetryPolicy;
+import org.opensearch.data.client.osc.RetryingOpenSearchTransport;
+import org.opensearch.data.client.osc.SlowOperationLog;
+import org.opensearch.data.client.osc.SlowOperationLoggingOpenSearchTransport;
 import org.opensearch.data.core.OpenSearchMappingParametersCustomizer;
+import org.slf4j.MDC;
 import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionMessage;
+import org.springframework.boot.autoconfigure.condition.ConditionOutcome;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.SpringBootCondition;
+import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+import org.springframework.util.StringUtils;
 import tools.jackson.databind.ObjectMapper;
 
 class OpenSearchClientConfigurations {
@@ -54,10 +71,124 @@ class OpenSearchClientConfigurations {
     @ConditionalOnMissingBean(OpenSearchTransport.class)
     static class OpenSearchTransportConfiguration {
         @Bean
+        @Conditional(NoTransportDecoratorEnabledCondition.class)
         RestClientTransport restClientTransport(RestClient restClient, JsonpMapper jsonMapper,
                 ObjectProvider<RestClientOptions> restClientOptions) {
             return new RestClientTransport(restClient, jsonMapper, restClientOptions.getIfAvailable());
         }
+
+        /**
+         * The transport bean is typed as {@link OpenSearchTransport} when decorators are enabled, because they wrap
+         * the {@link RestClientTransport}; it is then not available for injection as {@link RestClientTransport}. The
+         * wrapped transport can be reached through
+         * {@link org.opensearch.data.client.osc.DelegatingOpenSearchTransport#getDelegate()}.
+         */
+        @Bean
+        @Conditional(TransportDecoratorEnabledCondition.class)
+        OpenSearchTransport decoratedRestClientTransport(RestClient restClient, JsonpMapper jsonMapper,
+                ObjectProvider<RestClientOptions> restClientOptions, OpenSearchProperties properties,
+                ObjectProvider<CorrelationIdProvider> correlationIdProvider) {
+            OpenSearchTransport transport = new RestClientTransport(restClient, jsonMapper,
+                    restClientOptions.getIfAvailable());
+            return decorate(transport, properties, correlationIdProvider);
+        }
+
+        /**
+         * @return whether the properties enable a decorator of the transport
+         */
+        static boolean isDecorated(OpenSearchProperties properties) {
+            return properties.getRouting().isEnabled() || properties.getRetry().isEnabled()
+                    || properties.getCorrelationId().isEnabled() || properties.getSlowLog().isEnabled()
+                    || properties.getFlightRecorder().isEnabled();
+        }
+
+        /**
+         * Wraps the transport in the decorators enabled by the properties, shared by the transport bean and the
+         * transports of the {@link OpenSearchLaneClients}.
+         */
+        static OpenSearchTransport decorate(OpenSearchTransport transport, OpenSearchProperties properties,
+                ObjectProvider<CorrelationIdProvider> correlationIdProvider) {
+            if (properties.getRouting().isEnabled()) {
+                transport = new OperationRoutingOpenSearchTransport(transport);
+            }
+            if (properties.getRetry().isEnabled()) {
+                transport = new RetryingOpenSearchTransport(transport, retryPolicy(properties.getRetry()));
+            }
+            if (properties.getCorrelationId().isEnabled()) {
+                transport = new CorrelatingOpenSearchTransport(transport, correlationIdProvider.getIfUnique(
+                        () -> correlationIdProvider(properties.getCorrelationId())));
+            }
+            if (properties.getSlowLog().isEnabled()) {
+                transport = new SlowOperationLoggingOpenSearchTransport(transport,
+                        slowOperationLog(properties.getSlowLog()));
+            }
+            if (properties.getFlightRecorder().isEnabled()) {
+                transport = new FlightRecordingOpenSearchTransport(transport);
+            }
+
+            return transport;
+        }
+
+        private static RetryPolicy retryPolicy(OpenSearchProperties.Retry retry) {
+            return RetryPolicy.builder()
+                    .withMaxAttempts(retry.getMaxAttempts())
+                    .withInitialBackoff(retry.getInitialBackoff())
+                    .withMaxBackoff(retry.getMaxBackoff())
+                    .withMultiplier(retry.getMultiplier())
+                    .withDeadline(retry.getDeadline())
+                    .withRetryableStatusCodes(retry.getRetryableStatusCodes())
+                    .build();
+        }
+
+        private static CorrelationIdProvider correlationIdProvider(OpenSearchProperties.CorrelationId correlationId) {
+            String mdcKey = correlationId.getMdcKey();
+            return StringUtils.hasText(mdcKey) ? () -> MDC.get(mdcKey) : CorrelationIdProvider.NONE;
+        }
+
+        private static SlowOperationLog slowOperationLog(OpenSearchProperties.SlowLog slowLog) {
+            return SlowOperationLog.builder()
+                    .withLatencyThreshold(slowLog.getLatencyThreshold())
+                    .withTookThreshold(slowLog.getTookThreshold())
+                    .withSampleRate(slowLog.getSampleRate())
+                    .withMaxEntriesPerSecond(slowLog.getMaxEntriesPerSecond())
+                    .withMaxRequestLength(slowLog.getMaxRequestLength())
+                    .build();
+        }
+    }
+
+    /**
+     * Matches depending on whether the {@code opensearch} properties enable a decorator of the transport.
+     */
+    abstract static class TransportDecoratorCondition extends SpringBootCondition {
+
+        private final boolean decorated;
+
+        TransportDecoratorCondition(boolean decorated) {
+            this.decorated = decorated;
+        }
+
+        @Override
+        public ConditionOutcome getMatchOutcome(ConditionContext context, AnnotatedTypeMetadata metadata) {
+            ConditionMessage.Builder message = ConditionMessage.forCondition("OpenSearch transport decorators");
+            OpenSearchProperties properties = Binder.get(context.getEnvironment())
+                    .bind("opensearch", OpenSearchProperties.class)
+                    .orElseGet(OpenSearchProperties::new);
+            boolean enabled = OpenSearchTransportConfiguration.isDecorated(properties);
+            ConditionMessage outcome = message.because(enabled ? "a decorator is enabled" : "no decorator is enabled");
+            return enabled == this.decorated ? ConditionOutcome.match(outcome) : ConditionOutcome.noMatch(outcome);
+        }
+    }
+
+    static class TransportDecoratorEnabledCondition extends TransportDecoratorCondition {
+        TransportDecoratorEnabledCondition() {
+            super(true);
+        }
+    }
+
+    static class NoTransportDecoratorEnabledCondition extends TransportDecoratorCondition {
+        NoTransportDecoratorEnabledCondition() {
+            super(false);
+        }
     }
 
     @Configuration(proxyBeanMethods = false)
@@ -0,0 +1,96 @@
+/*
+ * Copyright OpenSearch Contributors.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.spring.boot.autoconfigure;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.UnaryOperator;
+import org.opensearch.client.RestClient;
+import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.opensearch.OpenSearchClient;
+import org.opensearch.client.transport.OpenSearchTransport;
+import org.opensearch.data.client.osc.OpenSearchClients;
+import org.opensearch.data.client.osc.ReactiveOpenSearchClient;
+import org.springframework.beans.factory.DisposableBean;
+
+/**
+ * The {@link RestClient}s of the lanes configured with {@code opensearch.lanes}, each with a connection pool of its own.
+ * The transports of the lane clients pass through the same decorators as the {@link OpenSearchTransport} bean: the
+ * ones configured with {@code opensearch.*} properties first, then the ones added by bean post processors. The clients
+ * are closed together with the application context.
+ */
+public class OpenSearchLaneClients implements DisposableBean {
+
+    private final Map<String, RestClient> restClients;
+
+    private final List<UnaryOperator<OpenSearchTransport>> transportDecorators = new CopyOnWriteArrayList<>();
+
+    public OpenSearchLaneClients(Map<String, RestClient> restClients) {
+        this(restClients, UnaryOperator.identity());
+    }
+
+    public OpenSearchLaneClients(Map<String, RestClient> restClients,
+            UnaryOperator<OpenSearchTransport> transportDecorator) {
+        this.restClients = Map.copyOf(restClients);
+        this.transportDecorators.add(transportDecorator);
+    }
+
+    public Map<String, RestClient> getRestClients() {
+        return this.restClients;
+    }
+
+    public boolean isEmpty() {
+        return this.restClients.isEmpty();
+    }
+
+    /**
+     * Adds a decorator that wraps the transport of each lane client after the decorators added before.
+     */
+    public void addTransportDecorator(UnaryOperator<OpenSearchTransport> transportDecorator) {
+        this.transportDecorators.add(transportDecorator);
+    }
+
+    /**
+     * @return an imperative client per lane using the given mapper
+     */
+    public Map<String, OpenSearchClient> openSearchClients(JsonpMapper jsonpMapper) {
+        Map<String, OpenSearchClient> clients = new LinkedHashMap<>();
+        this.restClients.forEach((lane, restClient) ->
+                clients.put(lane, new OpenSearchClient(transport(restClient, OpenSearchClients.IMPERATIVE_CLIENT,
+                        jsonpMapper))));
+        return clients;
+    }
+
+    /**
+     * @return a reactive client per lane using the given mapper
+     */
+    public Map<String, ReactiveOpenSearchClient> reactiveOpenSearchClients(JsonpMapper jsonpMapper) {
+        Map<String, ReactiveOpenSearchClient> clients = new LinkedHashMap<>();
+        this.restClients.forEach((lane, restClient) ->
+                clients.put(lane, new ReactiveOpenSearchClient(transport(restClient, OpenSearchClients.REACTIVE_CLIENT,
+                        jsonpMapper))));
+        return clients;
+    }
+
+    private OpenSearchTransport transport(RestClient restClient, String clientType, JsonpMapper jsonpMapper) {
+        OpenSearchTransport transport = OpenSearchClients.getOpenSearchTransport(restClient, clientType, null,
+                jsonpMapper);
+        for (UnaryOperator<OpenSearchTransport> transportDecorator : this.transportDecorators) {
+            transport = transportDecorator.apply(transport);
+        }
+        return transport;
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        for (RestClient restClient : this.restClients.values()) {
+            restClient.close();
+        }
+    }
+}
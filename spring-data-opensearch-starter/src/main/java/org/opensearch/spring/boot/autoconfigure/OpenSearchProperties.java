@@ -8,7 +8,11 @@ package org.opensearch.spring.boot.autoconfigure;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.elasticsearch.autoconfigure.ElasticsearchProperties.Restclient;
 
@@ -57,6 +61,33 @@ public class OpenSearchProperties {
 
     private final Restclient restclient = new Restclient();
 
+    private final Retry retry = new Retry();
+
+    private final ConcurrencyLimit concurrencyLimit = new ConcurrencyLimit();
+
+    private final NodeSelection nodeSelection = new NodeSelection();
+
+    private final Routing routing = new Routing();
+
+    private final PayloadMetrics payloadMetrics = new PayloadMetrics();
+
+    private final ConnectionPoolMetrics connectionPoolMetrics = new ConnectionPoolMetrics();
+
+    private final SlowLog slowLog = new SlowLog();
+
+    private final CorrelationId correlationId = new CorrelationId();
+
+    private final SearchProfiling searchProfiling = new SearchProfiling();
+
+    private final FlightRecorder flightRecorder = new FlightRecorder();
+
+    private final IndexBootstrap indexBootstrap = new IndexBootstrap();
+
+    /**
+     * Named lanes, each with a connection pool of its own, selected with the templates' withLane method.
+     */
+    private final Map<String, Lane> lanes = new LinkedHashMap<>();
+
     public List<String> getUris() {
         return this.uris;
     }
@@ -116,4 +147,729 @@ public class OpenSearchProperties {
     public Restclient getRestclient() {
         return this.restclient;
     }
+
+    public Retry getRetry() {
+        return this.retry;
+    }
+
+    public ConcurrencyLimit getConcurrencyLimit() {
+        return this.concurrencyLimit;
+    }
+
+    public NodeSelection getNodeSelection() {
+        return this.nodeSelection;
+    }
+
+    public Routing getRouting() {
+        return this.routing;
+    }
+
+    public Map<String, Lane> getLanes() {
+        return this.lanes;
+    }
+
+    public PayloadMetrics getPayloadMetrics() {
+        return this.payloadMetrics;
+    }
+
+    public ConnectionPoolMetrics getConnectionPoolMetrics() {
+        return this.connectionPoolMetrics;
+    }
+
+    public SlowLog getSlowLog() {
+        return this.slowLog;
+    }
+
+    public CorrelationId getCorrelationId() {
+        return this.correlationId;
+    }
+
+    public SearchProfiling getSearchProfiling() {
+        return this.searchProfiling;
+    }
+
+    public FlightRecorder getFlightRecorder() {
+        return this.flightRecorder;
+    }
+
+    public IndexBootstrap getIndexBootstrap() {
+        return this.indexBootstrap;
+    }
+
+    public static class Retry {
+
+        /**
+         * Whether to retry idempotent requests that failed with a retryable status code or a connection failure.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Maximum number of attempts per request, including the first one.
+         */
+        private int maxAttempts = 3;
+
+        /**
+         * Backoff before the first retry.
+         */
+        private Duration initialBackoff = Duration.ofMillis(100);
+
+        /**
+         * Upper bound of the backoff between two attempts.
+         */
+        private Duration maxBackoff = Duration.ofSeconds(5);
+
+        /**
+         * Factor applied to the backoff after each attempt.
+         */
+        private double multiplier = 2.0;
+
+        /**
+         * Overall time after which no further attempt is started.
+         */
+        private Duration deadline = Duration.ofSeconds(30);
+
+        /**
+         * Response status codes that trigger a retry.
+         */
+        private Set<Integer> retryableStatusCodes = new LinkedHashSet<>(List.of(429, 502, 503, 504));
+
+        public boolean isEnabled() {
+            return this.enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getMaxAttempts() {
+            return this.maxAttempts;
+        }
+
+        public void setMaxAttempts(int maxAttempts) {
+            this.maxAttempts = maxAttempts;
+        }
+
+        public Duration getInitialBackoff() {
+            return this.initialBackoff;
+        }
+
+        public void setInitialBackoff(Duration initialBackoff) {
+            this.initialBackoff = initialBackoff;
+        }
+
+        public Duration getMaxBackoff() {
+            return this.maxBackoff;
+        }
+
+        public void setMaxBackoff(Duration maxBackoff) {
+            this.maxBackoff = maxBackoff;
+        }
+
+        public double getMultiplier() {
+            return this.multiplier;
+        }
+
+        public void setMultiplier(double multiplier) {
+            this.multiplier = multiplier;
+        }
+
+        public Duration getDeadline() {
+            return this.deadline;
+        }
+
+        public void setDeadline(Duration deadline) {
+            this.deadline = deadline;
+        }
+
+        public Set<Integer> getRetryableStatusCodes() {
+            return this.retryableStatusCodes;
+        }
+
+        public void setRetryableStatusCodes(Set<Integer> retryableStatusCodes) {
+            this.retryableStatusCodes = retryableStatusCodes;
+        }
+    }
+
+    public static class ConcurrencyLimit {
+
+        /**
+         * Whether to limit the concurrent requests per node with a limit that adapts to the observed latency.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Concurrency limit of a node before any latency was observed.
+         */
+        private int initialLimit = 20;
+
+        /**
+         * Lower bound of the concurrency limit of a node.
+         */
+        private int minLimit = 1;
+
+        /**
+         * Upper bound of the concurrency limit of a node.
+         */
+        private int maxLimit = 200;
+
+        /**
+         * Maximum number of requests per node waiting for the limit, 0 to reject requests over the limit right away.
+         */
+        private int maxQueueSize = 100;
+
+        /**
+         * Maximum time a request waits for the limit before it is rejected.
+         */
+        private Duration maxQueueTime = Duration.ofSeconds(10);
+
+        public boolean isEnabled() {
+            return this.enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getInitialLimit() {
+            return this.initialLimit;
+        }
+
+        public void setInitialLimit(int initialLimit) {
+            this.initialLimit = initialLimit;
+        }
+
+        public int getMinLimit() {
+            return this.minLimit;
+        }
+
+        public void setMinLimit(int minLimit) {
+            this.minLimit = minLimit;
+        }
+
+        public int getMaxLimit() {
+            return this.maxLimit;
+        }
+
+        public void setMaxLimit(int maxLimit) {
+            this.maxLimit = maxLimit;
+        }
+
+        public int getMaxQueueSize() {
+            return this.maxQueueSize;
+        }
+
+        public void setMaxQueueSize(int maxQueueSize) {
+            this.maxQueueSize = maxQueueSize;
+        }
+
+        public Duration getMaxQueueTime() {
+            return this.maxQueueTime;
+        }
+
+        public void setMaxQueueTime(Duration maxQueueTime) {
+            this.maxQueueTime = maxQueueTime;
+        }
+    }
+
+    public static class NodeSelection {
+
+        /**
+         * Whether to prefer nodes with a low latency and to temporarily eject nodes that are much slower than the others.
+         */
+        private boolean latencyAware = false;
+
+        /**
+         * How many times the median latency of all nodes the latency of a node must exceed to be ejected.
+         */
+        private double outlierFactor = 3.0;
+
+        /**
+         * Number of requests a node must have completed before its latency is compared to the other nodes.
+         */
+        private int minimumSamples = 20;
+
+        /**
+         * Number of consecutive failed requests after which a node is ejected.
+         */
+        private int consecutiveFailures = 5;
+
+        /**
+         * Time after which an ejected node is probed with a single request.
+         */
+        private Duration ejectionDuration = Duration.ofSeconds(30);
+
+        /**
+         * Upper bound of the ejection time, which doubles each time a node fails its probe.
+         */
+        private Duration maxEjectionDuration = Duration.ofMinutes(5);
+
+        /**
+         * Maximum share of the nodes in percent that may be ejected at the same time.
+         */
+        private int maxEjectedPercent = 50;
+
+        public boolean isLatencyAware() {
+            return this.latencyAware;
+        }
+
+        public void setLatencyAware(boolean latencyAware) {
+            this.latencyAware = latencyAware;
+        }
+
+        public double getOutlierFactor() {
+            return this.outlierFactor;
+        }
+
+        public void setOutlierFactor(double outlierFactor) {
+            this.outlierFactor = outlierFactor;
+        }
+
+        public int getMinimumSamples() {
+            return this.minimumSamples;
+        }
+
+        public void setMinimumSamples(int minimumSamples) {
+            this.minimumSamples = minimumSamples;
+        }
+
+        public int getConsecutiveFailures() {
+            return this.consecutiveFailures;
+        }
+
+        public void setConsecutiveFailures(int consecutiveFailures) {
+            this.consecutiveFailures = consecutiveFailures;
+        }
+
+        public Duration getEjectionDuration() {
+            return this.ejectionDuration;
+        }
+
+        public void setEjectionDuration(Duration ejectionDuration) {
+            this.ejectionDuration = ejectionDuration;
+        }
+
+        public Duration getMaxEjectionDuration() {
+            return this.maxEjectionDuration;
+        }
+
+        public void setMaxEjectionDuration(Duration maxEjectionDuration) {
+            this.maxEjectionDuration = maxEjectionDuration;
+        }
+
+        public int getMaxEjectedPercent() {
+            return this.maxEjectedPercent;
+        }
+
+        public void setMaxEjectedPercent(int maxEjectedPercent) {
+            this.maxEjectedPercent = maxEjectedPercent;
+        }
+    }
+
+    public static class Routing {
+
+        /**
+         * Whether to send each class of operations to the nodes selected for it. Node roles and attributes are only
+         * known for nodes discovered by the sniffer.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Nodes for searches, counts, gets and scrolls, as roles like "coordinating_only" or "data" or attributes like
+         * "attr:zone=a". Empty for any node.
+         */
+        private List<String> search = new ArrayList<>();
+
+        /**
+         * Nodes for bulk, index, update and delete requests, as roles like "ingest" or attributes like "attr:box=hot".
+         * Empty for any node.
+         */
+        private List<String> write = new ArrayList<>();
+
+        /**
+         * Nodes for all other requests like index and cluster management. Empty for any node.
+         */
+        private List<String> admin = new ArrayList<>();
+
+        public boolean isEnabled() {
+            return this.enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public List<String> getSearch() {
+            return this.search;
+        }
+
+        public void setSearch(List<String> search) {
+            this.search = search;
+        }
+
+        public List<String> getWrite() {
+            return this.write;
+        }
+
+        public void setWrite(List<String> write) {
+            this.write = write;
+        }
+
+        public List<String> getAdmin() {
+            return this.admin;
+        }
+
+        public void setAdmin(List<String> admin) {
+            this.admin = admin;
+        }
+    }
+
+    public static class Lane {
+
+        /**
+         * Maximum number of connections of the lane.
+         */
+        private int maxConnections = 30;
+
+        /**
+         * Maximum number of connections of the lane to a single node.
+         */
+        private int maxConnectionsPerRoute = 10;
+
+        /**
+         * Connection timeout of the lane, defaults to the one of the client.
+         */
+        private Duration connectionTimeout;
+
+        /**
+         * Socket timeout of the lane, defaults to the one of the client.
+         */
+        private Duration socketTimeout;
+
+        /**
+         * Maximum number of concurrent requests of the lane to a single node, 0 for no cap.
+         */
+        private int maxConcurrentRequests = 0;
+
+        /**
+         * Maximum number of requests per node waiting for the concurrency cap.
+         */
+        private int maxQueuedRequests = 100;
+
+        public int getMaxConnections() {
+            return this.maxConnections;
+        }
+
+        public void setMaxConnections(int maxConnections) {
+            this.maxConnections = maxConnections;
+        }
+
+        public int getMaxConnectionsPerRoute() {
+            return this.maxConnectionsPerRoute;
+        }
+
+        public void setMaxConnectionsPerRoute(int maxConnectionsPerRoute) {
+            this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+        }
+
+        public Duration getConnectionTimeout() {
+            return this.connectionTimeout;
+        }
+
+        public void setConnectionTimeout(Duration connectionTimeout) {
+            this.connectionTimeout = connectionTimeout;
+        }
+
+        public Duration getSocketTimeout() {
+            return this.socketTimeout;
+        }
+
+        public void setSocketTimeout(Duration socketTimeout) {
+            this.socketTimeout = socketTimeout;
+        }
+
+        public int getMaxConcurrentRequests() {
+            return this.maxConcurrentRequests;
+        }
+
+        public void setMaxConcurrentRequests(int maxConcurrentRequests) {
+            this.maxConcurrentRequests = maxConcurrentRequests;
+        }
+
+        public int getMaxQueuedRequests() {
+            return this.maxQueuedRequests;
+        }
+
+        public void setMaxQueuedRequests(int maxQueuedRequests) {
+            this.maxQueuedRequests = maxQueuedRequests;
+        }
+    }
+
+    public static class PayloadMetrics {
+
+        /**
+         * Whether to record request and response body sizes, hit counts and the client side time spent building
+         * requests, parsing responses and converting entities. Requires Micrometer.
+         */
+        private boolean enabled = false;
+
+        public boolean isEnabled() {
+            return this.enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+    }
+
+    public static class ConnectionPoolMetrics {
+
+        /**
+         * Whether to monitor the connection pool of the REST client: leased, available and pending connections per
+         * route, the time spent waiting for a connection, connections opened and closed and I/O errors. The metrics
+         * are published when Micrometer is available.
+         */
+        private boolean enabled = false;
+
+        public boolean isEnabled() {
+            return this.enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+    }
+
+    public static class SlowLog {
+
+        /**
+         * Whether to log slow operations on the client side, with the calling code and the serialized request.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Client observed latency from which on an operation is logged.
+         */
+        private Duration latencyThreshold = Duration.ofSeconds(1);
+
+        /**
+         * Time reported by the cluster from which on an operation is logged. By default only the latency threshold is
+         * used.
+         */
+        private Duration tookThreshold;
+
+        /**
+         * Fraction of the operations that are tracked, between 0 and 1.
+         */
+        private double sampleRate = 1.0;
+
+        /**
+         * Maximum number of log entries per second, further slow operations are only counted.
+         */
+        private int maxEntriesPerSecond = 10;
+
+        /**
+         * Maximum number of characters of the serialized request in a log entry.
+         */
+        private int maxRequestLength = 2048;
+
+        public boolean isEnabled() {
+            return this.enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Duration getLatencyThreshold() {
+            return this.latencyThreshold;
+        }
+
+        public void setLatencyThreshold(Duration latencyThreshold) {
+            this.latencyThreshold = latencyThreshold;
+        }
+
+        public Duration getTookThreshold() {
+            return this.tookThreshold;
+        }
+
+        public void setTookThreshold(Duration tookThreshold) {
+            this.tookThreshold = tookThreshold;
+        }
+
+        public double getSampleRate() {
+            return this.sampleRate;
+        }
+
+        public void setSampleRate(double sampleRate) {
+            this.sampleRate = sampleRate;
+        }
+
+        public int getMaxEntriesPerSecond() {
+            return this.maxEntriesPerSecond;
+        }
+
+        public void setMaxEntriesPerSecond(int maxEntriesPerSecond) {
+            this.maxEntriesPerSecond = maxEntriesPerSecond;
+        }
+
+        public int getMaxRequestLength() {
+            return this.maxRequestLength;
+        }
+
+        public void setMaxRequestLength(int maxRequestLength) {
+            this.maxRequestLength = maxRequestLength;
+        }
+    }
+
+    public static class CorrelationId {
+
+        /**
+         * Whether to send the correlation id of the current unit of work as X-Opaque-Id header with every request.
+         * Disabled by default, the transport bean then stays a plain RestClientTransport.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Key of the MDC entry used as correlation id when none is bound with CorrelationId and there is no
+         * CorrelationIdProvider bean, for example "traceId".
+         */
+        private String mdcKey;
+
+        public boolean isEnabled() {
+            return this.enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public String getMdcKey() {
+            return this.mdcKey;
+        }
+
+        public void setMdcKey(String mdcKey) {
+            this.mdcKey = mdcKey;
+        }
+    }
+
+    public static class SearchProfiling {
+
+        /**
+         * Whether to profile sampled searches and the searches of repository methods annotated with @ProfiledSearch,
+         * passing the profiles to the SearchProfileListener beans and, with Micrometer, to the metrics.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Fraction of the searches that are profiled, between 0 and 1. Profiling slows searches down on the cluster.
+         */
+        private double sampleRate = 0.0;
+
+        public boolean isEnabled() {
+            return this.enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public double getSampleRate() {
+            return this.sampleRate;
+        }
+
+        public void setSampleRate(double sampleRate) {
+            this.sampleRate = sampleRate;
+        }
+    }
+
+    public static class FlightRecorder {
+
+        /**
+         * Whether to emit a Java Flight Recorder event for every request. Events cost next to nothing while no
+         * recording includes them, but the transport still adds a decorator around every request.
+         */
+        private boolean enabled = false;
+
+        public boolean isEnabled() {
+            return this.enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+    }
+
+    public static class IndexBootstrap {
+
+        /**
+         * Whether to answer the index existence checks of the repositories from the names of all indices and aliases,
+         * loaded with a single request, instead of one request per repository, and to create missing indices
+         * concurrently on the bootstrap threads instead of one after the other.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Whether to let the application start without waiting for the creation of missing indices and the mapping
+         * reconciliation of existing ones. Writes to an index wait until its bootstrap is done; failures are logged
+         * and fail only the writes waiting at that time.
+         */
+        private boolean deferred = false;
+
+        /**
+         * Number of indices created or reconciled at the same time.
+         */
+        private int parallelism = 4;
+
+        /**
+         * Maximum time to wait for the indices at startup unless deferred.
+         */
+        private Duration timeout = Duration.ofMinutes(1);
+
+        /**
+         * Whether to fetch the mapping of existing indices concurrently and add the fields missing in it instead of
+         * only checking that they exist. Indices whose mapping hash stored in _meta matches the entity mapping are
+         * skipped.
+         */
+        private boolean reconcileMappings = false;
+
+        public boolean isEnabled() {
+            return this.enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public boolean isDeferred() {
+            return this.deferred;
+        }
+
+        public void setDeferred(boolean deferred) {
+            this.deferred = deferred;
+        }
+
+        public int getParallelism() {
+            return this.parallelism;
+        }
+
+        public void setParallelism(int parallelism) {
+            this.parallelism = parallelism;
+        }
+
+        public Duration getTimeout() {
+            return this.timeout;
+        }
+
+        public void setTimeout(Duration timeout) {
+            this.timeout = timeout;
+        }
+
+        public boolean isReconcileMappings() {
+            return this.reconcileMappings;
+        }
+
+        public void setReconcileMappings(boolean reconcileMappings) {
+            this.reconcileMappings = reconcileMappings;
+        }
+    }
 }
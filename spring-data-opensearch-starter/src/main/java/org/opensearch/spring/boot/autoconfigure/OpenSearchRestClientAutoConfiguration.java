@@ -7,6 +7,11 @@ package org.opensearch.spring.boot.autoconfigure;
 
 import java.util.List;
 import org.opensearch.client.RestClientBuilder;
+import org.opensearch.spring.boot.autoconfigure.OpenSearchRestClientConfigurations.ConcurrencyLimiterConfiguration;
+import org.opensearch.spring.boot.autoconfigure.OpenSearchRestClientConfigurations.ConnectionPoolMonitorConfiguration;
+import org.opensearch.spring.boot.autoconfigure.OpenSearchRestClientConfigurations.LanesConfiguration;
+import org.opensearch.spring.boot.autoconfigure.OpenSearchRestClientConfigurations.LatencyAwareNodeSelectorConfiguration;
+import org.opensearch.spring.boot.autoconfigure.OpenSearchRestClientConfigurations.OperationRoutingConfiguration;
 import org.opensearch.spring.boot.autoconfigure.OpenSearchRestClientConfigurations.RestClientBuilderConfiguration;
 import org.opensearch.spring.boot.autoconfigure.OpenSearchRestClientConfigurations.RestClientConfiguration;
 import org.opensearch.spring.boot.autoconfigure.OpenSearchRestClientConfigurations.RestClientSnifferConfiguration;
@@ -27,7 +32,9 @@ import org.springframework.context.annotation.Import;
 @AutoConfiguration
 @ConditionalOnClass(RestClientBuilder.class)
 @EnableConfigurationProperties(OpenSearchProperties.class)
-@Import({RestClientBuilderConfiguration.class, RestClientConfiguration.class, RestClientSnifferConfiguration.class})
+@Import({RestClientBuilderConfiguration.class, RestClientConfiguration.class, RestClientSnifferConfiguration.class,
+        ConcurrencyLimiterConfiguration.class, LatencyAwareNodeSelectorConfiguration.class,
+        OperationRoutingConfiguration.class, LanesConfiguration.class, ConnectionPoolMonitorConfiguration.class})
 public class OpenSearchRestClientAutoConfiguration {
 
     @Bean
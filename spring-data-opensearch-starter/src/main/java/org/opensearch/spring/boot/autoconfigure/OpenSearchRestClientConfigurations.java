@@ -8,6 +8,11 @@ package org.opensearch.spring.boot.autoconfigure;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import javax.net.ssl.SSLContext;
 import org.apache.hc.client5.http.auth.AuthScope;
@@ -20,22 +25,41 @@ import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
 import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
 import org.apache.hc.client5.http.ssl.ClientTlsStrategyBuilder;
 import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.nio.ssl.TlsStrategy;
 import org.apache.hc.core5.reactor.IOReactorConfig;
 import org.apache.hc.core5.util.Timeout;
+import org.opensearch.client.NodeSelector;
 import org.opensearch.client.RestClient;
 import org.opensearch.client.RestClientBuilder;
 import org.opensearch.client.sniff.Sniffer;
 import org.opensearch.client.sniff.SnifferBuilder;
+import org.opensearch.data.client.osc.AdaptiveConcurrencyLimiter;
+import org.opensearch.data.client.osc.ClientLane;
+import org.opensearch.data.client.osc.ConnectionPoolMonitor;
+import org.opensearch.data.client.osc.CorrelationIdProvider;
+import org.opensearch.data.client.osc.LatencyAwareNodeSelector;
+import org.opensearch.data.client.osc.OperationRoutingNodeSelector;
+import org.opensearch.data.client.osc.OperationRoutingNodeSelector.OperationClass;
+import org.opensearch.spring.boot.autoconfigure.OpenSearchClientConfigurations.OpenSearchTransportConfiguration;
 import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionMessage;
+import org.springframework.boot.autoconfigure.condition.ConditionOutcome;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnSingleCandidate;
+import org.springframework.boot.autoconfigure.condition.SpringBootCondition;
 import org.springframework.boot.context.properties.PropertyMapper;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.boot.ssl.SslBundle;
 import org.springframework.boot.ssl.SslBundles;
 import org.springframework.boot.ssl.SslOptions;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.ConditionContext;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.type.AnnotatedTypeMetadata;
 import org.springframework.util.StringUtils;
 
 /**
@@ -63,21 +87,26 @@ class OpenSearchRestClientConfigurations {
 
         @Bean
         RestClientBuilder opensearchRestClientBuilder(ObjectProvider<RestClientBuilderCustomizer> builderCustomizers) {
+            return createRestClientBuilder(this.connectionDetails, builderCustomizers.orderedStream().toList());
+        }
+
+        static RestClientBuilder createRestClientBuilder(OpenSearchConnectionDetails connectionDetails,
+                List<RestClientBuilderCustomizer> builderCustomizers) {
             HttpHost[] hosts =
-                    this.connectionDetails.getUris().stream().map(RestClientBuilderConfiguration::createHttpHost).toArray(HttpHost[]::new);
+                    connectionDetails.getUris().stream().map(RestClientBuilderConfiguration::createHttpHost).toArray(HttpHost[]::new);
             RestClientBuilder builder = RestClient.builder(hosts);
             builder.setHttpClientConfigCallback((httpClientBuilder) -> {
-                builderCustomizers.orderedStream().forEach((customizer) -> customizer.customize(httpClientBuilder));
+                builderCustomizers.forEach((customizer) -> customizer.customize(httpClientBuilder));
                 return httpClientBuilder;
             });
             builder.setRequestConfigCallback((requestConfigBuilder) -> {
-                builderCustomizers.orderedStream().forEach((customizer) -> customizer.customize(requestConfigBuilder));
+                builderCustomizers.forEach((customizer) -> customizer.customize(requestConfigBuilder));
                 return requestConfigBuilder;
             });
-            if (this.connectionDetails.getPathPrefix() != null) {
-                builder.setPathPrefix(this.connectionDetails.getPathPrefix());
+            if (connectionDetails.getPathPrefix() != null) {
+                builder.setPathPrefix(connectionDetails.getPathPrefix());
             }
-            builderCustomizers.orderedStream().forEach((customizer) -> customizer.customize(builder));
+            builderCustomizers.forEach((customizer) -> customizer.customize(builder));
             return builder;
         }
 
@@ -142,6 +171,267 @@ class OpenSearchRestClientConfigurations {
         }
     }
 
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(prefix = "opensearch.concurrency-limit", name = "enabled", havingValue = "true")
+    static class ConcurrencyLimiterConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        AdaptiveConcurrencyLimiter opensearchConcurrencyLimiter(OpenSearchProperties properties) {
+            OpenSearchProperties.ConcurrencyLimit concurrencyLimit = properties.getConcurrencyLimit();
+            return AdaptiveConcurrencyLimiter.builder()
+                    .withInitialLimit(concurrencyLimit.getInitialLimit())
+                    .withMinLimit(concurrencyLimit.getMinLimit())
+                    .withMaxLimit(concurrencyLimit.getMaxLimit())
+                    .withMaxQueueSize(concurrencyLimit.getMaxQueueSize())
+                    .withMaxQueueTime(concurrencyLimit.getMaxQueueTime())
+                    .build();
+        }
+
+        @Bean
+        RestClientBuilderCustomizer opensearchConcurrencyLimiterRestClientBuilderCustomizer(
+                AdaptiveConcurrencyLimiter concurrencyLimiter) {
+            return new ClientScopedRestClientBuilderCustomizer() {
+                @Override
+                public void customize(RestClientBuilder builder) {}
+
+                @Override
+                public void customize(HttpAsyncClientBuilder builder) {
+                    concurrencyLimiter.configure(builder);
+                }
+            };
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(prefix = "opensearch.node-selection", name = "latency-aware", havingValue = "true")
+    static class LatencyAwareNodeSelectorConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        LatencyAwareNodeSelector opensearchLatencyAwareNodeSelector(OpenSearchProperties properties) {
+            return latencyAwareNodeSelector(properties.getNodeSelection());
+        }
+
+        static LatencyAwareNodeSelector latencyAwareNodeSelector(OpenSearchProperties.NodeSelection nodeSelection) {
+            return LatencyAwareNodeSelector.builder()
+                    .withOutlierFactor(nodeSelection.getOutlierFactor())
+                    .withMinimumSamples(nodeSelection.getMinimumSamples())
+                    .withConsecutiveFailures(nodeSelection.getConsecutiveFailures())
+                    .withEjectionDuration(nodeSelection.getEjectionDuration())
+                    .withMaxEjectionDuration(nodeSelection.getMaxEjectionDuration())
+                    .withMaxEjectedPercent(nodeSelection.getMaxEjectedPercent())
+                    .build();
+        }
+
+        @Bean
+        RestClientBuilderCustomizer opensearchLatencyAwareNodeSelectorRestClientBuilderCustomizer(
+                LatencyAwareNodeSelector nodeSelector, OpenSearchProperties properties) {
+            return new ClientScopedRestClientBuilderCustomizer() {
+                @Override
+                public void customize(RestClientBuilder builder) {
+                    // with routing the latency aware selector is applied by the OperationRoutingNodeSelector
+                    if (!properties.getRouting().isEnabled()) {
+                        nodeSelector.configure(builder);
+                    }
+                }
+
+                @Override
+                public void customize(HttpAsyncClientBuilder builder) {
+                    nodeSelector.configure(builder);
+                }
+            };
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(prefix = "opensearch.routing", name = "enabled", havingValue = "true")
+    static class OperationRoutingConfiguration {
+
+        @Bean
+        RestClientBuilderCustomizer opensearchOperationRoutingRestClientBuilderCustomizer(OpenSearchProperties properties,
+                ObjectProvider<LatencyAwareNodeSelector> latencyAwareNodeSelector) {
+            NodeSelector nodeSelector = operationRoutingNodeSelector(properties.getRouting(),
+                    latencyAwareNodeSelector.getIfAvailable(() -> NodeSelector.ANY));
+
+            return new ClientScopedRestClientBuilderCustomizer() {
+                @Override
+                public void customize(RestClientBuilder builder) {
+                    builder.setNodeSelector(nodeSelector);
+                }
+            };
+        }
+
+        static NodeSelector operationRoutingNodeSelector(OpenSearchProperties.Routing routing, NodeSelector next) {
+            Map<OperationClass, NodeSelector> selectors = new EnumMap<>(OperationClass.class);
+            addSelector(selectors, OperationClass.SEARCH, routing.getSearch());
+            addSelector(selectors, OperationClass.WRITE, routing.getWrite());
+            addSelector(selectors, OperationClass.ADMIN, routing.getAdmin());
+            return new OperationRoutingNodeSelector(selectors, next);
+        }
+
+        private static void addSelector(Map<OperationClass, NodeSelector> selectors, OperationClass operationClass,
+                List<String> specifications) {
+            if (!specifications.isEmpty()) {
+                selectors.put(operationClass, OperationRoutingNodeSelector.matching(specifications));
+            }
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @Conditional(LanesConfiguredCondition.class)
+    static class LanesConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        OpenSearchLaneClients opensearchLaneClients(OpenSearchProperties properties,
+                OpenSearchConnectionDetails connectionDetails, ObjectProvider<RestClientBuilderCustomizer> builderCustomizers,
+                ObjectProvider<SslBundles> sslBundles, ObjectProvider<CorrelationIdProvider> correlationIdProvider) {
+            Map<String, RestClient> restClients = new LinkedHashMap<>();
+            properties.getLanes().forEach((name, lane) -> {
+                // lanes have pools, concurrency caps and node selectors of their own
+                List<RestClientBuilderCustomizer> customizers = new ArrayList<>(builderCustomizers.orderedStream()
+                        .filter((customizer) -> !(customizer instanceof ClientScopedRestClientBuilderCustomizer))
+                        .toList());
+                customizers.add(new LaneRestClientBuilderCustomizer(clientLane(name, lane),
+                        DefaultRestClientBuilderCustomizer.tlsStrategy(properties, sslBundles), properties));
+                restClients.put(name, RestClientBuilderConfiguration.createRestClientBuilder(connectionDetails, customizers).build());
+            });
+            return new OpenSearchLaneClients(restClients, (transport) -> OpenSearchTransportConfiguration
+                    .decorate(transport, properties, correlationIdProvider));
+        }
+
+        private static ClientLane clientLane(String name, OpenSearchProperties.Lane lane) {
+            return ClientLane.builder(name)
+                    .withMaxConnections(lane.getMaxConnections())
+                    .withMaxConnectionsPerRoute(lane.getMaxConnectionsPerRoute())
+                    .withConnectTimeout(lane.getConnectionTimeout())
+                    .withSocketTimeout(lane.getSocketTimeout())
+                    .withMaxConcurrentRequests(lane.getMaxConcurrentRequests())
+                    .withMaxQueuedRequests(lane.getMaxQueuedRequests())
+                    .build();
+        }
+    }
+
+    /**
+     * Matches when at least one lane is configured with {@code opensearch.lanes}.
+     */
+    static class LanesConfiguredCondition extends SpringBootCondition {
+
+        @Override
+        public ConditionOutcome getMatchOutcome(ConditionContext context, AnnotatedTypeMetadata metadata) {
+            ConditionMessage.Builder message = ConditionMessage.forCondition("OpenSearch client lanes");
+            Map<String, OpenSearchProperties.Lane> lanes = Binder.get(context.getEnvironment())
+                    .bind("opensearch.lanes", Bindable.mapOf(String.class, OpenSearchProperties.Lane.class))
+                    .orElse(Map.of());
+            return lanes.isEmpty() ? ConditionOutcome.noMatch(message.didNotFind("configured lanes").atAll())
+                    : ConditionOutcome.match(message.foundExactly(lanes.keySet()));
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(prefix = "opensearch.connection-pool-metrics", name = "enabled", havingValue = "true")
+    static class ConnectionPoolMonitorConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        ConnectionPoolMonitor opensearchConnectionPoolMonitor() {
+            return new ConnectionPoolMonitor();
+        }
+
+        @Bean
+        RestClientBuilderCustomizer opensearchConnectionPoolMonitorRestClientBuilderCustomizer(
+                ConnectionPoolMonitor connectionPoolMonitor, OpenSearchProperties properties,
+                ObjectProvider<SslBundles> sslBundles) {
+            return new ConnectionPoolMonitorRestClientBuilderCustomizer(connectionPoolMonitor,
+                    DefaultRestClientBuilderCustomizer.tlsStrategy(properties, sslBundles));
+        }
+    }
+
+    /**
+     * A customizer holding state of the default client, such as its connection pool or node statistics, which the
+     * clients of the lanes must not share.
+     */
+    private interface ClientScopedRestClientBuilderCustomizer extends RestClientBuilderCustomizer {
+    }
+
+    /**
+     * Applies the connection pool, timeouts and concurrency cap of a lane after all other customizers, and gives the
+     * lane node selectors of its own.
+     */
+    private static class LaneRestClientBuilderCustomizer implements RestClientBuilderCustomizer {
+
+        private final ClientLane lane;
+
+        private final TlsStrategy tlsStrategy;
+
+        private final LatencyAwareNodeSelector latencyAwareNodeSelector;
+
+        private final NodeSelector nodeSelector;
+
+        LaneRestClientBuilderCustomizer(ClientLane lane, TlsStrategy tlsStrategy, OpenSearchProperties properties) {
+            this.lane = lane;
+            this.tlsStrategy = tlsStrategy;
+            this.latencyAwareNodeSelector = properties.getNodeSelection().isLatencyAware()
+                    ? LatencyAwareNodeSelectorConfiguration.latencyAwareNodeSelector(properties.getNodeSelection())
+                    : null;
+            NodeSelector next = (this.latencyAwareNodeSelector != null) ? this.latencyAwareNodeSelector
+                    : NodeSelector.ANY;
+            this.nodeSelector = properties.getRouting().isEnabled()
+                    ? OperationRoutingConfiguration.operationRoutingNodeSelector(properties.getRouting(), next)
+                    : next;
+        }
+
+        @Override
+        public void customize(RestClientBuilder builder) {
+            builder.setNodeSelector(this.nodeSelector);
+        }
+
+        @Override
+        public void customize(HttpAsyncClientBuilder builder) {
+            this.lane.configure(builder, this.tlsStrategy);
+            if (this.latencyAwareNodeSelector != null) {
+                this.latencyAwareNodeSelector.configure(builder);
+            }
+        }
+
+        @Override
+        public void customize(RequestConfig.Builder builder) {
+            this.lane.configure(builder);
+        }
+    }
+
+    /**
+     * Creates the connection pool of the client in place of the {@link RestClientBuilder}, with its default sizes, so
+     * that the {@link ConnectionPoolMonitor} can observe it.
+     */
+    private static class ConnectionPoolMonitorRestClientBuilderCustomizer implements ClientScopedRestClientBuilderCustomizer {
+
+        private final ConnectionPoolMonitor connectionPoolMonitor;
+
+        private final TlsStrategy tlsStrategy;
+
+        ConnectionPoolMonitorRestClientBuilderCustomizer(ConnectionPoolMonitor connectionPoolMonitor, TlsStrategy tlsStrategy) {
+            this.connectionPoolMonitor = connectionPoolMonitor;
+            this.tlsStrategy = tlsStrategy;
+        }
+
+        @Override
+        public void customize(RestClientBuilder builder) {}
+
+        @Override
+        public void customize(HttpAsyncClientBuilder builder) {
+            PoolingAsyncClientConnectionManagerBuilder connectionManagerBuilder = PoolingAsyncClientConnectionManagerBuilder
+                    .create()
+                    .setMaxConnTotal(RestClientBuilder.DEFAULT_MAX_CONN_TOTAL)
+                    .setMaxConnPerRoute(RestClientBuilder.DEFAULT_MAX_CONN_PER_ROUTE);
+            if (this.tlsStrategy != null) {
+                connectionManagerBuilder.setTlsStrategy(this.tlsStrategy);
+            }
+            this.connectionPoolMonitor.configure(builder, connectionManagerBuilder.build());
+        }
+    }
+
     static class DefaultRestClientBuilderCustomizer implements RestClientBuilderCustomizer {
 
         private static final PropertyMapper map = PropertyMapper.get();
@@ -168,8 +458,10 @@ class OpenSearchRestClientConfigurations {
                     .to((keepAlive) -> builder.setIOReactorConfig(
                             IOReactorConfig.custom().setSoKeepAlive(keepAlive).build()));
 
+            // with connection pool metrics the monitored pool is created with the TLS strategy of the bundle by the
+            // customizer of ConnectionPoolMonitorConfiguration, a ConnectionPoolMonitor bean alone does not install it
             String sslBundleName = properties.getRestclient().getSsl().getBundle();
-            if (StringUtils.hasText(sslBundleName)) {
+            if (StringUtils.hasText(sslBundleName) && !properties.getConnectionPoolMetrics().isEnabled()) {
                 this.configureSsl(builder, sslBundles.getObject().getBundle(sslBundleName));
             }
         }
@@ -189,21 +481,32 @@ class OpenSearchRestClientConfigurations {
         }
 
         private void configureSsl(HttpAsyncClientBuilder builder, SslBundle sslBundle) {
+            final PoolingAsyncClientConnectionManager connectionManager = PoolingAsyncClientConnectionManagerBuilder
+                    .create()
+                    .setTlsStrategy(tlsStrategy(sslBundle))
+                    .build();
+
+            builder.setConnectionManager(connectionManager);
+        }
+
+        static TlsStrategy tlsStrategy(OpenSearchProperties properties, ObjectProvider<SslBundles> sslBundles) {
+            String sslBundleName = properties.getRestclient().getSsl().getBundle();
+            if (StringUtils.hasText(sslBundleName)) {
+                return tlsStrategy(sslBundles.getObject().getBundle(sslBundleName));
+            }
+            return null;
+        }
+
+        static TlsStrategy tlsStrategy(SslBundle sslBundle) {
             SSLContext sslcontext = sslBundle.createSslContext();
             SslOptions sslOptions = sslBundle.getOptions();
 
-            final ClientTlsStrategyBuilder tlsStrategy = ClientTlsStrategyBuilder.create()
+            return ClientTlsStrategyBuilder.create()
                     .setSslContext(sslcontext)
                     .setCiphers(sslOptions.getCiphers())
                     .setHostnameVerifier(null)
-                    .setTlsVersions(sslOptions.getEnabledProtocols());
-
-            final PoolingAsyncClientConnectionManager connectionManager = PoolingAsyncClientConnectionManagerBuilder
-                    .create()
-                    .setTlsStrategy(tlsStrategy.build())
+                    .setTlsVersions(sslOptions.getEnabledProtocols())
                     .build();
-
-            builder.setConnectionManager(connectionManager);
         }
     }
 
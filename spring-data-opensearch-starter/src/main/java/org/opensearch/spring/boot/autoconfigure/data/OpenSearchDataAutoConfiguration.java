@@ -23,5 +23,7 @@ import org.springframework.context.annotation.Import;
 @AutoConfiguration(after = {OpenSearchClientAutoConfiguration.class, OpenSearchRestClientAutoConfiguration.class})
 @ConditionalOnClass({OpenSearchRestTemplate.class, OpenSearchTemplate.class})
 @Import({OpenSearchDataConfiguration.BaseConfiguration.class, OpenSearchDataConfiguration.JavaClientConfiguration.class,
-    OpenSearchDataConfiguration.ReactiveRestClientConfiguration.class})
+    OpenSearchDataConfiguration.ReactiveRestClientConfiguration.class,
+    OpenSearchDataConfiguration.SearchProfilingConfiguration.class,
+    OpenSearchDataConfiguration.IndexBootstrapConfiguration.class})
 public class OpenSearchDataAutoConfiguration {}
@@ -6,13 +6,22 @@
 package org.opensearch.spring.boot.autoconfigure.data;
 
 import java.util.Collections;
+import java.util.List;
 import org.opensearch.client.opensearch.OpenSearchClient;
 import org.opensearch.data.client.osc.OpenSearchTemplate;
+import org.opensearch.data.client.osc.ProfiledSearchRepositoryProxyPostProcessor;
 import org.opensearch.data.client.osc.ReactiveOpenSearchClient;
 import org.opensearch.data.client.osc.ReactiveOpenSearchTemplate;
+import org.opensearch.data.client.osc.SearchProfileListener;
+import org.opensearch.data.client.osc.SearchProfiling;
+import org.opensearch.spring.boot.autoconfigure.OpenSearchLaneClients;
+import org.opensearch.spring.boot.autoconfigure.OpenSearchProperties;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.persistence.autoconfigure.EntityScanner;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
@@ -25,6 +34,7 @@ import org.springframework.data.elasticsearch.core.convert.ElasticsearchCustomCo
 import org.springframework.data.elasticsearch.core.convert.MappingElasticsearchConverter;
 import org.springframework.data.elasticsearch.core.index.MappingParametersCustomizer;
 import org.springframework.data.elasticsearch.core.mapping.SimpleElasticsearchMappingContext;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
 
 /**
  * Configuration classes for Spring Data for Opensearch
@@ -75,8 +85,16 @@ abstract class OpenSearchDataConfiguration {
         @Bean
         @ConditionalOnMissingBean(value = ElasticsearchOperations.class, name = { "elasticsearchTemplate", "opensearchTemplate" })
         @ConditionalOnBean(OpenSearchClient.class)
-        OpenSearchTemplate elasticsearchTemplate(OpenSearchClient client, ElasticsearchConverter converter, MappingParametersCustomizer opensearchMappingParametersCustomizer) {
-            return new OpenSearchTemplate(client, converter, opensearchMappingParametersCustomizer);
+        OpenSearchTemplate elasticsearchTemplate(OpenSearchClient client, ElasticsearchConverter converter, MappingParametersCustomizer opensearchMappingParametersCustomizer,
+                ObjectProvider<OpenSearchLaneClients> laneClients, ObjectProvider<SearchProfiling> searchProfiling) {
+            OpenSearchTemplate template = new OpenSearchTemplate(client, converter, opensearchMappingParametersCustomizer);
+            searchProfiling.ifAvailable(template::setSearchProfiling);
+            laneClients.ifAvailable((lanes) -> {
+                if (!lanes.isEmpty()) {
+                    template.setLaneClients(lanes.openSearchClients(client._transport().jsonpMapper()));
+                }
+            });
+            return template;
         }
     }
 
@@ -88,10 +106,85 @@ abstract class OpenSearchDataConfiguration {
         @ConditionalOnMissingBean(value = ReactiveElasticsearchOperations.class, name = { "reactiveElasticsearchTemplate", "reactiveOpensearchTemplate" })
         @ConditionalOnBean(ReactiveOpenSearchClient.class)
         ReactiveOpenSearchTemplate reactiveElasticsearchTemplate(ReactiveOpenSearchClient client,
-                ElasticsearchConverter converter) {
-            return new ReactiveOpenSearchTemplate(client, converter);
+                ElasticsearchConverter converter, ObjectProvider<OpenSearchLaneClients> laneClients,
+                ObjectProvider<SearchProfiling> searchProfiling) {
+            ReactiveOpenSearchTemplate template = new ReactiveOpenSearchTemplate(client, converter);
+            searchProfiling.ifAvailable(template::setSearchProfiling);
+            laneClients.ifAvailable((lanes) -> {
+                if (!lanes.isEmpty()) {
+                    template.setLaneClients(lanes.reactiveOpenSearchClients(client._transport().jsonpMapper()));
+                }
+            });
+            return template;
         }
 
     }
 
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(prefix = "opensearch.search-profiling", name = "enabled", havingValue = "true")
+    static class SearchProfilingConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        SearchProfiling opensearchSearchProfiling(OpenSearchProperties properties,
+                ObjectProvider<SearchProfileListener> listeners) {
+            List<SearchProfileListener> profileListeners = listeners.orderedStream().toList();
+            return SearchProfiling.builder()
+                    .withSampleRate(properties.getSearchProfiling().getSampleRate())
+                    .withListener((profile) -> profileListeners.forEach((listener) -> listener.onProfile(profile)))
+                    .build();
+        }
+
+        @Bean
+        static BeanPostProcessor profiledSearchRepositoryFactoryPostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                    if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> repositoryFactoryBean) {
+                        repositoryFactoryBean.addRepositoryFactoryCustomizer((factory) -> factory
+                                .addRepositoryProxyPostProcessor(new ProfiledSearchRepositoryProxyPostProcessor()));
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(prefix = "opensearch.index-bootstrap", name = "enabled", havingValue = "true")
+    static class IndexBootstrapConfiguration {
+
+        @Bean
+        OpenSearchRepositoryIndexBootstrapper opensearchRepositoryIndexBootstrapper(OpenSearchProperties properties) {
+            return new OpenSearchRepositoryIndexBootstrapper(properties.getIndexBootstrap());
+        }
+
+        /**
+         * Opens a bootstrap scope around the initialization of each repository factory bean, which creates the
+         * repository on the same thread. The after initialization callback is skipped when the initialization fails,
+         * the bootstrapper then closes the scope once all singletons are created or the context is closed.
+         */
+        @Bean
+        static BeanPostProcessor repositoryIndexBootstrapPostProcessor(
+                ObjectProvider<OpenSearchRepositoryIndexBootstrapper> bootstrapper) {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                    if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?>) {
+                        bootstrapper.getObject().beforeInitialization(beanName);
+                    }
+                    return bean;
+                }
+
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?>) {
+                        bootstrapper.getObject().afterInitialization(beanName);
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+
 }
@@ -0,0 +1,100 @@
+/*
+ * Copyright OpenSearch Contributors.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.spring.boot.autoconfigure.data;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.opensearch.data.client.osc.RepositoryIndexBootstrap;
+import org.opensearch.spring.boot.autoconfigure.OpenSearchProperties;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * Owns the {@link RepositoryIndexBootstrap} of the repositories created while the application context starts and the
+ * scopes opened around the initialization of their factory beans. Scopes of factory beans whose initialization failed
+ * are closed once all singletons are created or the context is closed. Once all singletons are created it waits for
+ * the submitted index creations and reconciliations, unless the bootstrap is deferred, in which case the application
+ * starts right away and failures are only logged.
+ */
+class OpenSearchRepositoryIndexBootstrapper implements SmartInitializingSingleton, DisposableBean {
+
+    private static final Log LOGGER = LogFactory.getLog(OpenSearchRepositoryIndexBootstrapper.class);
+
+    private final OpenSearchProperties.IndexBootstrap properties;
+    private final ExecutorService executor;
+    private final RepositoryIndexBootstrap bootstrap;
+    private final Map<String, RepositoryIndexBootstrap.Scope> scopes = new LinkedHashMap<>();
+
+    OpenSearchRepositoryIndexBootstrapper(OpenSearchProperties.IndexBootstrap properties) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("opensearch-index-bootstrap-");
+        threadFactory.setDaemon(true);
+
+        this.properties = properties;
+        this.executor = Executors.newFixedThreadPool(properties.getParallelism(), threadFactory);
+        this.bootstrap = new RepositoryIndexBootstrap(this.executor, properties.isReconcileMappings());
+    }
+
+    RepositoryIndexBootstrap getBootstrap() {
+        return this.bootstrap;
+    }
+
+    /**
+     * Opens the bootstrap scope for the initialization of a repository factory bean.
+     */
+    synchronized void beforeInitialization(String beanName) {
+        this.scopes.put(beanName, this.bootstrap.bootstrapRepositories());
+    }
+
+    /**
+     * Closes the bootstrap scope opened for a repository factory bean.
+     */
+    synchronized void afterInitialization(String beanName) {
+        RepositoryIndexBootstrap.Scope scope = this.scopes.remove(beanName);
+        if (scope != null) {
+            scope.close();
+        }
+    }
+
+    /**
+     * Closes the scopes left open by factory beans whose initialization failed, the last opened first.
+     */
+    synchronized void closeScopes() {
+        List<RepositoryIndexBootstrap.Scope> open = new ArrayList<>(this.scopes.values());
+        this.scopes.clear();
+        for (int i = open.size() - 1; i >= 0; i--) {
+            open.get(i).close();
+        }
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        closeScopes();
+        if (this.properties.isDeferred()) {
+            this.bootstrap.completion().whenComplete((result, failure) -> {
+                if (failure != null) {
+                    LOGGER.warn("Deferred index bootstrap failed", failure);
+                } else if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug("Deferred index bootstrap of " + this.bootstrap.size() + " indices finished");
+                }
+            });
+        } else {
+            this.bootstrap.await(this.properties.getTimeout());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        closeScopes();
+        this.executor.shutdownNow();
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright OpenSearch Contributors.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.spring.boot.autoconfigure.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.opensearch.client.transport.OpenSearchTransport;
+import org.opensearch.data.client.osc.DelegatingOpenSearchTransport;
+import org.opensearch.data.client.osc.RetryStatistics;
+import org.opensearch.data.client.osc.RetryingOpenSearchTransport;
+
+/**
+ * {@link MeterBinder} exposing the statistics of the decorators around an {@link OpenSearchTransport}.
+ */
+public class OpenSearchClientMetrics implements MeterBinder {
+
+    private final OpenSearchTransport transport;
+
+    public OpenSearchClientMetrics(OpenSearchTransport transport) {
+        this.transport = transport;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        OpenSearchTransport current = transport;
+        while (current instanceof DelegatingOpenSearchTransport delegating) {
+            if (delegating instanceof RetryingOpenSearchTransport retrying) {
+                bindRetryStatistics(retrying.getStatistics(), registry);
+            }
+            current = delegating.getDelegate();
+        }
+    }
+
+    private static void bindRetryStatistics(RetryStatistics statistics, MeterRegistry registry) {
+        FunctionCounter.builder("opensearch.client.retry.retries", statistics, RetryStatistics::getRetries)
+                .description("Attempts started after a failed attempt")
+                .register(registry);
+        FunctionCounter.builder("opensearch.client.retry.recovered", statistics, RetryStatistics::getRecovered)
+                .description("Requests that succeeded after at least one retry")
+                .register(registry);
+        FunctionCounter.builder("opensearch.client.retry.exhausted", statistics, RetryStatistics::getExhausted)
+                .description("Requests that failed after the retry attempts or the deadline were used up")
+                .register(registry);
+        FunctionCounter.builder("opensearch.client.retry.not-idempotent", statistics, RetryStatistics::getNotIdempotent)
+                .description("Requests with a retryable failure that were not retried because they are not idempotent")
+                .register(registry);
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright OpenSearch Contributors.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.spring.boot.autoconfigure.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.opensearch.data.client.osc.AdaptiveConcurrencyLimiter;
+
+/**
+ * {@link MeterBinder} exposing the per node limits and the rejections of an {@link AdaptiveConcurrencyLimiter}. Gauges
+ * for a node are registered when the first request is sent to it.
+ */
+public class OpenSearchConcurrencyLimiterMetrics implements MeterBinder {
+
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+
+    public OpenSearchConcurrencyLimiterMetrics(AdaptiveConcurrencyLimiter concurrencyLimiter) {
+        this.concurrencyLimiter = concurrencyLimiter;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("opensearch.client.concurrency.rejections", concurrencyLimiter,
+                AdaptiveConcurrencyLimiter::getRejections)
+                .description("Requests rejected because the concurrency limit and the queue of their node were exhausted")
+                .register(registry);
+
+        concurrencyLimiter.addNodeListener((host, nodeLimit) -> {
+            Tags tags = Tags.of("node", host.toHostString());
+            Gauge.builder("opensearch.client.concurrency.limit", nodeLimit, AdaptiveConcurrencyLimiter.NodeLimit::getLimit)
+                    .description("Current concurrency limit of the node")
+                    .tags(tags)
+                    .register(registry);
+            Gauge.builder("opensearch.client.concurrency.in-flight", nodeLimit,
+                    AdaptiveConcurrencyLimiter.NodeLimit::getInFlight)
+                    .description("Requests in flight to the node")
+                    .tags(tags)
+                    .register(registry);
+            Gauge.builder("opensearch.client.concurrency.queued", nodeLimit, AdaptiveConcurrencyLimiter.NodeLimit::getQueued)
+                    .description("Requests waiting for the concurrency limit of the node")
+                    .tags(tags)
+                    .register(registry);
+        });
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright OpenSearch Contributors.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.spring.boot.autoconfigure.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.core5.pool.PoolStats;
+import org.opensearch.data.client.osc.ConnectionPoolMonitor;
+
+/**
+ * {@link MeterBinder} exposing the connection pool observed by a {@link ConnectionPoolMonitor}: leased, available and
+ * pending connections in total and per route, the time requests wait for a connection, connections opened and closed
+ * and I/O timeouts and exceptions. Gauges for a route are registered when the first connection is leased for it, the
+ * totals carry the route tag {@value #ALL_ROUTES} so that all gauges of a name share the same tag keys.
+ */
+public class OpenSearchConnectionPoolMetrics implements MeterBinder {
+
+    private static final String ALL_ROUTES = "all";
+
+    private final ConnectionPoolMonitor connectionPoolMonitor;
+
+    public OpenSearchConnectionPoolMetrics(ConnectionPoolMonitor connectionPoolMonitor) {
+        this.connectionPoolMonitor = connectionPoolMonitor;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        bindPoolStats(registry, Tags.of("route", ALL_ROUTES), (monitor) -> monitor.getTotalStats());
+
+        FunctionTimer.builder("opensearch.client.pool.lease", connectionPoolMonitor, ConnectionPoolMonitor::getLeases,
+                ConnectionPoolMonitor::getLeaseWaitNanos, TimeUnit.NANOSECONDS)
+                .description("Time requests waited for a connection from the pool")
+                .register(registry);
+        FunctionCounter.builder("opensearch.client.pool.lease.failures", connectionPoolMonitor,
+                ConnectionPoolMonitor::getLeaseFailures)
+                .description("Requests that got no connection from the pool, for example after the connection request timeout")
+                .register(registry);
+
+        FunctionCounter.builder("opensearch.client.connections.opened", connectionPoolMonitor,
+                ConnectionPoolMonitor::getConnectionsOpened)
+                .description("Connections opened by the I/O reactor")
+                .register(registry);
+        FunctionCounter.builder("opensearch.client.connections.closed", connectionPoolMonitor,
+                ConnectionPoolMonitor::getConnectionsClosed)
+                .description("Connections closed by the I/O reactor")
+                .register(registry);
+        Gauge.builder("opensearch.client.connections.open", connectionPoolMonitor, ConnectionPoolMonitor::getOpenConnections)
+                .description("Open I/O sessions")
+                .register(registry);
+        FunctionCounter.builder("opensearch.client.io.timeouts", connectionPoolMonitor, ConnectionPoolMonitor::getIoTimeouts)
+                .description("I/O sessions that timed out")
+                .register(registry);
+        FunctionCounter.builder("opensearch.client.io.exceptions", connectionPoolMonitor,
+                ConnectionPoolMonitor::getIoExceptions)
+                .description("I/O sessions that failed with an exception")
+                .register(registry);
+
+        connectionPoolMonitor.addRouteListener((route) -> bindPoolStats(registry, Tags.of("route", routeName(route)),
+                (monitor) -> monitor.getStats(route)));
+    }
+
+    private void bindPoolStats(MeterRegistry registry, Tags tags, Function<ConnectionPoolMonitor, PoolStats> stats) {
+        Gauge.builder("opensearch.client.pool.leased", connectionPoolMonitor, (monitor) -> stats.apply(monitor).getLeased())
+                .description("Connections leased from the pool")
+                .tags(tags)
+                .register(registry);
+        Gauge.builder("opensearch.client.pool.available", connectionPoolMonitor,
+                (monitor) -> stats.apply(monitor).getAvailable())
+                .description("Idle connections in the pool")
+                .tags(tags)
+                .register(registry);
+        Gauge.builder("opensearch.client.pool.pending", connectionPoolMonitor, (monitor) -> stats.apply(monitor).getPending())
+                .description("Requests waiting for a connection from the pool")
+                .tags(tags)
+                .register(registry);
+        Gauge.builder("opensearch.client.pool.max", connectionPoolMonitor, (monitor) -> stats.apply(monitor).getMax())
+                .description("Maximum number of connections of the pool")
+                .tags(tags)
+                .register(registry);
+    }
+
+    private static String routeName(HttpRoute route) {
+        return route.getTargetHost().toHostString();
+    }
+}
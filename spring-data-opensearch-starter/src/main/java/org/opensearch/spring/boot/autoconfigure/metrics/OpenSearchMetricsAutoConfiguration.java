@@ -0,0 +1,76 @@
+/*
+ * Copyright OpenSearch Contributors.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.spring.boot.autoconfigure.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.opensearch.client.transport.OpenSearchTransport;
+import org.opensearch.data.client.osc.AdaptiveConcurrencyLimiter;
+import org.opensearch.data.client.osc.ConnectionPoolMonitor;
+import org.opensearch.data.client.osc.LatencyAwareNodeSelector;
+import org.opensearch.spring.boot.autoconfigure.OpenSearchClientAutoConfiguration;
+import org.opensearch.spring.boot.autoconfigure.OpenSearchRestClientAutoConfiguration;
+import org.opensearch.spring.boot.autoconfigure.ReactiveOpenSearchClientAutoConfiguration;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnSingleCandidate;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * {@link EnableAutoConfiguration Auto-configuration} for the Micrometer metrics of the OpenSearch client. The
+ * registered {@link MeterBinder} beans are bound to the application's meter registries by Spring Boot.
+ */
+@AutoConfiguration(after = { OpenSearchRestClientAutoConfiguration.class, OpenSearchClientAutoConfiguration.class,
+        ReactiveOpenSearchClientAutoConfiguration.class })
+@ConditionalOnClass({ MeterBinder.class, OpenSearchTransport.class })
+public class OpenSearchMetricsAutoConfiguration {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "opensearch.payload-metrics", name = "enabled", havingValue = "true")
+    static OpenSearchPayloadMetricsPostProcessor opensearchPayloadMetricsPostProcessor(
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        return new OpenSearchPayloadMetricsPostProcessor(meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnSingleCandidate(OpenSearchTransport.class)
+    OpenSearchClientMetrics opensearchClientMetrics(OpenSearchTransport transport) {
+        return new OpenSearchClientMetrics(transport);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnSingleCandidate(AdaptiveConcurrencyLimiter.class)
+    OpenSearchConcurrencyLimiterMetrics opensearchConcurrencyLimiterMetrics(AdaptiveConcurrencyLimiter concurrencyLimiter) {
+        return new OpenSearchConcurrencyLimiterMetrics(concurrencyLimiter);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnSingleCandidate(LatencyAwareNodeSelector.class)
+    OpenSearchNodeSelectorMetrics opensearchNodeSelectorMetrics(LatencyAwareNodeSelector nodeSelector) {
+        return new OpenSearchNodeSelectorMetrics(nodeSelector);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnSingleCandidate(ConnectionPoolMonitor.class)
+    OpenSearchConnectionPoolMetrics opensearchConnectionPoolMetrics(ConnectionPoolMonitor connectionPoolMonitor) {
+        return new OpenSearchConnectionPoolMetrics(connectionPoolMonitor);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "opensearch.search-profiling", name = "enabled", havingValue = "true")
+    OpenSearchSearchProfileMetrics opensearchSearchProfileMetrics() {
+        return new OpenSearchSearchProfileMetrics();
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright OpenSearch Contributors.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.spring.boot.autoconfigure.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.opensearch.data.client.osc.LatencyAwareNodeSelector;
+
+/**
+ * {@link MeterBinder} exposing the node ejections of a {@link LatencyAwareNodeSelector}.
+ */
+public class OpenSearchNodeSelectorMetrics implements MeterBinder {
+
+    private final LatencyAwareNodeSelector nodeSelector;
+
+    public OpenSearchNodeSelectorMetrics(LatencyAwareNodeSelector nodeSelector) {
+        this.nodeSelector = nodeSelector;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("opensearch.client.nodes.ejections", nodeSelector, LatencyAwareNodeSelector::getEjections)
+                .description("Times a node was ejected for its latency or its failures")
+                .register(registry);
+        Gauge.builder("opensearch.client.nodes.ejected", nodeSelector, LatencyAwareNodeSelector::getEjectedNodes)
+                .description("Nodes that are currently ejected")
+                .register(registry);
+    }
+}
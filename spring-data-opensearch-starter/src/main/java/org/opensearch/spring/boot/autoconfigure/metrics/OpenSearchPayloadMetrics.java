@@ -0,0 +1,72 @@
+/*
+ * Copyright OpenSearch Contributors.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.spring.boot.autoconfigure.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+import org.opensearch.data.client.osc.ClientMetricsRecorder;
+
+/**
+ * {@link ClientMetricsRecorder} recording to a {@link MeterRegistry}: the body sizes as
+ * {@code opensearch.client.request.size} and {@code opensearch.client.response.size}, the returned documents as
+ * {@code opensearch.client.hits} and the client side processing as the {@code opensearch.client.processing} timer,
+ * tagged by stage, operation and entity.
+ */
+public class OpenSearchPayloadMetrics implements ClientMetricsRecorder {
+
+    private static final String NONE = "none";
+
+    private final Meter.MeterProvider<DistributionSummary> requestSize;
+
+    private final Meter.MeterProvider<DistributionSummary> responseSize;
+
+    private final Meter.MeterProvider<DistributionSummary> hits;
+
+    private final Meter.MeterProvider<Timer> processing;
+
+    public OpenSearchPayloadMetrics(MeterRegistry registry) {
+        this.requestSize = DistributionSummary.builder("opensearch.client.request.size")
+                .description("Size of the request bodies sent to the cluster")
+                .baseUnit("bytes")
+                .withRegistry(registry);
+        this.responseSize = DistributionSummary.builder("opensearch.client.response.size")
+                .description("Size of the response bodies received from the cluster")
+                .baseUnit("bytes")
+                .withRegistry(registry);
+        this.hits = DistributionSummary.builder("opensearch.client.hits")
+                .description("Number of documents returned by a search or get")
+                .withRegistry(registry);
+        this.processing = Timer.builder("opensearch.client.processing")
+                .description("Time spent in the client building requests, parsing responses and converting entities")
+                .withRegistry(registry);
+    }
+
+    @Override
+    public void recordRequestSize(String operation, long bytes) {
+        this.requestSize.withTags("operation", operation).record(bytes);
+    }
+
+    @Override
+    public void recordResponseSize(String operation, long bytes) {
+        this.responseSize.withTags("operation", operation).record(bytes);
+    }
+
+    @Override
+    public void recordHits(String operation, Class<?> entityType, int hits) {
+        this.hits.withTags("operation", operation, "entity", entityType.getSimpleName()).record(hits);
+    }
+
+    @Override
+    public void recordTime(Stage stage, String operation, Class<?> entityType, long nanos) {
+        this.processing
+                .withTags("stage", stage.name().toLowerCase(), "operation", operation, "entity",
+                        (entityType != null) ? entityType.getSimpleName() : NONE)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright OpenSearch Contributors.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.spring.boot.autoconfigure.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.opensearch.client.transport.OpenSearchTransport;
+import org.opensearch.data.client.osc.ClientMetricsRecorder;
+import org.opensearch.data.client.osc.MeteringOpenSearchTransport;
+import org.opensearch.data.client.osc.OpenSearchTemplate;
+import org.opensearch.data.client.osc.ReactiveOpenSearchTemplate;
+import org.opensearch.spring.boot.autoconfigure.OpenSearchLaneClients;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+/**
+ * Wraps the {@link OpenSearchTransport} beans and the transports of the {@link OpenSearchLaneClients} in a
+ * {@link MeteringOpenSearchTransport} and sets the recorder on the templates, all reporting to one
+ * {@link OpenSearchPayloadMetrics}. The meter registry is looked up on first use so that it is not created early by
+ * this post processor.
+ */
+class OpenSearchPayloadMetricsPostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    private volatile ClientMetricsRecorder metricsRecorder;
+
+    OpenSearchPayloadMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof OpenSearchTransport transport && !(bean instanceof MeteringOpenSearchTransport)) {
+            return meter(transport);
+        }
+        if (bean instanceof OpenSearchLaneClients laneClients) {
+            laneClients.addTransportDecorator(this::meter);
+        }
+        if (bean instanceof OpenSearchTemplate template) {
+            template.setMetricsRecorder(metricsRecorder());
+        } else if (bean instanceof ReactiveOpenSearchTemplate template) {
+            template.setMetricsRecorder(metricsRecorder());
+        }
+        return bean;
+    }
+
+    private OpenSearchTransport meter(OpenSearchTransport transport) {
+        ClientMetricsRecorder recorder = metricsRecorder();
+        return (recorder != ClientMetricsRecorder.NOOP) ? new MeteringOpenSearchTransport(transport, recorder) : transport;
+    }
+
+    private ClientMetricsRecorder metricsRecorder() {
+        ClientMetricsRecorder recorder = this.metricsRecorder;
+        if (recorder == null) {
+            MeterRegistry registry = this.meterRegistry.getIfUnique();
+            recorder = (registry != null) ? new OpenSearchPayloadMetrics(registry) : ClientMetricsRecorder.NOOP;
+            this.metricsRecorder = recorder;
+        }
+        return recorder;
+    }
+}
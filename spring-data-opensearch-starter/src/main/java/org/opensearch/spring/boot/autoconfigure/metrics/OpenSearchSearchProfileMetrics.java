@@ -0,0 +1,60 @@
+/*
+ * Copyright OpenSearch Contributors.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.spring.boot.autoconfigure.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.concurrent.TimeUnit;
+import org.opensearch.data.client.osc.SearchProfile;
+import org.opensearch.data.client.osc.SearchProfileListener;
+import org.springframework.lang.Nullable;
+
+/**
+ * {@link SearchProfileListener} recording the profiled searches as timers per index: the time of the top level
+ * queries by query type, of the top level collectors by collector name and of the query rewrites. Profiles received
+ * before the binder is bound to a registry are dropped.
+ */
+public class OpenSearchSearchProfileMetrics implements SearchProfileListener, MeterBinder {
+
+    @Nullable private volatile MeterRegistry registry;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void onProfile(SearchProfile profile) {
+
+        MeterRegistry registry = this.registry;
+        if (registry == null) {
+            return;
+        }
+
+        for (SearchProfile.Shard shard : profile.getShards()) {
+            for (SearchProfile.Timing query : shard.queries()) {
+                Timer.builder("opensearch.search.profile.query")
+                        .description("Time spent in the top level queries of profiled searches per shard")
+                        .tags("index", shard.index(), "type", query.type())
+                        .register(registry)
+                        .record(query.timeInNanos(), TimeUnit.NANOSECONDS);
+            }
+            for (SearchProfile.Timing collector : shard.collectors()) {
+                Timer.builder("opensearch.search.profile.collector")
+                        .description("Time spent in the top level collectors of profiled searches per shard")
+                        .tags("index", shard.index(), "collector", collector.type())
+                        .register(registry)
+                        .record(collector.timeInNanos(), TimeUnit.NANOSECONDS);
+            }
+            Timer.builder("opensearch.search.profile.rewrite")
+                    .description("Time spent rewriting the queries of profiled searches per shard")
+                    .tags("index", shard.index())
+                    .register(registry)
+                    .record(shard.rewriteTimeInNanos(), TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright OpenSearch Contributors.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.spring.boot.autoconfigure.observation;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.core.mapping.ElasticsearchPersistentEntity;
+import org.springframework.data.elasticsearch.core.mapping.SimpleElasticsearchMappingContext;
+
+/**
+ * Resolves the entity type stored in an index from the {@link Document} entities of the mapping context. The mapping
+ * context is looked up lazily as the transport is created before it, and the results are cached for a bounded number
+ * of index names so that time based index names cannot grow the cache without limit.
+ */
+class MappingContextEntityTypeResolver implements Function<String, Class<?>> {
+
+    private static final int MAX_CACHED_INDICES = 1024;
+
+    private final ObjectProvider<SimpleElasticsearchMappingContext> mappingContext;
+
+    private final Map<String, Optional<Class<?>>> entityTypes = new ConcurrentHashMap<>();
+
+    MappingContextEntityTypeResolver(ObjectProvider<SimpleElasticsearchMappingContext> mappingContext) {
+        this.mappingContext = mappingContext;
+    }
+
+    @Override
+    public Class<?> apply(String index) {
+        Optional<Class<?>> entityType = this.entityTypes.get(index);
+        if (entityType == null) {
+            entityType = Optional.ofNullable(resolve(index));
+            if (this.entityTypes.size() < MAX_CACHED_INDICES) {
+                this.entityTypes.put(index, entityType);
+            }
+        }
+        return entityType.orElse(null);
+    }
+
+    private Class<?> resolve(String index) {
+        SimpleElasticsearchMappingContext context = this.mappingContext.getIfAvailable();
+        if (context == null) {
+            return null;
+        }
+        for (ElasticsearchPersistentEntity<?> entity : context.getPersistentEntities()) {
+            if (entity.isAnnotationPresent(Document.class)
+                    && index.equals(entity.getIndexCoordinates().getIndexName())) {
+                return entity.getType();
+            }
+        }
+        return null;
+    }
+}
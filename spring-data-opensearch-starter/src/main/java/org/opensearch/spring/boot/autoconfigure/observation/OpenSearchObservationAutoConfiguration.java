@@ -0,0 +1,79 @@
+/*
+ * Copyright OpenSearch Contributors.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.spring.boot.autoconfigure.observation;
+
+import io.micrometer.observation.ObservationRegistry;
+import org.opensearch.client.transport.OpenSearchTransport;
+import org.opensearch.data.client.osc.ObservingOpenSearchTransport;
+import org.opensearch.data.client.osc.OpenSearchObservationConvention;
+import org.opensearch.spring.boot.autoconfigure.OpenSearchLaneClients;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.elasticsearch.core.mapping.SimpleElasticsearchMappingContext;
+
+/**
+ * {@link EnableAutoConfiguration Auto-configuration} for the Micrometer observations of the OpenSearch client. When
+ * the application has an {@link ObservationRegistry}, the {@link OpenSearchTransport} beans are wrapped in an
+ * {@link ObservingOpenSearchTransport}, which observes all requests of the clients and templates built on them; so
+ * are the transports of the {@link OpenSearchLaneClients}.
+ */
+@AutoConfiguration
+@ConditionalOnClass({ ObservationRegistry.class, OpenSearchTransport.class })
+public class OpenSearchObservationAutoConfiguration {
+
+    @Bean
+    static ObservingOpenSearchTransportPostProcessor observingOpenSearchTransportPostProcessor(
+            ObjectProvider<ObservationRegistry> observationRegistry,
+            ObjectProvider<OpenSearchObservationConvention> observationConvention,
+            ObjectProvider<SimpleElasticsearchMappingContext> mappingContext) {
+        return new ObservingOpenSearchTransportPostProcessor(observationRegistry, observationConvention, mappingContext);
+    }
+
+    static class ObservingOpenSearchTransportPostProcessor implements BeanPostProcessor {
+
+        private final ObjectProvider<ObservationRegistry> observationRegistry;
+
+        private final ObjectProvider<OpenSearchObservationConvention> observationConvention;
+
+        private final ObjectProvider<SimpleElasticsearchMappingContext> mappingContext;
+
+        ObservingOpenSearchTransportPostProcessor(ObjectProvider<ObservationRegistry> observationRegistry,
+                ObjectProvider<OpenSearchObservationConvention> observationConvention,
+                ObjectProvider<SimpleElasticsearchMappingContext> mappingContext) {
+            this.observationRegistry = observationRegistry;
+            this.observationConvention = observationConvention;
+            this.mappingContext = mappingContext;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof OpenSearchLaneClients laneClients) {
+                laneClients.addTransportDecorator(this::observe);
+                return bean;
+            }
+            if (!(bean instanceof OpenSearchTransport transport) || bean instanceof ObservingOpenSearchTransport) {
+                return bean;
+            }
+            return observe(transport);
+        }
+
+        private OpenSearchTransport observe(OpenSearchTransport transport) {
+            ObservationRegistry registry = this.observationRegistry.getIfUnique();
+            if (registry == null || registry.isNoop()) {
+                return transport;
+            }
+
+            ObservingOpenSearchTransport observingTransport = new ObservingOpenSearchTransport(transport, registry,
+                    new MappingContextEntityTypeResolver(this.mappingContext));
+            observingTransport.setObservationConvention(this.observationConvention.getIfUnique());
+            return observingTransport;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright OpenSearch Contributors.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.spring.boot.autoconfigure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.opensearch.client.opensearch.OpenSearchClient;
+import org.opensearch.client.transport.OpenSearchTransport;
+import org.opensearch.client.transport.rest_client.RestClientTransport;
+import org.opensearch.data.client.osc.CorrelatingOpenSearchTransport;
+import org.opensearch.data.client.osc.DelegatingOpenSearchTransport;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+/**
+ * Tests for {@link OpenSearchClientAutoConfiguration}.
+ */
+class OpenSearchClientAutoConfigurationTests {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(OpenSearchRestClientAutoConfiguration.class,
+                    OpenSearchClientAutoConfiguration.class));
+
+    @Test
+    void configureWithoutTransportDecoratorsShouldCreateRestClientTransport() {
+        this.contextRunner.run((context) -> assertThat(context)
+                .hasSingleBean(RestClientTransport.class)
+                .hasSingleBean(OpenSearchClient.class));
+    }
+
+    @Test
+    void configureWithCorrelationIdShouldCreateDecoratedTransport() {
+        this.contextRunner
+                .withPropertyValues("opensearch.correlation-id.enabled=true")
+                .run((context) -> assertThat(context.getBean(OpenSearchTransport.class))
+                        .isInstanceOf(CorrelatingOpenSearchTransport.class));
+    }
+
+    @Test
+    void configureWithTransportDecoratorShouldCreateDecoratedTransport() {
+        this.contextRunner
+                .withPropertyValues("opensearch.retry.enabled=true")
+                .run((context) -> {
+                    assertThat(context).hasSingleBean(OpenSearchTransport.class)
+                            .doesNotHaveBean(RestClientTransport.class)
+                            .hasSingleBean(OpenSearchClient.class);
+                    assertThat(context.getBean(OpenSearchTransport.class))
+                            .isInstanceOf(DelegatingOpenSearchTransport.class);
+                });
+    }
+}
@@ -27,6 +27,8 @@ import org.opensearch.client.Node;
 import org.opensearch.client.RestClient;
 import org.opensearch.client.RestClientBuilder;
 import org.opensearch.client.sniff.Sniffer;
+import org.opensearch.data.client.osc.ConnectionPoolMonitor;
+import org.opensearch.data.client.osc.LatencyAwareNodeSelector;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
 import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
 import org.springframework.boot.autoconfigure.ssl.SslAutoConfiguration;
@@ -269,6 +271,26 @@ class OpenSearchRestClientAutoConfigurationTests {
         });
     }
 
+    @Test
+    void configureWithoutLanesShouldNotCreateLaneClients() {
+        this.contextRunner.run((context) -> assertThat(context).doesNotHaveBean(OpenSearchLaneClients.class));
+    }
+
+    @Test
+    void configureWithLanesShouldCreateLaneClientsWithOwnNodeSelector() {
+        this.contextRunner
+                .withPropertyValues("opensearch.lanes.bulk.max-connections=5",
+                        "opensearch.node-selection.latency-aware=true")
+                .run((context) -> {
+                    assertThat(context).hasSingleBean(OpenSearchLaneClients.class);
+                    RestClient laneClient = context.getBean(OpenSearchLaneClients.class).getRestClients().get("bulk");
+                    assertThat(laneClient)
+                            .extracting("nodeSelector")
+                            .isInstanceOf(LatencyAwareNodeSelector.class)
+                            .isNotSameAs(context.getBean(LatencyAwareNodeSelector.class));
+                });
+    }
+
     @Test
     void configureWithSslBundle() {
         this.contextRunner
@@ -299,6 +321,26 @@ class OpenSearchRestClientAutoConfigurationTests {
                 });
     }
 
+    @Test
+    void configureWithSslBundleAndConnectionPoolMonitorBeanShouldKeepSsl() {
+        this.contextRunner
+                .withConfiguration(AutoConfigurations.of(SslAutoConfiguration.class))
+                .withBean(ConnectionPoolMonitor.class, ConnectionPoolMonitor::new)
+                .withPropertyValues(
+                        "opensearch.restclient.ssl.bundle=opensearch-ca",
+                        "spring.ssl.bundle.pem.opensearch-ca.truststore.certificate=classpath:opensearch-demo-ca.pem"
+                )
+                .run((context) -> {
+                    RestClient restClient = context.getBean(RestClient.class);
+                    Object client = ReflectionTestUtils.getField(restClient, "client");
+                    Object connmgr = ReflectionTestUtils.getField(client, "manager");
+                    Object connectionOperator = ReflectionTestUtils.getField(connmgr, "connectionOperator");
+
+                    Lookup<TlsStrategy> registry = (Lookup<TlsStrategy>) ReflectionTestUtils.getField(connectionOperator, "tlsStrategyLookup");
+                    assertThat(registry.lookup("https")).extracting("sslContext").isNotNull();
+                });
+    }
+
     @Configuration(proxyBeanMethods = false)
     static class BuilderCustomizerConfiguration {
 
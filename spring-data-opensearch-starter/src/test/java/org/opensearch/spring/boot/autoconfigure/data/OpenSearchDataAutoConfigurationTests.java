@@ -92,6 +92,35 @@ class OpenSearchDataAutoConfigurationTests {
         });
     }
 
+    @Test
+    void shouldNotBootstrapRepositoryIndicesByDefault() {
+        this.contextRunner.run((context) -> assertThat(context)
+                .doesNotHaveBean(OpenSearchRepositoryIndexBootstrapper.class));
+    }
+
+    @Test
+    void shouldBootstrapRepositoryIndicesWhenEnabled() {
+        this.contextRunner
+                .withPropertyValues("opensearch.index-bootstrap.enabled=true",
+                        "opensearch.index-bootstrap.parallelism=2")
+                .run((context) -> assertThat(context)
+                        .hasSingleBean(OpenSearchRepositoryIndexBootstrapper.class)
+                        .getBean(OpenSearchRepositoryIndexBootstrapper.class)
+                        .extracting((bootstrapper) -> bootstrapper.getBootstrap().size())
+                        .isEqualTo(0));
+    }
+
+    @Test
+    void shouldReconcileMappingsWhenEnabled() {
+        this.contextRunner
+                .withPropertyValues("opensearch.index-bootstrap.enabled=true",
+                        "opensearch.index-bootstrap.reconcile-mappings=true")
+                .run((context) -> assertThat(context)
+                        .getBean(OpenSearchRepositoryIndexBootstrapper.class)
+                        .extracting((bootstrapper) -> bootstrapper.getBootstrap().isReconcileMappings())
+                        .isEqualTo(true));
+    }
+
     @Configuration(proxyBeanMethods = false)
     static class CustomOpenSearchCustomConversions {
 
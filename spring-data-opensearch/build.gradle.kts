@@ -39,12 +39,14 @@ dependencies {
   implementation(springLibs.context)
   implementation(springLibs.tx)
   compileOnly(springLibs.web)
+  compileOnly(micrometerLibs.observation)
   compileOnly(opensearchLibs.java.client) {
     exclude("com.fasterxml.jackson.core", "*")
     exclude("com.fasterxml.jackson.databind", "*")
   }
 
   testImplementation(springLibs.projectreactor)
+  testImplementation(micrometerLibs.observation)
   testImplementation(opensearchLibs.java.client) {
     exclude("com.fasterxml.jackson.core", "*")
     exclude("com.fasterxml.jackson.databind", "*")
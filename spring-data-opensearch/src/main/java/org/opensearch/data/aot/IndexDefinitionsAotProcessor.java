@@ -0,0 +1,98 @@
+/*
+ * Copyright OpenSearch Contributors.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.data.aot;
+
+import static org.springframework.util.StringUtils.hasText;
+import static org.springframework.util.StringUtils.trimLeadingCharacter;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+import org.opensearch.data.core.OpenSearchMappingParametersCustomizer;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContribution;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.elasticsearch.annotations.Mapping;
+import org.springframework.data.elasticsearch.core.convert.ElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.index.MappingParametersCustomizer;
+import org.springframework.data.elasticsearch.core.mapping.ElasticsearchPersistentEntity;
+
+/**
+ * Precomputes the index settings and mappings of the application's entities while it is processed ahead of time and
+ * writes them to {@value PrecomputedIndexDefinitions#LOCATION}. It also registers reflection hints for all persistent
+ * entities of the mapping context, including the nested ones, and resource hints for the setting and mapping files
+ * they refer to.
+ * <p>
+ * The definitions are computed with the application's unique {@link ElasticsearchConverter} and
+ * {@link MappingParametersCustomizer} beans; nothing is contributed when there is no unique converter. Note that this
+ * instantiates both beans and their dependencies, usually the mapping context and the custom conversions, in the
+ * build, so their bean methods must not depend on anything only available at runtime, such as a cluster connection.
+ * If they cannot be created, the definitions are not precomputed and the templates build the mappings at runtime.
+ * The runtime converter may also be configured differently than the one of the build, for example through a
+ * profile; precomputed mappings are then detected as stale and not used, see {@link PrecomputedIndexDefinitions}.
+ */
+public class IndexDefinitionsAotProcessor implements BeanFactoryInitializationAotProcessor {
+
+    private static final Log LOGGER = LogFactory.getLog(IndexDefinitionsAotProcessor.class);
+
+    @Override
+    public @Nullable BeanFactoryInitializationAotContribution processAheadOfTime(
+            ConfigurableListableBeanFactory beanFactory) {
+
+        ElasticsearchConverter converter;
+        MappingParametersCustomizer mappingParametersCustomizer;
+
+        try {
+            converter = beanFactory.getBeanProvider(ElasticsearchConverter.class).getIfUnique();
+            mappingParametersCustomizer = beanFactory.getBeanProvider(MappingParametersCustomizer.class)
+                    .getIfUnique(OpenSearchMappingParametersCustomizer::new);
+        } catch (BeansException e) {
+            LOGGER.debug("Not precomputing index definitions, the converter is not available", e);
+            return null;
+        }
+
+        if (converter == null) {
+            return null;
+        }
+
+        PrecomputedIndexDefinitions definitions = PrecomputedIndexDefinitions.compute(converter,
+                mappingParametersCustomizer);
+        List<ElasticsearchPersistentEntity<?>> entities = new ArrayList<>(
+                converter.getMappingContext().getPersistentEntities());
+
+        return (generationContext, beanFactoryInitializationCode) -> {
+            RuntimeHints hints = generationContext.getRuntimeHints();
+
+            if (!definitions.isEmpty()) {
+                generationContext.getGeneratedFiles().addResourceFile(PrecomputedIndexDefinitions.LOCATION,
+                        definitions.toJson());
+                hints.resources().registerPattern(PrecomputedIndexDefinitions.LOCATION);
+            }
+
+            entities.forEach(entity -> registerHints(hints, entity));
+        };
+    }
+
+    private static void registerHints(RuntimeHints hints, ElasticsearchPersistentEntity<?> entity) {
+
+        hints.reflection().registerType(entity.getType(), MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                MemberCategory.INVOKE_DECLARED_METHODS, MemberCategory.ACCESS_DECLARED_FIELDS);
+
+        if (hasText(entity.settingPath())) {
+            hints.resources().registerPattern(trimLeadingCharacter(entity.settingPath(), '/'));
+        }
+
+        Mapping mapping = AnnotatedElementUtils.findMergedAnnotation(entity.getType(), Mapping.class);
+        if (mapping != null && hasText(mapping.mappingPath())) {
+            hints.resources().registerPattern(trimLeadingCharacter(mapping.mappingPath(), '/'));
+        }
+    }
+}
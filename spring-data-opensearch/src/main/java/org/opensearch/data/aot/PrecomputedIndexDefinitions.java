@@ -0,0 +1,262 @@
+/*
+ * Copyright OpenSearch Contributors.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.data.aot;
+
+import static org.springframework.util.StringUtils.hasText;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import org.jspecify.annotations.Nullable;
+import org.springframework.aot.AotDetector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.elasticsearch.annotations.Mapping;
+import org.springframework.data.elasticsearch.core.ResourceUtil;
+import org.springframework.data.elasticsearch.core.convert.ElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.index.MappingBuilder;
+import org.springframework.data.elasticsearch.core.index.MappingParametersCustomizer;
+import org.springframework.data.elasticsearch.core.index.Settings;
+import org.springframework.data.elasticsearch.core.mapping.ElasticsearchPersistentEntity;
+import org.springframework.data.elasticsearch.core.mapping.ElasticsearchPersistentProperty;
+import org.springframework.util.Assert;
+
+/**
+ * Index settings and mappings of the entities annotated with
+ * {@link org.springframework.data.elasticsearch.annotations.Document}, computed by the
+ * {@link IndexDefinitionsAotProcessor} while the application is processed ahead of time and stored in
+ * {@value #LOCATION}. When the application runs with the generated artifacts, the index templates take the settings
+ * and mappings from here instead of reading the entity annotations and building the mapping on every index creation.
+ * <p>
+ * A mapping is only used by templates with the same type of {@link MappingParametersCustomizer} it was built with and
+ * a converter whose mapping context maps the entity the same way: each mapping is stored with a fingerprint of the
+ * field names, the properties mapped as nested entities or with a property value converter, and the type hints of the
+ * entity and its nested entities. These depend on the field naming strategy, the custom conversions and the type hint
+ * setting the converter is configured with, so a template whose converter is configured differently than the one of
+ * the build builds the mapping itself.
+ */
+public final class PrecomputedIndexDefinitions {
+
+    public static final String LOCATION = "META-INF/spring-data-opensearch/index-definitions.json";
+
+    private static final PrecomputedIndexDefinitions EMPTY = new PrecomputedIndexDefinitions(Map.of());
+
+    private static volatile @Nullable PrecomputedIndexDefinitions loaded;
+
+    private final Map<String, Definition> definitions;
+
+    private PrecomputedIndexDefinitions(Map<String, Definition> definitions) {
+        this.definitions = definitions;
+    }
+
+    /**
+     * @return the definitions generated ahead of time, empty unless the application runs with the generated artifacts
+     */
+    public static PrecomputedIndexDefinitions get() {
+
+        PrecomputedIndexDefinitions definitions = loaded;
+
+        if (definitions == null) {
+            definitions = AotDetector.useGeneratedArtifacts() ? load() : EMPTY;
+            loaded = definitions;
+        }
+
+        return definitions;
+    }
+
+    private static PrecomputedIndexDefinitions load() {
+
+        ClassPathResource resource = new ClassPathResource(LOCATION,
+                PrecomputedIndexDefinitions.class.getClassLoader());
+
+        if (!resource.exists()) {
+            return EMPTY;
+        }
+
+        try (InputStream inputStream = resource.getInputStream()) {
+            return parse(new String(inputStream.readAllBytes(), StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read " + LOCATION, e);
+        }
+    }
+
+    /**
+     * Computes the settings and mappings of all entities annotated with
+     * {@link org.springframework.data.elasticsearch.annotations.Document} known to the converter's mapping context.
+     *
+     * @param converter the converter of the application
+     * @param mappingParametersCustomizer the customizer the templates of the application build mappings with
+     */
+    public static PrecomputedIndexDefinitions compute(ElasticsearchConverter converter,
+            MappingParametersCustomizer mappingParametersCustomizer) {
+
+        Assert.notNull(converter, "converter must not be null");
+        Assert.notNull(mappingParametersCustomizer, "mappingParametersCustomizer must not be null");
+
+        MappingBuilder mappingBuilder = new MappingBuilder(converter, mappingParametersCustomizer);
+        Map<String, Definition> definitions = new LinkedHashMap<>();
+
+        for (ElasticsearchPersistentEntity<?> entity : converter.getMappingContext().getPersistentEntities()) {
+
+            if (!entity.isAnnotationPresent(org.springframework.data.elasticsearch.annotations.Document.class)) {
+                continue;
+            }
+
+            String settingPath = entity.settingPath();
+            Settings settings = hasText(settingPath) //
+                    ? Settings.parse(ResourceUtil.readFileFromClasspath(settingPath)) //
+                    : entity.getDefaultSettings();
+
+            definitions.put(entity.getType().getName(), new Definition(mappingParametersCustomizer.getClass().getName(),
+                    fingerprint(converter, entity), settings.toJson(), mapping(mappingBuilder, entity.getType())));
+        }
+
+        return new PrecomputedIndexDefinitions(Collections.unmodifiableMap(definitions));
+    }
+
+    private static String mapping(MappingBuilder mappingBuilder, Class<?> type) {
+
+        Mapping mappingAnnotation = AnnotatedElementUtils.findMergedAnnotation(type, Mapping.class);
+
+        if (mappingAnnotation != null && hasText(mappingAnnotation.mappingPath())) {
+            String mapping = ResourceUtil.readFileFromClasspath(mappingAnnotation.mappingPath());
+
+            if (hasText(mapping)) {
+                return Document.parse(mapping).toJson();
+            }
+        }
+
+        return mappingBuilder.buildPropertyMapping(type);
+    }
+
+    /**
+     * @return a hash of what the mapping of the entity depends on besides its class and annotations
+     */
+    private static String fingerprint(ElasticsearchConverter converter, ElasticsearchPersistentEntity<?> entity) {
+
+        StringBuilder fingerprint = new StringBuilder();
+        fingerprint(converter, entity, fingerprint, new HashSet<>());
+
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256")
+                    .digest(fingerprint.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static void fingerprint(ElasticsearchConverter converter, ElasticsearchPersistentEntity<?> entity,
+            StringBuilder fingerprint, Set<Class<?>> visited) {
+
+        if (!visited.add(entity.getType())) {
+            return;
+        }
+
+        fingerprint.append(entity.getType().getName()).append(entity.writeTypeHints() ? "+" : "-").append('{');
+
+        for (ElasticsearchPersistentProperty property : entity) {
+            fingerprint.append(property.getName()).append('=').append(property.getFieldName());
+            if (property.hasPropertyValueConverter()) {
+                fingerprint.append(":converted");
+            }
+            if (property.isEntity()) {
+                fingerprint.append(':');
+                ElasticsearchPersistentEntity<?> nested = converter.getMappingContext().getPersistentEntity(property);
+                if (nested != null) {
+                    fingerprint(converter, nested, fingerprint, visited);
+                }
+            }
+            fingerprint.append(';');
+        }
+
+        fingerprint.append('}');
+    }
+
+    /**
+     * Reads definitions written with {@link #toJson()}.
+     */
+    @SuppressWarnings("unchecked")
+    public static PrecomputedIndexDefinitions parse(String json) {
+
+        Assert.notNull(json, "json must not be null");
+
+        Map<String, Definition> definitions = new LinkedHashMap<>();
+        Document.parse(json).forEach((type, value) -> {
+            Map<String, Object> definition = (Map<String, Object>) value;
+            definitions.put(type, new Definition((String) definition.get("customizer"),
+                    (String) definition.get("fingerprint"), (String) definition.get("settings"),
+                    (String) definition.get("mapping")));
+        });
+
+        return new PrecomputedIndexDefinitions(Collections.unmodifiableMap(definitions));
+    }
+
+    public String toJson() {
+
+        Document document = Document.create();
+        definitions.forEach((type, definition) -> {
+            Map<String, Object> json = new LinkedHashMap<>();
+            json.put("customizer", definition.customizer());
+            json.put("fingerprint", definition.fingerprint());
+            json.put("settings", definition.settings());
+            json.put("mapping", definition.mapping());
+            document.put(type, json);
+        });
+        return document.toJson();
+    }
+
+    public boolean isEmpty() {
+        return definitions.isEmpty();
+    }
+
+    public int size() {
+        return definitions.size();
+    }
+
+    /**
+     * @return a copy of the precomputed settings of the entity, {@literal null} if there are none
+     */
+    public @Nullable Settings settings(Class<?> type) {
+
+        Definition definition = definitions.get(type.getName());
+        return definition != null ? Settings.parse(definition.settings()) : null;
+    }
+
+    /**
+     * @param converter the converter of the asking template
+     * @param mappingParametersCustomizer the customizer of the asking template
+     * @return a copy of the precomputed mapping of the entity, {@literal null} if there is none or it was built with
+     *         another type of customizer or a converter that maps the entity differently
+     */
+    public @Nullable Document mapping(Class<?> type, ElasticsearchConverter converter,
+            MappingParametersCustomizer mappingParametersCustomizer) {
+
+        Definition definition = definitions.get(type.getName());
+
+        if (definition == null || !definition.customizer().equals(mappingParametersCustomizer.getClass().getName())) {
+            return null;
+        }
+
+        ElasticsearchPersistentEntity<?> entity = converter.getMappingContext().getPersistentEntity(type);
+
+        if (entity == null || !fingerprint(converter, entity).equals(definition.fingerprint())) {
+            return null;
+        }
+
+        return Document.parse(definition.mapping());
+    }
+
+    private record Definition(String customizer, @Nullable String fingerprint, String settings, String mapping) {}
+}
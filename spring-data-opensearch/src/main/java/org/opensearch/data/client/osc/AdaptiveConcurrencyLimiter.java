@@ -0,0 +1,454 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import org.apache.hc.client5.http.async.AsyncExecCallback;
+import org.apache.hc.client5.http.async.AsyncExecChain;
+import org.apache.hc.client5.http.async.AsyncExecChainHandler;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClientBuilder;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.EntityDetails;
+import org.apache.hc.core5.http.HttpException;
+import org.apache.hc.core5.http.HttpHeaders;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.HttpRequest;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.impl.BasicEntityDetails;
+import org.apache.hc.core5.http.message.BasicHttpResponse;
+import org.apache.hc.core5.http.nio.AsyncDataConsumer;
+import org.apache.hc.core5.http.nio.AsyncEntityProducer;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Limits the number of concurrent requests the low level client sends to each node. The limit of a node adapts to the
+ * latency observed for it, following the TCP Vegas congestion control algorithm: the lowest round trip time seen for a
+ * node serves as the latency without load, and the ratio between it and the current round trip time estimates how
+ * many requests are queued on the node. The limit grows while that estimate is small and shrinks when it grows or when
+ * the node answers with 429 or 503 or a request fails.
+ * <p>
+ * Requests over the limit of their node wait in a bounded queue until a request to the same node completes, at most
+ * for the configured maximum queue time. When the queue is full, or its size is 0, or the queue time is exceeded, the
+ * request is answered locally with a 429 response instead of being sent. Unlike an I/O error this does not make the
+ * {@link org.opensearch.client.RestClient} mark the busy node as dead and fail over to the other nodes; the caller
+ * gets an {@link org.opensearch.client.opensearch._types.OpenSearchException} with status 429 and error type
+ * {@value #REJECTION_TYPE}, which a {@link RetryingOpenSearchTransport} retries with backoff.
+ * <p>
+ * The limiter is installed as an exec interceptor of the {@link HttpAsyncClientBuilder}, for a
+ * {@link org.springframework.data.elasticsearch.client.ClientConfiguration} with
+ * {@code withClientConfigurer(limiter.httpClientConfigurer())}.
+ */
+public class AdaptiveConcurrencyLimiter implements AsyncExecChainHandler {
+
+    /**
+     * Name of the exec interceptor registered with the {@link HttpAsyncClientBuilder}.
+     */
+    public static final String INTERCEPTOR_NAME = "opensearch-adaptive-concurrency-limit";
+
+    /**
+     * Error type of the 429 responses of rejected requests.
+     */
+    public static final String REJECTION_TYPE = "concurrency_limit_exceeded_exception";
+
+    private final int initialLimit;
+    private final int minLimit;
+    private final int maxLimit;
+    private final int maxQueueSize;
+    private final Duration maxQueueTime;
+
+    private final Map<HttpHost, NodeLimit> nodeLimits = new ConcurrentHashMap<>();
+    private final LongAdder rejections = new LongAdder();
+    private final CopyOnWriteArrayList<BiConsumer<HttpHost, NodeLimit>> nodeListeners = new CopyOnWriteArrayList<>();
+
+    private AdaptiveConcurrencyLimiter(Builder builder) {
+
+        Assert.isTrue(builder.minLimit <= builder.initialLimit && builder.initialLimit <= builder.maxLimit,
+                "initialLimit must be between minLimit and maxLimit");
+
+        this.initialLimit = builder.initialLimit;
+        this.minLimit = builder.minLimit;
+        this.maxLimit = builder.maxLimit;
+        this.maxQueueSize = builder.maxQueueSize;
+        this.maxQueueTime = builder.maxQueueTime;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return a callback for a {@link org.springframework.data.elasticsearch.client.ClientConfiguration} that installs
+     *         this limiter.
+     */
+    public OpenSearchClients.OpenSearchHttpClientConfigurationCallback httpClientConfigurer() {
+        return OpenSearchClients.OpenSearchHttpClientConfigurationCallback.from(this::configure);
+    }
+
+    /**
+     * Installs this limiter on the given builder.
+     */
+    public HttpAsyncClientBuilder configure(HttpAsyncClientBuilder builder) {
+        return builder.addExecInterceptorFirst(INTERCEPTOR_NAME, this);
+    }
+
+    /**
+     * @return the number of requests that were rejected because the limit and the queue of their node were exhausted
+     */
+    public long getRejections() {
+        return rejections.sum();
+    }
+
+    /**
+     * @return the limits of the nodes that received requests so far
+     */
+    public Map<HttpHost, NodeLimit> getNodeLimits() {
+        return Collections.unmodifiableMap(nodeLimits);
+    }
+
+    /**
+     * Registers a listener that is called for each node limit that exists or is created later, for example to register
+     * metrics for it.
+     */
+    public void addNodeListener(BiConsumer<HttpHost, NodeLimit> listener) {
+
+        Assert.notNull(listener, "listener must not be null");
+
+        nodeListeners.add(listener);
+        nodeLimits.forEach(listener);
+    }
+
+    @Override
+    public void execute(HttpRequest request, @Nullable AsyncEntityProducer entityProducer, AsyncExecChain.Scope scope,
+            AsyncExecChain chain, AsyncExecCallback asyncExecCallback) throws HttpException, IOException {
+
+        HttpHost host = scope.route.getTargetHost();
+        NodeLimit limit = nodeLimits.computeIfAbsent(host, this::createNodeLimit);
+        Runnable proceed = () -> {
+            LimitedCallback callback = new LimitedCallback(limit, asyncExecCallback);
+            try {
+                chain.proceed(request, entityProducer, scope, callback);
+            } catch (HttpException | IOException | RuntimeException e) {
+                callback.failed(e);
+            }
+        };
+
+        // a queued request is handed the permit of a completed request by completing its waiter, which cancels the
+        // timeout of the waiter; if the timeout won, the request still runs with the permit it was handed
+        CompletableFuture<Void> waiter = new CompletableFuture<>();
+        Runnable queued = () -> {
+            if (!waiter.complete(null)) {
+                proceed.run();
+            }
+        };
+
+        switch (limit.acquire(queued, maxQueueSize)) {
+            case ACQUIRED -> proceed.run();
+            case QUEUED -> waiter.orTimeout(maxQueueTime.toNanos(), TimeUnit.NANOSECONDS)
+                    .whenComplete((ignored, timeout) -> {
+                        if (timeout == null) {
+                            proceed.run();
+                        } else if (limit.dequeue(queued)) {
+                            reject(host, "waited longer than " + maxQueueTime + " for the concurrency limit of "
+                                    + limit.getLimit() + " requests", asyncExecCallback);
+                        }
+                    });
+            case REJECTED -> reject(host, "concurrency limit of " + limit.getLimit() + " requests exceeded",
+                    asyncExecCallback);
+        }
+    }
+
+    /**
+     * Answers a request with a 429 response without sending it.
+     */
+    void reject(HttpHost host, String reason, AsyncExecCallback asyncExecCallback) {
+
+        rejections.increment();
+
+        String json = "{\"error\":{\"type\":\"" + REJECTION_TYPE + "\",\"reason\":\"" + reason + " for node "
+                + host.toHostString() + "\"},\"status\":429}";
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        BasicHttpResponse response = new BasicHttpResponse(429, "Too Many Requests");
+        response.addHeader(HttpHeaders.CONTENT_TYPE, ContentType.APPLICATION_JSON.toString());
+
+        try {
+            AsyncDataConsumer consumer = asyncExecCallback.handleResponse(response,
+                    new BasicEntityDetails(body.length, ContentType.APPLICATION_JSON));
+
+            if (consumer != null) {
+                consumer.consume(ByteBuffer.wrap(body));
+                consumer.streamEnd(null);
+            }
+
+            asyncExecCallback.completed();
+        } catch (HttpException | IOException | RuntimeException e) {
+            asyncExecCallback.failed(e);
+        }
+    }
+
+    private NodeLimit createNodeLimit(HttpHost host) {
+
+        NodeLimit limit = new NodeLimit(initialLimit, minLimit, maxLimit);
+        nodeListeners.forEach(listener -> listener.accept(host, limit));
+        return limit;
+    }
+
+    /**
+     * Callback that releases the permit of a request and feeds its round trip time into the limit.
+     */
+    private static class LimitedCallback implements AsyncExecCallback {
+
+        private final NodeLimit limit;
+        private final AsyncExecCallback delegate;
+        private final long start = System.nanoTime();
+        private final int inFlightAtStart;
+        private final AtomicBoolean released = new AtomicBoolean();
+        private volatile boolean dropped;
+
+        LimitedCallback(NodeLimit limit, AsyncExecCallback delegate) {
+            this.limit = limit;
+            this.delegate = delegate;
+            this.inFlightAtStart = limit.getInFlight();
+        }
+
+        @Override
+        public AsyncDataConsumer handleResponse(HttpResponse response, EntityDetails entityDetails)
+                throws HttpException, IOException {
+
+            dropped = response.getCode() == 429 || response.getCode() == 503;
+
+            return delegate.handleResponse(response, entityDetails);
+        }
+
+        @Override
+        public void handleInformationResponse(HttpResponse response) throws HttpException, IOException {
+            delegate.handleInformationResponse(response);
+        }
+
+        @Override
+        public void completed() {
+            release(dropped);
+            delegate.completed();
+        }
+
+        @Override
+        public void failed(Exception cause) {
+            release(true);
+            delegate.failed(cause);
+        }
+
+        private void release(boolean dropped) {
+
+            if (released.compareAndSet(false, true)) {
+                Runnable next = limit.release(System.nanoTime() - start, inFlightAtStart, dropped);
+
+                if (next != null) {
+                    next.run();
+                }
+            }
+        }
+    }
+
+    enum Acquisition {
+        ACQUIRED, QUEUED, REJECTED
+    }
+
+    /**
+     * The adaptive limit, the requests in flight and the queued requests of one node.
+     */
+    public static final class NodeLimit {
+
+        /**
+         * Number of samples after which the latency without load is measured again, relative to the limit.
+         */
+        private static final int PROBE_MULTIPLIER = 30;
+
+        private final int minLimit;
+        private final int maxLimit;
+        private final Queue<Runnable> queue = new ArrayDeque<>();
+
+        private double limit;
+        private int inFlight;
+        private long minRttNanos = Long.MAX_VALUE;
+        private long samples;
+
+        NodeLimit(int initialLimit, int minLimit, int maxLimit) {
+            this.limit = initialLimit;
+            this.minLimit = minLimit;
+            this.maxLimit = maxLimit;
+        }
+
+        public synchronized int getLimit() {
+            return (int) limit;
+        }
+
+        public synchronized int getInFlight() {
+            return inFlight;
+        }
+
+        public synchronized int getQueued() {
+            return queue.size();
+        }
+
+        synchronized Acquisition acquire(Runnable request, int maxQueueSize) {
+
+            if (inFlight < (int) limit) {
+                inFlight++;
+                return Acquisition.ACQUIRED;
+            }
+
+            if (queue.size() < maxQueueSize) {
+                queue.add(request);
+                return Acquisition.QUEUED;
+            }
+
+            return Acquisition.REJECTED;
+        }
+
+        /**
+         * Removes a queued request that waited too long.
+         *
+         * @return whether the request was still queued
+         */
+        synchronized boolean dequeue(Runnable request) {
+            return queue.remove(request);
+        }
+
+        /**
+         * Releases a permit and adapts the limit.
+         *
+         * @return a queued request that took over the permit and must be run by the caller, or {@literal null}
+         */
+        @Nullable
+        synchronized Runnable release(long rttNanos, int inFlightAtStart, boolean dropped) {
+
+            inFlight--;
+            update(rttNanos, inFlightAtStart, dropped);
+
+            if (inFlight < (int) limit) {
+                Runnable next = queue.poll();
+
+                if (next != null) {
+                    inFlight++;
+                    return next;
+                }
+            }
+
+            return null;
+        }
+
+        private void update(long rttNanos, int inFlightAtStart, boolean dropped) {
+
+            if (++samples > PROBE_MULTIPLIER * (long) limit) {
+                // the latency without load may have changed, for example after a node was replaced
+                minRttNanos = Long.MAX_VALUE;
+                samples = 0;
+            }
+
+            double step = Math.max(1, Math.log10(limit));
+
+            if (dropped) {
+                limit = Math.max(minLimit, limit - step);
+                return;
+            }
+
+            minRttNanos = Math.min(minRttNanos, Math.max(1, rttNanos));
+
+            if (inFlightAtStart * 2 < limit) {
+                // the limit was not reached, so the latency says nothing about it
+                return;
+            }
+
+            double queued = limit * (1 - (double) minRttNanos / Math.max(1, rttNanos));
+
+            if (queued <= 3 * step) {
+                limit = Math.min(maxLimit, limit + step);
+            } else if (queued >= 6 * step) {
+                limit = Math.max(minLimit, limit - step);
+            }
+        }
+    }
+
+    public static final class Builder {
+
+        private int initialLimit = 20;
+        private int minLimit = 1;
+        private int maxLimit = 200;
+        private int maxQueueSize = 100;
+        private Duration maxQueueTime = Duration.ofSeconds(10);
+
+        private Builder() {}
+
+        public Builder withInitialLimit(int initialLimit) {
+
+            Assert.isTrue(initialLimit > 0, "initialLimit must be greater than 0");
+
+            this.initialLimit = initialLimit;
+            return this;
+        }
+
+        public Builder withMinLimit(int minLimit) {
+
+            Assert.isTrue(minLimit > 0, "minLimit must be greater than 0");
+
+            this.minLimit = minLimit;
+            return this;
+        }
+
+        public Builder withMaxLimit(int maxLimit) {
+
+            Assert.isTrue(maxLimit > 0, "maxLimit must be greater than 0");
+
+            this.maxLimit = maxLimit;
+            return this;
+        }
+
+        /**
+         * @param maxQueueSize the number of requests per node that wait for a permit, 0 to fail fast
+         */
+        public Builder withMaxQueueSize(int maxQueueSize) {
+
+            Assert.isTrue(maxQueueSize >= 0, "maxQueueSize must not be negative");
+
+            this.maxQueueSize = maxQueueSize;
+            return this;
+        }
+
+        /**
+         * @param maxQueueTime how long a request waits for a permit before it is rejected
+         */
+        public Builder withMaxQueueTime(Duration maxQueueTime) {
+
+            Assert.notNull(maxQueueTime, "maxQueueTime must not be null");
+            Assert.isTrue(maxQueueTime.isPositive(), "maxQueueTime must be positive");
+
+            this.maxQueueTime = maxQueueTime;
+            return this;
+        }
+
+        public AdaptiveConcurrencyLimiter build() {
+            return new AdaptiveConcurrencyLimiter(this);
+        }
+    }
+}
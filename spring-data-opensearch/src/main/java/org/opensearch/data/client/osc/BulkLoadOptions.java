@@ -0,0 +1,131 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+
+package org.opensearch.data.client.osc;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Settings applied to an index while it is bulk loaded, see {@link IndicesTemplate#startBulkLoad(BulkLoadOptions)}
+ * and {@link ReactiveIndicesTemplate#bulkLoad(BulkLoadOptions, org.reactivestreams.Publisher)}. By default the
+ * refresh is disabled and the replicas are dropped during the load, and the index is refreshed afterwards.
+ */
+public final class BulkLoadOptions {
+
+    static final String REFRESH_INTERVAL = "index.refresh_interval";
+    static final String NUMBER_OF_REPLICAS = "index.number_of_replicas";
+
+    private final String refreshInterval;
+    private final int numberOfReplicas;
+    @Nullable private final Integer maxNumSegments;
+    private final boolean refresh;
+
+    private BulkLoadOptions(Builder builder) {
+        this.refreshInterval = builder.refreshInterval;
+        this.numberOfReplicas = builder.numberOfReplicas;
+        this.maxNumSegments = builder.maxNumSegments;
+        this.refresh = builder.refresh;
+    }
+
+    public static BulkLoadOptions defaults() {
+        return builder().build();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public String getRefreshInterval() {
+        return refreshInterval;
+    }
+
+    public int getNumberOfReplicas() {
+        return numberOfReplicas;
+    }
+
+    /**
+     * @return the number of segments to force merge to after the load, {@literal null} for no force merge
+     */
+    @Nullable
+    public Integer getMaxNumSegments() {
+        return maxNumSegments;
+    }
+
+    public boolean isRefresh() {
+        return refresh;
+    }
+
+    /**
+     * @return the flat index settings applied for the load
+     */
+    Map<String, Object> loadSettings() {
+
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put(REFRESH_INTERVAL, refreshInterval);
+        settings.put(NUMBER_OF_REPLICAS, numberOfReplicas);
+        return settings;
+    }
+
+    public static final class Builder {
+
+        private String refreshInterval = "-1";
+        private int numberOfReplicas = 0;
+        @Nullable private Integer maxNumSegments;
+        private boolean refresh = true;
+
+        private Builder() {}
+
+        /**
+         * @param refreshInterval the refresh interval during the load, {@literal -1} to disable the refresh
+         */
+        public Builder withRefreshInterval(String refreshInterval) {
+
+            Assert.hasText(refreshInterval, "refreshInterval must not be empty");
+
+            this.refreshInterval = refreshInterval;
+            return this;
+        }
+
+        public Builder withNumberOfReplicas(int numberOfReplicas) {
+
+            Assert.isTrue(numberOfReplicas >= 0, "numberOfReplicas must not be negative");
+
+            this.numberOfReplicas = numberOfReplicas;
+            return this;
+        }
+
+        /**
+         * @param maxNumSegments the number of segments to force merge to after a successful load, {@literal null} for
+         *            no force merge
+         */
+        public Builder withForceMerge(@Nullable Integer maxNumSegments) {
+
+            Assert.isTrue(maxNumSegments == null || maxNumSegments > 0, "maxNumSegments must be greater than 0");
+
+            this.maxNumSegments = maxNumSegments;
+            return this;
+        }
+
+        /**
+         * @param refresh whether to refresh the index after a successful load
+         */
+        public Builder withRefresh(boolean refresh) {
+            this.refresh = refresh;
+            return this;
+        }
+
+        public BulkLoadOptions build() {
+            return new BulkLoadOptions(this);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+
+package org.opensearch.data.client.osc;
+
+import java.util.Map;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+
+/**
+ * An index prepared for a bulk load by {@link IndicesTemplate#startBulkLoad(BulkLoadOptions)}. Closing the session
+ * force merges and refreshes the index as configured, unless the load was {@link #markFailed() marked as failed},
+ * and then restores the settings captured when the session was started. Settings the index did not set are reset to
+ * their defaults.
+ */
+public final class BulkLoadSession implements AutoCloseable {
+
+    private final IndicesTemplate indicesTemplate;
+    private final IndexCoordinates indexCoordinates;
+    private final BulkLoadOptions options;
+    private final Map<String, Map<String, Object>> originalSettings;
+    private volatile boolean failed;
+    private volatile boolean closed;
+
+    BulkLoadSession(IndicesTemplate indicesTemplate, IndexCoordinates indexCoordinates, BulkLoadOptions options,
+            Map<String, Map<String, Object>> originalSettings) {
+        this.indicesTemplate = indicesTemplate;
+        this.indexCoordinates = indexCoordinates;
+        this.options = options;
+        this.originalSettings = originalSettings;
+    }
+
+    public IndexCoordinates getIndexCoordinates() {
+        return indexCoordinates;
+    }
+
+    /**
+     * @return the settings restored on close, by concrete index name, {@literal null} for settings reset on close
+     */
+    public Map<String, Map<String, Object>> getOriginalSettings() {
+        return originalSettings;
+    }
+
+    /**
+     * Skips the force merge and the refresh on close, the settings are restored nevertheless.
+     */
+    public void markFailed() {
+        this.failed = true;
+    }
+
+    @Override
+    public void close() {
+
+        if (closed) {
+            return;
+        }
+        closed = true;
+
+        RuntimeException failure = null;
+
+        try {
+            if (!failed) {
+                if (options.getMaxNumSegments() != null) {
+                    indicesTemplate.forceMerge(indexCoordinates, options.getMaxNumSegments());
+                }
+                if (options.isRefresh()) {
+                    indicesTemplate.refresh();
+                }
+            }
+        } catch (RuntimeException e) {
+            failure = e;
+        }
+
+        for (Map.Entry<String, Map<String, Object>> entry : originalSettings.entrySet()) {
+            if (entry.getValue().isEmpty()) {
+                continue;
+            }
+            try {
+                indicesTemplate.putSettings(IndexCoordinates.of(entry.getKey()), entry.getValue());
+            } catch (RuntimeException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+
+        if (failure != null) {
+            throw failure;
+        }
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import java.time.Duration;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClientBuilder;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.nio.ssl.TlsStrategy;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Settings of a named lane. Each lane gets its own {@link org.opensearch.client.RestClient} with its own connection
+ * pool, timeouts and concurrency cap, so that for example batch jobs cannot exhaust the connections used by interactive
+ * queries. Clients for a lane are created with {@link OpenSearchClients#createImperative(
+ * org.springframework.data.elasticsearch.client.ClientConfiguration, ClientLane)} or
+ * {@link OpenSearchClients#createReactive(org.springframework.data.elasticsearch.client.ClientConfiguration,
+ * ClientLane)} and registered with the templates, which hand them out with {@code withLane(name)}.
+ */
+public final class ClientLane {
+
+    public static final String INTERACTIVE = "interactive";
+    public static final String BATCH = "batch";
+
+    private final String name;
+    private final int maxConnections;
+    private final int maxConnectionsPerRoute;
+    @Nullable private final Duration connectTimeout;
+    @Nullable private final Duration socketTimeout;
+    private final int maxConcurrentRequests;
+    private final int maxQueuedRequests;
+
+    private ClientLane(Builder builder) {
+        this.name = builder.name;
+        this.maxConnections = builder.maxConnections;
+        this.maxConnectionsPerRoute = builder.maxConnectionsPerRoute;
+        this.connectTimeout = builder.connectTimeout;
+        this.socketTimeout = builder.socketTimeout;
+        this.maxConcurrentRequests = builder.maxConcurrentRequests;
+        this.maxQueuedRequests = builder.maxQueuedRequests;
+    }
+
+    public static Builder builder(String name) {
+        return new Builder(name);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    public int getMaxConnectionsPerRoute() {
+        return maxConnectionsPerRoute;
+    }
+
+    @Nullable
+    public Duration getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    @Nullable
+    public Duration getSocketTimeout() {
+        return socketTimeout;
+    }
+
+    public int getMaxConcurrentRequests() {
+        return maxConcurrentRequests;
+    }
+
+    public int getMaxQueuedRequests() {
+        return maxQueuedRequests;
+    }
+
+    /**
+     * Applies the pool, the timeouts and the concurrency cap of this lane to the given builder.
+     *
+     * @param builder the builder of the lane's HTTP client
+     * @param tlsStrategy the TLS strategy for the connection pool, {@literal null} for the default
+     */
+    public HttpAsyncClientBuilder configure(HttpAsyncClientBuilder builder, @Nullable TlsStrategy tlsStrategy) {
+
+        PoolingAsyncClientConnectionManagerBuilder connectionManagerBuilder = PoolingAsyncClientConnectionManagerBuilder
+                .create() //
+                .setMaxConnTotal(maxConnections) //
+                .setMaxConnPerRoute(maxConnectionsPerRoute);
+
+        if (tlsStrategy != null) {
+            connectionManagerBuilder.setTlsStrategy(tlsStrategy);
+        }
+
+        PoolingAsyncClientConnectionManager connectionManager = connectionManagerBuilder.build();
+        builder.setConnectionManager(connectionManager);
+
+        if (maxConcurrentRequests > 0) {
+            AdaptiveConcurrencyLimiter.builder() //
+                    .withInitialLimit(maxConcurrentRequests) //
+                    .withMinLimit(maxConcurrentRequests) //
+                    .withMaxLimit(maxConcurrentRequests) //
+                    .withMaxQueueSize(maxQueuedRequests) //
+                    .build() //
+                    .configure(builder);
+        }
+
+        return builder;
+    }
+
+    /**
+     * Applies the timeouts of this lane to the given request configuration.
+     */
+    public RequestConfig.Builder configure(RequestConfig.Builder builder) {
+
+        if (connectTimeout != null) {
+            builder.setConnectTimeout(Timeout.ofMilliseconds(connectTimeout.toMillis()));
+        }
+
+        if (socketTimeout != null) {
+            builder.setResponseTimeout(Timeout.ofMilliseconds(socketTimeout.toMillis()));
+        }
+
+        return builder;
+    }
+
+    @Override
+    public String toString() {
+        return "ClientLane{" + name + '}';
+    }
+
+    public static final class Builder {
+
+        private final String name;
+        private int maxConnections = 30;
+        private int maxConnectionsPerRoute = 10;
+        @Nullable private Duration connectTimeout;
+        @Nullable private Duration socketTimeout;
+        private int maxConcurrentRequests;
+        private int maxQueuedRequests = 100;
+
+        private Builder(String name) {
+
+            Assert.hasText(name, "name must not be empty");
+
+            this.name = name;
+        }
+
+        public Builder withMaxConnections(int maxConnections) {
+
+            Assert.isTrue(maxConnections > 0, "maxConnections must be greater than 0");
+
+            this.maxConnections = maxConnections;
+            return this;
+        }
+
+        public Builder withMaxConnectionsPerRoute(int maxConnectionsPerRoute) {
+
+            Assert.isTrue(maxConnectionsPerRoute > 0, "maxConnectionsPerRoute must be greater than 0");
+
+            this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+            return this;
+        }
+
+        /**
+         * @param connectTimeout the connect timeout of the lane, {@literal null} to keep the one of the configuration
+         */
+        public Builder withConnectTimeout(@Nullable Duration connectTimeout) {
+            this.connectTimeout = connectTimeout;
+            return this;
+        }
+
+        /**
+         * @param socketTimeout the response timeout of the lane, {@literal null} to keep the one of the configuration
+         */
+        public Builder withSocketTimeout(@Nullable Duration socketTimeout) {
+            this.socketTimeout = socketTimeout;
+            return this;
+        }
+
+        /**
+         * @param maxConcurrentRequests the maximum number of concurrent requests per node, 0 for no cap
+         */
+        public Builder withMaxConcurrentRequests(int maxConcurrentRequests) {
+
+            Assert.isTrue(maxConcurrentRequests >= 0, "maxConcurrentRequests must not be negative");
+
+            this.maxConcurrentRequests = maxConcurrentRequests;
+            return this;
+        }
+
+        /**
+         * @param maxQueuedRequests the number of requests per node waiting for the concurrency cap
+         */
+        public Builder withMaxQueuedRequests(int maxQueuedRequests) {
+
+            Assert.isTrue(maxQueuedRequests >= 0, "maxQueuedRequests must not be negative");
+
+            this.maxQueuedRequests = maxQueuedRequests;
+            return this;
+        }
+
+        public ClientLane build() {
+            return new ClientLane(this);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.data.client.osc;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Receives the payload sizes and the client side processing times of the requests sent by the templates, so that
+ * operations whose cost is in the client can be told apart from those whose cost is in the cluster. The
+ * {@link MeteringOpenSearchTransport} records the body sizes and the JSON parsing time, the {@link OpenSearchTemplate}
+ * and the {@link ReactiveOpenSearchTemplate} record the time spent building requests and converting documents into
+ * entities.
+ * <p>
+ * The operation names are derived from the request types, for example {@code search}, {@code get} or {@code bulk}.
+ * Implementations must be thread safe and cheap, they are called on the request path.
+ */
+public interface ClientMetricsRecorder {
+
+    /**
+     * Recorder that ignores everything.
+     */
+    ClientMetricsRecorder NOOP = new ClientMetricsRecorder() {};
+
+    /**
+     * @param operation the operation of the request
+     * @param bytes the size of the request body as sent, compressed if request compression is enabled
+     */
+    default void recordRequestSize(String operation, long bytes) {}
+
+    /**
+     * @param operation the operation of the request
+     * @param bytes the size of the response body as received
+     */
+    default void recordResponseSize(String operation, long bytes) {}
+
+    /**
+     * @param operation the operation of the request
+     * @param entityType the entity type the hits were converted to
+     * @param hits the number of documents returned
+     */
+    default void recordHits(String operation, Class<?> entityType, int hits) {}
+
+    /**
+     * @param stage the client side processing stage
+     * @param operation the operation of the request
+     * @param entityType the entity type involved, {@literal null} if unknown
+     * @param nanos the time spent in the stage
+     */
+    default void recordTime(Stage stage, String operation, @Nullable Class<?> entityType, long nanos) {}
+
+    /**
+     * Client side processing stages of a request.
+     */
+    enum Stage {
+
+        /**
+         * Building the client request from a query or entity with the {@link RequestConverter}.
+         */
+        REQUEST_CONVERSION,
+
+        /**
+         * Parsing the JSON response body into the response objects of the client, measured from the end of the body
+         * until the client returns the response.
+         */
+        RESPONSE_PARSING,
+
+        /**
+         * Converting the returned documents into entities with {@link SearchDocumentResponseBuilder},
+         * {@link DocumentAdapters} and the read callbacks of the template.
+         */
+        ENTITY_CONVERSION
+    }
+}
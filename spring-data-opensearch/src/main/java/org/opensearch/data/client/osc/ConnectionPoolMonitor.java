@@ -0,0 +1,301 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.data.client.osc;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClientBuilder;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
+import org.apache.hc.client5.http.nio.AsyncClientConnectionManager;
+import org.apache.hc.client5.http.nio.AsyncConnectionEndpoint;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.reactor.ConnectionInitiator;
+import org.apache.hc.core5.reactor.IOSession;
+import org.apache.hc.core5.reactor.IOSessionListener;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Makes the connection pool and the I/O sessions of the HTTP client observable: the leased, available and pending
+ * connections per route, the time requests wait for a connection, connections opened and closed and I/O timeouts and
+ * exceptions. An exhausted pool shows up as growing pending counts and lease wait times.
+ * <p>
+ * A monitor observes the pool of one {@link org.opensearch.client.RestClient}. It is installed through
+ * {@link org.springframework.data.elasticsearch.client.ClientConfiguration} with
+ * {@code withClientConfigurer(monitor.httpClientConfigurer())}, or with {@link #configure(HttpAsyncClientBuilder,
+ * PoolingAsyncClientConnectionManager)} where the connection manager is created by the caller.
+ */
+public class ConnectionPoolMonitor implements IOSessionListener {
+
+    private final LongAdder leases = new LongAdder();
+    private final LongAdder leaseWaitNanos = new LongAdder();
+    private final LongAdder leaseFailures = new LongAdder();
+    private final LongAdder connectionsOpened = new LongAdder();
+    private final LongAdder connectionsClosed = new LongAdder();
+    private final LongAdder ioTimeouts = new LongAdder();
+    private final LongAdder ioExceptions = new LongAdder();
+    private final Set<HttpRoute> routes = ConcurrentHashMap.newKeySet();
+    private final List<Consumer<HttpRoute>> routeListeners = new CopyOnWriteArrayList<>();
+    @Nullable private volatile PoolingAsyncClientConnectionManager connectionManager;
+
+    /**
+     * @return a callback to register with the {@link org.springframework.data.elasticsearch.client.ClientConfiguration}
+     *         so that {@link OpenSearchClients} monitors the connection manager it creates
+     */
+    public OpenSearchClients.OpenSearchHttpClientConfigurationCallback httpClientConfigurer() {
+        return new HttpClientConfigurer(this);
+    }
+
+    /**
+     * Sets the given connection manager on the builder, monitored by this monitor, and registers this monitor as the
+     * listener of the I/O sessions.
+     */
+    public HttpAsyncClientBuilder configure(HttpAsyncClientBuilder builder,
+            PoolingAsyncClientConnectionManager connectionManager) {
+
+        Assert.notNull(connectionManager, "connectionManager must not be null");
+        Assert.state(this.connectionManager == null || this.connectionManager == connectionManager,
+                "a ConnectionPoolMonitor can only monitor one connection manager");
+
+        this.connectionManager = connectionManager;
+        return builder.setConnectionManager(new MonitoredConnectionManager(connectionManager))
+                .setIOSessionListener(this);
+    }
+
+    /**
+     * @return the statistics over all routes, all zero while no connection manager is monitored
+     */
+    public PoolStats getTotalStats() {
+        PoolingAsyncClientConnectionManager manager = connectionManager;
+        return manager != null ? manager.getTotalStats() : new PoolStats(0, 0, 0, 0);
+    }
+
+    /**
+     * @return the statistics of the given route
+     */
+    public PoolStats getStats(HttpRoute route) {
+        PoolingAsyncClientConnectionManager manager = connectionManager;
+        return manager != null ? manager.getStats(route) : new PoolStats(0, 0, 0, 0);
+    }
+
+    /**
+     * @return the routes that connections were leased for so far
+     */
+    public Set<HttpRoute> getRoutes() {
+        return Set.copyOf(routes);
+    }
+
+    /**
+     * Registers a listener that is called for each route that exists or is leased for the first time later, for
+     * example to register metrics for it.
+     */
+    public void addRouteListener(Consumer<HttpRoute> listener) {
+
+        Assert.notNull(listener, "listener must not be null");
+
+        routeListeners.add(listener);
+        routes.forEach(listener);
+    }
+
+    /**
+     * @return the number of connections leased from the pool
+     */
+    public long getLeases() {
+        return leases.sum();
+    }
+
+    /**
+     * @return the total time in nanoseconds requests waited for a connection from the pool
+     */
+    public long getLeaseWaitNanos() {
+        return leaseWaitNanos.sum();
+    }
+
+    /**
+     * @return the number of requests that got no connection, for example because the connection request timeout
+     *         elapsed while the pool was exhausted
+     */
+    public long getLeaseFailures() {
+        return leaseFailures.sum();
+    }
+
+    public long getConnectionsOpened() {
+        return connectionsOpened.sum();
+    }
+
+    public long getConnectionsClosed() {
+        return connectionsClosed.sum();
+    }
+
+    /**
+     * @return the number of open I/O sessions
+     */
+    public long getOpenConnections() {
+        return connectionsOpened.sum() - connectionsClosed.sum();
+    }
+
+    public long getIoTimeouts() {
+        return ioTimeouts.sum();
+    }
+
+    public long getIoExceptions() {
+        return ioExceptions.sum();
+    }
+
+    // region IOSessionListener
+    @Override
+    public void connected(IOSession session) {
+        connectionsOpened.increment();
+    }
+
+    @Override
+    public void startTls(IOSession session) {}
+
+    @Override
+    public void inputReady(IOSession session) {}
+
+    @Override
+    public void outputReady(IOSession session) {}
+
+    @Override
+    public void timeout(IOSession session) {
+        ioTimeouts.increment();
+    }
+
+    @Override
+    public void exception(IOSession session, Exception ex) {
+        ioExceptions.increment();
+    }
+
+    @Override
+    public void disconnected(IOSession session) {
+        connectionsClosed.increment();
+    }
+    // endregion
+
+    void leased(HttpRoute route, long waitNanos) {
+
+        leases.increment();
+        leaseWaitNanos.add(waitNanos);
+
+        if (routes.add(route)) {
+            routeListeners.forEach(listener -> listener.accept(route));
+        }
+    }
+
+    void leaseFailed() {
+        leaseFailures.increment();
+    }
+
+    /**
+     * Marks the {@link org.springframework.data.elasticsearch.client.ClientConfiguration} callback of a monitor. {@link OpenSearchClients} installs the monitor on
+     * the connection manager it creates, the callback itself does not change the builder.
+     */
+    static class HttpClientConfigurer implements OpenSearchClients.OpenSearchHttpClientConfigurationCallback {
+
+        private final ConnectionPoolMonitor monitor;
+
+        HttpClientConfigurer(ConnectionPoolMonitor monitor) {
+            this.monitor = monitor;
+        }
+
+        ConnectionPoolMonitor getMonitor() {
+            return monitor;
+        }
+
+        @Override
+        public HttpAsyncClientBuilder configure(HttpAsyncClientBuilder builder) {
+            return builder;
+        }
+    }
+
+    /**
+     * Connection manager that measures how long each lease waits for a connection.
+     */
+    private class MonitoredConnectionManager implements AsyncClientConnectionManager {
+
+        private final PoolingAsyncClientConnectionManager delegate;
+
+        MonitoredConnectionManager(PoolingAsyncClientConnectionManager delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Future<AsyncConnectionEndpoint> lease(String id, HttpRoute route, Object state, Timeout requestTimeout,
+                FutureCallback<AsyncConnectionEndpoint> callback) {
+
+            long start = System.nanoTime();
+
+            return delegate.lease(id, route, state, requestTimeout, new FutureCallback<>() {
+
+                @Override
+                public void completed(AsyncConnectionEndpoint endpoint) {
+                    leased(route, System.nanoTime() - start);
+                    callback.completed(endpoint);
+                }
+
+                @Override
+                public void failed(Exception ex) {
+                    leaseFailed();
+                    callback.failed(ex);
+                }
+
+                @Override
+                public void cancelled() {
+                    callback.cancelled();
+                }
+            });
+        }
+
+        @Override
+        public void release(AsyncConnectionEndpoint endpoint, Object newState, TimeValue validDuration) {
+            delegate.release(endpoint, newState, validDuration);
+        }
+
+        @Override
+        public Future<AsyncConnectionEndpoint> connect(AsyncConnectionEndpoint endpoint,
+                ConnectionInitiator connectionInitiator, Timeout connectTimeout, Object attachment, HttpContext context,
+                FutureCallback<AsyncConnectionEndpoint> callback) {
+            return delegate.connect(endpoint, connectionInitiator, connectTimeout, attachment, context, callback);
+        }
+
+        @Override
+        public void upgrade(AsyncConnectionEndpoint endpoint, Object attachment, HttpContext context) {
+            delegate.upgrade(endpoint, attachment, context);
+        }
+
+        @Override
+        public void upgrade(AsyncConnectionEndpoint endpoint, Object attachment, HttpContext context,
+                FutureCallback<AsyncConnectionEndpoint> callback) {
+            delegate.upgrade(endpoint, attachment, context, callback);
+        }
+
+        @Override
+        public void close(CloseMode closeMode) {
+            delegate.close(closeMode);
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.data.client.osc;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.opensearch.client.transport.Endpoint;
+import org.opensearch.client.transport.OpenSearchTransport;
+import org.opensearch.client.transport.TransportOptions;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link OpenSearchTransport} that sends the correlation id of the current unit of work as {@code X-Opaque-Id} header.
+ * The id bound with {@link CorrelationId} takes precedence over the one of the {@link CorrelationIdProvider}; requests
+ * already carrying the header keep it. Requests without correlation id are handed on unchanged.
+ * <p>
+ * Unlike headers from the {@link org.springframework.data.elasticsearch.client.ClientConfiguration#getHeadersSupplier()
+ * headers supplier}, which is called for every request on the I/O level, the id is resolved when the request is sent
+ * and travels with its options, so it is kept when the client retries the request on another node.
+ */
+public class CorrelatingOpenSearchTransport extends DelegatingOpenSearchTransport {
+
+    private final CorrelationIdProvider correlationIdProvider;
+
+    public CorrelatingOpenSearchTransport(OpenSearchTransport delegate) {
+        this(delegate, CorrelationIdProvider.NONE);
+    }
+
+    public CorrelatingOpenSearchTransport(OpenSearchTransport delegate, CorrelationIdProvider correlationIdProvider) {
+        super(delegate);
+
+        Assert.notNull(correlationIdProvider, "correlationIdProvider must not be null");
+
+        this.correlationIdProvider = correlationIdProvider;
+    }
+
+    @Override
+    public <RequestT, ResponseT, ErrorT> ResponseT performRequest(RequestT request,
+            Endpoint<RequestT, ResponseT, ErrorT> endpoint, @Nullable TransportOptions options) throws IOException {
+        return delegate.performRequest(request, endpoint, withCorrelationId(options));
+    }
+
+    @Override
+    public <RequestT, ResponseT, ErrorT> CompletableFuture<ResponseT> performRequestAsync(RequestT request,
+            Endpoint<RequestT, ResponseT, ErrorT> endpoint, @Nullable TransportOptions options) {
+        return delegate.performRequestAsync(request, endpoint, withCorrelationId(options));
+    }
+
+    @Nullable
+    private TransportOptions withCorrelationId(@Nullable TransportOptions options) {
+
+        String correlationId = CorrelationId.current();
+
+        if (correlationId == null) {
+            correlationId = correlationIdProvider.getCorrelationId();
+        }
+
+        if (correlationId == null) {
+            return options;
+        }
+
+        TransportOptions baseOptions = options != null ? options : delegate.options();
+
+        for (Map.Entry<String, String> header : baseOptions.headers()) {
+            if (CorrelationId.HEADER.equalsIgnoreCase(header.getKey())) {
+                return options;
+            }
+        }
+
+        return baseOptions.toBuilder().addHeader(CorrelationId.HEADER, correlationId).build();
+    }
+}
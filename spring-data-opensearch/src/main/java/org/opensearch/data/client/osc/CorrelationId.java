@@ -0,0 +1,119 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.data.client.osc;
+
+import java.util.function.Supplier;
+import org.reactivestreams.Publisher;
+import org.springframework.lang.Nullable;
+import reactor.core.publisher.Flux;
+import reactor.util.context.Context;
+
+/**
+ * Correlation id sent as {@code X-Opaque-Id} header with the requests of the current unit of work, so that the slow
+ * logs, tasks and hot threads of the cluster can be related to the application request that caused them. Imperative
+ * code binds the id to the current thread:
+ *
+ * <pre class="code">
+ * try (CorrelationId.Scope ignored = CorrelationId.bind(requestId)) {
+ * 	repository.findByName(name);
+ * }
+ * </pre>
+ *
+ * Reactive code puts it into the Reactor {@link Context} of the subscription:
+ *
+ * <pre class="code">
+ * repository.findByName(name).contextWrite(CorrelationId.context(requestId));
+ * </pre>
+ *
+ * The header is set by a {@link CorrelatingOpenSearchTransport}, which must wrap the transport of the client:
+ *
+ * <pre class="code">
+ * OpenSearchClient client = new OpenSearchClient(new CorrelatingOpenSearchTransport(transport));
+ * </pre>
+ */
+public final class CorrelationId {
+
+    /**
+     * The header the correlation id is sent in.
+     */
+    public static final String HEADER = "X-Opaque-Id";
+
+    /**
+     * The key of the correlation id in a Reactor {@link Context}.
+     */
+    public static final String CONTEXT_KEY = CorrelationId.class.getName();
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private CorrelationId() {}
+
+    /**
+     * @return the correlation id bound to the current thread, {@literal null} if there is none
+     */
+    @Nullable
+    public static String current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Binds the correlation id to the current thread until the returned scope is closed.
+     *
+     * @param correlationId the id, {@literal null} to send requests without id within the scope
+     */
+    public static Scope bind(@Nullable String correlationId) {
+
+        String previous = CURRENT.get();
+        if (correlationId == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(correlationId);
+        }
+
+        return () -> {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        };
+    }
+
+    /**
+     * @return a Reactor {@link Context} holding the correlation id, to be passed to {@code contextWrite}
+     */
+    public static Context context(String correlationId) {
+        return Context.of(CONTEXT_KEY, correlationId);
+    }
+
+    /**
+     * Defers the given publisher and binds the correlation id of the subscriber's {@link Context} to the thread
+     * while the publisher is created, which is when the reactive client hands its requests to the transport.
+     */
+    static <T> Flux<T> deferWithContext(Supplier<? extends Publisher<T>> publisher) {
+        return Flux.deferContextual(context -> {
+            String correlationId = context.getOrDefault(CONTEXT_KEY, null);
+
+            if (correlationId == null) {
+                return publisher.get();
+            }
+
+            try (Scope ignored = bind(correlationId)) {
+                return publisher.get();
+            }
+        });
+    }
+
+    /**
+     * Scope of a correlation id bound with {@link #bind(String)}.
+     */
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.data.client.osc;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Supplies the correlation id of the current unit of work when none is bound with {@link CorrelationId}, for example
+ * the trace id or a request id taken from the logging MDC. Called for every request, so implementations should not
+ * allocate.
+ */
+@FunctionalInterface
+public interface CorrelationIdProvider {
+
+    /**
+     * Provider only using the ids bound with {@link CorrelationId}.
+     */
+    CorrelationIdProvider NONE = () -> null;
+
+    /**
+     * @return the correlation id, {@literal null} to send the request without one
+     */
+    @Nullable
+    String getCorrelationId();
+}
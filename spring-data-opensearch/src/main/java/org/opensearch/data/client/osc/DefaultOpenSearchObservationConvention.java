@@ -0,0 +1,132 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+import org.opensearch.client.ResponseException;
+import org.opensearch.client.opensearch._types.OpenSearchException;
+import org.opensearch.client.opensearch._types.ShardStatistics;
+import org.opensearch.client.opensearch.core.BulkResponse;
+import org.opensearch.client.opensearch.core.DeleteByQueryResponse;
+import org.opensearch.client.opensearch.core.UpdateByQueryResponse;
+import org.opensearch.client.opensearch.core.search.SearchResult;
+import org.opensearch.data.client.osc.OpenSearchObservationDocumentation.HighCardinalityKeyNames;
+import org.opensearch.data.client.osc.OpenSearchObservationDocumentation.LowCardinalityKeyNames;
+
+/**
+ * Default {@link OpenSearchObservationConvention}. The observation is named {@code opensearch.client.requests}, its
+ * duration is the latency seen by the client. The targeted indices are a high cardinality key value, as are the time
+ * reported by the cluster and the number of failed shards when the response carries them.
+ */
+public class DefaultOpenSearchObservationConvention implements OpenSearchObservationConvention {
+
+    public static final DefaultOpenSearchObservationConvention INSTANCE = new DefaultOpenSearchObservationConvention();
+
+    @Override
+    public String getName() {
+        return "opensearch.client.requests";
+    }
+
+    @Override
+    public String getContextualName(OpenSearchObservationContext context) {
+        return "opensearch " + context.getOperation();
+    }
+
+    @Override
+    public KeyValues getLowCardinalityKeyValues(OpenSearchObservationContext context) {
+        return KeyValues.of(operation(context), entity(context), outcome(context), exception(context));
+    }
+
+    @Override
+    public KeyValues getHighCardinalityKeyValues(OpenSearchObservationContext context) {
+
+        Object response = context.getResponse();
+        KeyValues keyValues = KeyValues.of(index(context));
+
+        if (response instanceof SearchResult<?> searchResult) {
+            keyValues = keyValues.and(HighCardinalityKeyNames.TOOK.withValue(String.valueOf(searchResult.took())));
+            if (searchResult.shards() != null) {
+                keyValues = keyValues.and(HighCardinalityKeyNames.SHARD_FAILURES
+                        .withValue(String.valueOf(shardFailures(searchResult.shards()))));
+            }
+        } else if (response instanceof BulkResponse bulkResponse) {
+            keyValues = keyValues.and(HighCardinalityKeyNames.TOOK.withValue(String.valueOf(bulkResponse.took())));
+        } else if (response instanceof DeleteByQueryResponse deleteByQueryResponse
+                && deleteByQueryResponse.took() != null) {
+            keyValues = keyValues
+                    .and(HighCardinalityKeyNames.TOOK.withValue(String.valueOf(deleteByQueryResponse.took())));
+        } else if (response instanceof UpdateByQueryResponse updateByQueryResponse
+                && updateByQueryResponse.took() != null) {
+            keyValues = keyValues
+                    .and(HighCardinalityKeyNames.TOOK.withValue(String.valueOf(updateByQueryResponse.took())));
+        }
+
+        return keyValues;
+    }
+
+    protected KeyValue operation(OpenSearchObservationContext context) {
+        return LowCardinalityKeyNames.OPERATION.withValue(context.getOperation());
+    }
+
+    protected KeyValue index(OpenSearchObservationContext context) {
+        return HighCardinalityKeyNames.INDEX.withValue(
+                context.getIndices().isEmpty() ? KeyValue.NONE_VALUE : String.join(",", context.getIndices()));
+    }
+
+    protected KeyValue entity(OpenSearchObservationContext context) {
+        return LowCardinalityKeyNames.ENTITY.withValue(
+                context.getEntityType() != null ? context.getEntityType().getSimpleName() : KeyValue.NONE_VALUE);
+    }
+
+    protected KeyValue outcome(OpenSearchObservationContext context) {
+
+        Throwable error = context.getError();
+
+        if (error == null) {
+            return LowCardinalityKeyNames.OUTCOME.withValue(isPartial(context.getResponse()) ? "PARTIAL" : "SUCCESS");
+        }
+
+        int status = 0;
+        if (error instanceof OpenSearchException openSearchException) {
+            status = openSearchException.status();
+        } else if (error instanceof ResponseException responseException) {
+            status = responseException.getResponse().getStatusLine().getStatusCode();
+        }
+
+        String outcome = status >= 500 ? "SERVER_ERROR" : status >= 400 ? "CLIENT_ERROR" : "UNKNOWN";
+        return LowCardinalityKeyNames.OUTCOME.withValue(outcome);
+    }
+
+    protected KeyValue exception(OpenSearchObservationContext context) {
+
+        Throwable error = context.getError();
+        return LowCardinalityKeyNames.EXCEPTION
+                .withValue(error != null ? error.getClass().getSimpleName() : KeyValue.NONE_VALUE);
+    }
+
+    private static boolean isPartial(Object response) {
+
+        if (response instanceof SearchResult<?> searchResult) {
+            return searchResult.shards() != null && shardFailures(searchResult.shards()) > 0;
+        }
+
+        if (response instanceof BulkResponse bulkResponse) {
+            return bulkResponse.errors();
+        }
+
+        return false;
+    }
+
+    private static int shardFailures(ShardStatistics shards) {
+        Number failed = shards.failed();
+        return failed != null ? failed.intValue() : 0;
+    }
+}
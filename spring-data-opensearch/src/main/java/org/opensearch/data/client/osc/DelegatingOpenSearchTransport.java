@@ -0,0 +1,66 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.transport.Endpoint;
+import org.opensearch.client.transport.OpenSearchTransport;
+import org.opensearch.client.transport.TransportOptions;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Base class for {@link OpenSearchTransport} implementations that add behaviour around another transport. All methods
+ * delegate to the wrapped transport.
+ */
+public abstract class DelegatingOpenSearchTransport implements OpenSearchTransport {
+
+    protected final OpenSearchTransport delegate;
+
+    protected DelegatingOpenSearchTransport(OpenSearchTransport delegate) {
+
+        Assert.notNull(delegate, "delegate must not be null");
+
+        this.delegate = delegate;
+    }
+
+    public OpenSearchTransport getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public <RequestT, ResponseT, ErrorT> ResponseT performRequest(RequestT request,
+            Endpoint<RequestT, ResponseT, ErrorT> endpoint, @Nullable TransportOptions options) throws IOException {
+        return delegate.performRequest(request, endpoint, options);
+    }
+
+    @Override
+    public <RequestT, ResponseT, ErrorT> CompletableFuture<ResponseT> performRequestAsync(RequestT request,
+            Endpoint<RequestT, ResponseT, ErrorT> endpoint, @Nullable TransportOptions options) {
+        return delegate.performRequestAsync(request, endpoint, options);
+    }
+
+    @Override
+    public JsonpMapper jsonpMapper() {
+        return delegate.jsonpMapper();
+    }
+
+    @Override
+    public TransportOptions options() {
+        return delegate.options();
+    }
+
+    @Override
+    public void close() throws IOException {
+        delegate.close();
+    }
+}
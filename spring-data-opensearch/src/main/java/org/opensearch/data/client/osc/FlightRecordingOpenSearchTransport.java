@@ -0,0 +1,113 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.opensearch.client.ResponseException;
+import org.opensearch.client.opensearch._types.OpenSearchException;
+import org.opensearch.client.transport.Endpoint;
+import org.opensearch.client.transport.OpenSearchTransport;
+import org.opensearch.client.transport.TransportOptions;
+import org.springframework.lang.Nullable;
+
+/**
+ * {@link OpenSearchTransport} that commits an {@link OpenSearchRequestEvent} to the Java Flight Recorder for every
+ * request, so that a recording lines up the requests of the {@link OpenSearchTemplate} and the
+ * {@link ReactiveOpenSearchTemplate} with the garbage collections, locks and CPU samples of the same JVM. When no
+ * recording includes the event, requests are passed to the delegate unchanged.
+ * <p>
+ * The status and the body sizes are taken from the HTTP response like in a {@link MeteringOpenSearchTransport}, so
+ * they are only known when the delegate is a {@link org.opensearch.client.transport.rest_client.RestClientTransport}.
+ */
+public class FlightRecordingOpenSearchTransport extends DelegatingOpenSearchTransport {
+
+    public FlightRecordingOpenSearchTransport(OpenSearchTransport delegate) {
+        super(delegate);
+    }
+
+    @Override
+    public <RequestT, ResponseT, ErrorT> ResponseT performRequest(RequestT request,
+            Endpoint<RequestT, ResponseT, ErrorT> endpoint, @Nullable TransportOptions options) throws IOException {
+
+        OpenSearchRequestEvent event = new OpenSearchRequestEvent();
+        if (!event.isEnabled()) {
+            return delegate.performRequest(request, endpoint, options);
+        }
+
+        MeteringOpenSearchTransport.Measurement measurement = new MeteringOpenSearchTransport.Measurement();
+        event.begin();
+        try {
+            ResponseT response = delegate.performRequest(request, endpoint, withMeasurement(options, measurement));
+            commit(event, request, response, null, measurement, false);
+            return response;
+        } catch (IOException | RuntimeException e) {
+            commit(event, request, null, e, measurement, false);
+            throw e;
+        }
+    }
+
+    @Override
+    public <RequestT, ResponseT, ErrorT> CompletableFuture<ResponseT> performRequestAsync(RequestT request,
+            Endpoint<RequestT, ResponseT, ErrorT> endpoint, @Nullable TransportOptions options) {
+
+        OpenSearchRequestEvent event = new OpenSearchRequestEvent();
+        if (!event.isEnabled()) {
+            return delegate.performRequestAsync(request, endpoint, options);
+        }
+
+        MeteringOpenSearchTransport.Measurement measurement = new MeteringOpenSearchTransport.Measurement();
+        event.begin();
+        return delegate.performRequestAsync(request, endpoint, withMeasurement(options, measurement))
+                .whenComplete((response, throwable) -> commit(event, request, response, throwable, measurement, true));
+    }
+
+    private TransportOptions withMeasurement(@Nullable TransportOptions options,
+            MeteringOpenSearchTransport.Measurement measurement) {
+        return MeteringOpenSearchTransport.withMeasurement(options != null ? options : delegate.options(),
+                measurement);
+    }
+
+    private static void commit(OpenSearchRequestEvent event, Object request, @Nullable Object response,
+            @Nullable Throwable throwable, MeteringOpenSearchTransport.Measurement measurement, boolean async) {
+
+        event.end();
+        if (!event.shouldCommit()) {
+            return;
+        }
+
+        Throwable error = throwable instanceof CompletionException && throwable.getCause() != null
+                ? throwable.getCause()
+                : throwable;
+
+        event.operation = RequestOperations.operationOf(request);
+        event.indices = String.join(",", RequestOperations.indicesOf(request));
+        event.async = async;
+        event.status = measurement.status != 0 || error == null ? measurement.status : statusOf(error);
+        event.exception = error != null ? error.getClass().getName() : null;
+        event.took = RequestOperations.tookOf(response);
+        event.documents = RequestOperations.documentsOf(response);
+        event.requestBytes = measurement.requestBytes;
+        event.responseBytes = measurement.bodyReceived != 0 ? measurement.responseBytes : -1;
+        event.commit();
+    }
+
+    private static int statusOf(Throwable error) {
+
+        if (error instanceof OpenSearchException openSearchException) {
+            return openSearchException.status();
+        } else if (error instanceof ResponseException responseException) {
+            return responseException.getResponse().getStatusLine().getStatusCode();
+        }
+
+        return 0;
+    }
+}
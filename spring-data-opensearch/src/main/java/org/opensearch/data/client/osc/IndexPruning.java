@@ -0,0 +1,161 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import jakarta.json.JsonNumber;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.function.Function;
+import org.opensearch.client.json.JsonData;
+import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.opensearch._types.query_dsl.BoolQuery;
+import org.opensearch.client.opensearch._types.query_dsl.RangeQuery;
+import org.springframework.data.elasticsearch.core.query.Criteria;
+import org.springframework.data.elasticsearch.core.query.CriteriaQuery;
+import org.springframework.data.elasticsearch.core.query.Query;
+import org.springframework.lang.Nullable;
+
+/**
+ * Finds the time range a query restricts a field to, to search only the indices of that range, see
+ * {@link TimeBasedIndexRouting}. Only ranges every matching document must satisfy are taken into account: the
+ * criteria of a {@link CriteriaQuery} without {@code or} parts, and the range queries of a {@link NativeQuery} that
+ * are the query itself or a {@code must} or {@code filter} clause of its top level bool query. Bounds that cannot be
+ * converted to an instant are treated as open.
+ */
+final class IndexPruning {
+
+    private IndexPruning() {}
+
+    /**
+     * @param fieldNames the names of the time field, the property and the field name
+     * @param timeValue converts a bound to an instant, returns {@literal null} if it cannot be converted
+     * @return the range, {@literal null} if the query does not restrict the field
+     */
+    @Nullable
+    static TimeRange timeRange(Query query, Collection<String> fieldNames,
+            Function<Object, Instant> timeValue, JsonpMapper jsonpMapper) {
+
+        TimeRange range = TimeRange.UNBOUNDED;
+
+        if (query instanceof CriteriaQuery criteriaQuery) {
+            for (Criteria criteria : criteriaQuery.getCriteria().getCriteriaChain()) {
+
+                if (criteria.isOr()) {
+                    return null;
+                }
+
+                if (criteria.isNegating() || criteria.getField() == null
+                        || !fieldNames.contains(criteria.getField().getName())) {
+                    continue;
+                }
+
+                for (Criteria.CriteriaEntry entry : criteria.getQueryCriteriaEntries()) {
+                    range = range.restrict(entry, timeValue);
+                }
+            }
+        } else if (query instanceof NativeQuery nativeQuery && nativeQuery.getQuery() != null) {
+            range = restrict(range, nativeQuery.getQuery(), fieldNames, timeValue, jsonpMapper, true);
+        }
+
+        return range.isUnbounded() ? null : range;
+    }
+
+    private static TimeRange restrict(TimeRange range, org.opensearch.client.opensearch._types.query_dsl.Query query,
+            Collection<String> fieldNames, Function<Object, Instant> timeValue, JsonpMapper jsonpMapper,
+            boolean topLevel) {
+
+        if (query.isRange()) {
+            RangeQuery rangeQuery = query.range();
+
+            if (fieldNames.contains(rangeQuery.field())) {
+                range = range.restrictFrom(value(rangeQuery.gte(), timeValue, jsonpMapper)) //
+                        .restrictFrom(value(rangeQuery.gt(), timeValue, jsonpMapper)) //
+                        .restrictTo(value(rangeQuery.lte(), timeValue, jsonpMapper)) //
+                        .restrictTo(value(rangeQuery.lt(), timeValue, jsonpMapper));
+            }
+        } else if (query.isBool() && topLevel) {
+            BoolQuery boolQuery = query.bool();
+
+            for (var clause : boolQuery.filter()) {
+                range = restrict(range, clause, fieldNames, timeValue, jsonpMapper, false);
+            }
+
+            for (var clause : boolQuery.must()) {
+                range = restrict(range, clause, fieldNames, timeValue, jsonpMapper, false);
+            }
+        }
+
+        return range;
+    }
+
+    @Nullable
+    private static Instant value(@Nullable JsonData bound, Function<Object, Instant> timeValue,
+            JsonpMapper jsonpMapper) {
+
+        if (bound == null) {
+            return null;
+        }
+
+        JsonValue json = bound.toJson(jsonpMapper);
+
+        if (json instanceof JsonString string) {
+            return timeValue.apply(string.getString());
+        }
+
+        if (json instanceof JsonNumber number) {
+            return timeValue.apply(number.longValue());
+        }
+
+        return null;
+    }
+
+    /**
+     * @param from the start of the range, {@literal null} if open
+     * @param to the end of the range, {@literal null} if open
+     */
+    record TimeRange(@Nullable Instant from, @Nullable Instant to) {
+
+        static final TimeRange UNBOUNDED = new TimeRange(null, null);
+
+        boolean isUnbounded() {
+            return from == null && to == null;
+        }
+
+        TimeRange restrictFrom(@Nullable Instant from) {
+            return from == null || (this.from != null && !from.isAfter(this.from)) ? this : new TimeRange(from, to);
+        }
+
+        TimeRange restrictTo(@Nullable Instant to) {
+            return to == null || (this.to != null && !to.isBefore(this.to)) ? this : new TimeRange(from, to);
+        }
+
+        private TimeRange restrict(Criteria.CriteriaEntry entry, Function<Object, Instant> timeValue) {
+
+            Object value = entry.getValue();
+
+            return switch (entry.getKey()) {
+                case GREATER, GREATER_EQUAL -> restrictFrom(instant(value, timeValue));
+                case LESS, LESS_EQUAL -> restrictTo(instant(value, timeValue));
+                case BETWEEN -> {
+                    Object[] bounds = (Object[]) value;
+                    yield restrictFrom(instant(bounds[0], timeValue)).restrictTo(instant(bounds[1], timeValue));
+                }
+                default -> this;
+            };
+        }
+
+        @Nullable
+        private static Instant instant(@Nullable Object value, Function<Object, Instant> timeValue) {
+            return value != null ? timeValue.apply(value) : null;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Marks the property whose value decides the index an entity is written to, for log and event like entities kept in
+ * daily or monthly indices. The index name is the index name of the entity's {@code @Document} followed by the
+ * separator and the formatted value, {@code logs-2024.05.17} for an entity of index {@code logs} with the default
+ * pattern. Supported are {@link java.time.Instant}, the other {@link java.time.temporal.TemporalAccessor} types with
+ * a date, {@link java.util.Date} and epoch milliseconds. The time based index is used when an entity is saved to the
+ * index of its {@code @Document}, an index set on an
+ * {@link org.springframework.data.elasticsearch.core.query.IndexQuery} or another index given to a save operation is
+ * used as is. Operations by id are not routed. See {@link TimeBasedIndexRouting}.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.FIELD, ElementType.METHOD, ElementType.ANNOTATION_TYPE })
+public @interface IndexTimeKey {
+
+    /**
+     * The {@link java.time.format.DateTimeFormatter} pattern of the time part of the index name.
+     */
+    String pattern() default "yyyy.MM.dd";
+
+    /**
+     * The period covered by one index, must match the {@link #pattern()}. One of {@link ChronoUnit#HOURS},
+     * {@link ChronoUnit#DAYS}, {@link ChronoUnit#WEEKS}, {@link ChronoUnit#MONTHS} and {@link ChronoUnit#YEARS}.
+     */
+    ChronoUnit period() default ChronoUnit.DAYS;
+
+    /**
+     * The time zone the value is formatted in.
+     */
+    String zone() default "UTC";
+
+    String separator() default "-";
+}
@@ -17,15 +17,21 @@ package org.opensearch.data.client.osc;
 
 import static org.springframework.util.StringUtils.*;
 
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
 import org.opensearch.client.opensearch.indices.*;
 import org.opensearch.client.transport.OpenSearchTransport;
 import org.opensearch.client.transport.endpoints.BooleanResponse;
+import org.opensearch.data.aot.PrecomputedIndexDefinitions;
 import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.elasticsearch.NoSuchIndexException;
 import org.springframework.data.elasticsearch.UncategorizedElasticsearchException;
 import org.springframework.data.elasticsearch.annotations.Mapping;
 import org.springframework.data.elasticsearch.core.IndexInformation;
@@ -63,6 +69,9 @@ public class IndicesTemplate extends ChildTemplate<OpenSearchTransport, OpenSear
     protected final MappingParametersCustomizer mappingParametersCustomizer;
     @Nullable protected final Class<?> boundClass;
     @Nullable protected final IndexCoordinates boundIndex;
+    @Nullable private RepositoryIndexBootstrap bootstrap;
+    @Nullable private RepositoryIndexBootstrap creationBootstrap;
+    private boolean mappingReconciled;
 
     public IndicesTemplate(OpenSearchIndicesClient client, ClusterTemplate clusterTemplate,
             ElasticsearchConverter elasticsearchConverter, MappingParametersCustomizer mappingParametersCustomizer, Class<?> boundClass) {
@@ -96,6 +105,15 @@ public class IndicesTemplate extends ChildTemplate<OpenSearchTransport, OpenSear
 
     }
 
+    /**
+     * Hands the first existence check of the index over to the given bootstrap, see
+     * {@link RepositoryIndexBootstrap}.
+     */
+    IndicesTemplate bootstrapWith(RepositoryIndexBootstrap bootstrap) {
+        this.bootstrap = bootstrap;
+        return this;
+    }
+
     protected Class<?> checkForBoundClass() {
         if (boundClass == null) {
             throw new InvalidDataAccessApiUsageException("IndexOperations are not bound");
@@ -129,6 +147,16 @@ public class IndicesTemplate extends ChildTemplate<OpenSearchTransport, OpenSear
 
     @Override
     public boolean createWithMapping() {
+
+        if (creationBootstrap != null) {
+            RepositoryIndexBootstrap deferred = creationBootstrap;
+            creationBootstrap = null;
+            IndexCoordinates indexCoordinates = getIndexCoordinates();
+            deferred.submit(indexCoordinates, () -> doCreate(indexCoordinates, createSettings(),
+                    deferred.isReconcileMappings() ? MappingDiff.withHash(createMapping()) : createMapping()));
+            return true;
+        }
+
         return doCreate(getIndexCoordinates(), createSettings(), createMapping());
     }
 
@@ -163,7 +191,72 @@ public class IndicesTemplate extends ChildTemplate<OpenSearchTransport, OpenSear
 
     @Override
     public boolean exists() {
-        return doExists(getIndexCoordinates());
+
+        IndexCoordinates indexCoordinates = getIndexCoordinates();
+
+        if (bootstrap != null) {
+            RepositoryIndexBootstrap deferred = bootstrap;
+            bootstrap = null;
+            boolean exists;
+            try {
+                exists = deferred.exists(indexCoordinates, //
+                        () -> CompletableFuture.completedFuture(getExistingIndexNames()), //
+                        () -> CompletableFuture.completedFuture(doExists(indexCoordinates))).join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+            if (!exists) {
+                // the repository creates the missing index right away, that is handed to the bootstrap as well
+                creationBootstrap = deferred;
+            } else if (deferred.isReconcileMappings()) {
+                mappingReconciled = isAlwaysWriteMapping();
+                deferred.submit(indexCoordinates, () -> reconcileMapping(deferred, indexCoordinates));
+            }
+            return exists;
+        }
+
+        return doExists(indexCoordinates);
+    }
+
+    private Set<String> getExistingIndexNames() {
+
+        GetAliasRequest getAliasRequest = requestConverter.indicesGetAllAliasesRequest();
+        return responseConverter.indicesGetAliasNames(execute(client -> client.getAlias(getAliasRequest)));
+    }
+
+    /**
+     * Creates the index with the entity mapping and its hash, or adds the fields missing in the mapping of the
+     * existing index, see {@link MappingDiff}.
+     */
+    private void reconcileMapping(RepositoryIndexBootstrap bootstrap, IndexCoordinates indexCoordinates) {
+
+        Document mapping = createMapping();
+        Map<String, Object> liveMapping;
+
+        try {
+            liveMapping = getMapping();
+        } catch (NoSuchIndexException e) {
+            doCreate(indexCoordinates, createSettings(), MappingDiff.withHash(mapping));
+            return;
+        }
+
+        MappingDiff diff = MappingDiff.of(liveMapping, mapping);
+        Document update = diff.update();
+
+        if (update != null) {
+            putMapping(update);
+        }
+
+        bootstrap.reconciled(indexCoordinates, diff);
+    }
+
+    /**
+     * @return whether the repository puts the mapping of the bound class when its index exists, which the
+     *         reconciliation replaces
+     */
+    private boolean isAlwaysWriteMapping() {
+        return boundClass != null && elasticsearchConverter.getMappingContext()
+                .getRequiredPersistentEntity(boundClass).isAlwaysWriteMapping();
     }
 
     private boolean doExists(IndexCoordinates indexCoordinates) {
@@ -192,6 +285,12 @@ public class IndicesTemplate extends ChildTemplate<OpenSearchTransport, OpenSear
 
         Assert.notNull(clazz, "clazz must not be null");
 
+        Document precomputed = PrecomputedIndexDefinitions.get().mapping(clazz, elasticsearchConverter,
+                mappingParametersCustomizer);
+        if (precomputed != null) {
+            return precomputed;
+        }
+
         // load mapping specified in Mapping annotation if present
         Mapping mappingAnnotation = AnnotatedElementUtils.findMergedAnnotation(clazz, Mapping.class);
 
@@ -216,6 +315,17 @@ public class IndicesTemplate extends ChildTemplate<OpenSearchTransport, OpenSear
         }
     }
 
+    @Override
+    public boolean putMapping() {
+
+        if (mappingReconciled) {
+            mappingReconciled = false;
+            return true;
+        }
+
+        return putMapping(createMapping());
+    }
+
     @Override
     public boolean putMapping(Document mapping) {
 
@@ -247,6 +357,11 @@ public class IndicesTemplate extends ChildTemplate<OpenSearchTransport, OpenSear
 
         Assert.notNull(clazz, "clazz must not be null");
 
+        Settings precomputed = PrecomputedIndexDefinitions.get().settings(clazz);
+        if (precomputed != null) {
+            return precomputed;
+        }
+
         ElasticsearchPersistentEntity<?> persistentEntity = getRequiredPersistentEntity(clazz);
         String settingPath = persistentEntity.settingPath();
         return hasText(settingPath) //
@@ -433,6 +548,102 @@ public class IndicesTemplate extends ChildTemplate<OpenSearchTransport, OpenSear
         return responseConverter.indicesGetIndexInformations(getIndexResponse);
     }
 
+    // region bulk load
+    /**
+     * Prepares the index for a bulk load: captures the refresh interval and the number of replicas of each index
+     * behind the coordinates and applies the ones of the options. Closing the returned session optionally force merges
+     * and refreshes the index and then restores the captured settings, also when the load failed.
+     *
+     * <pre>
+     * try (BulkLoadSession session = indicesTemplate.startBulkLoad(BulkLoadOptions.defaults())) {
+     *     operations.bulkIndex(queries, Product.class);
+     * }
+     * </pre>
+     *
+     * @param options the settings for the load
+     * @return the session to close after the load
+     */
+    public BulkLoadSession startBulkLoad(BulkLoadOptions options) {
+
+        Assert.notNull(options, "options must not be null");
+
+        IndexCoordinates indexCoordinates = getIndexCoordinates();
+        Map<String, Object> loadSettings = options.loadSettings();
+        BulkLoadSession session = new BulkLoadSession(this, indexCoordinates, options,
+                captureSettings(indexCoordinates, loadSettings.keySet()));
+
+        try {
+            putSettings(indexCoordinates, loadSettings);
+        } catch (RuntimeException e) {
+            session.markFailed();
+            try {
+                session.close();
+            } catch (RuntimeException restoreFailure) {
+                e.addSuppressed(restoreFailure);
+            }
+            throw e;
+        }
+
+        return session;
+    }
+
+    /**
+     * Runs the load within a {@link #startBulkLoad(BulkLoadOptions) bulk load session}. The index is only force merged
+     * and refreshed when the load succeeds.
+     */
+    public <T> T bulkLoad(BulkLoadOptions options, Supplier<T> load) {
+
+        Assert.notNull(load, "load must not be null");
+
+        try (BulkLoadSession session = startBulkLoad(options)) {
+            try {
+                return load.get();
+            } catch (RuntimeException e) {
+                session.markFailed();
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * @return the given flat settings per concrete index, {@literal null} for the settings the index does not set, so
+     *         that restoring them resets them to their defaults instead of pinning the current defaults
+     */
+    Map<String, Map<String, Object>> captureSettings(IndexCoordinates indexCoordinates, Set<String> keys) {
+
+        GetIndicesSettingsRequest getIndicesSettingsRequest = requestConverter
+                .indicesGetSettingsRequest(indexCoordinates, false);
+        GetIndicesSettingsResponse getIndicesSettingsResponse = execute(
+                client -> client.getSettings(getIndicesSettingsRequest));
+
+        Map<String, Map<String, Object>> captured = new LinkedHashMap<>();
+        for (String indexName : getIndicesSettingsResponse.result().keySet()) {
+            Settings settings = responseConverter.indicesGetSettings(getIndicesSettingsResponse, indexName).flatten();
+            Map<String, Object> values = new LinkedHashMap<>();
+            for (String key : keys) {
+                values.put(key, settings.get(key));
+            }
+            captured.put(indexName, values);
+        }
+        return captured;
+    }
+
+    void putSettings(IndexCoordinates indexCoordinates, Map<String, Object> settings) {
+
+        PutFlatSettingsRequest putSettingsRequest = requestConverter.indicesPutSettingsRequest(indexCoordinates,
+                settings);
+        execute(client -> client._transport().performRequest(putSettingsRequest, PutFlatSettingsRequest.ENDPOINT,
+                client._transportOptions()));
+    }
+
+    void forceMerge(IndexCoordinates indexCoordinates, @Nullable Integer maxNumSegments) {
+
+        ForcemergeRequest forcemergeRequest = requestConverter.indicesForcemergeRequest(indexCoordinates,
+                maxNumSegments);
+        execute(client -> client.forcemerge(forcemergeRequest));
+    }
+    // endregion
+
     // region Helper functions
     ElasticsearchPersistentEntity<?> getRequiredPersistentEntity(Class<?> clazz) {
         return elasticsearchConverter.getMappingContext().getRequiredPersistentEntity(clazz);
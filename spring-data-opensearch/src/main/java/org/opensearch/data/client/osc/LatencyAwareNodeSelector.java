@@ -0,0 +1,539 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.hc.client5.http.async.AsyncExecCallback;
+import org.apache.hc.client5.http.async.AsyncExecChain;
+import org.apache.hc.client5.http.async.AsyncExecChainHandler;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClientBuilder;
+import org.apache.hc.core5.http.EntityDetails;
+import org.apache.hc.core5.http.HttpException;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.HttpRequest;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.nio.AsyncDataConsumer;
+import org.apache.hc.core5.http.nio.AsyncEntityProducer;
+import org.opensearch.client.Node;
+import org.opensearch.client.NodeSelector;
+import org.opensearch.client.RestClientBuilder;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link NodeSelector} that prefers nodes with a low latency and temporarily ejects outliers. The latency of each node
+ * is tracked as an exponentially weighted moving average (EWMA) by an exec interceptor of the HTTP client, so the
+ * selector must be installed on both the {@link RestClientBuilder} and the {@link HttpAsyncClientBuilder}; for a
+ * {@link org.springframework.data.elasticsearch.client.ClientConfiguration} that is done with
+ * {@code withClientConfigurer(selector.restClientConfigurer())} and
+ * {@code withClientConfigurer(selector.httpClientConfigurer())}.
+ * <p>
+ * For each request two of the available nodes are picked at random and the one with the lower EWMA weighted by its
+ * requests in flight is preferred (power of two choices). The selector keeps all nodes that are not ejected, the
+ * preferred one first and the others by their score, so the {@link org.opensearch.client.RestClient} can still fail
+ * over to them on a connect error or a 502, 503 or 504 response. The client rotates the selected nodes round robin
+ * by a counter it increments with every request; the selector counts its calls the same way and rotates the nodes
+ * back, so an instance must only be used by one client. Concurrent requests may swap their counts, then a request
+ * starts on another healthy node.
+ * <p>
+ * A node is ejected when its EWMA exceeds the median EWMA of all nodes by the configured outlier factor or when it
+ * failed a number of consecutive requests. An ejected node receives no requests until its ejection period has passed.
+ * Then the next request is sent to it first as a probe, followed by the other nodes to fail over to; if that request
+ * completes in time on the node it is reinstated, otherwise it is ejected again for twice the period, up to a
+ * maximum. Ejection never removes more than the configured share of nodes and never removes all nodes.
+ */
+public class LatencyAwareNodeSelector implements NodeSelector, AsyncExecChainHandler {
+
+    private static final Log LOGGER = LogFactory.getLog(LatencyAwareNodeSelector.class);
+
+    /**
+     * Name of the exec interceptor registered with the {@link HttpAsyncClientBuilder}.
+     */
+    public static final String INTERCEPTOR_NAME = "opensearch-latency-aware-node-selector";
+
+    /**
+     * Weight of a new latency sample in the moving average.
+     */
+    private static final double EWMA_ALPHA = 0.3;
+
+    private final double outlierFactor;
+    private final int minimumSamples;
+    private final int consecutiveFailures;
+    private final Duration ejectionDuration;
+    private final Duration maxEjectionDuration;
+    private final int maxEjectedPercent;
+
+    private final Map<String, NodeStats> nodeStats = new ConcurrentHashMap<>();
+    private final LongAdder ejections = new LongAdder();
+    private final AtomicInteger selections = new AtomicInteger();
+
+    private LatencyAwareNodeSelector(Builder builder) {
+        this.outlierFactor = builder.outlierFactor;
+        this.minimumSamples = builder.minimumSamples;
+        this.consecutiveFailures = builder.consecutiveFailures;
+        this.ejectionDuration = builder.ejectionDuration;
+        this.maxEjectionDuration = builder.maxEjectionDuration;
+        this.maxEjectedPercent = builder.maxEjectedPercent;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return a callback for a {@link org.springframework.data.elasticsearch.client.ClientConfiguration} that sets this
+     *         selector as the node selector of the {@link RestClientBuilder}.
+     */
+    public OpenSearchClients.OpenSearchRestClientConfigurationCallback restClientConfigurer() {
+        return OpenSearchClients.OpenSearchRestClientConfigurationCallback.from(this::configure);
+    }
+
+    /**
+     * @return a callback for a {@link org.springframework.data.elasticsearch.client.ClientConfiguration} that installs
+     *         the latency tracking of this selector.
+     */
+    public OpenSearchClients.OpenSearchHttpClientConfigurationCallback httpClientConfigurer() {
+        return OpenSearchClients.OpenSearchHttpClientConfigurationCallback.from(this::configure);
+    }
+
+    public RestClientBuilder configure(RestClientBuilder builder) {
+        return builder.setNodeSelector(this);
+    }
+
+    public HttpAsyncClientBuilder configure(HttpAsyncClientBuilder builder) {
+        return builder.addExecInterceptorFirst(INTERCEPTOR_NAME, this);
+    }
+
+    /**
+     * @return the number of times a node was ejected
+     */
+    public long getEjections() {
+        return ejections.sum();
+    }
+
+    /**
+     * @return the number of nodes that are currently ejected
+     */
+    public long getEjectedNodes() {
+        return nodeStats.values().stream().filter(NodeStats::isEjected).count();
+    }
+
+    /**
+     * @return the latency statistics of the nodes that received requests so far, keyed by node URI
+     */
+    public Map<String, NodeStats> getNodeStats() {
+        return Collections.unmodifiableMap(nodeStats);
+    }
+
+    // region NodeSelector
+    @Override
+    public void select(Iterable<Node> nodes) {
+
+        // the client rotates the selected nodes by the number of its previous selections
+        int rotation = selections.getAndIncrement();
+        long now = System.nanoTime();
+        List<Node> available = new ArrayList<>();
+        Node probe = null;
+
+        for (Node node : nodes) {
+            NodeStats stats = nodeStats.get(key(node.getHost()));
+
+            if (stats == null || !stats.isEjected()) {
+                available.add(node);
+            } else if (probe == null && stats.tryStartProbe(now)) {
+                probe = node;
+            }
+        }
+
+        if (available.isEmpty() && probe == null) {
+            // never leave the client without a node, the ejected ones are better than none
+            return;
+        }
+
+        List<Node> selected = new ArrayList<>(available.size() + 1);
+
+        if (!available.isEmpty()) {
+            Node preferred = preferred(available);
+            available.remove(preferred);
+            available.sort(Comparator.comparingDouble(this::score));
+            selected.add(preferred);
+            selected.addAll(available);
+        }
+
+        if (probe != null) {
+            selected.add(0, probe);
+        }
+
+        if (nodes instanceof List<Node> list) {
+            list.clear();
+            list.addAll(selected);
+            Collections.rotate(list, (int) Math.floorMod(-(long) rotation, list.size()));
+            return;
+        }
+
+        for (Iterator<Node> iterator = nodes.iterator(); iterator.hasNext();) {
+            if (!selected.contains(iterator.next())) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private Node preferred(List<Node> available) {
+
+        if (available.size() < 2) {
+            return available.get(0);
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(available.size());
+        int second = random.nextInt(available.size() - 1);
+        if (second >= first) {
+            second++;
+        }
+
+        Node a = available.get(first);
+        Node b = available.get(second);
+        return score(a) <= score(b) ? a : b;
+    }
+
+    private double score(Node node) {
+        NodeStats stats = nodeStats.get(key(node.getHost()));
+        return stats == null ? 0 : stats.score();
+    }
+    // endregion
+
+    // region latency tracking
+    @Override
+    public void execute(HttpRequest request, @Nullable AsyncEntityProducer entityProducer, AsyncExecChain.Scope scope,
+            AsyncExecChain chain, AsyncExecCallback asyncExecCallback) throws HttpException, IOException {
+
+        NodeStats stats = stats(scope.route.getTargetHost());
+        stats.started();
+
+        chain.proceed(request, entityProducer, scope, new TrackingCallback(stats, asyncExecCallback));
+    }
+
+    NodeStats stats(HttpHost host) {
+        return nodeStats.computeIfAbsent(key(host), NodeStats::new);
+    }
+
+    /**
+     * Records the outcome of a request that was started with {@link NodeStats#started()}.
+     */
+    void onCompleted(NodeStats stats, long rttNanos, boolean failed) {
+
+        boolean eject;
+        boolean probe;
+        synchronized (stats) {
+            stats.inFlight--;
+            probe = stats.probing;
+            stats.probing = false;
+            stats.probeSent = false;
+
+            if (failed) {
+                eject = probe || stats.recordFailure() >= consecutiveFailures;
+            } else {
+                stats.recordLatency(rttNanos, probe);
+                eject = (probe || stats.samples >= minimumSamples) && isOutlier(stats);
+            }
+
+            if (probe && !eject) {
+                stats.reinstate();
+                LOGGER.info(String.format("reinstated node %s after a successful probe", stats.node));
+                return;
+            }
+        }
+
+        if (eject) {
+            eject(stats, probe);
+        }
+    }
+
+    private boolean isOutlier(NodeStats stats) {
+
+        List<Double> ewmas = new ArrayList<>();
+        for (NodeStats other : nodeStats.values()) {
+            if (other.samples >= minimumSamples) {
+                ewmas.add(other.ewmaNanos);
+            }
+        }
+
+        if (ewmas.size() < 3) {
+            // a median of two values cannot tell which one is the outlier
+            return false;
+        }
+
+        Collections.sort(ewmas);
+        double median = ewmas.get(ewmas.size() / 2);
+        return stats.ewmaNanos > median * outlierFactor;
+    }
+
+    private void eject(NodeStats stats, boolean afterProbe) {
+
+        if (!afterProbe) {
+            if (stats.isEjected()) {
+                return;
+            }
+
+            if ((getEjectedNodes() + 1) * 100 > (long) nodeStats.size() * maxEjectedPercent) {
+                return;
+            }
+        }
+
+        Duration duration = stats.eject(ejectionDuration, maxEjectionDuration, afterProbe);
+        ejections.increment();
+        LOGGER.warn(String.format("ejected node %s for %dms, latency average %.1fms", stats.node, duration.toMillis(),
+                stats.getLatencyMillis()));
+    }
+
+    private class TrackingCallback implements AsyncExecCallback {
+
+        private final NodeStats stats;
+        private final AsyncExecCallback delegate;
+        private final long start = System.nanoTime();
+        private final AtomicBoolean done = new AtomicBoolean();
+        private volatile boolean serverError;
+
+        TrackingCallback(NodeStats stats, AsyncExecCallback delegate) {
+            this.stats = stats;
+            this.delegate = delegate;
+        }
+
+        @Override
+        public AsyncDataConsumer handleResponse(HttpResponse response, EntityDetails entityDetails)
+                throws HttpException, IOException {
+
+            serverError = response.getCode() >= 500;
+
+            return delegate.handleResponse(response, entityDetails);
+        }
+
+        @Override
+        public void handleInformationResponse(HttpResponse response) throws HttpException, IOException {
+            delegate.handleInformationResponse(response);
+        }
+
+        @Override
+        public void completed() {
+            done(serverError);
+            delegate.completed();
+        }
+
+        @Override
+        public void failed(Exception cause) {
+            done(true);
+            delegate.failed(cause);
+        }
+
+        private void done(boolean failed) {
+            if (done.compareAndSet(false, true)) {
+                onCompleted(stats, System.nanoTime() - start, failed);
+            }
+        }
+    }
+    // endregion
+
+    private static String key(HttpHost host) {
+        return host.toURI();
+    }
+
+    /**
+     * Latency statistics and ejection state of a node.
+     */
+    public static final class NodeStats {
+
+        /**
+         * Time after which a probe that was selected but never sent, for example because its request was cancelled,
+         * no longer blocks the next probe. A probe that was sent ends with its request, which the client times out.
+         */
+        private static final long PROBE_RESERVATION_NANOS = Duration.ofSeconds(1).toNanos();
+
+        private final String node;
+        private volatile double ewmaNanos;
+        private volatile long samples;
+        private int inFlight;
+        private int failures;
+        private long ejectedUntilNanos;
+        private long lastEjectionNanos;
+        private boolean probing;
+        private boolean probeSent;
+        private long probeStartedNanos;
+
+        NodeStats(String node) {
+            this.node = node;
+        }
+
+        public synchronized double getLatencyMillis() {
+            return ewmaNanos / 1_000_000;
+        }
+
+        public synchronized int getInFlight() {
+            return inFlight;
+        }
+
+        /**
+         * @return whether the node is ejected, which lasts until it was reinstated by a successful probe
+         */
+        public synchronized boolean isEjected() {
+            return ejectedUntilNanos != 0;
+        }
+
+        synchronized void started() {
+            inFlight++;
+            probeSent |= probing;
+        }
+
+        synchronized double score() {
+            return ewmaNanos * (inFlight + 1);
+        }
+
+
+        /**
+         * @return {@literal true} if the ejection period has passed and this caller may send the probe request
+         */
+        synchronized boolean tryStartProbe(long now) {
+
+            if (now - ejectedUntilNanos < 0
+                    || (probing && (probeSent || now - probeStartedNanos < PROBE_RESERVATION_NANOS))) {
+                return false;
+            }
+
+            probing = true;
+            probeSent = false;
+            probeStartedNanos = now;
+            return true;
+        }
+
+        void recordLatency(long rttNanos, boolean probe) {
+
+            failures = 0;
+            // a probe starts a new average, the old one describes the node before its ejection
+            ewmaNanos = samples == 0 || probe ? rttNanos : EWMA_ALPHA * rttNanos + (1 - EWMA_ALPHA) * ewmaNanos;
+            samples++;
+        }
+
+        int recordFailure() {
+            return ++failures;
+        }
+
+        /**
+         * @param afterProbe whether the node failed its probe, which doubles the previous ejection period
+         * @return the ejection period
+         */
+        synchronized Duration eject(Duration duration, Duration maxDuration, boolean afterProbe) {
+
+            Duration ejection = afterProbe && lastEjectionNanos != 0
+                    ? Duration.ofNanos(Math.min(lastEjectionNanos * 2, maxDuration.toNanos()))
+                    : duration;
+
+            lastEjectionNanos = ejection.toNanos();
+            ejectedUntilNanos = System.nanoTime() + lastEjectionNanos;
+            failures = 0;
+            return ejection;
+        }
+
+        synchronized void reinstate() {
+            ejectedUntilNanos = 0;
+            lastEjectionNanos = 0;
+            failures = 0;
+        }
+    }
+
+    public static final class Builder {
+
+        private double outlierFactor = 3.0;
+        private int minimumSamples = 20;
+        private int consecutiveFailures = 5;
+        private Duration ejectionDuration = Duration.ofSeconds(30);
+        private Duration maxEjectionDuration = Duration.ofMinutes(5);
+        private int maxEjectedPercent = 50;
+
+        private Builder() {}
+
+        /**
+         * @param outlierFactor how many times the median latency a node must exceed to be ejected
+         */
+        public Builder withOutlierFactor(double outlierFactor) {
+
+            Assert.isTrue(outlierFactor > 1, "outlierFactor must be greater than 1");
+
+            this.outlierFactor = outlierFactor;
+            return this;
+        }
+
+        /**
+         * @param minimumSamples number of requests a node must have completed before it is compared to the others
+         */
+        public Builder withMinimumSamples(int minimumSamples) {
+
+            Assert.isTrue(minimumSamples > 0, "minimumSamples must be greater than 0");
+
+            this.minimumSamples = minimumSamples;
+            return this;
+        }
+
+        /**
+         * @param consecutiveFailures number of consecutive failed requests after which a node is ejected
+         */
+        public Builder withConsecutiveFailures(int consecutiveFailures) {
+
+            Assert.isTrue(consecutiveFailures > 0, "consecutiveFailures must be greater than 0");
+
+            this.consecutiveFailures = consecutiveFailures;
+            return this;
+        }
+
+        public Builder withEjectionDuration(Duration ejectionDuration) {
+
+            Assert.notNull(ejectionDuration, "ejectionDuration must not be null");
+
+            this.ejectionDuration = ejectionDuration;
+            return this;
+        }
+
+        public Builder withMaxEjectionDuration(Duration maxEjectionDuration) {
+
+            Assert.notNull(maxEjectionDuration, "maxEjectionDuration must not be null");
+
+            this.maxEjectionDuration = maxEjectionDuration;
+            return this;
+        }
+
+        /**
+         * @param maxEjectedPercent the maximum share of the nodes that may be ejected at the same time
+         */
+        public Builder withMaxEjectedPercent(int maxEjectedPercent) {
+
+            Assert.isTrue(maxEjectedPercent >= 0 && maxEjectedPercent < 100,
+                    "maxEjectedPercent must be between 0 and 99");
+
+            this.maxEjectedPercent = maxEjectedPercent;
+            return this;
+        }
+
+        public LatencyAwareNodeSelector build() {
+            return new LatencyAwareNodeSelector(this);
+        }
+    }
+}
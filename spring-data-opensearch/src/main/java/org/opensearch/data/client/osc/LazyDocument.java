@@ -0,0 +1,40 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import jakarta.json.stream.JsonGenerator;
+import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpSerializable;
+import org.springframework.data.elasticsearch.core.convert.ElasticsearchConverter;
+
+/**
+ * Document of a bulk operation that maps its entity only when the request body is written, so the mapped form of the
+ * entities of a batch is not built before the request is sent. The mapped document is not kept, it can be
+ * collected as soon as it is written; writing the body again, for a retry, maps the entity again.
+ */
+final class LazyDocument implements JsonpSerializable {
+
+    private final Object entity;
+    private final ElasticsearchConverter elasticsearchConverter;
+
+    LazyDocument(Object entity, ElasticsearchConverter elasticsearchConverter) {
+        this.entity = entity;
+        this.elasticsearchConverter = elasticsearchConverter;
+    }
+
+    Object getEntity() {
+        return entity;
+    }
+
+    @Override
+    public void serialize(JsonGenerator generator, JsonpMapper mapper) {
+        mapper.serialize(elasticsearchConverter.mapObject(entity), generator);
+    }
+}
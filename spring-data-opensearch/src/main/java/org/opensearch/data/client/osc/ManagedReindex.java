@@ -0,0 +1,115 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.lang.Nullable;
+
+/**
+ * A reindex started with {@link OpenSearchTemplate#startManagedReindex(ManagedReindexRequest)}. The task runs on the
+ * cluster until it has completed, {@link #complete()} waits for it, verifies the result and moves the aliases onto
+ * the target index.
+ */
+public final class ManagedReindex {
+
+    private final OpenSearchTemplate template;
+    private final ManagedReindexRequest request;
+    private final String taskId;
+
+    ManagedReindex(OpenSearchTemplate template, ManagedReindexRequest request, String taskId) {
+        this.template = template;
+        this.request = request;
+        this.taskId = taskId;
+    }
+
+    public ManagedReindexRequest getRequest() {
+        return request;
+    }
+
+    public String getTaskId() {
+        return taskId;
+    }
+
+    /**
+     * @return the current progress of the task
+     */
+    public ReindexProgress getProgress() {
+        return template.getReindexProgress(taskId);
+    }
+
+    /**
+     * Polls the progress of the task in the interval of the request. The stream ends with the progress of the
+     * completed task; the thread consuming it sleeps between the polls.
+     */
+    public Stream<ReindexProgress> progress() {
+        return StreamSupport.stream(new ProgressSpliterator(), false);
+    }
+
+    /**
+     * Changes the throttle of the running task.
+     *
+     * @param requestsPerSecond the new throttle, {@literal null} to remove it
+     */
+    public void rethrottle(@Nullable Float requestsPerSecond) {
+        template.rethrottleReindex(taskId, requestsPerSecond);
+    }
+
+    /**
+     * Waits for the task, verifies it and moves the aliases onto the target index.
+     *
+     * @return the progress of the completed task
+     * @throws org.springframework.dao.DataIntegrityViolationException if documents failed to reindex
+     * @throws org.springframework.dao.IncorrectResultSizeDataAccessException if the document counts differ
+     */
+    public ReindexProgress complete() {
+
+        ReindexProgress progress = progress().reduce((previous, next) -> next).orElseThrow();
+        template.completeManagedReindex(request, progress);
+        return progress;
+    }
+
+    private final class ProgressSpliterator extends Spliterators.AbstractSpliterator<ReindexProgress> {
+
+        private boolean first = true;
+        private boolean completed;
+
+        private ProgressSpliterator() {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super ReindexProgress> action) {
+
+            if (completed) {
+                return false;
+            }
+
+            if (!first) {
+                try {
+                    Thread.sleep(request.getPollInterval().toMillis());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new DataAccessResourceFailureException("Interrupted while polling reindex task " + taskId, e);
+                }
+            }
+
+            first = false;
+            ReindexProgress progress = getProgress();
+            completed = progress.completed();
+            action.accept(progress);
+            return true;
+        }
+    }
+}
@@ -0,0 +1,282 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.data.elasticsearch.core.index.AliasAction;
+import org.springframework.data.elasticsearch.core.index.AliasActionParameters;
+import org.springframework.data.elasticsearch.core.index.AliasActions;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.reindex.ReindexRequest;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Describes a reindex of the documents of an entity into a new index without downtime: the target index is created
+ * from the entity's settings and mapping, the documents are copied with an automatically sliced reindex task and once
+ * the task has completed and the document counts match, the read and write aliases are atomically moved from the
+ * indices they point to onto the target index.
+ * <p>
+ * The source defaults to the index of the entity and the read alias to the entity's index name, so an entity whose
+ * index name is an alias is migrated with {@code ManagedReindexRequest.builder(Product.class,
+ * IndexCoordinates.of("products-v2")).build()}. An entity whose index name is still a concrete index is migrated the
+ * same way: an alias may be the name of a concrete index if that index is the source, which is then deleted with a
+ * {@code remove_index} action in the same atomic alias update that adds the alias to the target.
+ */
+public final class ManagedReindexRequest {
+
+    private final Class<?> entityClass;
+    private final IndexCoordinates target;
+    @Nullable private final IndexCoordinates source;
+    @Nullable private final String readAlias;
+    private final boolean readAliasSet;
+    @Nullable private final String writeAlias;
+    @Nullable private final Long requestsPerSecond;
+    private final Duration pollInterval;
+    private final boolean verifyCount;
+
+    private ManagedReindexRequest(Builder builder) {
+        this.entityClass = builder.entityClass;
+        this.target = builder.target;
+        this.source = builder.source;
+        this.readAlias = builder.readAlias;
+        this.readAliasSet = builder.readAliasSet;
+        this.writeAlias = builder.writeAlias;
+        this.requestsPerSecond = builder.requestsPerSecond;
+        this.pollInterval = builder.pollInterval;
+        this.verifyCount = builder.verifyCount;
+    }
+
+    /**
+     * @param entityClass the entity whose settings and mapping the target index is created with
+     * @param target the new index, must not exist yet
+     */
+    public static Builder builder(Class<?> entityClass, IndexCoordinates target) {
+        return new Builder(entityClass, target);
+    }
+
+    public Class<?> getEntityClass() {
+        return entityClass;
+    }
+
+    public IndexCoordinates getTarget() {
+        return target;
+    }
+
+    /**
+     * @return the index to copy, {@literal null} for the index of the entity
+     */
+    @Nullable
+    public IndexCoordinates getSource() {
+        return source;
+    }
+
+    /**
+     * @return the alias moved onto the target, {@literal null} when none is moved or the index name of the entity is
+     *         used
+     */
+    @Nullable
+    public String getReadAlias() {
+        return readAlias;
+    }
+
+    @Nullable
+    public String getWriteAlias() {
+        return writeAlias;
+    }
+
+    @Nullable
+    public Long getRequestsPerSecond() {
+        return requestsPerSecond;
+    }
+
+    public Duration getPollInterval() {
+        return pollInterval;
+    }
+
+    public boolean isVerifyCount() {
+        return verifyCount;
+    }
+
+    /**
+     * @param entityIndex the index of the entity
+     * @return the index to copy
+     */
+    IndexCoordinates source(IndexCoordinates entityIndex) {
+        return source != null ? source : entityIndex;
+    }
+
+    /**
+     * @param entityIndex the index of the entity, its name is the default read alias
+     * @return the aliases to move onto the target index, mapped to whether the target becomes their write index
+     */
+    Map<String, Boolean> aliases(IndexCoordinates entityIndex) {
+
+        Map<String, Boolean> aliases = new LinkedHashMap<>();
+        String read = readAliasSet ? readAlias : entityIndex.getIndexName();
+
+        if (read != null) {
+            aliases.put(read, false);
+        }
+
+        if (writeAlias != null) {
+            aliases.put(writeAlias, true);
+        }
+
+        return aliases;
+    }
+
+    ReindexRequest reindexRequest(IndexCoordinates source) {
+
+        ReindexRequest.ReindexRequestBuilder builder = ReindexRequest.builder(source, target);
+
+        if (requestsPerSecond != null) {
+            builder.withRequestsPerSecond(requestsPerSecond);
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Creates the actions moving the aliases onto the target index in a single request.
+     *
+     * @param entityIndex the index of the entity
+     * @param currentIndices the indices each alias currently points to, a concrete index with the name of an alias
+     *            points to itself and is removed
+     */
+    AliasActions aliasActions(IndexCoordinates entityIndex, Map<String, Set<String>> currentIndices) {
+
+        AliasActions aliasActions = new AliasActions();
+
+        aliases(entityIndex).forEach((alias, writeIndex) -> {
+            Set<String> current = currentIndices.getOrDefault(alias, Set.of());
+            String[] previous = current.stream() //
+                    .filter(index -> !index.equals(target.getIndexName()) && !index.equals(alias)) //
+                    .toArray(String[]::new);
+
+            if (current.contains(alias)) {
+                aliasActions.add(new AliasAction.RemoveIndex(AliasActionParameters.builder() //
+                        .withIndices(alias) //
+                        .build()));
+            }
+
+            if (previous.length > 0) {
+                aliasActions.add(new AliasAction.Remove(AliasActionParameters.builder() //
+                        .withIndices(previous) //
+                        .withAliases(alias) //
+                        .build()));
+            }
+
+            aliasActions.add(new AliasAction.Add(AliasActionParameters.builder() //
+                    .withIndices(target.getIndexName()) //
+                    .withAliases(alias) //
+                    .withIsWriteIndex(writeIndex ? Boolean.TRUE : null) //
+                    .build()));
+        });
+
+        return aliasActions;
+    }
+
+    /**
+     * @return the exception for a target index holding another number of documents than the source; the counts are
+     *         reported in the message, the sizes of the exception are capped at {@link Integer#MAX_VALUE}
+     */
+    static IncorrectResultSizeDataAccessException countMismatch(String taskId, long sourceCount, long targetCount) {
+        return new IncorrectResultSizeDataAccessException("Reindex task " + taskId + " copied " + targetCount + " of "
+                + sourceCount + " documents", (int) Math.min(sourceCount, Integer.MAX_VALUE),
+                (int) Math.min(targetCount, Integer.MAX_VALUE));
+    }
+
+    public static final class Builder {
+
+        private final Class<?> entityClass;
+        private final IndexCoordinates target;
+        @Nullable private IndexCoordinates source;
+        @Nullable private String readAlias;
+        private boolean readAliasSet;
+        @Nullable private String writeAlias;
+        @Nullable private Long requestsPerSecond;
+        private Duration pollInterval = Duration.ofSeconds(1);
+        private boolean verifyCount = true;
+
+        private Builder(Class<?> entityClass, IndexCoordinates target) {
+
+            Assert.notNull(entityClass, "entityClass must not be null");
+            Assert.notNull(target, "target must not be null");
+            Assert.isTrue(target.getIndexNames().length == 1, "target must be a single index");
+
+            this.entityClass = entityClass;
+            this.target = target;
+        }
+
+        /**
+         * @param source the index to copy, {@literal null} for the index of the entity
+         */
+        public Builder withSource(@Nullable IndexCoordinates source) {
+            this.source = source;
+            return this;
+        }
+
+        /**
+         * @param readAlias the alias moved onto the target, {@literal null} to move none; defaults to the index name
+         *          of the entity
+         */
+        public Builder withReadAlias(@Nullable String readAlias) {
+            this.readAlias = readAlias;
+            this.readAliasSet = true;
+            return this;
+        }
+
+        /**
+         * @param writeAlias the alias moved onto the target as its write index, {@literal null} to move none
+         */
+        public Builder withWriteAlias(@Nullable String writeAlias) {
+            this.writeAlias = writeAlias;
+            return this;
+        }
+
+        /**
+         * @param requestsPerSecond the initial throttle of the reindex task, {@literal null} for none
+         */
+        public Builder withRequestsPerSecond(@Nullable Long requestsPerSecond) {
+
+            Assert.isTrue(requestsPerSecond == null || requestsPerSecond > 0, "requestsPerSecond must be positive");
+
+            this.requestsPerSecond = requestsPerSecond;
+            return this;
+        }
+
+        public Builder withPollInterval(Duration pollInterval) {
+
+            Assert.notNull(pollInterval, "pollInterval must not be null");
+            Assert.isTrue(!pollInterval.isNegative() && !pollInterval.isZero(), "pollInterval must be positive");
+
+            this.pollInterval = pollInterval;
+            return this;
+        }
+
+        /**
+         * @param verifyCount whether the aliases are only moved when source and target hold the same number of
+         *          documents; disable it when the source is written to during the reindex
+         */
+        public Builder withVerifyCount(boolean verifyCount) {
+            this.verifyCount = verifyCount;
+            return this;
+        }
+
+        public ManagedReindexRequest build() {
+            return new ManagedReindexRequest(this);
+        }
+    }
+}
@@ -0,0 +1,316 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.stream.IntStream;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Difference between the live mapping of an existing index and the mapping of its entity, used to reconcile the
+ * mapping on startup, see {@link RepositoryIndexBootstrap}. The hash of the entity mapping is stored in the
+ * {@code _meta} of the index mapping; if the live mapping carries the same hash nothing needs to be compared.
+ * Otherwise the fields missing in the live mapping, including properties of object fields and multi-fields, are
+ * added and the entries of the entity's {@code _meta} are merged into the live one. Fields whose type changed cannot
+ * be updated in place and are reported as conflicts. Changed parameters of existing fields and changed parts of the
+ * mapping outside of the properties, like dynamic templates, are not reconciled and reported as skipped. The hash is
+ * only stored when there are neither conflicts nor skipped changes, so they are reported again on the next start.
+ */
+final class MappingDiff {
+
+    static final String MAPPING_HASH = "spring_data_mapping_hash";
+
+    private static final String META = "_meta";
+    private static final String PROPERTIES = "properties";
+    private static final String FIELDS = "fields";
+
+    private final Map<String, Object> liveMapping;
+    private final Map<String, Object> mapping;
+    private final String hash;
+    private final boolean upToDate;
+    private final Map<String, Object> additions = new LinkedHashMap<>();
+    private final List<String> conflicts = new ArrayList<>();
+    private final List<String> skipped = new ArrayList<>();
+
+    private MappingDiff(Map<String, Object> liveMapping, Map<String, Object> mapping) {
+
+        this.liveMapping = liveMapping;
+        this.mapping = mapping;
+        this.hash = hash(mapping);
+        this.upToDate = hash.equals(storedHash(liveMapping));
+
+        if (!upToDate) {
+            mapping.forEach((name, value) -> {
+                if (!PROPERTIES.equals(name) && !META.equals(name) && !same(value, liveMapping.get(name))) {
+                    skipped.add(name);
+                }
+            });
+            diff("", map(liveMapping.get(PROPERTIES)), map(mapping.get(PROPERTIES)), additions, conflicts, skipped);
+        }
+    }
+
+    /**
+     * @param liveMapping the mapping of the existing index
+     * @param mapping the mapping of the entity
+     */
+    static MappingDiff of(Map<String, Object> liveMapping, Map<String, Object> mapping) {
+
+        Assert.notNull(liveMapping, "liveMapping must not be null");
+        Assert.notNull(mapping, "mapping must not be null");
+
+        return new MappingDiff(liveMapping, mapping);
+    }
+
+    /**
+     * @return a copy of the mapping with its hash in the {@code _meta} section, to create an index with
+     */
+    static Document withHash(Map<String, Object> mapping) {
+
+        Assert.notNull(mapping, "mapping must not be null");
+
+        Document document = Document.create();
+        document.putAll(mapping);
+        document.put(META, meta(mapping, hash(mapping)));
+        return document;
+    }
+
+    /**
+     * @return the hash of the mapping, ignoring a hash stored in its {@code _meta} section
+     */
+    static String hash(Map<String, Object> mapping) {
+
+        Map<String, Object> withoutHash = new LinkedHashMap<>(mapping);
+        Map<String, Object> meta = map(mapping.get(META));
+
+        if (meta.containsKey(MAPPING_HASH)) {
+            meta = new LinkedHashMap<>(meta);
+            meta.remove(MAPPING_HASH);
+            withoutHash.put(META, meta);
+        }
+
+        if (meta.isEmpty()) {
+            withoutHash.remove(META);
+        }
+
+        StringBuilder canonical = new StringBuilder();
+        canonical(withoutHash, canonical);
+
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(canonical.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * @return whether the live mapping carries the hash of the entity mapping
+     */
+    boolean isUpToDate() {
+        return upToDate;
+    }
+
+    /**
+     * @return the fields missing in the live mapping, keyed by name like the {@code properties} of a mapping
+     */
+    Map<String, Object> getAdditions() {
+        return additions;
+    }
+
+    /**
+     * @return the paths of the fields whose type differs between the live mapping and the entity mapping
+     */
+    List<String> getConflicts() {
+        return conflicts;
+    }
+
+    /**
+     * @return the paths of the field parameters and the mapping parameters outside of the properties that differ
+     *         between the live mapping and the entity mapping and are not reconciled
+     */
+    List<String> getSkipped() {
+        return skipped;
+    }
+
+    /**
+     * @return the mapping to put to reconcile the index, {@literal null} if nothing needs to be put. The hash is only
+     *         stored if there are neither conflicts nor skipped changes, so they are reported again on the next start.
+     */
+    @Nullable
+    Document update() {
+
+        if (upToDate) {
+            return null;
+        }
+
+        Document update = Document.create();
+
+        if (!additions.isEmpty()) {
+            update.put(PROPERTIES, additions);
+        }
+
+        Map<String, Object> liveMeta = map(liveMapping.get(META));
+        Map<String, Object> meta = new LinkedHashMap<>(liveMeta);
+        meta.putAll(map(mapping.get(META)));
+        meta.remove(MAPPING_HASH);
+
+        if (conflicts.isEmpty() && skipped.isEmpty()) {
+            meta.put(MAPPING_HASH, hash);
+        } else if (liveMeta.containsKey(MAPPING_HASH)) {
+            meta.put(MAPPING_HASH, liveMeta.get(MAPPING_HASH));
+        }
+
+        if (!meta.equals(liveMeta)) {
+            update.put(META, meta);
+        }
+
+        return update.isEmpty() ? null : update;
+    }
+
+    private static Map<String, Object> meta(Map<String, Object> mapping, String hash) {
+
+        Map<String, Object> meta = new LinkedHashMap<>(map(mapping.get(META)));
+        meta.put(MAPPING_HASH, hash);
+        return meta;
+    }
+
+    /**
+     * @return whether the values are equal, comparing scalars by their string form as the live mapping may return them
+     *         with another type
+     */
+    private static boolean same(@Nullable Object value, @Nullable Object other) {
+
+        if (value instanceof Map<?, ?> map && other instanceof Map<?, ?> otherMap) {
+            return map.keySet().equals(otherMap.keySet())
+                    && map.entrySet().stream().allMatch(entry -> same(entry.getValue(), otherMap.get(entry.getKey())));
+        }
+
+        if (value instanceof List<?> list && other instanceof List<?> otherList) {
+            return list.size() == otherList.size() && IntStream.range(0, list.size())
+                    .allMatch(i -> same(list.get(i), otherList.get(i)));
+        }
+
+        if (value == null || other == null || value instanceof Map || other instanceof Map || value instanceof List
+                || other instanceof List) {
+            return Objects.equals(value, other);
+        }
+
+        return value.toString().equals(other.toString());
+    }
+
+    @Nullable
+    private static String storedHash(Map<String, Object> mapping) {
+
+        Object hash = map(mapping.get(META)).get(MAPPING_HASH);
+        return hash != null ? hash.toString() : null;
+    }
+
+    /**
+     * Collects the fields of {@code desired} missing in {@code live} into {@code additions}. A field missing only some
+     * properties or multi-fields is added with its parameters and just the missing ones. Differing parameters of an
+     * existing field are collected into {@code skipped}.
+     */
+    private static void diff(String path, Map<String, Object> live, Map<String, Object> desired,
+            Map<String, Object> additions, List<String> conflicts, List<String> skipped) {
+
+        desired.forEach((name, value) -> {
+            Map<String, Object> desiredField = map(value);
+            Map<String, Object> liveField = map(live.get(name));
+
+            if (liveField.isEmpty()) {
+                additions.put(name, desiredField);
+                return;
+            }
+
+            if (!Objects.equals(type(liveField), type(desiredField))) {
+                conflicts.add(path + name);
+                return;
+            }
+
+            desiredField.forEach((parameter, parameterValue) -> {
+                if (!PROPERTIES.equals(parameter) && !FIELDS.equals(parameter)
+                        && !same(parameterValue, liveField.get(parameter))) {
+                    skipped.add(path + name + '.' + parameter);
+                }
+            });
+
+            Map<String, Object> properties = new LinkedHashMap<>();
+            diff(path + name + '.', map(liveField.get(PROPERTIES)), map(desiredField.get(PROPERTIES)), properties,
+                    conflicts, skipped);
+            Map<String, Object> fields = new LinkedHashMap<>();
+            diff(path + name + '.', map(liveField.get(FIELDS)), map(desiredField.get(FIELDS)), fields, conflicts,
+                    skipped);
+
+            if (!properties.isEmpty() || !fields.isEmpty()) {
+                Map<String, Object> field = new LinkedHashMap<>(desiredField);
+                field.remove(PROPERTIES);
+                field.remove(FIELDS);
+
+                if (!properties.isEmpty()) {
+                    field.put(PROPERTIES, properties);
+                }
+
+                if (!fields.isEmpty()) {
+                    field.put(FIELDS, fields);
+                }
+
+                additions.put(name, field);
+            }
+        });
+    }
+
+    @Nullable
+    private static Object type(Map<String, Object> field) {
+
+        Object type = field.get("type");
+        return type == null && field.containsKey(PROPERTIES) ? "object" : type;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> map(@Nullable Object value) {
+        return value instanceof Map<?, ?> map ? (Map<String, Object>) map : Map.of();
+    }
+
+    private static void canonical(@Nullable Object value, StringBuilder builder) {
+
+        if (value instanceof Map<?, ?> map) {
+            builder.append('{');
+            new TreeMap<>(map).forEach((key, entry) -> {
+                builder.append('"').append(key).append("\":");
+                canonical(entry, builder);
+                builder.append(',');
+            });
+            builder.append('}');
+        } else if (value instanceof Iterable<?> iterable) {
+            builder.append('[');
+            iterable.forEach(entry -> {
+                canonical(entry, builder);
+                builder.append(',');
+            });
+            builder.append(']');
+        } else if (value instanceof String string) {
+            builder.append('"').append(string.replace("\\", "\\\\").replace("\"", "\\\"")).append('"');
+        } else {
+            builder.append(value);
+        }
+    }
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.data.client.osc;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.EntityDetails;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpException;
+import org.apache.hc.core5.http.HttpHeaders;
+import org.apache.hc.core5.http.HttpRequest;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.nio.AsyncResponseConsumer;
+import org.apache.hc.core5.http.nio.CapacityChannel;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.http.protocol.HttpCoreContext;
+import org.opensearch.client.HttpAsyncResponseConsumerFactory;
+import org.opensearch.client.RequestOptions;
+import org.opensearch.client.transport.Endpoint;
+import org.opensearch.client.transport.OpenSearchTransport;
+import org.opensearch.client.transport.TransportOptions;
+import org.opensearch.client.transport.rest_client.RestClientOptions;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link OpenSearchTransport} that reports the request and response body sizes and the JSON parsing time of each
+ * request to a {@link ClientMetricsRecorder}. It wraps the {@link HttpAsyncResponseConsumerFactory} of the request
+ * options, so it only measures when the delegate is a {@link org.opensearch.client.transport.rest_client.RestClientTransport}.
+ * <p>
+ * The request size is taken from the {@code Content-Length} header the HTTP client sent, it is not known for chunked
+ * requests like compressed ones. The parsing time is measured from the end of the response body until the delegate
+ * returns the parsed response. With a {@link StreamingResponseConsumerFactory} the body is parsed while it is received
+ * and the measured time only covers the remainder.
+ */
+public class MeteringOpenSearchTransport extends DelegatingOpenSearchTransport {
+
+    private final ClientMetricsRecorder metricsRecorder;
+
+    public MeteringOpenSearchTransport(OpenSearchTransport delegate, ClientMetricsRecorder metricsRecorder) {
+        super(delegate);
+
+        Assert.notNull(metricsRecorder, "metricsRecorder must not be null");
+
+        this.metricsRecorder = metricsRecorder;
+    }
+
+    @Override
+    public <RequestT, ResponseT, ErrorT> ResponseT performRequest(RequestT request,
+            Endpoint<RequestT, ResponseT, ErrorT> endpoint, @Nullable TransportOptions options) throws IOException {
+
+        Measurement measurement = new Measurement();
+        ResponseT response = delegate.performRequest(request, endpoint, withMeasurement(options, measurement));
+        record(request, measurement, System.nanoTime());
+        return response;
+    }
+
+    @Override
+    public <RequestT, ResponseT, ErrorT> CompletableFuture<ResponseT> performRequestAsync(RequestT request,
+            Endpoint<RequestT, ResponseT, ErrorT> endpoint, @Nullable TransportOptions options) {
+
+        Measurement measurement = new Measurement();
+        return delegate.performRequestAsync(request, endpoint, withMeasurement(options, measurement))
+                .whenComplete((response, throwable) -> {
+                    if (throwable == null) {
+                        record(request, measurement, System.nanoTime());
+                    }
+                });
+    }
+
+    private void record(Object request, Measurement measurement, long end) {
+
+        String operation = RequestOperations.operationOf(request);
+
+        if (measurement.requestBytes >= 0) {
+            metricsRecorder.recordRequestSize(operation, measurement.requestBytes);
+        }
+
+        if (measurement.bodyReceived != 0) {
+            metricsRecorder.recordResponseSize(operation, measurement.responseBytes);
+            metricsRecorder.recordTime(ClientMetricsRecorder.Stage.RESPONSE_PARSING, operation, null,
+                    end - measurement.bodyReceived);
+        }
+    }
+
+    private TransportOptions withMeasurement(@Nullable TransportOptions transportOptions, Measurement measurement) {
+        return withMeasurement(transportOptions != null ? transportOptions : delegate.options(), measurement);
+    }
+
+    /**
+     * @return options for a {@link org.opensearch.client.transport.rest_client.RestClientTransport} that write the
+     *         sizes and timestamps of the request to the given measurement
+     */
+    static TransportOptions withMeasurement(TransportOptions options, Measurement measurement) {
+
+        RequestOptions requestOptions = options instanceof RestClientOptions restClientOptions
+                ? restClientOptions.restClientRequestOptions()
+                : RequestOptions.DEFAULT;
+        RequestOptions.Builder requestOptionsBuilder = requestOptions.toBuilder();
+        requestOptionsBuilder.setHttpAsyncResponseConsumerFactory(
+                new MeteringResponseConsumerFactory(requestOptions.getHttpAsyncResponseConsumerFactory(), measurement));
+
+        var builder = new RestClientOptions.Builder(requestOptionsBuilder);
+
+        if (options != null && !(options instanceof RestClientOptions)) {
+            options.headers().forEach(header -> builder.addHeader(header.getKey(), header.getValue()));
+            options.queryParameters().forEach(builder::setParameter);
+            builder.onWarnings(options.onWarnings());
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Status, sizes and timestamps of one request, written by the I/O dispatcher and read after the response
+     * completed.
+     */
+    static class Measurement {
+        volatile int status;
+        volatile long requestBytes = -1;
+        volatile long responseBytes;
+        volatile long bodyReceived;
+    }
+
+    private record MeteringResponseConsumerFactory(HttpAsyncResponseConsumerFactory delegate,
+            Measurement measurement) implements HttpAsyncResponseConsumerFactory {
+
+        @Override
+        public AsyncResponseConsumer<ClassicHttpResponse> createHttpAsyncResponseConsumer() {
+            return new MeteringResponseConsumer(delegate.createHttpAsyncResponseConsumer(), measurement);
+        }
+    }
+
+    /**
+     * Counts the body bytes passed to the wrapped consumer and notes when the body was complete.
+     */
+    static class MeteringResponseConsumer implements AsyncResponseConsumer<ClassicHttpResponse> {
+
+        private final AsyncResponseConsumer<ClassicHttpResponse> delegate;
+        private final Measurement measurement;
+        private long received;
+
+        MeteringResponseConsumer(AsyncResponseConsumer<ClassicHttpResponse> delegate, Measurement measurement) {
+            this.delegate = delegate;
+            this.measurement = measurement;
+        }
+
+        @Override
+        public void consumeResponse(HttpResponse response, @Nullable EntityDetails entityDetails, HttpContext context,
+                FutureCallback<ClassicHttpResponse> resultCallback) throws HttpException, IOException {
+
+            if (context != null && context.getAttribute(HttpCoreContext.HTTP_REQUEST) instanceof HttpRequest request) {
+                Header contentLength = request.getFirstHeader(HttpHeaders.CONTENT_LENGTH);
+                if (contentLength != null) {
+                    try {
+                        measurement.requestBytes = Long.parseLong(contentLength.getValue());
+                    } catch (NumberFormatException ignored) {
+                        // size stays unknown
+                    }
+                } else if (!request.containsHeader(HttpHeaders.TRANSFER_ENCODING)) {
+                    measurement.requestBytes = 0;
+                }
+            }
+
+            measurement.status = response.getCode();
+            received = 0;
+
+            if (entityDetails == null) {
+                measurement.responseBytes = 0;
+                measurement.bodyReceived = System.nanoTime();
+            }
+
+            delegate.consumeResponse(response, entityDetails, context, resultCallback);
+        }
+
+        @Override
+        public void informationResponse(HttpResponse response, HttpContext context) throws HttpException, IOException {
+            delegate.informationResponse(response, context);
+        }
+
+        @Override
+        public void updateCapacity(CapacityChannel capacityChannel) throws IOException {
+            delegate.updateCapacity(capacityChannel);
+        }
+
+        @Override
+        public void consume(ByteBuffer src) throws IOException {
+            received += src.remaining();
+            delegate.consume(src);
+        }
+
+        @Override
+        public void streamEnd(@Nullable List<? extends Header> trailers) throws HttpException, IOException {
+            measurement.responseBytes = received;
+            measurement.bodyReceived = System.nanoTime();
+            delegate.streamEnd(trailers);
+        }
+
+        @Override
+        public void failed(Exception cause) {
+            delegate.failed(cause);
+        }
+
+        @Override
+        public void releaseResources() {
+            delegate.releaseResources();
+        }
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import org.opensearch.client.transport.Endpoint;
+import org.opensearch.client.transport.OpenSearchTransport;
+import org.opensearch.client.transport.TransportOptions;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link OpenSearchTransport} that creates a Micrometer {@link Observation} for every request. As the
+ * {@link OpenSearchTemplate}, the {@link ReactiveOpenSearchTemplate} and their child templates send all requests
+ * through the transport of their client, this observes all their operations. The observations are tagged with the
+ * operation, the targeted indices, the entity type stored in them and the outcome, see
+ * {@link DefaultOpenSearchObservationConvention}.
+ * <p>
+ * Headers that tracing handlers put into the {@link OpenSearchObservationContext#getCarrier() carrier} when the
+ * observation starts are sent with the request, so the trace context reaches the cluster and shows up in its slow logs
+ * and tasks.
+ */
+public class ObservingOpenSearchTransport extends DelegatingOpenSearchTransport {
+
+    private final ObservationRegistry observationRegistry;
+    private final Function<String, Class<?>> entityTypeResolver;
+    @Nullable private OpenSearchObservationConvention observationConvention;
+
+    public ObservingOpenSearchTransport(OpenSearchTransport delegate, ObservationRegistry observationRegistry) {
+        this(delegate, observationRegistry, index -> null);
+    }
+
+    /**
+     * @param delegate the transport sending the requests
+     * @param observationRegistry the registry to create the observations in
+     * @param entityTypeResolver resolves the entity type stored in an index, returns {@literal null} if unknown
+     */
+    public ObservingOpenSearchTransport(OpenSearchTransport delegate, ObservationRegistry observationRegistry,
+            Function<String, Class<?>> entityTypeResolver) {
+        super(delegate);
+
+        Assert.notNull(observationRegistry, "observationRegistry must not be null");
+        Assert.notNull(entityTypeResolver, "entityTypeResolver must not be null");
+
+        this.observationRegistry = observationRegistry;
+        this.entityTypeResolver = entityTypeResolver;
+    }
+
+    /**
+     * Sets a convention to use instead of the {@link DefaultOpenSearchObservationConvention}.
+     */
+    public void setObservationConvention(@Nullable OpenSearchObservationConvention observationConvention) {
+        this.observationConvention = observationConvention;
+    }
+
+    @Override
+    public <RequestT, ResponseT, ErrorT> ResponseT performRequest(RequestT request,
+            Endpoint<RequestT, ResponseT, ErrorT> endpoint, @Nullable TransportOptions options) throws IOException {
+
+        if (observationRegistry.isNoop()) {
+            return delegate.performRequest(request, endpoint, options);
+        }
+
+        OpenSearchObservationContext context = createContext(request);
+        Observation observation = observation(context).start();
+
+        try (Observation.Scope ignored = observation.openScope()) {
+            ResponseT response = delegate.performRequest(request, endpoint, withPropagatedHeaders(options, context));
+            context.setResponse(response);
+            return response;
+        } catch (IOException | RuntimeException e) {
+            observation.error(e);
+            throw e;
+        } finally {
+            observation.stop();
+        }
+    }
+
+    @Override
+    public <RequestT, ResponseT, ErrorT> CompletableFuture<ResponseT> performRequestAsync(RequestT request,
+            Endpoint<RequestT, ResponseT, ErrorT> endpoint, @Nullable TransportOptions options) {
+
+        if (observationRegistry.isNoop()) {
+            return delegate.performRequestAsync(request, endpoint, options);
+        }
+
+        OpenSearchObservationContext context = createContext(request);
+        Observation observation = observation(context).start();
+
+        CompletableFuture<ResponseT> future;
+        try (Observation.Scope ignored = observation.openScope()) {
+            future = delegate.performRequestAsync(request, endpoint, withPropagatedHeaders(options, context));
+        } catch (RuntimeException e) {
+            observation.error(e);
+            observation.stop();
+            throw e;
+        }
+
+        return future.whenComplete((response, throwable) -> {
+            if (throwable != null) {
+                observation.error(throwable instanceof CompletionException && throwable.getCause() != null
+                        ? throwable.getCause()
+                        : throwable);
+            } else {
+                context.setResponse(response);
+            }
+            observation.stop();
+        });
+    }
+
+    private OpenSearchObservationContext createContext(Object request) {
+
+        OpenSearchObservationContext context = new OpenSearchObservationContext(request);
+        if (!context.getIndices().isEmpty()) {
+            context.setEntityType(entityTypeResolver.apply(context.getIndices().get(0)));
+        }
+        return context;
+    }
+
+    private Observation observation(OpenSearchObservationContext context) {
+        return OpenSearchObservationDocumentation.CLIENT_REQUEST.observation(observationConvention,
+                DefaultOpenSearchObservationConvention.INSTANCE, () -> context, observationRegistry);
+    }
+
+    @Nullable
+    private TransportOptions withPropagatedHeaders(@Nullable TransportOptions options,
+            OpenSearchObservationContext context) {
+
+        Map<String, String> headers = context.getCarrier();
+
+        if (headers == null || headers.isEmpty()) {
+            return options;
+        }
+
+        TransportOptions.Builder builder = (options != null ? options : delegate.options()).toBuilder();
+        headers.forEach(builder::addHeader);
+        return builder.build();
+    }
+}
@@ -100,6 +100,17 @@ public final class OpenSearchClients {
         return createImperative(getRestClient(clientConfiguration), transportOptions, DEFAULT_JSONP_MAPPER);
     }
 
+    /**
+     * Creates a new imperative {@link OpenSearchClient} for a lane, with a connection pool of its own.
+     *
+     * @param clientConfiguration configuration options, must not be {@literal null}.
+     * @param lane the lane settings, must not be {@literal null}.
+     * @return the {@link OpenSearchClient}
+     */
+    public static OpenSearchClient createImperative(ClientConfiguration clientConfiguration, ClientLane lane) {
+        return createImperative(getRestClient(clientConfiguration, lane), null, DEFAULT_JSONP_MAPPER);
+    }
+
     /**
      * Creates a new imperative {@link OpenSearchClient}
      *
@@ -154,6 +165,34 @@ public final class OpenSearchClients {
     }
     // endregion
 
+    /**
+     * Returns a copy of the given {@link TransportOptions} that make the {@link RestClient} stream response bodies to
+     * the JSON parser instead of buffering each body completely on the heap. Only use the returned options with the
+     * imperative client, see {@link StreamingResponseConsumerFactory}.
+     *
+     * @param transportOptions the options to extend, may be {@literal null}
+     * @param maxResponseSize the maximum number of body bytes accepted for a single response
+     * @return the new {@link TransportOptions}
+     */
+    public static TransportOptions withStreamingResponses(@Nullable TransportOptions transportOptions,
+            long maxResponseSize) {
+
+        RequestOptions.Builder requestOptionsBuilder = transportOptions instanceof RestClientOptions restClientOptions
+                ? restClientOptions.restClientRequestOptions().toBuilder()
+                : RequestOptions.DEFAULT.toBuilder();
+        requestOptionsBuilder.setHttpAsyncResponseConsumerFactory(new StreamingResponseConsumerFactory(maxResponseSize));
+
+        var builder = new RestClientOptions.Builder(requestOptionsBuilder);
+
+        if (transportOptions != null && !(transportOptions instanceof RestClientOptions)) {
+            transportOptions.headers().forEach(header -> builder.addHeader(header.getKey(), header.getValue()));
+            transportOptions.queryParameters().forEach(builder::setParameter);
+            builder.onWarnings(transportOptions.onWarnings());
+        }
+
+        return builder.build();
+    }
+
     // region low level RestClient
     private static RestClientOptions.Builder getRestClientOptionsBuilder(@Nullable TransportOptions transportOptions) {
 
@@ -179,10 +218,25 @@ public final class OpenSearchClients {
      * @return the {@link RestClient}
      */
     public static RestClient getRestClient(ClientConfiguration clientConfiguration) {
-        return getRestClientBuilder(clientConfiguration).build();
+        return getRestClientBuilder(clientConfiguration, null).build();
+    }
+
+    /**
+     * Creates a low level {@link RestClient} for a lane of the given configuration.
+     *
+     * @param clientConfiguration must not be {@literal null}
+     * @param lane the lane settings, must not be {@literal null}
+     * @return the {@link RestClient}
+     */
+    public static RestClient getRestClient(ClientConfiguration clientConfiguration, ClientLane lane) {
+
+        Assert.notNull(lane, "lane must not be null");
+
+        return getRestClientBuilder(clientConfiguration, lane).build();
     }
 
-    private static RestClientBuilder getRestClientBuilder(ClientConfiguration clientConfiguration) {
+    private static RestClientBuilder getRestClientBuilder(ClientConfiguration clientConfiguration,
+            @Nullable ClientLane lane) {
         HttpHost[] httpHosts = formattedHosts(clientConfiguration.getEndpoints(), clientConfiguration.useSsl()).stream()
                 .map(s -> {
                     try {
@@ -225,6 +279,10 @@ public final class OpenSearchClients {
                 requestConfigBuilder.setConnectionRequestTimeout(Timeout.ofMilliseconds(socketTimeout.toMillis()));
             }
 
+            if (lane != null) {
+                lane.configure(requestConfigBuilder);
+            }
+
             clientBuilder.setDefaultRequestConfig(requestConfigBuilder.build());
 
             clientConfiguration.getProxy().map(s -> {
@@ -235,17 +293,30 @@ public final class OpenSearchClients {
                 }
             }).ifPresent(clientBuilder::setProxy);
 
+            ConnectionPoolMonitor connectionPoolMonitor = null;
+
             for (ClientConfiguration.ClientConfigurationCallback<?> clientConfigurer : clientConfiguration
                     .getClientConfigurers()) {
-                if (clientConfigurer instanceof OpenSearchHttpClientConfigurationCallback restClientConfigurationCallback) {
+                if (clientConfigurer instanceof ConnectionPoolMonitor.HttpClientConfigurer monitorConfigurer) {
+                    connectionPoolMonitor = monitorConfigurer.getMonitor();
+                } else if (clientConfigurer instanceof OpenSearchHttpClientConfigurationCallback restClientConfigurationCallback) {
                     clientBuilder = restClientConfigurationCallback.configure(clientBuilder);
                 }
             }
 
+            // lanes have pools of their own, a monitor observes the pool of the default client only
+            if (lane != null) {
+                return lane.configure(clientBuilder, tlsStrategy.build());
+            }
+
             final PoolingAsyncClientConnectionManager connectionManager = PoolingAsyncClientConnectionManagerBuilder.create()
                 .setTlsStrategy(tlsStrategy.build())
                 .build();
 
+            if (connectionPoolMonitor != null) {
+                return connectionPoolMonitor.configure(clientBuilder, connectionManager);
+            }
+
             return clientBuilder.setConnectionManager(connectionManager);
         });
 
@@ -318,6 +389,20 @@ public final class OpenSearchClients {
         return createReactive(getRestClient(clientConfiguration), null, DEFAULT_JSONP_MAPPER);
     }
 
+    /**
+     * Creates a new {@link ReactiveOpenSearchClient} for a lane, with a connection pool of its own.
+     *
+     * @param clientConfiguration configuration options, must not be {@literal null}.
+     * @param lane the lane settings, must not be {@literal null}.
+     * @return the {@link ReactiveOpenSearchClient}
+     */
+    public static ReactiveOpenSearchClient createReactive(ClientConfiguration clientConfiguration, ClientLane lane) {
+
+        Assert.notNull(clientConfiguration, "clientConfiguration must not be null");
+
+        return createReactive(getRestClient(clientConfiguration, lane), null, DEFAULT_JSONP_MAPPER);
+    }
+
     /**
      * Creates a new {@link ReactiveOpenSearchClient}
      *
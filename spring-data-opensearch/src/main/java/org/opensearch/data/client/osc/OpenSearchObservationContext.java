@@ -0,0 +1,72 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import io.micrometer.observation.transport.RequestReplySenderContext;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.lang.Nullable;
+
+/**
+ * Observation context of a request sent by an {@link ObservingOpenSearchTransport}. The carrier holds the headers that
+ * tracing handlers add to propagate the trace context, they are sent along with the request.
+ */
+public class OpenSearchObservationContext extends RequestReplySenderContext<Map<String, String>, Object> {
+
+    private final Object request;
+    private final String operation;
+    private final List<String> indices;
+    @Nullable private Class<?> entityType;
+
+    public OpenSearchObservationContext(Object request) {
+        super((carrier, key, value) -> carrier.put(key, value));
+
+        this.request = request;
+        this.operation = RequestOperations.operationOf(request);
+        this.indices = RequestOperations.indicesOf(request);
+        setCarrier(new LinkedHashMap<>());
+        setRemoteServiceName("opensearch");
+    }
+
+    /**
+     * @return the request object of the OpenSearch client
+     */
+    public Object getRequest() {
+        return request;
+    }
+
+    /**
+     * @return the operation derived from the request type, for example {@code search}, {@code bulk} or
+     *         {@code indices.create_index}
+     */
+    public String getOperation() {
+        return operation;
+    }
+
+    /**
+     * @return the indices, aliases or index patterns the request targets, empty if it has none
+     */
+    public List<String> getIndices() {
+        return indices;
+    }
+
+    /**
+     * @return the entity type stored in the targeted index, {@literal null} if unknown
+     */
+    @Nullable
+    public Class<?> getEntityType() {
+        return entityType;
+    }
+
+    public void setEntityType(@Nullable Class<?> entityType) {
+        this.entityType = entityType;
+    }
+}
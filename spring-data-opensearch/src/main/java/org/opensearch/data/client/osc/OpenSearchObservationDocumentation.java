@@ -0,0 +1,119 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import io.micrometer.common.docs.KeyName;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationConvention;
+import io.micrometer.observation.docs.ObservationDocumentation;
+
+/**
+ * Documentation of the observations of the OpenSearch client.
+ */
+public enum OpenSearchObservationDocumentation implements ObservationDocumentation {
+
+    /**
+     * A request sent to the cluster.
+     */
+    CLIENT_REQUEST {
+        @Override
+        public Class<? extends ObservationConvention<? extends Observation.Context>> getDefaultConvention() {
+            return DefaultOpenSearchObservationConvention.class;
+        }
+
+        @Override
+        public KeyName[] getLowCardinalityKeyNames() {
+            return LowCardinalityKeyNames.values();
+        }
+
+        @Override
+        public KeyName[] getHighCardinalityKeyNames() {
+            return HighCardinalityKeyNames.values();
+        }
+    };
+
+    public enum LowCardinalityKeyNames implements KeyName {
+
+        /**
+         * The operation, derived from the request type.
+         */
+        OPERATION {
+            @Override
+            public String asString() {
+                return "opensearch.operation";
+            }
+        },
+
+        /**
+         * The simple name of the entity class stored in the index.
+         */
+        ENTITY {
+            @Override
+            public String asString() {
+                return "opensearch.entity";
+            }
+        },
+
+        /**
+         * {@code SUCCESS}, {@code PARTIAL} when shards or bulk items failed, {@code CLIENT_ERROR},
+         * {@code SERVER_ERROR} or {@code UNKNOWN} for failures without a status code.
+         */
+        OUTCOME {
+            @Override
+            public String asString() {
+                return "outcome";
+            }
+        },
+
+        /**
+         * The class name of the exception the request failed with, {@code none} if it did not fail.
+         */
+        EXCEPTION {
+            @Override
+            public String asString() {
+                return "exception";
+            }
+        }
+    }
+
+    public enum HighCardinalityKeyNames implements KeyName {
+
+        /**
+         * The indices, aliases or index patterns targeted by the request. High cardinality because requests name
+         * the concrete indices of time-based or versioned index names; the entity tag groups them.
+         */
+        INDEX {
+            @Override
+            public String asString() {
+                return "opensearch.index";
+            }
+        },
+
+        /**
+         * The time in milliseconds the cluster reported to have spent on the request.
+         */
+        TOOK {
+            @Override
+            public String asString() {
+                return "opensearch.took";
+            }
+        },
+
+        /**
+         * The number of shards that failed to execute a search.
+         */
+        SHARD_FAILURES {
+            @Override
+            public String asString() {
+                return "opensearch.shards.failed";
+            }
+        }
+    }
+}
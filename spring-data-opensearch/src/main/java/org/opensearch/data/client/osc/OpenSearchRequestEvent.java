@@ -0,0 +1,73 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Java Flight Recorder event for a request sent by the OpenSearch client, committed by a
+ * {@link FlightRecordingOpenSearchTransport}. The duration of the event covers the request from the hand over to the
+ * transport until the response was parsed, including retries and waiting for a connection. Stack traces are not
+ * recorded by default, they can be enabled for the event in the recording settings.
+ */
+@Name(OpenSearchRequestEvent.NAME)
+@Label("OpenSearch Request")
+@Category({ "OpenSearch", "Client" })
+@Description("Request sent by the OpenSearch client")
+@StackTrace(false)
+public final class OpenSearchRequestEvent extends Event {
+
+    public static final String NAME = "org.opensearch.data.client.Request";
+
+    @Label("Operation")
+    @Description("Operation derived from the request type, for example search, bulk or create_pit")
+    String operation;
+
+    @Label("Indices")
+    @Description("Indices, aliases or index patterns targeted by the request")
+    String indices;
+
+    @Label("Asynchronous")
+    boolean async;
+
+    @Label("Status")
+    @Description("HTTP status of the response, 0 if no response was received")
+    int status;
+
+    @Label("Exception")
+    @Description("Class of the exception the request failed with")
+    String exception;
+
+    @Label("Took")
+    @Description("Time the cluster reported for the request, -1 if the response has none")
+    @Timespan(Timespan.MILLISECONDS)
+    long took;
+
+    @Label("Documents")
+    @Description("Documents returned, counted or written, -1 if the response has none")
+    long documents;
+
+    @Label("Request Size")
+    @Description("Size of the request body as sent, -1 if unknown")
+    @DataAmount
+    long requestBytes;
+
+    @Label("Response Size")
+    @Description("Size of the response body as received, -1 if unknown")
+    @DataAmount
+    long responseBytes;
+}
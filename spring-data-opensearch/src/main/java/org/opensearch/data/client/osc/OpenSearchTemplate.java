@@ -19,12 +19,17 @@ import static org.opensearch.data.client.osc.TypeUtils.*;
 
 import java.io.IOException;
 import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
 import java.util.stream.Collectors;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -36,9 +41,14 @@ import org.opensearch.client.opensearch.core.DeletePitRequest;
 import org.opensearch.client.opensearch.core.bulk.BulkResponseItem;
 import org.opensearch.client.opensearch.core.msearch.MultiSearchResponseItem;
 import org.opensearch.client.opensearch.core.search.SearchResult;
+import org.opensearch.client.opensearch.indices.GetIndicesSettingsRequest;
+import org.opensearch.client.opensearch.tasks.GetTasksRequest;
+import org.opensearch.client.opensearch.tasks.GetTasksResponse;
 import org.opensearch.client.transport.Version;
 import org.opensearch.data.core.OpenSearchMappingParametersCustomizer;
 import org.opensearch.data.core.OpenSearchOperations;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.elasticsearch.BulkFailureException;
 import org.springframework.data.elasticsearch.client.UnsupportedBackendOperation;
 import org.springframework.data.elasticsearch.core.AbstractElasticsearchTemplate;
@@ -85,7 +95,12 @@ public class OpenSearchTemplate extends AbstractElasticsearchTemplate implements
 
     private static final Log LOGGER = LogFactory.getLog(OpenSearchTemplate.class);
 
-    private final OpenSearchClient client;
+    private OpenSearchClient client;
+    private Map<String, OpenSearchClient> laneClients = Map.of();
+    private ClientMetricsRecorder metricsRecorder = ClientMetricsRecorder.NOOP;
+    private SearchProfiling searchProfiling = SearchProfiling.DISABLED;
+    @Nullable private volatile RepositoryIndexBootstrap indexBootstrap;
+    private final Map<SearchHits<?>, SearchProfile> searchProfiles = Collections.synchronizedMap(new WeakHashMap<>());
     private final RequestConverter requestConverter;
     private final ResponseConverter responseConverter;
     private final JsonpMapper jsonpMapper;
@@ -120,14 +135,123 @@ public class OpenSearchTemplate extends AbstractElasticsearchTemplate implements
 
     @Override
     protected AbstractElasticsearchTemplate doCopy() {
-        return new OpenSearchTemplate(client, elasticsearchConverter, mappingParametersCustomizer);
+        OpenSearchTemplate copy = new OpenSearchTemplate(client, elasticsearchConverter, mappingParametersCustomizer);
+        copy.laneClients = laneClients;
+        copy.metricsRecorder = metricsRecorder;
+        copy.indexBootstrap = indexBootstrap;
+        copy.setSearchProfiling(searchProfiling);
+        copy.setIndexPruning(requestConverter.isIndexPruning());
+        return copy;
+    }
+
+    /**
+     * Sets the recorder for the time spent building requests and converting documents into entities.
+     *
+     * @param metricsRecorder the recorder, must not be {@literal null}
+     */
+    public void setMetricsRecorder(ClientMetricsRecorder metricsRecorder) {
+
+        Assert.notNull(metricsRecorder, "metricsRecorder must not be null");
+
+        this.metricsRecorder = metricsRecorder;
+    }
+
+    /**
+     * Sets the profiling that decides which searches are profiled and receives their {@link SearchProfile}.
+     *
+     * @param searchProfiling the profiling, must not be {@literal null}
+     */
+    public void setSearchProfiling(SearchProfiling searchProfiling) {
+
+        Assert.notNull(searchProfiling, "searchProfiling must not be null");
+
+        this.searchProfiling = searchProfiling;
+        requestConverter.setSearchProfiling(searchProfiling);
+    }
+
+    /**
+     * @param searchHits hits returned by a search of this template
+     * @return the profile of the search that returned the hits, {@literal null} if it was not profiled
+     */
+    @Nullable
+    public SearchProfile getSearchProfile(SearchHits<?> searchHits) {
+        return searchProfiles.get(searchHits);
+    }
+
+    /**
+     * Sets whether searches for entities with an {@link IndexTimeKey} property on their index or index pattern are
+     * restricted to the existing indices overlapping the time range their query puts on that property. The time range
+     * is taken from the criteria of a {@link org.springframework.data.elasticsearch.core.query.CriteriaQuery} without
+     * {@code or} parts and from the range queries of a {@link NativeQuery} that are its query or a {@code must} or
+     * {@code filter} clause of it. The names of the existing indices are loaded on first use and cached, see
+     * {@link TimeBasedIndexRouting}. Disabled by default.
+     */
+    public void setIndexPruning(boolean indexPruning) {
+
+        requestConverter.setIndexPruning(indexPruning);
+        requestConverter.getTimeBasedIndexRouting().setIndexLoader(indexPruning ? this::loadIndexNames : null);
+    }
+
+    /**
+     * Registers the clients of the lanes that can be selected with {@link #withLane(String)}. The clients should use
+     * the same {@link JsonpMapper} as the client of this template.
+     *
+     * @param laneClients the clients by lane name, see {@link ClientLane}
+     */
+    public void setLaneClients(Map<String, OpenSearchClient> laneClients) {
+
+        Assert.notNull(laneClients, "laneClients must not be null");
+
+        this.laneClients = Map.copyOf(laneClients);
+    }
+
+    /**
+     * Returns a copy of this template that sends its requests through the client of the given lane, for example to keep
+     * a batch job from competing with interactive queries for the same connections.
+     *
+     * @param lane the name of a lane registered with {@link #setLaneClients(Map)}
+     * @return a copy of this template using the lane's client
+     * @throws IllegalArgumentException if there is no such lane
+     */
+    public OpenSearchTemplate withLane(String lane) {
+
+        OpenSearchClient laneClient = laneClients.get(lane);
+        Assert.isTrue(laneClient != null, () -> "no client registered for lane " + lane + ", known lanes are "
+                + laneClients.keySet());
+
+        OpenSearchTemplate copy = (OpenSearchTemplate) copy();
+        copy.client = laneClient;
+        return copy;
     }
     // endregion
 
     // region child templates
     @Override
     public IndexOperations indexOps(Class<?> clazz) {
-        return new IndicesTemplate(client.indices(), getClusterTemplate(), elasticsearchConverter, mappingParametersCustomizer, clazz);
+
+        IndicesTemplate indicesTemplate = new IndicesTemplate(client.indices(), getClusterTemplate(),
+                elasticsearchConverter, mappingParametersCustomizer, clazz);
+        RepositoryIndexBootstrap bootstrap = RepositoryIndexBootstrap.current();
+
+        if (bootstrap == null) {
+            return indicesTemplate;
+        }
+
+        indexBootstrap = bootstrap;
+        return indicesTemplate.bootstrapWith(bootstrap);
+    }
+
+    /**
+     * Waits for the bootstrap of the index by the {@link RepositoryIndexBootstrap} that handed out its index
+     * operations, so that documents written while it is deferred do not add fields before their mapping.
+     */
+    private void awaitIndexBootstrap(IndexCoordinates index) {
+
+        RepositoryIndexBootstrap bootstrap = indexBootstrap;
+
+        if (bootstrap != null) {
+            bootstrap.awaitBootstrapped(index);
+        }
     }
 
     @Override
@@ -150,12 +274,17 @@ public class OpenSearchTemplate extends AbstractElasticsearchTemplate implements
     @Nullable
     public <T> T get(String id, Class<T> clazz, IndexCoordinates index) {
 
+        long start = System.nanoTime();
         GetRequest getRequest = requestConverter.documentGetRequest(elasticsearchConverter.convertId(id),
                 routingResolver.getRouting(), index);
+        recordTime(ClientMetricsRecorder.Stage.REQUEST_CONVERSION, "get", clazz, start);
         GetResponse<EntityAsMap> getResponse = execute(client -> client.get(getRequest, EntityAsMap.class));
 
+        start = System.nanoTime();
         ReadDocumentCallback<T> callback = new ReadDocumentCallback<>(elasticsearchConverter, clazz, index);
-        return callback.doWith(DocumentAdapters.from(getResponse));
+        T entity = callback.doWith(DocumentAdapters.from(getResponse));
+        recordTime(ClientMetricsRecorder.Stage.ENTITY_CONVERSION, "get", clazz, start);
+        return entity;
     }
 
     @Override
@@ -164,15 +293,21 @@ public class OpenSearchTemplate extends AbstractElasticsearchTemplate implements
         Assert.notNull(query, "query must not be null");
         Assert.notNull(clazz, "clazz must not be null");
 
+        long start = System.nanoTime();
         MgetRequest request = requestConverter.documentMgetRequest(query, clazz, index);
+        recordTime(ClientMetricsRecorder.Stage.REQUEST_CONVERSION, "mget", clazz, start);
         MgetResponse<EntityAsMap> result = execute(client -> client.mget(request, EntityAsMap.class));
 
+        start = System.nanoTime();
         ReadDocumentCallback<T> callback = new ReadDocumentCallback<>(elasticsearchConverter, clazz, index);
 
-        return DocumentAdapters.from(result).stream() //
+        List<MultiGetItem<T>> items = DocumentAdapters.from(result).stream() //
                 .map(multiGetItem -> MultiGetItem.of( //
                         multiGetItem.isFailed() ? null : callback.doWith(multiGetItem.getItem()), multiGetItem.getFailure())) //
                 .collect(Collectors.toList());
+        recordTime(ClientMetricsRecorder.Stage.ENTITY_CONVERSION, "mget", clazz, start);
+        metricsRecorder.recordHits("mget", clazz, items.size());
+        return items;
     }
 
     @Override
@@ -205,6 +340,8 @@ public class OpenSearchTemplate extends AbstractElasticsearchTemplate implements
     @Override
     public UpdateResponse update(UpdateQuery updateQuery, IndexCoordinates index) {
 
+        awaitIndexBootstrap(index);
+
         UpdateRequest<Document, ?> request = requestConverter.documentUpdateRequest(updateQuery, index, getRefreshPolicy(),
                 routingResolver.getRouting());
         org.opensearch.client.opensearch.core.UpdateResponse<Document> response = execute(
@@ -231,9 +368,15 @@ public class OpenSearchTemplate extends AbstractElasticsearchTemplate implements
         Assert.notNull(query, "query must not be null");
         Assert.notNull(indexCoordinates, "indexCoordinates must not be null");
 
+        awaitIndexBootstrap(indexCoordinates);
+
+        long start = System.nanoTime();
         IndexRequest<?> indexRequest = requestConverter.documentIndexRequest(query, indexCoordinates, refreshPolicy);
+        recordTime(ClientMetricsRecorder.Stage.REQUEST_CONVERSION, "index",
+                query.getObject() != null ? query.getObject().getClass() : null, start);
 
         IndexResponse indexResponse = execute(client -> client.index(indexRequest));
+        requestConverter.getTimeBasedIndexRouting().indexWritten(indexResponse.index());
 
         Object queryObject = query.getObject();
 
@@ -302,17 +445,211 @@ public class OpenSearchTemplate extends AbstractElasticsearchTemplate implements
         return reindexResponse.task();
     }
 
+    /**
+     * Creates the target index of the request from the settings and the mapping of its entity and submits a sliced
+     * reindex task copying the source into it. The returned handle tracks the task and moves the aliases onto the
+     * target once it has completed.
+     */
+    public ManagedReindex startManagedReindex(ManagedReindexRequest request) {
+
+        Assert.notNull(request, "request must not be null");
+
+        IndexCoordinates entityIndex = getIndexCoordinatesFor(request.getEntityClass());
+        // fail before copying anything when an alias is the name of a concrete index other than the source
+        currentAliasIndices(request.aliases(entityIndex).keySet(), request.source(entityIndex));
+
+        IndexOperations entityIndexOps = indexOps(request.getEntityClass());
+        indexOps(request.getTarget()).create(entityIndexOps.createSettings(), entityIndexOps.createMapping());
+
+        org.opensearch.client.opensearch.core.ReindexRequest reindexRequestES = requestConverter
+                .reindex(request.reindexRequest(request.source(entityIndex)), false, true);
+        org.opensearch.client.opensearch.core.ReindexResponse reindexResponse = execute(
+                client -> client.reindex(reindexRequestES));
+
+        if (reindexResponse.task() == null) {
+            throw new UnsupportedBackendOperation("OpenSearchClient did not return a task id on submit request");
+        }
+
+        return new ManagedReindex(this, request, reindexResponse.task());
+    }
+
+    public ReindexProgress getReindexProgress(String taskId) {
+
+        GetTasksRequest getTasksRequest = requestConverter.tasksGetRequest(taskId);
+        GetTasksResponse getTasksResponse = execute(client -> client.tasks().get(getTasksRequest));
+        return responseConverter.reindexProgress(taskId, getTasksResponse);
+    }
+
+    /**
+     * @param requestsPerSecond the new throttle of the reindex task, {@literal null} to remove it
+     */
+    public void rethrottleReindex(String taskId, @Nullable Float requestsPerSecond) {
+
+        ReindexRethrottleRequest reindexRethrottleRequest = requestConverter.reindexRethrottleRequest(taskId,
+                requestsPerSecond);
+        execute(client -> client.reindexRethrottle(reindexRethrottleRequest));
+    }
+
+    /**
+     * Verifies a completed managed reindex and moves the aliases onto its target index.
+     */
+    void completeManagedReindex(ManagedReindexRequest request, ReindexProgress progress) {
+
+        if (progress.hasFailures()) {
+            throw new DataIntegrityViolationException(
+                    "Reindex task " + progress.taskId() + " failed: " + String.join("; ", progress.failures()));
+        }
+
+        IndexCoordinates entityIndex = getIndexCoordinatesFor(request.getEntityClass());
+        IndexOperations targetIndexOps = indexOps(request.getTarget());
+        targetIndexOps.refresh();
+
+        if (request.isVerifyCount()) {
+            IndexCoordinates source = request.source(entityIndex);
+            indexOps(source).refresh();
+            long sourceCount = count(Query.findAll(), request.getEntityClass(), source);
+            long targetCount = count(Query.findAll(), request.getEntityClass(), request.getTarget());
+
+            if (sourceCount != targetCount) {
+                throw ManagedReindexRequest.countMismatch(progress.taskId(), sourceCount, targetCount);
+            }
+        }
+
+        Map<String, Set<String>> currentIndices = currentAliasIndices(request.aliases(entityIndex).keySet(),
+                request.source(entityIndex));
+        targetIndexOps.alias(request.aliasActions(entityIndex, currentIndices));
+    }
+
+    /**
+     * @param source the source of the reindex
+     * @return the indices the given aliases point to, a concrete index with the name of an alias points to itself
+     * @throws InvalidDataAccessApiUsageException if an alias is the name of a concrete index that is not the source
+     */
+    private Map<String, Set<String>> currentAliasIndices(Collection<String> aliases, IndexCoordinates source) {
+
+        Map<String, Set<String>> currentIndices = new HashMap<>();
+
+        for (String alias : aliases) {
+            IndexOperations aliasIndexOps = indexOps(IndexCoordinates.of(alias));
+
+            if (!aliasIndexOps.exists()) {
+                continue;
+            }
+
+            Set<String> indices = aliasIndexOps.getAliases(alias).keySet();
+            if (indices.isEmpty()) {
+                if (!Arrays.asList(source.getIndexNames()).contains(alias)) {
+                    throw new InvalidDataAccessApiUsageException("Cannot move alias " + alias
+                            + ", an index with that name exists and is not the source of the reindex");
+                }
+                indices = Set.of(alias);
+            }
+
+            currentIndices.put(alias, indices);
+        }
+
+        return currentIndices;
+    }
+
     @Override
     public List<IndexedObjectInformation> doBulkOperation(List<?> queries, BulkOptions bulkOptions,
             IndexCoordinates index) {
 
+        awaitIndexBootstrap(index);
+
+        long start = System.nanoTime();
         BulkRequest bulkRequest = requestConverter.documentBulkRequest(queries, bulkOptions, index, refreshPolicy);
+        recordTime(ClientMetricsRecorder.Stage.REQUEST_CONVERSION, "bulk", null, start);
         BulkResponse bulkResponse = execute(client -> client.bulk(bulkRequest));
         List<IndexedObjectInformation> indexedObjectInformationList = checkForBulkOperationFailure(bulkResponse);
+        indexesWritten(indexedObjectInformationList);
         updateIndexedObjectsWithQueries(queries, indexedObjectInformationList);
         return indexedObjectInformationList;
     }
 
+    /**
+     * Executes the queries provided by the iterator as a sequence of bulk requests with at most {@code batchSize}
+     * operations each. Queries are only taken from the iterator when their batch is built and the entities are mapped
+     * while the request body is written, so the memory needed does not grow with the total number of queries.
+     *
+     * @param queries {@link IndexQuery} and {@link UpdateQuery} objects, must not be {@literal null}
+     * @param batchSize maximum number of operations in one bulk request
+     * @param bulkOptions options for each bulk request, must not be {@literal null}
+     * @param index the index to use for queries that do not define one, must not be {@literal null}
+     * @return the information about the indexed objects in the order of the queries
+     */
+    public List<IndexedObjectInformation> bulkOperation(Iterator<?> queries, int batchSize, BulkOptions bulkOptions,
+            IndexCoordinates index) {
+
+        Assert.notNull(queries, "queries must not be null");
+        Assert.isTrue(batchSize > 0, "batchSize must be greater than 0");
+        Assert.notNull(bulkOptions, "bulkOptions must not be null");
+        Assert.notNull(index, "index must not be null");
+
+        awaitIndexBootstrap(index);
+
+        List<IndexedObjectInformation> indexedObjectInformationList = new ArrayList<>();
+        List<Object> batch = new ArrayList<>(batchSize);
+
+        while (queries.hasNext()) {
+            batch.add(queries.next());
+
+            if (batch.size() == batchSize || !queries.hasNext()) {
+                long start = System.nanoTime();
+                BulkRequest bulkRequest = requestConverter.documentBulkRequest(batch, bulkOptions, index, refreshPolicy,
+                        true);
+                recordTime(ClientMetricsRecorder.Stage.REQUEST_CONVERSION, "bulk", null, start);
+                BulkResponse bulkResponse = execute(client -> client.bulk(bulkRequest));
+                List<IndexedObjectInformation> batchInformation = checkForBulkOperationFailure(bulkResponse);
+                indexesWritten(batchInformation);
+                updateIndexedObjectsWithQueries(batch, batchInformation);
+                indexedObjectInformationList.addAll(batchInformation);
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+
+        return indexedObjectInformationList;
+    }
+
+    private void indexesWritten(List<IndexedObjectInformation> indexedObjectInformationList) {
+
+        TimeBasedIndexRouting timeBasedIndexRouting = requestConverter.getTimeBasedIndexRouting();
+        indexedObjectInformationList.forEach(information -> timeBasedIndexRouting.indexWritten(information.index()));
+    }
+
+    /**
+     * Resolves the indices of an entity with an {@link IndexTimeKey} property that cover the given time range, to read
+     * them instead of all indices of the entity, like the index pruning of searches does: the existing indices that
+     * overlap the range and the indices of the periods that may have been created since their names were loaded, see
+     * {@link TimeBasedIndexRouting#searchIndexCoordinates(Class, Instant, Instant)}. The names of the existing indices
+     * are loaded if they are not cached. As the indices may not exist, the query must ignore unavailable indices, for
+     * example with {@code query.setIndicesOptions(IndicesOptions.LENIENT_EXPAND_OPEN)}.
+     *
+     * @param from the start of the range, inclusive
+     * @param to the end of the range, inclusive
+     */
+    public IndexCoordinates getTimeRangeIndexCoordinates(Class<?> clazz, Instant from, Instant to) {
+
+        Assert.notNull(clazz, "clazz must not be null");
+
+        TimeBasedIndexRouting timeBasedIndexRouting = requestConverter.getTimeBasedIndexRouting();
+        String indexPattern = timeBasedIndexRouting.indexPattern(clazz);
+
+        if (timeBasedIndexRouting.cachedIndices(indexPattern) == null) {
+            Instant loadedAt = Instant.now();
+            timeBasedIndexRouting.cacheIndices(indexPattern, loadIndexNames(indexPattern), loadedAt);
+        }
+
+        IndexCoordinates indexCoordinates = timeBasedIndexRouting.searchIndexCoordinates(clazz, from, to);
+        return indexCoordinates != null ? indexCoordinates : IndexCoordinates.of(indexPattern);
+    }
+
+    private Set<String> loadIndexNames(String indexPattern) {
+
+        GetIndicesSettingsRequest request = requestConverter.indicesNamesRequest(indexPattern);
+        return execute(client -> client.indices().getSettings(request)).result().keySet();
+    }
+
     // endregion
 
     @Override
@@ -360,28 +697,46 @@ public class OpenSearchTemplate extends AbstractElasticsearchTemplate implements
     }
 
     protected <T> SearchHits<T> doSearch(Query query, Class<T> clazz, IndexCoordinates index) {
+        long start = System.nanoTime();
         SearchRequest searchRequest = requestConverter.searchRequest(query, routingResolver.getRouting(), clazz, index,
                 false);
+        recordTime(ClientMetricsRecorder.Stage.REQUEST_CONVERSION, "search", clazz, start);
         SearchResponse<EntityAsMap> searchResponse = execute(client -> client.search(searchRequest, EntityAsMap.class));
 
+        start = System.nanoTime();
         // noinspection DuplicatedCode
         ReadDocumentCallback<T> readDocumentCallback = new ReadDocumentCallback<>(elasticsearchConverter, clazz, index);
         SearchDocumentResponse.EntityCreator<T> entityCreator = getEntityCreator(readDocumentCallback);
         SearchDocumentResponseCallback<SearchHits<T>> callback = new ReadSearchDocumentResponseCallback<>(clazz, index);
 
-        return callback.doWith(SearchDocumentResponseBuilder.from(searchResponse, entityCreator, jsonpMapper));
+        SearchHits<T> searchHits = callback
+                .doWith(SearchDocumentResponseBuilder.from(searchResponse, entityCreator, jsonpMapper));
+        recordTime(ClientMetricsRecorder.Stage.ENTITY_CONVERSION, "search", clazz, start);
+        metricsRecorder.recordHits("search", clazz, searchHits.getSearchHits().size());
+        SearchProfile searchProfile = searchProfiling.publish(searchResponse.profile());
+        if (searchProfile != null) {
+            searchProfiles.put(searchHits, searchProfile);
+        }
+        return searchHits;
     }
 
     protected <T> SearchHits<T> doSearch(SearchTemplateQuery query, Class<T> clazz, IndexCoordinates index) {
+        long start = System.nanoTime();
         var searchTemplateRequest = requestConverter.searchTemplate(query, routingResolver.getRouting(), index);
+        recordTime(ClientMetricsRecorder.Stage.REQUEST_CONVERSION, "search_template", clazz, start);
         var searchTemplateResponse = execute(client -> client.searchTemplate(searchTemplateRequest, EntityAsMap.class));
 
+        start = System.nanoTime();
         // noinspection DuplicatedCode
         ReadDocumentCallback<T> readDocumentCallback = new ReadDocumentCallback<>(elasticsearchConverter, clazz, index);
         SearchDocumentResponse.EntityCreator<T> entityCreator = getEntityCreator(readDocumentCallback);
         SearchDocumentResponseCallback<SearchHits<T>> callback = new ReadSearchDocumentResponseCallback<>(clazz, index);
 
-        return callback.doWith(SearchDocumentResponseBuilder.from(searchTemplateResponse, entityCreator, jsonpMapper));
+        SearchHits<T> searchHits = callback
+                .doWith(SearchDocumentResponseBuilder.from(searchTemplateResponse, entityCreator, jsonpMapper));
+        recordTime(ClientMetricsRecorder.Stage.ENTITY_CONVERSION, "search_template", clazz, start);
+        metricsRecorder.recordHits("search_template", clazz, searchHits.getSearchHits().size());
+        return searchHits;
     }
 
     @Override
@@ -404,11 +759,13 @@ public class OpenSearchTemplate extends AbstractElasticsearchTemplate implements
         Assert.notNull(query, "query must not be null");
         Assert.notNull(query.getPageable(), "pageable of query must not be null.");
 
+        long start = System.nanoTime();
         SearchRequest request = requestConverter.searchRequest(query, routingResolver.getRouting(), clazz, index, false,
                 scrollTimeInMillis);
+        recordTime(ClientMetricsRecorder.Stage.REQUEST_CONVERSION, "search", clazz, start);
         SearchResponse<EntityAsMap> response = execute(client -> client.search(request, EntityAsMap.class));
 
-        return getSearchScrollHits(clazz, index, response);
+        return getSearchScrollHits("search", clazz, index, response);
     }
 
     @Override
@@ -421,17 +778,21 @@ public class OpenSearchTemplate extends AbstractElasticsearchTemplate implements
                 .of(sr -> sr.scrollId(scrollId).scroll(Time.of(t -> t.time(scrollTimeInMillis + "ms"))));
         ScrollResponse<EntityAsMap> response = execute(client -> client.scroll(request, EntityAsMap.class));
 
-        return getSearchScrollHits(clazz, index, response);
+        return getSearchScrollHits("scroll", clazz, index, response);
     }
 
-    private <T> SearchScrollHits<T> getSearchScrollHits(Class<T> clazz, IndexCoordinates index,
+    private <T> SearchScrollHits<T> getSearchScrollHits(String operation, Class<T> clazz, IndexCoordinates index,
             SearchResult<EntityAsMap> response) {
+        long start = System.nanoTime();
         ReadDocumentCallback<T> documentCallback = new ReadDocumentCallback<>(elasticsearchConverter, clazz, index);
         SearchDocumentResponseCallback<SearchScrollHits<T>> callback = new ReadSearchScrollDocumentResponseCallback<>(clazz,
                 index);
 
-        return callback
+        SearchScrollHits<T> searchHits = callback
                 .doWith(SearchDocumentResponseBuilder.from(response, getEntityCreator(documentCallback), jsonpMapper));
+        recordTime(ClientMetricsRecorder.Stage.ENTITY_CONVERSION, operation, clazz, start);
+        metricsRecorder.recordHits(operation, clazz, searchHits.getSearchHits().size());
+        return searchHits;
     }
 
     @Override
@@ -702,6 +1063,11 @@ public class OpenSearchTemplate extends AbstractElasticsearchTemplate implements
     // endregion
 
     // region helper methods
+    private void recordTime(ClientMetricsRecorder.Stage stage, String operation, @Nullable Class<?> entityType,
+            long start) {
+        metricsRecorder.recordTime(stage, operation, entityType, System.nanoTime() - start);
+    }
+
     @Override
     public Query matchAllQuery() {
         return NativeQuery.builder().withQuery(qb -> qb.matchAll(mab -> mab)).build();
@@ -0,0 +1,255 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import org.opensearch.client.Node;
+import org.opensearch.client.NodeSelector;
+import org.opensearch.client.opensearch.core.BulkRequest;
+import org.opensearch.client.opensearch.core.ClearScrollRequest;
+import org.opensearch.client.opensearch.core.CountRequest;
+import org.opensearch.client.opensearch.core.CreatePitRequest;
+import org.opensearch.client.opensearch.core.CreateRequest;
+import org.opensearch.client.opensearch.core.DeleteByQueryRequest;
+import org.opensearch.client.opensearch.core.DeletePitRequest;
+import org.opensearch.client.opensearch.core.DeleteRequest;
+import org.opensearch.client.opensearch.core.ExistsRequest;
+import org.opensearch.client.opensearch.core.GetRequest;
+import org.opensearch.client.opensearch.core.IndexRequest;
+import org.opensearch.client.opensearch.core.MgetRequest;
+import org.opensearch.client.opensearch.core.MsearchRequest;
+import org.opensearch.client.opensearch.core.MsearchTemplateRequest;
+import org.opensearch.client.opensearch.core.ReindexRequest;
+import org.opensearch.client.opensearch.core.ScrollRequest;
+import org.opensearch.client.opensearch.core.SearchRequest;
+import org.opensearch.client.opensearch.core.SearchTemplateRequest;
+import org.opensearch.client.opensearch.core.UpdateByQueryRequest;
+import org.opensearch.client.opensearch.core.UpdateRequest;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link NodeSelector} that routes each class of operations to its own set of nodes, for example searches to
+ * coordinating only nodes and bulk requests to ingest nodes. The operation class of the current request is set by an
+ * {@link OperationRoutingOpenSearchTransport}, which must wrap the transport of the client the
+ * {@link OpenSearchTemplate} or {@link ReactiveOpenSearchTemplate} sends its requests through; without it no request
+ * is routed by operation class.
+ * <p>
+ * The nodes of an operation class are described by role and attribute specifications, see
+ * {@link #matching(Collection)}. Roles and attributes are only known for nodes discovered by a
+ * {@link org.opensearch.client.sniff.Sniffer}; nodes without that information are always kept. When a specification
+ * matches none of the living nodes, all of them are kept rather than failing the request.
+ */
+public class OperationRoutingNodeSelector implements NodeSelector {
+
+    private static final ThreadLocal<OperationClass> CURRENT_OPERATION_CLASS = new ThreadLocal<>();
+
+    private final Map<OperationClass, NodeSelector> selectors;
+    private final NodeSelector next;
+
+    /**
+     * @param selectors the selectors per operation class, operation classes without a selector use any node
+     * @param next selector applied after the operation class selector, for example a {@link LatencyAwareNodeSelector}
+     */
+    public OperationRoutingNodeSelector(Map<OperationClass, NodeSelector> selectors, NodeSelector next) {
+
+        Assert.notNull(selectors, "selectors must not be null");
+        Assert.notNull(next, "next must not be null");
+
+        this.selectors = selectors.isEmpty() ? Map.of() : new EnumMap<>(selectors);
+        this.next = next;
+    }
+
+    public OperationRoutingNodeSelector(Map<OperationClass, NodeSelector> selectors) {
+        this(selectors, NodeSelector.ANY);
+    }
+
+    /**
+     * Creates a selector keeping the nodes that match at least one of the given specifications:
+     * <ul>
+     * <li>one of the node roles {@code data}, {@code ingest}, {@code cluster_manager} ({@code master}) or
+     * {@code search}</li>
+     * <li>{@code coordinating_only} for nodes without the cluster manager, data and ingest roles</li>
+     * <li>{@code attr:name=value} for nodes with the given custom attribute value</li>
+     * </ul>
+     *
+     * @param specifications the role and attribute specifications, must not be empty
+     */
+    public static NodeSelector matching(Collection<String> specifications) {
+
+        Assert.notEmpty(specifications, "specifications must not be empty");
+
+        Predicate<Node> predicate = node -> false;
+        for (String specification : specifications) {
+            predicate = predicate.or(predicate(specification.trim()));
+        }
+
+        return new MatchingNodeSelector(predicate, String.join(",", specifications));
+    }
+
+    public static NodeSelector matching(String... specifications) {
+        return matching(Arrays.asList(specifications));
+    }
+
+    /**
+     * @return the operation class of the request currently sent on this thread, {@literal null} if unknown
+     */
+    @Nullable
+    public static OperationClass currentOperationClass() {
+        return CURRENT_OPERATION_CLASS.get();
+    }
+
+    /**
+     * Sets the operation class for the requests sent on this thread until the returned scope is closed.
+     */
+    static Scope withOperationClass(OperationClass operationClass) {
+
+        OperationClass previous = CURRENT_OPERATION_CLASS.get();
+        CURRENT_OPERATION_CLASS.set(operationClass);
+        return () -> {
+            if (previous == null) {
+                CURRENT_OPERATION_CLASS.remove();
+            } else {
+                CURRENT_OPERATION_CLASS.set(previous);
+            }
+        };
+    }
+
+    @Override
+    public void select(Iterable<Node> nodes) {
+
+        OperationClass operationClass = currentOperationClass();
+        NodeSelector selector = operationClass != null ? selectors.get(operationClass) : null;
+
+        if (selector != null) {
+            List<Node> candidates = new ArrayList<>();
+            nodes.forEach(candidates::add);
+            selector.select(candidates);
+
+            if (!candidates.isEmpty()) {
+                for (Iterator<Node> iterator = nodes.iterator(); iterator.hasNext();) {
+                    if (!candidates.contains(iterator.next())) {
+                        iterator.remove();
+                    }
+                }
+            }
+        }
+
+        next.select(nodes);
+    }
+
+    @Override
+    public String toString() {
+        return "OperationRoutingNodeSelector" + selectors;
+    }
+
+    private static Predicate<Node> predicate(String specification) {
+
+        if (specification.startsWith("attr:")) {
+            int separator = specification.indexOf('=');
+            Assert.isTrue(separator > 5, "attribute specification must have the form attr:name=value");
+
+            String name = specification.substring(5, separator);
+            String value = specification.substring(separator + 1);
+            return node -> node.getAttributes() != null
+                    && node.getAttributes().getOrDefault(name, List.of()).contains(value);
+        }
+
+        return switch (specification) {
+            case "coordinating_only" -> node -> node.getRoles() != null && !node.getRoles().isClusterManagerEligible()
+                    && !node.getRoles().isData() && !node.getRoles().isIngest();
+            case "cluster_manager", "master" -> node -> node.getRoles() != null
+                    && node.getRoles().isClusterManagerEligible();
+            case "data" -> node -> node.getRoles() != null && node.getRoles().isData();
+            case "ingest" -> node -> node.getRoles() != null && node.getRoles().isIngest();
+            case "search" -> node -> node.getRoles() != null && node.getRoles().isSearch();
+            default -> throw new IllegalArgumentException(String.format(
+                    "unknown node role '%s', use attr:name=value to select nodes by a custom attribute",
+                    specification));
+        };
+    }
+
+    /**
+     * Keeps the nodes that match a predicate, nodes without roles are always kept.
+     */
+    private record MatchingNodeSelector(Predicate<Node> predicate, String description) implements NodeSelector {
+
+        @Override
+        public void select(Iterable<Node> nodes) {
+            for (Iterator<Node> iterator = nodes.iterator(); iterator.hasNext();) {
+                Node node = iterator.next();
+                if (node.getRoles() != null && !predicate.test(node)) {
+                    iterator.remove();
+                }
+            }
+        }
+
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    /**
+     * Scope of an operation class set with {@link #withOperationClass(OperationClass)}.
+     */
+    interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    /**
+     * Classes of operations that can be routed to different nodes.
+     */
+    public enum OperationClass {
+
+        /**
+         * Searches, counts, gets and scrolls.
+         */
+        SEARCH,
+
+        /**
+         * Bulk, index, update and delete requests including their by-query variants and reindex.
+         */
+        WRITE,
+
+        /**
+         * Everything else, like index and cluster management.
+         */
+        ADMIN;
+
+        public static OperationClass of(Object request) {
+
+            if (request instanceof SearchRequest || request instanceof MsearchRequest || request instanceof CountRequest
+                    || request instanceof GetRequest || request instanceof MgetRequest || request instanceof ExistsRequest
+                    || request instanceof ScrollRequest || request instanceof ClearScrollRequest
+                    || request instanceof SearchTemplateRequest || request instanceof MsearchTemplateRequest
+                    || request instanceof CreatePitRequest || request instanceof DeletePitRequest) {
+                return SEARCH;
+            }
+
+            if (request instanceof BulkRequest || request instanceof IndexRequest<?> || request instanceof CreateRequest<?>
+                    || request instanceof UpdateRequest<?, ?> || request instanceof DeleteRequest
+                    || request instanceof DeleteByQueryRequest || request instanceof UpdateByQueryRequest
+                    || request instanceof ReindexRequest) {
+                return WRITE;
+            }
+
+            return ADMIN;
+        }
+    }
+}
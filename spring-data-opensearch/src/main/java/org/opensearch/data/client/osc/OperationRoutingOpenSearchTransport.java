@@ -0,0 +1,50 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import org.opensearch.client.transport.Endpoint;
+import org.opensearch.client.transport.OpenSearchTransport;
+import org.opensearch.client.transport.TransportOptions;
+import org.springframework.lang.Nullable;
+
+/**
+ * {@link OpenSearchTransport} that makes the {@link OperationRoutingNodeSelector.OperationClass} of each request
+ * available to an {@link OperationRoutingNodeSelector}. The {@link org.opensearch.client.RestClient} selects the nodes
+ * of a request on the thread that sends it, for the blocking and the asynchronous variant alike, so the operation
+ * class is bound to that thread while the request is handed to the delegate.
+ */
+public class OperationRoutingOpenSearchTransport extends DelegatingOpenSearchTransport {
+
+    public OperationRoutingOpenSearchTransport(OpenSearchTransport delegate) {
+        super(delegate);
+    }
+
+    @Override
+    public <RequestT, ResponseT, ErrorT> ResponseT performRequest(RequestT request,
+            Endpoint<RequestT, ResponseT, ErrorT> endpoint, @Nullable TransportOptions options) throws IOException {
+
+        try (var ignored = OperationRoutingNodeSelector
+                .withOperationClass(OperationRoutingNodeSelector.OperationClass.of(request))) {
+            return delegate.performRequest(request, endpoint, options);
+        }
+    }
+
+    @Override
+    public <RequestT, ResponseT, ErrorT> CompletableFuture<ResponseT> performRequestAsync(RequestT request,
+            Endpoint<RequestT, ResponseT, ErrorT> endpoint, @Nullable TransportOptions options) {
+
+        try (var ignored = OperationRoutingNodeSelector
+                .withOperationClass(OperationRoutingNodeSelector.OperationClass.of(request))) {
+            return delegate.performRequestAsync(request, endpoint, options);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.core.support.RepositoryProxyPostProcessor;
+import org.springframework.lang.Nullable;
+
+/**
+ * {@link RepositoryProxyPostProcessor} that profiles the searches of repository methods annotated with
+ * {@link ProfiledSearch}. Registered with a {@link org.springframework.data.repository.core.support.RepositoryFactoryCustomizer}:
+ *
+ * <pre class="code">
+ * factory -&gt; factory.addRepositoryProxyPostProcessor(new ProfiledSearchRepositoryProxyPostProcessor())
+ * </pre>
+ */
+public class ProfiledSearchRepositoryProxyPostProcessor implements RepositoryProxyPostProcessor {
+
+    @Override
+    public void postProcess(ProxyFactory factory, RepositoryInformation repositoryInformation) {
+
+        boolean profiledRepository = AnnotatedElementUtils.hasAnnotation(repositoryInformation.getRepositoryInterface(),
+                ProfiledSearch.class);
+
+        if (profiledRepository || repositoryInformation.getQueryMethods().stream()
+                .anyMatch(method -> AnnotatedElementUtils.hasAnnotation(method, ProfiledSearch.class))) {
+            factory.addAdvice(new ProfilingInterceptor(profiledRepository));
+        }
+    }
+
+    private record ProfilingInterceptor(boolean profiledRepository) implements MethodInterceptor {
+
+        @Nullable
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+
+            if (!profiledRepository && !AnnotatedElementUtils.hasAnnotation(invocation.getMethod(), ProfiledSearch.class)) {
+                return invocation.proceed();
+            }
+
+            try (SearchProfiling.Scope ignored = SearchProfiling.profileSearches()) {
+                return invocation.proceed();
+            }
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import jakarta.json.stream.JsonGenerator;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpSerializable;
+import org.opensearch.client.opensearch.indices.PutIndicesSettingsResponse;
+import org.opensearch.client.transport.endpoints.SimpleEndpoint;
+
+/**
+ * Puts flat index settings like {@code index.refresh_interval}. Unlike the typed
+ * {@link org.opensearch.client.opensearch.indices.PutIndicesSettingsRequest}, which drops {@literal null} values, a
+ * setting with a {@literal null} value is sent and thereby reset to its default.
+ */
+final class PutFlatSettingsRequest implements JsonpSerializable {
+
+    static final SimpleEndpoint<PutFlatSettingsRequest, PutIndicesSettingsResponse> ENDPOINT = new SimpleEndpoint<>( //
+            request -> "PUT", //
+            request -> "/" + request.indices.stream() //
+                    .map(index -> URLEncoder.encode(index, StandardCharsets.UTF_8)) //
+                    .collect(Collectors.joining(",")) + "/_settings", //
+            request -> Collections.emptyMap(), //
+            request -> Collections.emptyMap(), //
+            true, //
+            PutIndicesSettingsResponse._DESERIALIZER);
+
+    private final List<String> indices;
+    private final Map<String, Object> settings;
+
+    PutFlatSettingsRequest(List<String> indices, Map<String, Object> settings) {
+        this.indices = List.copyOf(indices);
+        this.settings = Collections.unmodifiableMap(new LinkedHashMap<>(settings));
+    }
+
+    List<String> getIndices() {
+        return indices;
+    }
+
+    /**
+     * @return the settings by flat key, {@literal null} values reset the setting
+     */
+    Map<String, Object> getSettings() {
+        return settings;
+    }
+
+    @Override
+    public void serialize(JsonGenerator generator, JsonpMapper mapper) {
+
+        generator.writeStartObject();
+        generator.writeKey("index");
+        generator.writeStartObject();
+        settings.forEach((key, value) -> {
+            String name = key.startsWith("index.") ? key.substring(6) : key;
+            if (value == null) {
+                generator.writeNull(name);
+            } else {
+                generator.write(name, value.toString());
+            }
+        });
+        generator.writeEnd();
+        generator.writeEnd();
+    }
+}
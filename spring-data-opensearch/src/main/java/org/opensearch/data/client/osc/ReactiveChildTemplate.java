@@ -15,7 +15,6 @@ import org.opensearch.client.transport.Transport;
 import org.reactivestreams.Publisher;
 import org.springframework.data.elasticsearch.core.convert.ElasticsearchConverter;
 import org.springframework.util.Assert;
-import reactor.core.publisher.Flux;
 
 /**
  * base class for a reactive template that uses on of the {@link ReactiveOpenSearchClient}'s child clients.
@@ -55,7 +54,8 @@ public class ReactiveChildTemplate<T extends Transport, CLIENT extends ApiClient
 
         Assert.notNull(callback, "callback must not be null");
 
-        return Flux.defer(() -> callback.doWithClient(client)).onErrorMap(exceptionTranslator::translateException);
+        return CorrelationId.deferWithContext(() -> callback.doWithClient(client))
+                .onErrorMap(exceptionTranslator::translateException);
     }
 
 }
@@ -12,6 +12,7 @@ package org.opensearch.data.client.osc;
 import static org.springframework.util.StringUtils.hasText;
 
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -22,6 +23,7 @@ import org.opensearch.client.opensearch.indices.DeleteIndexRequest;
 import org.opensearch.client.opensearch.indices.DeleteIndexResponse;
 import org.opensearch.client.opensearch.indices.DeleteTemplateResponse;
 import org.opensearch.client.opensearch.indices.ExistsRequest;
+import org.opensearch.client.opensearch.indices.ForcemergeRequest;
 import org.opensearch.client.opensearch.indices.GetAliasRequest;
 import org.opensearch.client.opensearch.indices.GetAliasResponse;
 import org.opensearch.client.opensearch.indices.GetIndexRequest;
@@ -38,6 +40,8 @@ import org.opensearch.client.opensearch.indices.UpdateAliasesRequest;
 import org.opensearch.client.opensearch.indices.UpdateAliasesResponse;
 import org.opensearch.client.transport.OpenSearchTransport;
 import org.opensearch.client.transport.endpoints.BooleanResponse;
+import org.opensearch.data.aot.PrecomputedIndexDefinitions;
+import org.reactivestreams.Publisher;
 import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.elasticsearch.NoSuchIndexException;
@@ -87,6 +91,9 @@ public class ReactiveIndicesTemplate
 
     @Nullable private final Class<?> boundClass;
     private final IndexCoordinates boundIndexCoordinates;
+    @Nullable private RepositoryIndexBootstrap bootstrap;
+    @Nullable private RepositoryIndexBootstrap creationBootstrap;
+    private boolean mappingReconciled;
 
     public ReactiveIndicesTemplate(ReactiveOpenSearchIndicesClient client, ReactiveClusterTemplate clusterTemplate,
             ElasticsearchConverter elasticsearchConverter, IndexCoordinates index) {
@@ -114,6 +121,15 @@ public class ReactiveIndicesTemplate
         this.boundIndexCoordinates = getIndexCoordinatesFor(clazz);
     }
 
+    /**
+     * Hands the first existence check of the index over to the given bootstrap, see
+     * {@link RepositoryIndexBootstrap}.
+     */
+    ReactiveIndicesTemplate bootstrapWith(RepositoryIndexBootstrap bootstrap) {
+        this.bootstrap = bootstrap;
+        return this;
+    }
+
     @Override
     public Mono<Boolean> create() {
 
@@ -145,6 +161,17 @@ public class ReactiveIndicesTemplate
 
     @Override
     public Mono<Boolean> createWithMapping() {
+
+        if (creationBootstrap != null) {
+            RepositoryIndexBootstrap deferred = creationBootstrap;
+            creationBootstrap = null;
+            return Mono.fromRunnable(() -> deferred.submitAsync(getIndexCoordinates(), () -> createSettings() //
+                    .flatMap(settings -> createMapping().flatMap(mapping -> doCreate(getIndexCoordinates(), settings,
+                            deferred.isReconcileMappings() ? MappingDiff.withHash(mapping) : mapping))) //
+                    .toFuture())) //
+                    .thenReturn(true);
+        }
+
         return createSettings() //
                 .flatMap(settings -> //
                 createMapping().flatMap(mapping -> //
@@ -184,6 +211,63 @@ public class ReactiveIndicesTemplate
     @Override
     public Mono<Boolean> exists() {
 
+        if (bootstrap != null) {
+            RepositoryIndexBootstrap deferred = bootstrap;
+            bootstrap = null;
+            return Mono.fromFuture(() -> deferred.exists(getIndexCoordinates(), //
+                    () -> getExistingIndexNames().toFuture(), //
+                    () -> doExists().toFuture())) //
+                    .doOnNext(exists -> {
+                        if (!exists) {
+                            // the repository creates the missing index right away, that is handed to the bootstrap
+                            creationBootstrap = deferred;
+                        } else if (deferred.isReconcileMappings()) {
+                            mappingReconciled = isAlwaysWriteMapping();
+                            deferred.submitAsync(getIndexCoordinates(), () -> reconcileMapping(deferred).toFuture());
+                        }
+                    });
+        }
+
+        return doExists();
+    }
+
+    private Mono<Set<String>> getExistingIndexNames() {
+
+        GetAliasRequest getAliasRequest = requestConverter.indicesGetAllAliasesRequest();
+        return Mono.from(execute(client -> client.getAlias(getAliasRequest))) //
+                .map(responseConverter::indicesGetAliasNames);
+    }
+
+    /**
+     * Creates the index with the entity mapping and its hash, or adds the fields missing in the mapping of the
+     * existing index, see {@link MappingDiff}.
+     */
+    private Mono<Boolean> reconcileMapping(RepositoryIndexBootstrap bootstrap) {
+
+        IndexCoordinates indexCoordinates = getIndexCoordinates();
+
+        return createMapping().flatMap(mapping -> getMapping() //
+                .flatMap(liveMapping -> {
+                    MappingDiff diff = MappingDiff.of(liveMapping, mapping);
+                    Document update = diff.update();
+                    return (update != null ? putMapping(Mono.just(update)) : Mono.just(false)) //
+                            .doOnNext(put -> bootstrap.reconciled(indexCoordinates, diff));
+                }) //
+                .onErrorResume(NoSuchIndexException.class, e -> createSettings().flatMap(settings -> //
+                doCreate(indexCoordinates, settings, MappingDiff.withHash(mapping)))));
+    }
+
+    /**
+     * @return whether the repository puts the mapping of the bound class when its index exists, which the
+     *         reconciliation replaces
+     */
+    private boolean isAlwaysWriteMapping() {
+        return boundClass != null && elasticsearchConverter.getMappingContext()
+                .getRequiredPersistentEntity(boundClass).isAlwaysWriteMapping();
+    }
+
+    private Mono<Boolean> doExists() {
+
         ExistsRequest existsRequest = requestConverter.indicesExistsRequest(getIndexCoordinates());
         Mono<BooleanResponse> existsResponse = Mono.from(execute(client -> client.exists(existsRequest)));
         return existsResponse.map(BooleanResponse::value);
@@ -218,6 +302,17 @@ public class ReactiveIndicesTemplate
         return new ReactiveMappingBuilder(elasticsearchConverter).buildReactivePropertyMapping(clazz).map(Document::parse);
     }
 
+    @Override
+    public Mono<Boolean> putMapping() {
+
+        if (mappingReconciled) {
+            mappingReconciled = false;
+            return Mono.just(true);
+        }
+
+        return putMapping(createMapping());
+    }
+
     @Override
     public Mono<Boolean> putMapping(Mono<Document> mapping) {
 
@@ -248,6 +343,11 @@ public class ReactiveIndicesTemplate
 
         Assert.notNull(clazz, "clazz must not be null");
 
+        Settings precomputed = PrecomputedIndexDefinitions.get().settings(clazz);
+        if (precomputed != null) {
+            return Mono.just(precomputed);
+        }
+
         ElasticsearchPersistentEntity<?> persistentEntity = elasticsearchConverter.getMappingContext()
                 .getRequiredPersistentEntity(clazz);
         String settingPath = persistentEntity.settingPath();
@@ -458,6 +558,86 @@ public class ReactiveIndicesTemplate
         return (boundClass != null) ? getIndexCoordinatesFor(boundClass) : Objects.requireNonNull(boundIndexCoordinates);
     }
 
+    // region bulk load
+    /**
+     * Runs the load with the settings of the options applied to each index behind the coordinates. The refresh
+     * interval and the number of replicas are captured before and restored after the load, also when it fails or is
+     * cancelled. After a successful load the index is force merged and refreshed as configured before the settings are
+     * restored.
+     *
+     * @param options the settings for the load
+     * @param load the load, subscribed to once the settings are applied
+     * @return the elements emitted by the load
+     */
+    public <T> Flux<T> bulkLoad(BulkLoadOptions options, Publisher<T> load) {
+
+        Assert.notNull(options, "options must not be null");
+        Assert.notNull(load, "load must not be null");
+
+        IndexCoordinates indexCoordinates = getIndexCoordinates();
+        Map<String, Object> loadSettings = options.loadSettings();
+
+        Mono<Map<String, Map<String, Object>>> start = captureSettings(indexCoordinates, loadSettings.keySet())
+                .flatMap(original -> putSettings(indexCoordinates, loadSettings) //
+                        .onErrorResume(e -> restoreSettings(original).then(Mono.error(e))) //
+                        .thenReturn(original));
+
+        return Flux.usingWhen(start, //
+                original -> load, //
+                original -> finishBulkLoad(indexCoordinates, options) //
+                        .onErrorResume(e -> restoreSettings(original).then(Mono.error(e))) //
+                        .then(restoreSettings(original)), //
+                (original, error) -> restoreSettings(original), //
+                this::restoreSettings);
+    }
+
+    private Mono<Map<String, Map<String, Object>>> captureSettings(IndexCoordinates indexCoordinates,
+            Set<String> keys) {
+
+        GetIndicesSettingsRequest getSettingsRequest = requestConverter.indicesGetSettingsRequest(indexCoordinates,
+                false);
+        return Mono.from(execute(client -> client.getSettings(getSettingsRequest))).map(response -> {
+            Map<String, Map<String, Object>> captured = new LinkedHashMap<>();
+            for (String indexName : response.result().keySet()) {
+                Settings settings = responseConverter.indicesGetSettings(response, indexName).flatten();
+                Map<String, Object> values = new LinkedHashMap<>();
+                for (String key : keys) {
+                    values.put(key, settings.get(key));
+                }
+                captured.put(indexName, values);
+            }
+            return captured;
+        });
+    }
+
+    private Mono<Void> putSettings(IndexCoordinates indexCoordinates, Map<String, Object> settings) {
+
+        PutFlatSettingsRequest putSettingsRequest = requestConverter.indicesPutSettingsRequest(indexCoordinates,
+                settings);
+        return Mono.from(execute(client -> Mono.fromFuture(client._transport().performRequestAsync(putSettingsRequest,
+                PutFlatSettingsRequest.ENDPOINT, client._transportOptions())))).then();
+    }
+
+    private Mono<Void> finishBulkLoad(IndexCoordinates indexCoordinates, BulkLoadOptions options) {
+
+        Mono<Void> forceMerge = Mono.empty();
+        if (options.getMaxNumSegments() != null) {
+            ForcemergeRequest forcemergeRequest = requestConverter.indicesForcemergeRequest(indexCoordinates,
+                    options.getMaxNumSegments());
+            forceMerge = Mono.from(execute(client -> client.forcemerge(forcemergeRequest))).then();
+        }
+
+        return options.isRefresh() ? forceMerge.then(refresh()) : forceMerge;
+    }
+
+    private Mono<Void> restoreSettings(Map<String, Map<String, Object>> original) {
+        return Flux.fromIterable(original.entrySet()) //
+                .filter(entry -> !entry.getValue().isEmpty()) //
+                .concatMapDelayError(entry -> putSettings(IndexCoordinates.of(entry.getKey()), entry.getValue())) //
+                .then();
+    }
+    // endregion
+
     // region helper functions
     private IndexCoordinates getIndexCoordinatesFor(Class<?> clazz) {
         return elasticsearchConverter.getMappingContext().getRequiredPersistentEntity(clazz).getIndexCoordinates();
@@ -45,6 +45,8 @@ import org.opensearch.client.opensearch.core.PutScriptRequest;
 import org.opensearch.client.opensearch.core.PutScriptResponse;
 import org.opensearch.client.opensearch.core.ReindexRequest;
 import org.opensearch.client.opensearch.core.ReindexResponse;
+import org.opensearch.client.opensearch.core.ReindexRethrottleRequest;
+import org.opensearch.client.opensearch.core.ReindexRethrottleResponse;
 import org.opensearch.client.opensearch.core.ScrollRequest;
 import org.opensearch.client.opensearch.core.ScrollResponse;
 import org.opensearch.client.opensearch.core.SearchRequest;
@@ -96,6 +98,10 @@ public class ReactiveOpenSearchClient extends ApiClient<OpenSearchTransport, Rea
         return new ReactiveOpenSearchIndicesClient(transport, transportOptions);
     }
 
+    public ReactiveOpenSearchTasksClient tasks() {
+        return new ReactiveOpenSearchTasksClient(transport, transportOptions);
+    }
+
     // endregion
     // region info
 
@@ -223,6 +229,22 @@ public class ReactiveOpenSearchClient extends ApiClient<OpenSearchTransport, Rea
         return reindex(fn.apply(new ReindexRequest.Builder()).build());
     }
 
+    public Mono<ReindexRethrottleResponse> reindexRethrottle(ReindexRethrottleRequest request) {
+
+        Assert.notNull(request, "request must not be null");
+
+        return Mono.fromFuture(
+                transport.performRequestAsync(request, ReindexRethrottleRequest._ENDPOINT, transportOptions));
+    }
+
+    public Mono<ReindexRethrottleResponse> reindexRethrottle(
+            Function<ReindexRethrottleRequest.Builder, ObjectBuilder<ReindexRethrottleRequest>> fn) {
+
+        Assert.notNull(fn, "fn must not be null");
+
+        return reindexRethrottle(fn.apply(new ReindexRethrottleRequest.Builder()).build());
+    }
+
     public Mono<DeleteResponse> delete(DeleteRequest request) {
 
         Assert.notNull(request, "request must not be null");
@@ -0,0 +1,50 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import java.util.function.Function;
+import org.opensearch.client.ApiClient;
+import org.opensearch.client.opensearch.tasks.GetTasksRequest;
+import org.opensearch.client.opensearch.tasks.GetTasksResponse;
+import org.opensearch.client.transport.OpenSearchTransport;
+import org.opensearch.client.transport.TransportOptions;
+import org.opensearch.client.util.ObjectBuilder;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive version of the {@link org.opensearch.client.opensearch.tasks.OpenSearchTasksClient}
+ */
+public class ReactiveOpenSearchTasksClient extends ApiClient<OpenSearchTransport, ReactiveOpenSearchTasksClient> {
+
+    public ReactiveOpenSearchTasksClient(OpenSearchTransport transport, @Nullable TransportOptions transportOptions) {
+        super(transport, transportOptions);
+    }
+
+    @Override
+    public ReactiveOpenSearchTasksClient withTransportOptions(@Nullable TransportOptions transportOptions) {
+        return new ReactiveOpenSearchTasksClient(transport, transportOptions);
+    }
+
+    public Mono<GetTasksResponse> get(GetTasksRequest request) {
+
+        Assert.notNull(request, "request must not be null");
+
+        return Mono.fromFuture(transport.performRequestAsync(request, GetTasksRequest._ENDPOINT, transportOptions));
+    }
+
+    public Mono<GetTasksResponse> get(Function<GetTasksRequest.Builder, ObjectBuilder<GetTasksRequest>> fn) {
+
+        Assert.notNull(fn, "fn must not be null");
+
+        return get(fn.apply(new GetTasksRequest.Builder()).build());
+    }
+}
@@ -13,10 +13,14 @@ import static org.opensearch.client.util.ApiTypeHelper.*;
 import static org.opensearch.data.client.osc.TypeUtils.*;
 
 import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -28,9 +32,13 @@ import org.opensearch.client.opensearch.core.*;
 import org.opensearch.client.opensearch.core.CreatePitResponse;
 import org.opensearch.client.opensearch.core.DeletePitRequest;
 import org.opensearch.client.opensearch.core.bulk.BulkResponseItem;
+import org.opensearch.client.opensearch.indices.GetIndicesSettingsRequest;
+import org.opensearch.client.opensearch.tasks.GetTasksRequest;
 import org.opensearch.client.transport.Version;
 import org.opensearch.client.transport.endpoints.BooleanResponse;
 import org.reactivestreams.Publisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.elasticsearch.BulkFailureException;
 import org.springframework.data.elasticsearch.NoSuchIndexException;
@@ -69,11 +77,16 @@ public class ReactiveOpenSearchTemplate extends AbstractReactiveElasticsearchTem
 
     private static final Log LOGGER = LogFactory.getLog(ReactiveOpenSearchTemplate.class);
 
-    private final ReactiveOpenSearchClient client;
+    private ReactiveOpenSearchClient client;
+    private Map<String, ReactiveOpenSearchClient> laneClients = Map.of();
+    private ClientMetricsRecorder metricsRecorder = ClientMetricsRecorder.NOOP;
+    private SearchProfiling searchProfiling = SearchProfiling.DISABLED;
+    @Nullable private volatile RepositoryIndexBootstrap indexBootstrap;
     private final RequestConverter requestConverter;
     private final ResponseConverter responseConverter;
     private final JsonpMapper jsonpMapper;
     private final OpenSearchExceptionTranslator exceptionTranslator;
+    private final Set<String> loadingIndexPatterns = ConcurrentHashMap.newKeySet();
 
     public ReactiveOpenSearchTemplate(ReactiveOpenSearchClient client, ElasticsearchConverter converter) {
         super(converter);
@@ -91,17 +104,21 @@ public class ReactiveOpenSearchTemplate extends AbstractReactiveElasticsearchTem
     @Override
     protected <T> Mono<Tuple2<T, IndexResponseMetaData>> doIndex(T entity, IndexCoordinates index) {
 
+        long start = System.nanoTime();
         IndexRequest<?> indexRequest = requestConverter.documentIndexRequest(getIndexQuery(entity), index,
                 getRefreshPolicy());
-        return Mono.just(entity) //
+        recordRequestConversion("index", entity.getClass(), start);
+        return indexBootstrapped(index).then(Mono.just(entity) //
                 .zipWith(//
                         Mono.from(execute(client -> client.index(indexRequest))) //
+                                .doOnNext(indexResponse -> requestConverter.getTimeBasedIndexRouting()
+                                        .indexWritten(indexResponse.index())) //
                                 .map(indexResponse -> new IndexResponseMetaData(indexResponse.id(), //
                                         indexResponse.index(), //
                                         indexResponse.seqNo(), //
                                         indexResponse.primaryTerm(), //
                                         indexResponse.version() //
-                                )));
+                                ))));
     }
 
     @Override
@@ -169,7 +186,9 @@ public class ReactiveOpenSearchTemplate extends AbstractReactiveElasticsearchTem
         Assert.notNull(entityType, "entityType must not be null");
         Assert.notNull(index, "index must not be null");
 
+        long start = System.nanoTime();
         GetRequest getRequest = requestConverter.documentGetRequest(id, routingResolver.getRouting(), index);
+        recordRequestConversion("get", entityType, start);
 
         Mono<GetResponse<EntityAsMap>> getResponse = Mono
                 .from(execute(client -> client.get(getRequest, EntityAsMap.class)));
@@ -206,6 +225,119 @@ public class ReactiveOpenSearchTemplate extends AbstractReactiveElasticsearchTem
                         : Mono.just(response.task()));
     }
 
+    /**
+     * Creates the target index of the request from the settings and the mapping of its entity, copies the source into
+     * it with a sliced reindex task and moves the aliases onto the target once the task has completed and has been
+     * verified. The returned flux polls the task in the interval of the request and emits its progress; the progress
+     * of the completed task is emitted after the aliases have been moved. The task id of the progress can be used to
+     * {@link #rethrottleReindex(String, Float) rethrottle} the running task. Cancelling the flux does not cancel the
+     * task.
+     */
+    public Flux<ReindexProgress> managedReindex(ManagedReindexRequest request) {
+
+        Assert.notNull(request, "request must not be null");
+
+        IndexCoordinates entityIndex = getIndexCoordinatesFor(request.getEntityClass());
+        ReactiveIndexOperations entityIndexOps = indexOps(request.getEntityClass());
+
+        Mono<String> submit = currentAliasIndices(request.aliases(entityIndex).keySet(), request.source(entityIndex)) //
+                .then(Mono.zip(entityIndexOps.createSettings(), entityIndexOps.createMapping())) //
+                .flatMap(settingsAndMapping -> indexOps(request.getTarget()).create(settingsAndMapping.getT1(),
+                        settingsAndMapping.getT2())) //
+                .then(Mono.defer(() -> {
+                    org.opensearch.client.opensearch.core.ReindexRequest reindexRequestES = requestConverter
+                            .reindex(request.reindexRequest(request.source(entityIndex)), false, true);
+                    return Mono.from(execute(client -> client.reindex(reindexRequestES)));
+                })) //
+                .flatMap(response -> (response.task() == null)
+                        ? Mono.error(new UnsupportedBackendOperation(
+                                "OpenSearchClient did not return a task id on submit request"))
+                        : Mono.just(response.task()));
+
+        return submit.flatMapMany(taskId -> getReindexProgress(taskId) //
+                .repeatWhen(polls -> polls.delayElements(request.getPollInterval())) //
+                .takeUntil(ReindexProgress::completed)) //
+                .concatMap(progress -> progress.completed() //
+                        ? completeManagedReindex(request, entityIndex, progress).thenReturn(progress)
+                        : Mono.just(progress));
+    }
+
+    public Mono<ReindexProgress> getReindexProgress(String taskId) {
+
+        GetTasksRequest getTasksRequest = requestConverter.tasksGetRequest(taskId);
+
+        return Mono.from(execute(client -> client.tasks().get(getTasksRequest)))
+                .map(response -> responseConverter.reindexProgress(taskId, response));
+    }
+
+    /**
+     * @param requestsPerSecond the new throttle of the reindex task, {@literal null} to remove it
+     */
+    public Mono<Void> rethrottleReindex(String taskId, @Nullable Float requestsPerSecond) {
+
+        ReindexRethrottleRequest reindexRethrottleRequest = requestConverter.reindexRethrottleRequest(taskId,
+                requestsPerSecond);
+
+        return Mono.from(execute(client -> client.reindexRethrottle(reindexRethrottleRequest))).then();
+    }
+
+    private Mono<Void> completeManagedReindex(ManagedReindexRequest request, IndexCoordinates entityIndex,
+            ReindexProgress progress) {
+
+        if (progress.hasFailures()) {
+            return Mono.error(new DataIntegrityViolationException(
+                    "Reindex task " + progress.taskId() + " failed: " + String.join("; ", progress.failures())));
+        }
+
+        ReactiveIndexOperations targetIndexOps = indexOps(request.getTarget());
+        Mono<Void> verify = Mono.empty();
+
+        if (request.isVerifyCount()) {
+            IndexCoordinates source = request.source(entityIndex);
+            verify = indexOps(source).refresh() //
+                    .then(Mono.zip(count(Query.findAll(), request.getEntityClass(), source),
+                            count(Query.findAll(), request.getEntityClass(), request.getTarget()))) //
+                    .flatMap(counts -> counts.getT1().equals(counts.getT2()) //
+                            ? Mono.<Void> empty()
+                            : Mono.error(ManagedReindexRequest.countMismatch(progress.taskId(),
+                                    counts.getT1(), counts.getT2())));
+        }
+
+        return targetIndexOps.refresh() //
+                .then(verify) //
+                .then(currentAliasIndices(request.aliases(entityIndex).keySet(), request.source(entityIndex))) //
+                .flatMap(currentIndices -> targetIndexOps.alias(request.aliasActions(entityIndex, currentIndices))) //
+                .then();
+    }
+
+    /**
+     * @param source the source of the reindex
+     * @return the indices the given aliases point to, a concrete index with the name of an alias points to itself; an
+     *         {@link InvalidDataAccessApiUsageException} if an alias is the name of a concrete index that is not the
+     *         source
+     */
+    private Mono<Map<String, Set<String>>> currentAliasIndices(Collection<String> aliases, IndexCoordinates source) {
+
+        return Flux.fromIterable(aliases) //
+                .concatMap(alias -> {
+                    ReactiveIndexOperations aliasIndexOps = indexOps(IndexCoordinates.of(alias));
+                    return aliasIndexOps.exists() //
+                            .filter(exists -> exists) //
+                            .flatMap(exists -> aliasIndexOps.getAliases(alias)) //
+                            .flatMap(indices -> {
+                                if (!indices.isEmpty()) {
+                                    return Mono.just(Map.entry(alias, indices.keySet()));
+                                }
+                                return Arrays.asList(source.getIndexNames()).contains(alias) //
+                                        ? Mono.just(Map.entry(alias, Set.of(alias)))
+                                        : Mono.error(new InvalidDataAccessApiUsageException("Cannot move alias "
+                                                + alias + ", an index with that name exists and is not the source"
+                                                + " of the reindex"));
+                            });
+                }) //
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue);
+    }
+
     @Override
     public Mono<UpdateResponse> update(UpdateQuery updateQuery, IndexCoordinates index) {
 
@@ -215,10 +347,12 @@ public class ReactiveOpenSearchTemplate extends AbstractReactiveElasticsearchTem
         UpdateRequest<Document, ?> request = requestConverter.documentUpdateRequest(updateQuery, index, getRefreshPolicy(),
                 routingResolver.getRouting());
 
-        return Mono.from(execute(client -> client.update(request, Document.class))).flatMap(response -> {
-            UpdateResponse.Result result = result(response.result());
-            return result == null ? Mono.empty() : Mono.just(UpdateResponse.of(result));
-        });
+        return indexBootstrapped(index) //
+                .then(Mono.from(execute(client -> client.update(request, Document.class)))) //
+                .flatMap(response -> {
+                    UpdateResponse.Result result = result(response.result());
+                    return result == null ? Mono.empty() : Mono.just(UpdateResponse.of(result));
+                });
     }
 
     @Override
@@ -236,16 +370,117 @@ public class ReactiveOpenSearchTemplate extends AbstractReactiveElasticsearchTem
         return doBulkOperation(queries, bulkOptions, index).then();
     }
 
+    /**
+     * Executes the queries emitted by the publisher as a sequence of bulk requests with at most {@code batchSize}
+     * operations each. Only one batch is requested from the publisher at a time and the entities are mapped while the
+     * request body is written, so the memory needed does not grow with the total number of queries.
+     *
+     * @param queries {@link IndexQuery} and {@link UpdateQuery} objects, must not be {@literal null}
+     * @param batchSize maximum number of operations in one bulk request
+     * @param bulkOptions options for each bulk request, must not be {@literal null}
+     * @param index the index to use for queries that do not define one, must not be {@literal null}
+     * @return the information about the indexed objects in the order of the queries
+     */
+    public Flux<IndexedObjectInformation> bulkOperation(Publisher<?> queries, int batchSize, BulkOptions bulkOptions,
+            IndexCoordinates index) {
+
+        Assert.notNull(queries, "queries must not be null");
+        Assert.isTrue(batchSize > 0, "batchSize must be greater than 0");
+        Assert.notNull(bulkOptions, "bulkOptions must not be null");
+        Assert.notNull(index, "index must not be null");
+
+        return Flux.from(queries) //
+                .buffer(batchSize) //
+                .concatMap(batch -> doBulkOperation(batch, bulkOptions, index, true)) //
+                .map(item -> new IndexedObjectInformation(item.id(), item.index(), item.seqNo(), item.primaryTerm(),
+                        item.version()));
+    }
+
     private Flux<BulkResponseItem> doBulkOperation(List<?> queries, BulkOptions bulkOptions, IndexCoordinates index) {
+        return doBulkOperation(queries, bulkOptions, index, false);
+    }
+
+    private Flux<BulkResponseItem> doBulkOperation(List<?> queries, BulkOptions bulkOptions, IndexCoordinates index,
+            boolean lazyDocuments) {
 
-        BulkRequest bulkRequest = requestConverter.documentBulkRequest(queries, bulkOptions, index, getRefreshPolicy());
-        return client.bulk(bulkRequest)
+        long start = System.nanoTime();
+        BulkRequest bulkRequest = requestConverter.documentBulkRequest(queries, bulkOptions, index, getRefreshPolicy(),
+                lazyDocuments);
+        recordRequestConversion("bulk", null, start);
+        return indexBootstrapped(index).then(Mono.defer(() -> client.bulk(bulkRequest)))
                 .onErrorMap(e -> new UncategorizedElasticsearchException("Error executing bulk request", e))
                 .flatMap(this::checkForBulkOperationFailure) //
-                .flatMapMany(response -> Flux.fromIterable(response.items()));
+                .flatMapMany(response -> Flux.fromIterable(response.items())) //
+                .doOnNext(item -> requestConverter.getTimeBasedIndexRouting().indexWritten(item.index()));
 
     }
 
+    /**
+     * Resolves the indices of an entity with an {@link IndexTimeKey} property that cover the given time range, to read
+     * them instead of all indices of the entity, like the index pruning of searches does: the existing indices that
+     * overlap the range and the indices of the periods that may have been created since their names were loaded, see
+     * {@link TimeBasedIndexRouting#searchIndexCoordinates(Class, Instant, Instant)}. The names of the existing indices
+     * are loaded if they are not cached. As the indices may not exist, the query must ignore unavailable indices, for
+     * example with {@code query.setIndicesOptions(IndicesOptions.LENIENT_EXPAND_OPEN)}.
+     *
+     * @param from the start of the range, inclusive
+     * @param to the end of the range, inclusive
+     */
+    public Mono<IndexCoordinates> getTimeRangeIndexCoordinates(Class<?> clazz, Instant from, Instant to) {
+
+        Assert.notNull(clazz, "clazz must not be null");
+
+        TimeBasedIndexRouting timeBasedIndexRouting = requestConverter.getTimeBasedIndexRouting();
+        String indexPattern = timeBasedIndexRouting.indexPattern(clazz);
+
+        Mono<Void> load = Mono.defer(() -> {
+            if (timeBasedIndexRouting.cachedIndices(indexPattern) != null) {
+                return Mono.empty();
+            }
+            Instant loadedAt = Instant.now();
+            return indexNames(indexPattern) //
+                    .doOnNext(existingIndices -> timeBasedIndexRouting.cacheIndices(indexPattern, existingIndices,
+                            loadedAt)) //
+                    .then();
+        });
+
+        return load.then(Mono.fromSupplier(() -> {
+            IndexCoordinates indexCoordinates = timeBasedIndexRouting.searchIndexCoordinates(clazz, from, to);
+            return indexCoordinates != null ? indexCoordinates : IndexCoordinates.of(indexPattern);
+        }));
+    }
+
+    private Mono<Set<String>> indexNames(String indexPattern) {
+
+        GetIndicesSettingsRequest request = requestConverter.indicesNamesRequest(indexPattern);
+        return Mono.from(execute(client -> client.indices().getSettings(request))) //
+                .map(response -> response.result().keySet());
+    }
+
+    /**
+     * Index loader of the {@link TimeBasedIndexRouting} that must not block: starts loading the names in the
+     * background and caches them when they arrive.
+     */
+    @Nullable
+    private Set<String> loadIndexNames(String indexPattern) {
+
+        if (loadingIndexPatterns.add(indexPattern)) {
+            TimeBasedIndexRouting timeBasedIndexRouting = requestConverter.getTimeBasedIndexRouting();
+            Instant loadedAt = Instant.now();
+            indexNames(indexPattern) //
+                    .doFinally(signal -> loadingIndexPatterns.remove(indexPattern)) //
+                    .subscribe(existingIndices -> timeBasedIndexRouting.cacheIndices(indexPattern, existingIndices,
+                            loadedAt),
+                            e -> {
+                                if (LOGGER.isWarnEnabled()) {
+                                    LOGGER.warn("Could not load the indices of " + indexPattern, e);
+                                }
+                            });
+        }
+
+        return null;
+    }
+
     private Mono<BulkResponse> checkForBulkOperationFailure(BulkResponse bulkResponse) {
 
         if (bulkResponse.errors()) {
@@ -296,7 +531,9 @@ public class ReactiveOpenSearchTemplate extends AbstractReactiveElasticsearchTem
         Assert.notNull(query, "query must not be null");
         Assert.notNull(clazz, "clazz must not be null");
 
+        long start = System.nanoTime();
         MgetRequest request = requestConverter.documentMgetRequest(query, clazz, index);
+        recordRequestConversion("mget", clazz, start);
 
         ReadDocumentCallback<T> callback = new ReadDocumentCallback<>(converter, clazz, index);
 
@@ -318,7 +555,86 @@ public class ReactiveOpenSearchTemplate extends AbstractReactiveElasticsearchTem
 
     @Override
     protected ReactiveOpenSearchTemplate doCopy() {
-        return new ReactiveOpenSearchTemplate(client, converter);
+        ReactiveOpenSearchTemplate copy = new ReactiveOpenSearchTemplate(client, converter);
+        copy.laneClients = laneClients;
+        copy.metricsRecorder = metricsRecorder;
+        copy.indexBootstrap = indexBootstrap;
+        copy.setSearchProfiling(searchProfiling);
+        copy.setIndexPruning(requestConverter.isIndexPruning());
+        return copy;
+    }
+
+    /**
+     * Sets the recorder for the time spent building requests and the number of returned documents. Entities are
+     * converted lazily while the result is consumed, so the reactive template does not record the entity conversion
+     * time.
+     *
+     * @param metricsRecorder the recorder, must not be {@literal null}
+     */
+    public void setMetricsRecorder(ClientMetricsRecorder metricsRecorder) {
+
+        Assert.notNull(metricsRecorder, "metricsRecorder must not be null");
+
+        this.metricsRecorder = metricsRecorder;
+    }
+
+    /**
+     * Sets the profiling that decides which searches are profiled and receives their {@link SearchProfile}. The
+     * reactive template does not materialize {@link org.springframework.data.elasticsearch.core.SearchHits}, so the
+     * profiles are only passed to the listener.
+     *
+     * @param searchProfiling the profiling, must not be {@literal null}
+     */
+    public void setSearchProfiling(SearchProfiling searchProfiling) {
+
+        Assert.notNull(searchProfiling, "searchProfiling must not be null");
+
+        this.searchProfiling = searchProfiling;
+        requestConverter.setSearchProfiling(searchProfiling);
+    }
+
+    /**
+     * Sets whether searches for entities with an {@link IndexTimeKey} property on their index or index pattern are
+     * restricted to the existing indices overlapping the time range their query puts on that property, see
+     * {@link OpenSearchTemplate#setIndexPruning(boolean)}. The names of the existing indices are loaded in the
+     * background when they are not cached, searches sent before they are available use all indices. Disabled by
+     * default.
+     */
+    public void setIndexPruning(boolean indexPruning) {
+
+        requestConverter.setIndexPruning(indexPruning);
+        requestConverter.getTimeBasedIndexRouting().setIndexLoader(indexPruning ? this::loadIndexNames : null);
+    }
+
+    /**
+     * Registers the clients of the lanes that can be selected with {@link #withLane(String)}. The clients should use
+     * the same {@link JsonpMapper} as the client of this template.
+     *
+     * @param laneClients the clients by lane name, see {@link ClientLane}
+     */
+    public void setLaneClients(Map<String, ReactiveOpenSearchClient> laneClients) {
+
+        Assert.notNull(laneClients, "laneClients must not be null");
+
+        this.laneClients = Map.copyOf(laneClients);
+    }
+
+    /**
+     * Returns a copy of this template that sends its requests through the client of the given lane.
+     *
+     * @param lane the name of a lane registered with {@link #setLaneClients(Map)}
+     * @return a copy of this template using the lane's client
+     * @throws IllegalArgumentException if there is no such lane
+     */
+    public ReactiveOpenSearchTemplate withLane(String lane) {
+
+        ReactiveOpenSearchClient laneClient = laneClients.get(lane);
+        Assert.isTrue(laneClient != null, () -> "no client registered for lane " + lane + ", known lanes are "
+                + laneClients.keySet());
+
+        ReactiveOpenSearchTemplate copy = (ReactiveOpenSearchTemplate) copy();
+        copy.client = laneClient;
+        return copy;
     }
 
     // region search operations
@@ -468,19 +784,27 @@ public class ReactiveOpenSearchTemplate extends AbstractReactiveElasticsearchTem
 
     private Flux<SearchDocument> doFindBounded(Query query, Class<?> clazz, IndexCoordinates index) {
 
+        long start = System.nanoTime();
         SearchRequest searchRequest = requestConverter.searchRequest(query, routingResolver.getRouting(), clazz, index,
                 false, false);
+        recordRequestConversion("search", clazz, start);
 
         return Mono.from(execute(client -> client.search(searchRequest, EntityAsMap.class))) //
+                .doOnNext(searchResponse -> metricsRecorder.recordHits("search", clazz, searchResponse.hits().hits().size())) //
+                .doOnNext(searchResponse -> searchProfiling.publish(searchResponse.profile())) //
                 .flatMapIterable(entityAsMapSearchResponse -> entityAsMapSearchResponse.hits().hits()) //
                 .map(entityAsMapHit -> DocumentAdapters.from(entityAsMapHit, jsonpMapper));
     }
 
     private Flux<SearchDocument> doSearch(SearchTemplateQuery query, Class<?> clazz, IndexCoordinates index) {
 
+        long start = System.nanoTime();
         var request = requestConverter.searchTemplate(query, routingResolver.getRouting(), index);
+        recordRequestConversion("search_template", clazz, start);
 
         return Mono.from(execute(client -> client.searchTemplate(request, EntityAsMap.class))) //
+                .doOnNext(searchResponse -> metricsRecorder.recordHits("search_template", clazz,
+                        searchResponse.hits().hits().size())) //
                 .flatMapIterable(entityAsMapSearchResponse -> entityAsMapSearchResponse.hits().hits()) //
                 .map(entityAsMapHit -> DocumentAdapters.from(entityAsMapHit, jsonpMapper));
     }
@@ -491,8 +815,10 @@ public class ReactiveOpenSearchTemplate extends AbstractReactiveElasticsearchTem
         Assert.notNull(query, "query must not be null");
         Assert.notNull(index, "index must not be null");
 
+        long start = System.nanoTime();
         SearchRequest searchRequest = requestConverter.searchRequest(query, routingResolver.getRouting(), clazz, index,
                 false);
+        recordRequestConversion("search", clazz, start);
 
         // noinspection unchecked
         SearchDocumentCallback<T> callback = new ReadSearchDocumentCallback<>((Class<T>) clazz, index);
@@ -500,6 +826,7 @@ public class ReactiveOpenSearchTemplate extends AbstractReactiveElasticsearchTem
                 .toFuture();
 
         return Mono.from(execute(client -> client.search(searchRequest, EntityAsMap.class)))
+                .doOnNext(searchResponse -> searchProfiling.publish(searchResponse.profile()))
                 .map(searchResponse -> SearchDocumentResponseBuilder.from(searchResponse, entityCreator, jsonpMapper));
     }
 
@@ -588,7 +915,27 @@ public class ReactiveOpenSearchTemplate extends AbstractReactiveElasticsearchTem
 
     @Override
     public ReactiveIndexOperations indexOps(Class<?> clazz) {
-        return new ReactiveIndicesTemplate(client.indices(), getReactiveClusterTemplate(), converter, clazz);
+
+        ReactiveIndicesTemplate indicesTemplate = new ReactiveIndicesTemplate(client.indices(),
+                getReactiveClusterTemplate(), converter, clazz);
+        RepositoryIndexBootstrap bootstrap = RepositoryIndexBootstrap.current();
+
+        if (bootstrap == null) {
+            return indicesTemplate;
+        }
+
+        indexBootstrap = bootstrap;
+        return indicesTemplate.bootstrapWith(bootstrap);
+    }
+
+    /**
+     * Completes once the {@link RepositoryIndexBootstrap} that handed out the index operations of the index has
+     * bootstrapped it, so that documents written while it is deferred do not add fields before their mapping.
+     */
+    private Mono<Void> indexBootstrapped(IndexCoordinates index) {
+
+        RepositoryIndexBootstrap bootstrap = indexBootstrap;
+        return bootstrap != null ? Mono.fromFuture(() -> bootstrap.whenBootstrapped(index)) : Mono.empty();
     }
 
     @Override
@@ -637,7 +984,7 @@ public class ReactiveOpenSearchTemplate extends AbstractReactiveElasticsearchTem
      * @return the callback result
      */
     public <T> Publisher<T> execute(ReactiveOpenSearchTemplate.ClientCallback<Publisher<T>> callback) {
-        return Flux.defer(() -> callback.doWithClient(client)).onErrorMap(this::translateException);
+        return CorrelationId.deferWithContext(() -> callback.doWithClient(client)).onErrorMap(this::translateException);
     }
 
     /**
@@ -657,6 +1004,11 @@ public class ReactiveOpenSearchTemplate extends AbstractReactiveElasticsearchTem
         return potentiallyTranslatedException != null ? potentiallyTranslatedException : runtimeException;
     }
 
+    private void recordRequestConversion(String operation, @Nullable Class<?> entityType, long start) {
+        metricsRecorder.recordTime(ClientMetricsRecorder.Stage.REQUEST_CONVERSION, operation, entityType,
+                System.nanoTime() - start);
+    }
+
     @Override
     public Mono<SqlResponse> search(SqlQuery query) {
         throw new UnsupportedOperationException("The operation search(SqlQuery query) is not supported");
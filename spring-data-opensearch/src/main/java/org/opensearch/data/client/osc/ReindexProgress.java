@@ -0,0 +1,110 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Progress of a reindex task as reported by the tasks API, see {@link ManagedReindex#progress()} and
+ * {@link ReactiveOpenSearchTemplate#managedReindex(ManagedReindexRequest)}. The counters are summed over all slices
+ * of the task.
+ *
+ * @param taskId the id of the reindex task
+ * @param completed whether the task has finished
+ * @param total the number of documents the task processes, {@literal 0} until the slices have started
+ * @param requestsPerSecond the current throttle, {@literal -1} when the task is not throttled
+ * @param failures the reasons of the failed documents and of the task error, empty while the task runs
+ */
+public record ReindexProgress(String taskId, boolean completed, long total, long created, long updated, long deleted,
+        long versionConflicts, long noops, long batches, float requestsPerSecond, List<String> failures) {
+
+    public ReindexProgress {
+
+        Assert.hasText(taskId, "taskId must not be empty");
+        Assert.notNull(failures, "failures must not be null");
+
+        failures = List.copyOf(failures);
+    }
+
+    /**
+     * @return the number of documents processed so far
+     */
+    public long processed() {
+        return created + updated + deleted + versionConflicts + noops;
+    }
+
+    /**
+     * @return the processed fraction of the documents between {@literal 0} and {@literal 1}
+     */
+    public double fraction() {
+
+        if (total == 0) {
+            return completed ? 1 : 0;
+        }
+
+        return Math.min(1, (double) processed() / total);
+    }
+
+    public boolean hasFailures() {
+        return !failures.isEmpty();
+    }
+
+    /**
+     * Reads the progress from the body of a {@code GET _tasks/<task_id>} response.
+     */
+    static ReindexProgress from(String taskId, Map<String, Object> tasksResponse) {
+
+        Map<String, Object> task = map(tasksResponse.get("task"));
+        Map<String, Object> status = map(task.get("status"));
+
+        List<String> failures = new ArrayList<>();
+        Object responseFailures = map(tasksResponse.get("response")).get("failures");
+        if (responseFailures instanceof List<?> list) {
+            list.forEach(failure -> failures.add(reason(map(failure).get("cause"), failure)));
+        }
+
+        Object error = tasksResponse.get("error");
+        if (error != null) {
+            failures.add(reason(error, error));
+        }
+
+        Object requestsPerSecond = status.get("requests_per_second");
+
+        return new ReindexProgress(taskId, Boolean.TRUE.equals(tasksResponse.get("completed")), //
+                number(status, "total"), //
+                number(status, "created"), //
+                number(status, "updated"), //
+                number(status, "deleted"), //
+                number(status, "version_conflicts"), //
+                number(status, "noops"), //
+                number(status, "batches"), //
+                requestsPerSecond instanceof Number n ? n.floatValue() : -1, //
+                failures);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> map(@Nullable Object value) {
+        return value instanceof Map<?, ?> ? (Map<String, Object>) value : Map.of();
+    }
+
+    private static long number(Map<String, Object> status, String name) {
+        return status.get(name) instanceof Number n ? n.longValue() : 0;
+    }
+
+    private static String reason(@Nullable Object cause, Object fallback) {
+
+        Object reason = map(cause).get("reason");
+        return reason != null ? reason.toString() : fallback.toString();
+    }
+}
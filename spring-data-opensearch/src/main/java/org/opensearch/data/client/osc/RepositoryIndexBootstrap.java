@@ -0,0 +1,314 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+
+package org.opensearch.data.client.osc;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Shortens the index bootstrap of repositories. Spring Data repositories check on creation whether the index of their
+ * entity exists and create it with its settings and mapping otherwise, one round trip after the other. While a
+ * {@link #bootstrapRepositories() bootstrap scope} is open, the index operations handed out by the
+ * {@link OpenSearchTemplate} and the {@link ReactiveOpenSearchTemplate} answer these checks from the names of all
+ * indices and aliases, which are loaded with a single request for all repositories. Names not found there are checked
+ * with an existence request, so a missing index is still reported as missing. Its creation by the repository right
+ * after the check is submitted to the executor of this bootstrap, so the missing indices of all repositories are
+ * created concurrently.
+ * <p>
+ * With mapping reconciliation enabled the index operations of an existing index submit the reconciliation of its
+ * mapping to the executor of this bootstrap, so the mappings of all repositories are reconciled concurrently. The
+ * reconciliation fetches the live mapping and puts the fields of the entity mapping missing in it, see
+ * {@link MappingDiff}. The hash of the entity mapping is stored in the {@code _meta} section of the index mapping, so
+ * restarts with an unchanged mapping cost a single request per index. A {@code putMapping()} of the repository right
+ * after the existence check, as done for {@code alwaysWriteMapping}, is skipped in that case.
+ * <p>
+ * Whether the application waits for the submitted bootstraps is up to the caller: {@link #await(Duration)} blocks
+ * until all of them are done and fails with the first failure, {@link #completion()} allows to continue in the
+ * background. Until the bootstrap of an index is done, the templates that handed out its index operations hold back
+ * the documents written to it, see {@link #whenBootstrapped(IndexCoordinates)}, so that no document adds a field
+ * before its mapping. A failed bootstrap fails the writes waiting for it; it is then dropped, so later writes to the
+ * index are sent without waiting.
+ */
+public final class RepositoryIndexBootstrap {
+
+    private static final Log LOGGER = LogFactory.getLog(RepositoryIndexBootstrap.class);
+
+    private static final ThreadLocal<RepositoryIndexBootstrap> CURRENT = new ThreadLocal<>();
+
+    private final Executor executor;
+    private final boolean reconcileMappings;
+    private final List<CompletableFuture<Void>> bootstraps = new ArrayList<>();
+    private final Map<String, CompletableFuture<Void>> bootstrapsByIndex = new ConcurrentHashMap<>();
+    @Nullable private CompletableFuture<Set<String>> existingIndexNames;
+
+    /**
+     * @param executor the executor running the submitted index bootstraps
+     */
+    public RepositoryIndexBootstrap(Executor executor) {
+        this(executor, false);
+    }
+
+    /**
+     * @param executor the executor running the submitted index bootstraps
+     * @param reconcileMappings whether to add fields missing in the mapping of existing indices
+     */
+    public RepositoryIndexBootstrap(Executor executor, boolean reconcileMappings) {
+
+        Assert.notNull(executor, "executor must not be null");
+
+        this.executor = executor;
+        this.reconcileMappings = reconcileMappings;
+    }
+
+    public boolean isReconcileMappings() {
+        return reconcileMappings;
+    }
+
+    /**
+     * Defers the index bootstraps of the repositories created on this thread to this bootstrap until the returned
+     * scope is closed.
+     */
+    public Scope bootstrapRepositories() {
+
+        RepositoryIndexBootstrap previous = CURRENT.get();
+        CURRENT.set(this);
+        return () -> {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        };
+    }
+
+    /**
+     * @return the bootstrap of the repositories created on this thread, {@literal null} if none
+     */
+    @Nullable
+    static RepositoryIndexBootstrap current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Answers the existence check of an index from the names of the existing indices and aliases, which are loaded
+     * once for all repositories. Names not found there, or all names if they could not be loaded, are checked with
+     * the given existence check, as they may be missing, data streams or patterns.
+     *
+     * @param index the index to check
+     * @param indexNames loads the names of the existing indices and aliases
+     * @param check the existence check of the index
+     */
+    CompletableFuture<Boolean> exists(IndexCoordinates index, Supplier<CompletableFuture<Set<String>>> indexNames,
+            Supplier<CompletableFuture<Boolean>> check) {
+
+        return existingIndexNames(indexNames) //
+                .handle((names, failure) -> failure == null
+                        && names.containsAll(Arrays.asList(index.getIndexNames()))) //
+                .thenCompose(known -> known ? CompletableFuture.completedFuture(true) : check.get());
+    }
+
+    private synchronized CompletableFuture<Set<String>> existingIndexNames(
+            Supplier<CompletableFuture<Set<String>>> indexNames) {
+
+        if (existingIndexNames == null) {
+            try {
+                existingIndexNames = indexNames.get();
+            } catch (RuntimeException e) {
+                existingIndexNames = CompletableFuture.failedFuture(e);
+            }
+            existingIndexNames.whenComplete((names, failure) -> {
+                if (failure != null && LOGGER.isDebugEnabled()) {
+                    LOGGER.debug("could not load the existing index names, checking each index instead", failure);
+                }
+            });
+        }
+        return existingIndexNames;
+    }
+
+    /**
+     * Runs the blocking bootstrap of an index on the executor.
+     */
+    void submit(IndexCoordinates index, Runnable bootstrap) {
+        add(index, CompletableFuture.runAsync(bootstrap, executor));
+    }
+
+    /**
+     * Subscribes to the reactive bootstrap of an index on the executor.
+     */
+    void submitAsync(IndexCoordinates index, Supplier<CompletableFuture<?>> bootstrap) {
+        add(index, CompletableFuture.supplyAsync(bootstrap, executor).thenCompose(future -> future));
+    }
+
+    /**
+     * Logs the outcome of the mapping reconciliation of an existing index.
+     */
+    void reconciled(IndexCoordinates index, MappingDiff diff) {
+
+        if (!diff.getConflicts().isEmpty() && LOGGER.isWarnEnabled()) {
+            LOGGER.warn("mapping of index " + index.getIndexName() + " has fields of a different type than the entity: "
+                    + diff.getConflicts() + ", they need a reindex");
+        }
+
+        if (!diff.getSkipped().isEmpty() && LOGGER.isWarnEnabled()) {
+            LOGGER.warn("mapping of index " + index.getIndexName() + " differs from the entity in " + diff.getSkipped()
+                    + ", these changes are not applied to an existing index");
+        }
+
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(diff.isUpToDate() ? "mapping of index " + index.getIndexName() + " is up to date"
+                    : "added fields " + diff.getAdditions().keySet() + " to the mapping of index "
+                            + index.getIndexName());
+        }
+    }
+
+    private void add(IndexCoordinates index, CompletableFuture<?> bootstrap) {
+
+        CompletableFuture<Void> logged = bootstrap.handle((result, failure) -> {
+            if (failure != null) {
+                Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                        ? failure.getCause()
+                        : failure;
+                throw new DataAccessResourceFailureException(
+                        "Could not bootstrap index " + index.getIndexName() + ": " + cause.getMessage(), cause);
+            }
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("bootstrapped index " + index.getIndexName());
+            }
+            return null;
+        });
+
+        synchronized (bootstraps) {
+            bootstraps.add(logged);
+        }
+        for (String indexName : index.getIndexNames()) {
+            CompletableFuture<Void> merged = bootstrapsByIndex.merge(indexName, logged, CompletableFuture::allOf);
+            // a failed bootstrap must not fail every later write to the index until a restart
+            merged.whenComplete((result, failure) -> {
+                if (failure != null) {
+                    bootstrapsByIndex.remove(indexName, merged);
+                }
+            });
+        }
+    }
+
+    /**
+     * @return a future completing when the bootstraps submitted for the given index are done, exceptionally with the
+     *         failure of the first failed one
+     */
+    CompletableFuture<Void> whenBootstrapped(IndexCoordinates index) {
+
+        String[] indexNames = index.getIndexNames();
+
+        if (indexNames.length == 1) {
+            CompletableFuture<Void> bootstrap = bootstrapsByIndex.get(indexNames[0]);
+            return bootstrap != null ? bootstrap : CompletableFuture.completedFuture(null);
+        }
+
+        return CompletableFuture.allOf(Arrays.stream(indexNames) //
+                .map(bootstrapsByIndex::get) //
+                .filter(Objects::nonNull) //
+                .toArray(CompletableFuture[]::new));
+    }
+
+    /**
+     * Waits until the bootstraps submitted for the given index are done.
+     *
+     * @throws DataAccessResourceFailureException if a bootstrap of the index failed
+     */
+    void awaitBootstrapped(IndexCoordinates index) {
+
+        CompletableFuture<Void> bootstrap = whenBootstrapped(index);
+
+        if (bootstrap.isDone() && !bootstrap.isCompletedExceptionally()) {
+            return;
+        }
+
+        try {
+            bootstrap.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof DataAccessResourceFailureException failure) {
+                throw failure;
+            }
+            throw new DataAccessResourceFailureException("Could not bootstrap index " + index, e.getCause());
+        }
+    }
+
+    /**
+     * @return the number of index bootstraps submitted so far
+     */
+    public int size() {
+        synchronized (bootstraps) {
+            return bootstraps.size();
+        }
+    }
+
+    /**
+     * @return a future completing when all index bootstraps submitted so far are done, exceptionally with the first
+     *         failure
+     */
+    public CompletableFuture<Void> completion() {
+        synchronized (bootstraps) {
+            return CompletableFuture.allOf(bootstraps.toArray(CompletableFuture[]::new));
+        }
+    }
+
+    /**
+     * Waits for all index bootstraps submitted so far.
+     *
+     * @param timeout the maximum time to wait
+     * @throws DataAccessResourceFailureException if a bootstrap failed or did not finish in time
+     */
+    public void await(Duration timeout) {
+
+        Assert.notNull(timeout, "timeout must not be null");
+
+        try {
+            completion().get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof DataAccessResourceFailureException failure) {
+                throw failure;
+            }
+            throw new DataAccessResourceFailureException("Could not bootstrap the indices", e.getCause());
+        } catch (TimeoutException e) {
+            throw new DataAccessResourceFailureException("Index bootstrap did not finish within " + timeout, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DataAccessResourceFailureException("Interrupted while waiting for the index bootstrap", e);
+        }
+    }
+
+    /**
+     * Scope of a bootstrap opened with {@link #bootstrapRepositories()}.
+     */
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
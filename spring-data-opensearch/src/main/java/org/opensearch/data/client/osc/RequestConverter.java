@@ -46,6 +46,7 @@ import org.opensearch.client.opensearch._types.NestedSortValue;
 import org.opensearch.client.opensearch._types.OpType;
 import org.opensearch.client.opensearch._types.Refresh;
 import org.opensearch.client.opensearch._types.ScriptLanguage;
+import org.opensearch.client.opensearch._types.SlicesCalculation;
 import org.opensearch.client.opensearch._types.SortOptions;
 import org.opensearch.client.opensearch._types.SortOrder;
 import org.opensearch.client.opensearch._types.VersionType;
@@ -83,6 +84,7 @@ import org.opensearch.client.opensearch.indices.CreateIndexRequest;
 import org.opensearch.client.opensearch.indices.DeleteIndexRequest;
 import org.opensearch.client.opensearch.indices.ExistsIndexTemplateRequest;
 import org.opensearch.client.opensearch.indices.ExistsRequest;
+import org.opensearch.client.opensearch.indices.ForcemergeRequest;
 import org.opensearch.client.opensearch.indices.GetAliasRequest;
 import org.opensearch.client.opensearch.indices.GetIndexRequest;
 import org.opensearch.client.opensearch.indices.GetIndicesSettingsRequest;
@@ -92,6 +94,7 @@ import org.opensearch.client.opensearch.indices.PutMappingRequest.Builder;
 import org.opensearch.client.opensearch.indices.RefreshRequest;
 import org.opensearch.client.opensearch.indices.UpdateAliasesRequest;
 import org.opensearch.client.opensearch.indices.update_aliases.Action;
+import org.opensearch.client.opensearch.tasks.GetTasksRequest;
 import org.opensearch.client.util.ObjectBuilder;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.domain.Sort;
@@ -143,6 +146,9 @@ class RequestConverter {
 
     protected final JsonpMapper jsonpMapper;
     protected final ElasticsearchConverter elasticsearchConverter;
+    private SearchProfiling searchProfiling = SearchProfiling.DISABLED;
+    private final TimeBasedIndexRouting timeBasedIndexRouting;
+    private boolean indexPruning;
 
     public RequestConverter(ElasticsearchConverter elasticsearchConverter, JsonpMapper jsonpMapper) {
         this.elasticsearchConverter = elasticsearchConverter;
@@ -150,6 +156,33 @@ class RequestConverter {
         Assert.notNull(jsonpMapper, "jsonpMapper must not be null");
 
         this.jsonpMapper = jsonpMapper;
+        this.timeBasedIndexRouting = new TimeBasedIndexRouting(elasticsearchConverter.getMappingContext());
+    }
+
+    /**
+     * Sets the profiling that decides which searches are sent with {@code "profile": true}.
+     */
+    public void setSearchProfiling(SearchProfiling searchProfiling) {
+
+        Assert.notNull(searchProfiling, "searchProfiling must not be null");
+
+        this.searchProfiling = searchProfiling;
+    }
+
+    TimeBasedIndexRouting getTimeBasedIndexRouting() {
+        return timeBasedIndexRouting;
+    }
+
+    /**
+     * Sets whether searches for entities with an {@link IndexTimeKey} are restricted to the indices overlapping the
+     * time range of their query.
+     */
+    public void setIndexPruning(boolean indexPruning) {
+        this.indexPruning = indexPruning;
+    }
+
+    boolean isIndexPruning() {
+        return indexPruning;
     }
 
     // region Cluster client
@@ -426,6 +459,47 @@ class RequestConverter {
                 .build();
     }
 
+    /**
+     * Creates a request whose response only lists the names of the indices matching the pattern.
+     */
+    public GetIndicesSettingsRequest indicesNamesRequest(String pattern) {
+
+        Assert.hasText(pattern, "pattern must not be empty");
+
+        return new GetIndicesSettingsRequest.Builder() //
+                .index(pattern) //
+                .name("index.creation_date") //
+                .build();
+    }
+
+    /**
+     * @param settings flat index settings like {@code index.refresh_interval}, {@literal null} values reset the setting
+     *            to its default
+     */
+    public PutFlatSettingsRequest indicesPutSettingsRequest(IndexCoordinates indexCoordinates,
+            Map<String, Object> settings) {
+
+        Assert.notNull(indexCoordinates, "indexCoordinates must not be null");
+        Assert.notNull(settings, "settings must not be null");
+
+        return new PutFlatSettingsRequest(Arrays.asList(indexCoordinates.getIndexNames()), settings);
+    }
+
+    public ForcemergeRequest indicesForcemergeRequest(IndexCoordinates indexCoordinates,
+            @Nullable Integer maxNumSegments) {
+
+        Assert.notNull(indexCoordinates, "indexCoordinates must not be null");
+
+        ForcemergeRequest.Builder builder = new ForcemergeRequest.Builder() //
+                .index(Arrays.asList(indexCoordinates.getIndexNames()));
+
+        if (maxNumSegments != null) {
+            builder.maxNumSegments(maxNumSegments.longValue());
+        }
+
+        return builder.build();
+    }
+
     public GetIndexRequest indicesGetIndexRequest(IndexCoordinates indexCoordinates) {
 
         Assert.notNull(indexCoordinates, "indexCoordinates must not be null");
@@ -450,6 +524,17 @@ class RequestConverter {
         return builder.build();
     }
 
+    /**
+     * Lists the aliases of all indices including hidden and closed ones, which yields the names of all existing indices
+     * and aliases with a single request.
+     */
+    public GetAliasRequest indicesGetAllAliasesRequest() {
+        return GetAliasRequest.of(r -> r.index("*") //
+                .expandWildcards(ExpandWildcard.All) //
+                .ignoreUnavailable(true) //
+                .allowNoIndices(true));
+    }
+
     public org.opensearch.client.opensearch.indices.PutTemplateRequest indicesPutTemplateRequest(
             PutTemplateRequest putTemplateRequest) {
 
@@ -588,6 +673,22 @@ class RequestConverter {
     // endregion
 
     // region documents
+    /**
+     * @return the index set on the query, the index derived from the time key of the query's entity when the given
+     *         index is the index of that entity, or the given index
+     */
+    private String indexName(IndexQuery query, IndexCoordinates indexCoordinates) {
+
+        if (query.getIndexName() != null) {
+            return query.getIndexName();
+        }
+
+        Object queryObject = query.getObject();
+        String timeBasedIndexName = queryObject != null ? timeBasedIndexRouting.indexName(queryObject, indexCoordinates)
+                : null;
+        return timeBasedIndexName != null ? timeBasedIndexName : indexCoordinates.getIndexName();
+    }
+
     /*
      * the methods documentIndexRequest, bulkIndexOperation and bulkCreateOperation have nearly
      * identical code, but the client builders do not have a common accessible base or some reusable parts
@@ -602,7 +703,7 @@ class RequestConverter {
 
         IndexRequest.Builder<Object> builder = new IndexRequest.Builder<>();
 
-        builder.index(query.getIndexName() != null ? query.getIndexName() : indexCoordinates.getIndexName());
+        builder.index(indexName(query, indexCoordinates));
 
         Object queryObject = query.getObject();
 
@@ -651,11 +752,11 @@ class RequestConverter {
 
     @SuppressWarnings("DuplicatedCode")
     private IndexOperation<?> bulkIndexOperation(IndexQuery query, IndexCoordinates indexCoordinates,
-            @Nullable RefreshPolicy refreshPolicy) {
+            @Nullable RefreshPolicy refreshPolicy, boolean lazyDocuments) {
 
         IndexOperation.Builder<Object> builder = new IndexOperation.Builder<>();
 
-        builder.index(query.getIndexName() != null ? query.getIndexName() : indexCoordinates.getIndexName());
+        builder.index(indexName(query, indexCoordinates));
 
         Object queryObject = query.getObject();
 
@@ -663,7 +764,8 @@ class RequestConverter {
             String id = StringUtils.hasText(query.getId()) ? query.getId() : getPersistentEntityId(queryObject);
             builder //
                     .id(id) //
-                    .document(elasticsearchConverter.mapObject(queryObject));
+                    .document(lazyDocuments ? new LazyDocument(queryObject, elasticsearchConverter)
+                            : elasticsearchConverter.mapObject(queryObject));
         } else if (query.getSource() != null) {
             builder.document(new DefaultStringObjectMap<>().fromJson(query.getSource()));
         } else {
@@ -693,11 +795,11 @@ class RequestConverter {
 
     @SuppressWarnings("DuplicatedCode")
     private CreateOperation<?> bulkCreateOperation(IndexQuery query, IndexCoordinates indexCoordinates,
-            @Nullable RefreshPolicy refreshPolicy) {
+            @Nullable RefreshPolicy refreshPolicy, boolean lazyDocuments) {
 
         CreateOperation.Builder<Object> builder = new CreateOperation.Builder<>();
 
-        builder.index(query.getIndexName() != null ? query.getIndexName() : indexCoordinates.getIndexName());
+        builder.index(indexName(query, indexCoordinates));
 
         Object queryObject = query.getObject();
 
@@ -705,7 +807,8 @@ class RequestConverter {
             String id = StringUtils.hasText(query.getId()) ? query.getId() : getPersistentEntityId(queryObject);
             builder //
                     .id(id) //
-                    .document(elasticsearchConverter.mapObject(queryObject));
+                    .document(lazyDocuments ? new LazyDocument(queryObject, elasticsearchConverter)
+                            : elasticsearchConverter.mapObject(queryObject));
         } else if (query.getSource() != null) {
             builder.document(new DefaultStringObjectMap<>().fromJson(query.getSource()));
         } else {
@@ -797,6 +900,31 @@ class RequestConverter {
 
     public BulkRequest documentBulkRequest(List<?> queries, BulkOptions bulkOptions, IndexCoordinates indexCoordinates,
             @Nullable RefreshPolicy refreshPolicy) {
+        return documentBulkRequest(queries, bulkOptions, indexCoordinates, refreshPolicy, false);
+    }
+
+    /**
+     * Creates a bulk request for the given queries.
+     *
+     * @param lazyDocuments if {@literal true}, the entities of {@link IndexQuery} objects are not mapped here but only
+     *          when the request body is serialized, one after the other, so the mapped documents of the request are never
+     *          all alive at the same time.
+     */
+    public BulkRequest documentBulkRequest(List<?> queries, BulkOptions bulkOptions, IndexCoordinates indexCoordinates,
+            @Nullable RefreshPolicy refreshPolicy, boolean lazyDocuments) {
+
+        BulkRequest.Builder builder = bulkRequestBuilder(bulkOptions, refreshPolicy);
+
+        List<BulkOperation> operations = queries.stream()
+                .map(query -> bulkOperation(query, indexCoordinates, refreshPolicy, lazyDocuments))
+                .collect(Collectors.toList());
+
+        builder.operations(operations);
+
+        return builder.build();
+    }
+
+    private BulkRequest.Builder bulkRequestBuilder(BulkOptions bulkOptions, @Nullable RefreshPolicy refreshPolicy) {
 
         BulkRequest.Builder builder = new BulkRequest.Builder();
 
@@ -819,24 +947,24 @@ class RequestConverter {
 
         getRouting(bulkOptions.getRoutingId()).ifPresent(builder::routing);
 
-        List<BulkOperation> operations = queries.stream().map(query -> {
-            BulkOperation.Builder ob = new BulkOperation.Builder();
-            if (query instanceof IndexQuery indexQuery) {
+        return builder;
+    }
 
-                if (indexQuery.getOpType() == IndexQuery.OpType.CREATE) {
-                    ob.create(bulkCreateOperation(indexQuery, indexCoordinates, refreshPolicy));
-                } else {
-                    ob.index(bulkIndexOperation(indexQuery, indexCoordinates, refreshPolicy));
-                }
-            } else if (query instanceof UpdateQuery updateQuery) {
-                ob.update(bulkUpdateOperation(updateQuery, indexCoordinates, refreshPolicy));
-            }
-            return ob.build();
-        }).collect(Collectors.toList());
+    private BulkOperation bulkOperation(Object query, IndexCoordinates indexCoordinates,
+            @Nullable RefreshPolicy refreshPolicy, boolean lazyDocuments) {
 
-        builder.operations(operations);
+        BulkOperation.Builder ob = new BulkOperation.Builder();
+        if (query instanceof IndexQuery indexQuery) {
 
-        return builder.build();
+            if (indexQuery.getOpType() == IndexQuery.OpType.CREATE) {
+                ob.create(bulkCreateOperation(indexQuery, indexCoordinates, refreshPolicy, lazyDocuments));
+            } else {
+                ob.index(bulkIndexOperation(indexQuery, indexCoordinates, refreshPolicy, lazyDocuments));
+            }
+        } else if (query instanceof UpdateQuery updateQuery) {
+            ob.update(bulkUpdateOperation(updateQuery, indexCoordinates, refreshPolicy));
+        }
+        return ob.build();
     }
 
     public GetRequest documentGetRequest(String id, @Nullable String routing, IndexCoordinates indexCoordinates) {
@@ -899,6 +1027,14 @@ class RequestConverter {
 
     public org.opensearch.client.opensearch.core.ReindexRequest reindex(ReindexRequest reindexRequest,
             boolean waitForCompletion) {
+        return reindex(reindexRequest, waitForCompletion, false);
+    }
+
+    /**
+     * @param autoSlices whether to let the cluster choose the number of slices, ignored when the request sets them
+     */
+    public org.opensearch.client.opensearch.core.ReindexRequest reindex(ReindexRequest reindexRequest,
+            boolean waitForCompletion, boolean autoSlices) {
 
         Assert.notNull(reindexRequest, "reindexRequest must not be null");
 
@@ -988,6 +1124,8 @@ class RequestConverter {
 
         if (reindexRequest.getSlices() != null) {
             builder.slices(fn -> fn.count(reindexRequest.getSlices().intValue()));
+        } else if (autoSlices) {
+            builder.slices(fn -> fn.calculation(SlicesCalculation.Auto));
         }
 
         if (reindexRequest.getRefresh() != null) {
@@ -997,6 +1135,22 @@ class RequestConverter {
         return builder.build();
     }
 
+    public ReindexRethrottleRequest reindexRethrottleRequest(String taskId, @Nullable Float requestsPerSecond) {
+
+        Assert.hasText(taskId, "taskId must not be empty");
+
+        return ReindexRethrottleRequest.of(r -> r //
+                .taskId(taskId) //
+                .requestsPerSecond(requestsPerSecond != null ? requestsPerSecond : -1F));
+    }
+
+    public GetTasksRequest tasksGetRequest(String taskId) {
+
+        Assert.hasText(taskId, "taskId must not be empty");
+
+        return GetTasksRequest.of(r -> r.taskId(taskId));
+    }
+
     public DeleteRequest documentDeleteRequest(String id, @Nullable String routing, IndexCoordinates index,
             @Nullable RefreshPolicy refreshPolicy) {
 
@@ -1273,6 +1427,11 @@ class RequestConverter {
         SearchRequest.Builder builder = new SearchRequest.Builder();
         prepareSearchRequest(query, routing, clazz, indexCoordinates, builder, forCount, forBatchedSearch);
 
+        // only single searches publish their profile, scrolls and the batches of a search for stream do not
+        if (!forCount && !forBatchedSearch && searchProfiling.shouldProfile()) {
+            builder.profile(true);
+        }
+
         if (scrollTimeInMillis != null) {
             builder.scroll(t -> t.time(scrollTimeInMillis + "ms"));
         }
@@ -1295,7 +1454,7 @@ class RequestConverter {
             multiSearchTemplateQueryParameters.forEach(param -> {
                 var query = param.query();
                 mtrb.searchTemplates(stb -> stb
-                        .header(msearchHeaderBuilder(query, param.index(), routing))
+                        .header(msearchHeaderBuilder(query, param.index(), routing, false))
                         .body(bb -> {
                             bb //
                                     .explain(query.getExplain()) //
@@ -1326,8 +1485,10 @@ class RequestConverter {
                 ElasticsearchPersistentEntity<?> persistentEntity = getPersistentEntity(param.clazz());
 
                 var query = param.query();
+                var index = pruneIndices(query, param.clazz(), param.index());
+                var pruned = isPruned(index, param.index());
                 mrb.searches(sb -> sb //
-                        .header(msearchHeaderBuilder(query, param.index(), routing)) //
+                        .header(msearchHeaderBuilder(query, index, routing, pruned)) //
                         .body(bb -> {
                             bb //
                                     .query(getQuery(query, param.clazz()))//
@@ -1414,9 +1575,11 @@ class RequestConverter {
 
     /**
      * {@link MsearchRequest} and {@link MsearchTemplateRequest} share the same {@link MultisearchHeader}
+     *
+     * @param pruned whether the index was pruned and unavailable indices must be ignored
      */
     private Function<MultisearchHeader.Builder, ObjectBuilder<MultisearchHeader>> msearchHeaderBuilder(Query query,
-            IndexCoordinates index, @Nullable String routing) {
+            IndexCoordinates index, @Nullable String routing, boolean pruned) {
         return h -> {
             var searchType = (query instanceof NativeQuery nativeQuery && nativeQuery.getKnnQuery() != null) ? null
                     : searchType(query.getSearchType());
@@ -1437,14 +1600,60 @@ class RequestConverter {
                 addMultiSearchIndicesOptions(h, query.getIndicesOptions());
             }
 
+            if (pruned) {
+                h.ignoreUnavailable(true).allowNoIndices(true);
+            }
+
             return h;
         };
     }
 
+    /**
+     * Restricts a search on the index or the index pattern of an entity with an {@link IndexTimeKey} to the indices
+     * overlapping the time range of the query, see {@link TimeBasedIndexRouting#searchIndexCoordinates}. The
+     * coordinates are kept if pruning is disabled, the query has no time range or the existing indices are not known.
+     * The search of pruned coordinates must ignore unavailable indices, see {@link #isPruned}.
+     */
+    private IndexCoordinates pruneIndices(Query query, @Nullable Class<?> clazz, IndexCoordinates indexCoordinates) {
+
+        if (!indexPruning || clazz == null || query.getPointInTime() != null
+                || !timeBasedIndexRouting.isTimeBased(clazz)) {
+            return indexCoordinates;
+        }
+
+        String indexPattern = timeBasedIndexRouting.indexPattern(clazz);
+        String entityIndexName = elasticsearchConverter.getMappingContext().getRequiredPersistentEntity(clazz)
+                .getIndexCoordinates().getIndexName();
+        String[] indexNames = indexCoordinates.getIndexNames();
+
+        if (indexNames.length != 1 || !(indexNames[0].equals(indexPattern) || indexNames[0].equals(entityIndexName))) {
+            return indexCoordinates;
+        }
+
+        IndexPruning.TimeRange timeRange = IndexPruning.timeRange(query, timeBasedIndexRouting.timeFieldNames(clazz),
+                value -> timeBasedIndexRouting.timeValue(clazz, value), jsonpMapper);
+
+        if (timeRange == null) {
+            return indexCoordinates;
+        }
+
+        IndexCoordinates prunedIndexCoordinates = timeBasedIndexRouting.searchIndexCoordinates(clazz, timeRange.from(),
+                timeRange.to());
+        return prunedIndexCoordinates != null ? prunedIndexCoordinates : indexCoordinates;
+    }
+
+    /**
+     * @return whether the coordinates were pruned and may name indices that do not exist
+     */
+    private static boolean isPruned(IndexCoordinates prunedIndexCoordinates, IndexCoordinates indexCoordinates) {
+        return prunedIndexCoordinates != indexCoordinates;
+    }
+
     private <T> void prepareSearchRequest(Query query, @Nullable String routing, @Nullable Class<T> clazz,
             IndexCoordinates indexCoordinates, SearchRequest.Builder builder, boolean forCount, boolean forBatchedSearch) {
 
-        String[] indexNames = indexCoordinates.getIndexNames();
+        IndexCoordinates prunedIndexCoordinates = pruneIndices(query, clazz, indexCoordinates);
+        String[] indexNames = prunedIndexCoordinates.getIndexNames();
 
         Assert.notEmpty(indexNames, "indexCoordinates does not contain entries");
 
@@ -1504,6 +1713,10 @@ class RequestConverter {
             addIndicesOptions(builder, query.getIndicesOptions());
         }
 
+        if (isPruned(prunedIndexCoordinates, indexCoordinates)) {
+            builder.ignoreUnavailable(true).allowNoIndices(true);
+        }
+
         if (query.isLimiting()) {
             builder.size(query.getMaxResults());
         }
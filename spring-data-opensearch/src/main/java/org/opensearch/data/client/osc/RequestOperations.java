@@ -0,0 +1,184 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import java.util.List;
+import org.opensearch.client.opensearch.core.BulkRequest;
+import org.opensearch.client.opensearch.core.BulkResponse;
+import org.opensearch.client.opensearch.core.CountRequest;
+import org.opensearch.client.opensearch.core.CountResponse;
+import org.opensearch.client.opensearch.core.CreateRequest;
+import org.opensearch.client.opensearch.core.DeleteByQueryRequest;
+import org.opensearch.client.opensearch.core.DeleteByQueryResponse;
+import org.opensearch.client.opensearch.core.DeleteRequest;
+import org.opensearch.client.opensearch.core.ExistsRequest;
+import org.opensearch.client.opensearch.core.GetRequest;
+import org.opensearch.client.opensearch.core.GetResponse;
+import org.opensearch.client.opensearch.core.IndexRequest;
+import org.opensearch.client.opensearch.core.MgetRequest;
+import org.opensearch.client.opensearch.core.MgetResponse;
+import org.opensearch.client.opensearch.core.MsearchRequest;
+import org.opensearch.client.opensearch.core.SearchRequest;
+import org.opensearch.client.opensearch.core.UpdateByQueryRequest;
+import org.opensearch.client.opensearch.core.UpdateByQueryResponse;
+import org.opensearch.client.opensearch.core.UpdateRequest;
+import org.opensearch.client.opensearch.core.search.SearchResult;
+import org.opensearch.client.opensearch.indices.CreateIndexRequest;
+import org.opensearch.client.opensearch.indices.DeleteIndexRequest;
+import org.opensearch.client.opensearch.indices.GetMappingRequest;
+import org.opensearch.client.opensearch.indices.PutMappingRequest;
+import org.opensearch.client.opensearch.indices.RefreshRequest;
+import org.springframework.lang.Nullable;
+
+/**
+ * Describes the requests of the OpenSearch client for instrumentation: the operation name derived from the request
+ * type, the indices a request targets and the server side time and document count reported in a response.
+ */
+final class RequestOperations {
+
+    private static final ClassValue<String> OPERATIONS = new ClassValue<>() {
+        @Override
+        protected String computeValue(Class<?> type) {
+            return operationOf(type);
+        }
+    };
+
+    private RequestOperations() {}
+
+    /**
+     * @return the operation of the request, for example {@code search}, {@code bulk} or {@code indices.create_index}
+     */
+    static String operationOf(Object request) {
+        return OPERATIONS.get(request.getClass());
+    }
+
+    private static String operationOf(Class<?> type) {
+
+        String name = type.getSimpleName();
+        if (name.endsWith("Request")) {
+            name = name.substring(0, name.length() - "Request".length());
+        }
+
+        StringBuilder operation = new StringBuilder();
+        String packageName = type.getPackageName();
+        String namespace = packageName.substring(packageName.lastIndexOf('.') + 1);
+        if (packageName.startsWith("org.opensearch.client.opensearch.") && !"core".equals(namespace)) {
+            operation.append(namespace).append('.');
+        }
+
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (Character.isUpperCase(c)) {
+                if (i > 0) {
+                    operation.append('_');
+                }
+                operation.append(Character.toLowerCase(c));
+            } else {
+                operation.append(c);
+            }
+        }
+
+        return operation.toString();
+    }
+
+    /**
+     * @return the indices, aliases or index patterns the request targets, empty if unknown
+     */
+    static List<String> indicesOf(Object request) {
+
+        if (request instanceof SearchRequest searchRequest) {
+            return searchRequest.index();
+        } else if (request instanceof CountRequest countRequest) {
+            return countRequest.index();
+        } else if (request instanceof MsearchRequest msearchRequest) {
+            return msearchRequest.index();
+        } else if (request instanceof DeleteByQueryRequest deleteByQueryRequest) {
+            return deleteByQueryRequest.index();
+        } else if (request instanceof UpdateByQueryRequest updateByQueryRequest) {
+            return updateByQueryRequest.index();
+        } else if (request instanceof GetRequest getRequest) {
+            return List.of(getRequest.index());
+        } else if (request instanceof ExistsRequest existsRequest) {
+            return List.of(existsRequest.index());
+        } else if (request instanceof IndexRequest<?> indexRequest) {
+            return List.of(indexRequest.index());
+        } else if (request instanceof CreateRequest<?> createRequest) {
+            return List.of(createRequest.index());
+        } else if (request instanceof UpdateRequest<?, ?> updateRequest) {
+            return List.of(updateRequest.index());
+        } else if (request instanceof DeleteRequest deleteRequest) {
+            return List.of(deleteRequest.index());
+        } else if (request instanceof MgetRequest mgetRequest) {
+            return mgetRequest.index() != null ? List.of(mgetRequest.index()) : List.of();
+        } else if (request instanceof BulkRequest bulkRequest) {
+            return bulkRequest.index() != null ? List.of(bulkRequest.index()) : List.of();
+        } else if (request instanceof CreateIndexRequest createIndexRequest) {
+            return List.of(createIndexRequest.index());
+        } else if (request instanceof DeleteIndexRequest deleteIndexRequest) {
+            return deleteIndexRequest.index();
+        } else if (request instanceof RefreshRequest refreshRequest) {
+            return refreshRequest.index();
+        } else if (request instanceof PutMappingRequest putMappingRequest) {
+            return putMappingRequest.index();
+        } else if (request instanceof GetMappingRequest getMappingRequest) {
+            return getMappingRequest.index();
+        } else if (request instanceof PutFlatSettingsRequest putFlatSettingsRequest) {
+            return putFlatSettingsRequest.getIndices();
+        }
+
+        return List.of();
+    }
+
+    /**
+     * @return the {@code took} time in milliseconds reported by the cluster, -1 if the response has none
+     */
+    static long tookOf(@Nullable Object response) {
+
+        if (response instanceof SearchResult<?> searchResult) {
+            return searchResult.took();
+        } else if (response instanceof BulkResponse bulkResponse) {
+            return bulkResponse.took();
+        } else if (response instanceof DeleteByQueryResponse deleteByQueryResponse
+                && deleteByQueryResponse.took() != null) {
+            return deleteByQueryResponse.took();
+        } else if (response instanceof UpdateByQueryResponse updateByQueryResponse
+                && updateByQueryResponse.took() != null) {
+            return updateByQueryResponse.took();
+        }
+
+        return -1;
+    }
+
+    /**
+     * @return the number of documents returned, counted or written, -1 if the response has none
+     */
+    static long documentsOf(@Nullable Object response) {
+
+        if (response instanceof SearchResult<?> searchResult) {
+            return searchResult.hits().hits().size();
+        } else if (response instanceof CountResponse countResponse) {
+            return countResponse.count();
+        } else if (response instanceof GetResponse<?> getResponse) {
+            return getResponse.found() ? 1 : 0;
+        } else if (response instanceof MgetResponse<?> mgetResponse) {
+            return mgetResponse.docs().size();
+        } else if (response instanceof BulkResponse bulkResponse) {
+            return bulkResponse.items().size();
+        } else if (response instanceof DeleteByQueryResponse deleteByQueryResponse
+                && deleteByQueryResponse.deleted() != null) {
+            return deleteByQueryResponse.deleted();
+        } else if (response instanceof UpdateByQueryResponse updateByQueryResponse
+                && updateByQueryResponse.updated() != null) {
+            return updateByQueryResponse.updated();
+        }
+
+        return -1;
+    }
+}
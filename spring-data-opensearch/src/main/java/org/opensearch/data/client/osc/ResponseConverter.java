@@ -40,6 +40,7 @@ import org.opensearch.client.opensearch.indices.*;
 import org.opensearch.client.opensearch.indices.IndexTemplateSummary;
 import org.opensearch.client.opensearch.indices.get_index_template.IndexTemplateItem;
 import org.opensearch.client.opensearch.indices.get_mapping.IndexMappingRecord;
+import org.opensearch.client.opensearch.tasks.GetTasksResponse;
 import org.springframework.data.elasticsearch.ElasticsearchErrorCause;
 import org.springframework.data.elasticsearch.core.IndexInformation;
 import org.springframework.data.elasticsearch.core.MultiGetItem;
@@ -235,6 +236,18 @@ class ResponseConverter {
         return aliasDataMap;
     }
 
+    /**
+     * @return the names of the indices and aliases in the response
+     */
+    public Set<String> indicesGetAliasNames(GetAliasResponse getAliasResponse) {
+
+        Assert.notNull(getAliasResponse, "getAliasResponse must not be null");
+
+        Set<String> names = new HashSet<>(getAliasResponse.result().keySet());
+        getAliasResponse.result().values().forEach(aliases -> names.addAll(aliases.aliases().keySet()));
+        return names;
+    }
+
     private AliasData indicesGetAliasData(String aliasName, Alias alias) {
 
         Query filter = alias.filter();
@@ -355,6 +368,13 @@ class ResponseConverter {
     // endregion
 
     // region document operations
+    public ReindexProgress reindexProgress(String taskId, GetTasksResponse getTasksResponse) {
+
+        Assert.notNull(getTasksResponse, "getTasksResponse must not be null");
+
+        return ReindexProgress.from(taskId, Document.parse(toJson(getTasksResponse, jsonpMapper)));
+    }
+
     public ReindexResponse reindexResponse(org.opensearch.client.opensearch.core.ReindexResponse reindexResponse) {
 
         Assert.notNull(reindexResponse, "reindexResponse must not be null");
@@ -0,0 +1,212 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Defines if and when a failed request is sent again by a {@link RetryingOpenSearchTransport}. A request is retried
+ * with exponential backoff and jitter while the number of attempts and the overall deadline allow it.
+ */
+public final class RetryPolicy {
+
+    /**
+     * Status codes of responses that signal a transient overload or an unavailable node.
+     */
+    public static final Set<Integer> DEFAULT_RETRYABLE_STATUS_CODES = Set.of(429, 502, 503, 504);
+
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final double multiplier;
+    private final double jitter;
+    @Nullable private final Duration deadline;
+    private final Set<Integer> retryableStatusCodes;
+    private final boolean retryOnConnectionFailure;
+
+    private RetryPolicy(Builder builder) {
+        this.maxAttempts = builder.maxAttempts;
+        this.initialBackoff = builder.initialBackoff;
+        this.maxBackoff = builder.maxBackoff;
+        this.multiplier = builder.multiplier;
+        this.jitter = builder.jitter;
+        this.deadline = builder.deadline;
+        this.retryableStatusCodes = Set.copyOf(builder.retryableStatusCodes);
+        this.retryOnConnectionFailure = builder.retryOnConnectionFailure;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return a policy with 3 attempts, a backoff from 100ms up to 5s and an overall deadline of 30s.
+     */
+    public static RetryPolicy defaultPolicy() {
+        return builder().build();
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public Duration getInitialBackoff() {
+        return initialBackoff;
+    }
+
+    public Duration getMaxBackoff() {
+        return maxBackoff;
+    }
+
+    public double getMultiplier() {
+        return multiplier;
+    }
+
+    public double getJitter() {
+        return jitter;
+    }
+
+    @Nullable
+    public Duration getDeadline() {
+        return deadline;
+    }
+
+    public Set<Integer> getRetryableStatusCodes() {
+        return retryableStatusCodes;
+    }
+
+    public boolean isRetryOnConnectionFailure() {
+        return retryOnConnectionFailure;
+    }
+
+    /**
+     * Computes the backoff before the next attempt.
+     *
+     * @param attempt the number of the attempt that just failed, starting with 1
+     * @param elapsed the time spent on the request so far
+     * @return the time to wait before the next attempt or {@literal null} if there is no further attempt
+     */
+    @Nullable
+    public Duration nextBackoff(int attempt, Duration elapsed) {
+
+        if (attempt >= maxAttempts) {
+            return null;
+        }
+
+        double backoffMillis = Math.min(initialBackoff.toMillis() * Math.pow(multiplier, attempt - 1),
+                maxBackoff.toMillis());
+
+        if (jitter > 0) {
+            backoffMillis = backoffMillis * (1 - jitter + ThreadLocalRandom.current().nextDouble() * 2 * jitter);
+        }
+
+        Duration backoff = Duration.ofMillis(Math.max(0, Math.round(backoffMillis)));
+
+        if (deadline != null && elapsed.plus(backoff).compareTo(deadline) > 0) {
+            return null;
+        }
+
+        return backoff;
+    }
+
+    public static final class Builder {
+
+        private int maxAttempts = 3;
+        private Duration initialBackoff = Duration.ofMillis(100);
+        private Duration maxBackoff = Duration.ofSeconds(5);
+        private double multiplier = 2.0;
+        private double jitter = 0.2;
+        @Nullable private Duration deadline = Duration.ofSeconds(30);
+        private Set<Integer> retryableStatusCodes = DEFAULT_RETRYABLE_STATUS_CODES;
+        private boolean retryOnConnectionFailure = true;
+
+        private Builder() {}
+
+        /**
+         * @param maxAttempts maximum number of attempts including the first one
+         */
+        public Builder withMaxAttempts(int maxAttempts) {
+
+            Assert.isTrue(maxAttempts > 0, "maxAttempts must be greater than 0");
+
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        public Builder withInitialBackoff(Duration initialBackoff) {
+
+            Assert.notNull(initialBackoff, "initialBackoff must not be null");
+            Assert.isTrue(!initialBackoff.isNegative(), "initialBackoff must not be negative");
+
+            this.initialBackoff = initialBackoff;
+            return this;
+        }
+
+        public Builder withMaxBackoff(Duration maxBackoff) {
+
+            Assert.notNull(maxBackoff, "maxBackoff must not be null");
+            Assert.isTrue(!maxBackoff.isNegative(), "maxBackoff must not be negative");
+
+            this.maxBackoff = maxBackoff;
+            return this;
+        }
+
+        public Builder withMultiplier(double multiplier) {
+
+            Assert.isTrue(multiplier >= 1, "multiplier must not be less than 1");
+
+            this.multiplier = multiplier;
+            return this;
+        }
+
+        /**
+         * @param jitter relative random deviation applied to each backoff, between 0 and 1
+         */
+        public Builder withJitter(double jitter) {
+
+            Assert.isTrue(jitter >= 0 && jitter <= 1, "jitter must be between 0 and 1");
+
+            this.jitter = jitter;
+            return this;
+        }
+
+        /**
+         * @param deadline overall time after which no further attempt is started, {@literal null} for no deadline
+         */
+        public Builder withDeadline(@Nullable Duration deadline) {
+            this.deadline = deadline;
+            return this;
+        }
+
+        public Builder withRetryableStatusCodes(Set<Integer> retryableStatusCodes) {
+
+            Assert.notNull(retryableStatusCodes, "retryableStatusCodes must not be null");
+
+            this.retryableStatusCodes = retryableStatusCodes;
+            return this;
+        }
+
+        /**
+         * @param retryOnConnectionFailure whether connection resets and refused connections are retried
+         */
+        public Builder withRetryOnConnectionFailure(boolean retryOnConnectionFailure) {
+            this.retryOnConnectionFailure = retryOnConnectionFailure;
+            return this;
+        }
+
+        public RetryPolicy build() {
+            return new RetryPolicy(this);
+        }
+    }
+}
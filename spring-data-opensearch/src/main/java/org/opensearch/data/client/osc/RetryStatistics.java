@@ -0,0 +1,69 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters maintained by a {@link RetryingOpenSearchTransport}. The values are cumulative since the transport was
+ * created and are meant to be exported to a metrics system.
+ */
+public final class RetryStatistics {
+
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder recovered = new LongAdder();
+    private final LongAdder exhausted = new LongAdder();
+    private final LongAdder notIdempotent = new LongAdder();
+
+    /**
+     * @return the number of attempts that were started after a failed attempt
+     */
+    public long getRetries() {
+        return retries.sum();
+    }
+
+    /**
+     * @return the number of requests that succeeded after at least one retry
+     */
+    public long getRecovered() {
+        return recovered.sum();
+    }
+
+    /**
+     * @return the number of requests that failed with a retryable error after the attempts or the deadline were used up
+     */
+    public long getExhausted() {
+        return exhausted.sum();
+    }
+
+    /**
+     * @return the number of requests that failed with a retryable error but were not retried because they are not
+     *         idempotent
+     */
+    public long getNotIdempotent() {
+        return notIdempotent.sum();
+    }
+
+    void retried() {
+        retries.increment();
+    }
+
+    void recovered() {
+        recovered.increment();
+    }
+
+    void exhausted() {
+        exhausted.increment();
+    }
+
+    void notIdempotent() {
+        notIdempotent.increment();
+    }
+}
@@ -0,0 +1,260 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.SocketException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.hc.core5.http.ConnectionClosedException;
+import org.apache.hc.core5.http.NoHttpResponseException;
+import org.opensearch.client.ResponseException;
+import org.opensearch.client.opensearch._types.OpenSearchException;
+import org.opensearch.client.opensearch._types.Script;
+import org.opensearch.client.opensearch.core.BulkRequest;
+import org.opensearch.client.opensearch.core.ClearScrollRequest;
+import org.opensearch.client.opensearch.core.CountRequest;
+import org.opensearch.client.opensearch.core.CreatePitRequest;
+import org.opensearch.client.opensearch.core.IndexRequest;
+import org.opensearch.client.opensearch.core.MgetRequest;
+import org.opensearch.client.opensearch.core.MsearchRequest;
+import org.opensearch.client.opensearch.core.MsearchTemplateRequest;
+import org.opensearch.client.opensearch.core.ScrollRequest;
+import org.opensearch.client.opensearch.core.SearchRequest;
+import org.opensearch.client.opensearch.core.SearchTemplateRequest;
+import org.opensearch.client.opensearch.core.UpdateRequest;
+import org.opensearch.client.opensearch.core.bulk.BulkOperation;
+import org.opensearch.client.transport.Endpoint;
+import org.opensearch.client.transport.OpenSearchTransport;
+import org.opensearch.client.transport.TransportOptions;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link OpenSearchTransport} that sends a request again when it failed with a retryable status code (by default 429,
+ * 502, 503 and 504) or a connection failure, as defined by a {@link RetryPolicy}. Only requests that can safely be
+ * executed more than once are retried:
+ * <ul>
+ * <li>requests with the methods GET, HEAD, PUT and DELETE</li>
+ * <li>searches, counts, multi gets, scrolls and point in time requests</li>
+ * <li>index requests with an explicit id or an {@code if_seq_no} condition</li>
+ * <li>updates without a script or with an {@code if_seq_no} condition</li>
+ * <li>bulk requests where every operation is safe by the rules above</li>
+ * </ul>
+ * Index requests that let the cluster generate the id are never retried as this could create duplicates.
+ */
+public class RetryingOpenSearchTransport extends DelegatingOpenSearchTransport {
+
+    private static final Log LOGGER = LogFactory.getLog(RetryingOpenSearchTransport.class);
+
+    private final RetryPolicy retryPolicy;
+    private final RetryStatistics statistics = new RetryStatistics();
+
+    public RetryingOpenSearchTransport(OpenSearchTransport delegate, RetryPolicy retryPolicy) {
+        super(delegate);
+
+        Assert.notNull(retryPolicy, "retryPolicy must not be null");
+
+        this.retryPolicy = retryPolicy;
+    }
+
+    public RetryPolicy getRetryPolicy() {
+        return retryPolicy;
+    }
+
+    public RetryStatistics getStatistics() {
+        return statistics;
+    }
+
+    @Override
+    public <RequestT, ResponseT, ErrorT> ResponseT performRequest(RequestT request,
+            Endpoint<RequestT, ResponseT, ErrorT> endpoint, @Nullable TransportOptions options) throws IOException {
+
+        long start = System.nanoTime();
+
+        for (int attempt = 1;; attempt++) {
+            try {
+                ResponseT response = delegate.performRequest(request, endpoint, options);
+
+                if (attempt > 1) {
+                    statistics.recovered();
+                }
+
+                return response;
+            } catch (IOException | RuntimeException e) {
+                Duration backoff = nextBackoff(request, endpoint, e, attempt, start);
+
+                if (backoff == null) {
+                    throw e;
+                }
+
+                try {
+                    Thread.sleep(backoff.toMillis());
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("interrupted while waiting to retry the request");
+                }
+            }
+        }
+    }
+
+    @Override
+    public <RequestT, ResponseT, ErrorT> CompletableFuture<ResponseT> performRequestAsync(RequestT request,
+            Endpoint<RequestT, ResponseT, ErrorT> endpoint, @Nullable TransportOptions options) {
+
+        CompletableFuture<ResponseT> result = new CompletableFuture<>();
+        performRequestAsync(request, endpoint, options, 1, System.nanoTime(), result);
+        return result;
+    }
+
+    private <RequestT, ResponseT, ErrorT> void performRequestAsync(RequestT request,
+            Endpoint<RequestT, ResponseT, ErrorT> endpoint, @Nullable TransportOptions options, int attempt, long start,
+            CompletableFuture<ResponseT> result) {
+
+        delegate.performRequestAsync(request, endpoint, options).whenComplete((response, throwable) -> {
+
+            if (throwable == null) {
+                if (attempt > 1) {
+                    statistics.recovered();
+                }
+                result.complete(response);
+                return;
+            }
+
+            Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                    ? throwable.getCause()
+                    : throwable;
+            Duration backoff = nextBackoff(request, endpoint, cause, attempt, start);
+
+            if (backoff == null) {
+                result.completeExceptionally(cause);
+            } else {
+                CompletableFuture.delayedExecutor(backoff.toMillis(), TimeUnit.MILLISECONDS)
+                        .execute(() -> performRequestAsync(request, endpoint, options, attempt + 1, start, result));
+            }
+        });
+    }
+
+    /**
+     * @return the backoff before the next attempt or {@literal null} if the request must not be retried.
+     */
+    @Nullable
+    private <RequestT> Duration nextBackoff(RequestT request, Endpoint<RequestT, ?, ?> endpoint, Throwable failure,
+            int attempt, long start) {
+
+        if (!isRetryableFailure(failure)) {
+            return null;
+        }
+
+        if (!isIdempotent(request, endpoint)) {
+            statistics.notIdempotent();
+            return null;
+        }
+
+        Duration backoff = retryPolicy.nextBackoff(attempt, Duration.ofNanos(System.nanoTime() - start));
+
+        if (backoff == null) {
+            statistics.exhausted();
+            return null;
+        }
+
+        statistics.retried();
+
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(String.format("attempt %d of %s %s failed, retrying in %dms: %s", attempt,
+                    endpoint.method(request), endpoint.requestUrl(request), backoff.toMillis(), failure.getMessage()));
+        }
+
+        return backoff;
+    }
+
+    boolean isRetryableFailure(Throwable failure) {
+
+        for (Throwable t = failure; t != null; t = t.getCause()) {
+
+            if (t instanceof OpenSearchException openSearchException) {
+                return retryPolicy.getRetryableStatusCodes().contains(openSearchException.status());
+            }
+
+            if (t instanceof ResponseException responseException) {
+                return retryPolicy.getRetryableStatusCodes()
+                        .contains(responseException.getResponse().getStatusLine().getStatusCode());
+            }
+
+            if (t instanceof SocketException || t instanceof NoHttpResponseException
+                    || t instanceof ConnectionClosedException) {
+                return retryPolicy.isRetryOnConnectionFailure();
+            }
+
+            if (t.getCause() == t) {
+                break;
+            }
+        }
+
+        return false;
+    }
+
+    static <RequestT> boolean isIdempotent(RequestT request, Endpoint<RequestT, ?, ?> endpoint) {
+
+        if (request instanceof IndexRequest<?> indexRequest) {
+            return indexRequest.id() != null || indexRequest.ifSeqNo() != null;
+        }
+
+        if (request instanceof UpdateRequest<?, ?> updateRequest) {
+            return isIdempotentUpdate(updateRequest.script(), updateRequest.ifSeqNo());
+        }
+
+        if (request instanceof BulkRequest bulkRequest) {
+            return bulkRequest.operations().stream().allMatch(RetryingOpenSearchTransport::isIdempotent);
+        }
+
+        if (request instanceof SearchRequest || request instanceof MsearchRequest || request instanceof CountRequest
+                || request instanceof MgetRequest || request instanceof ScrollRequest
+                || request instanceof ClearScrollRequest || request instanceof SearchTemplateRequest
+                || request instanceof MsearchTemplateRequest || request instanceof CreatePitRequest) {
+            return true;
+        }
+
+        return switch (endpoint.method(request)) {
+            case "GET", "HEAD", "PUT", "DELETE" -> true;
+            default -> false;
+        };
+    }
+
+    private static boolean isIdempotent(BulkOperation operation) {
+
+        if (operation.isIndex()) {
+            return operation.index().id() != null || operation.index().ifSeqNo() != null;
+        }
+
+        if (operation.isCreate()) {
+            // a create with an explicit id fails with a conflict instead of creating a duplicate
+            return operation.create().id() != null;
+        }
+
+        if (operation.isUpdate()) {
+            return isIdempotentUpdate(operation.update().script(), operation.update().ifSeqNo());
+        }
+
+        return operation.isDelete();
+    }
+
+    /**
+     * Partial document updates are idempotent, scripted updates only if they are guarded by a sequence number.
+     */
+    private static boolean isIdempotentUpdate(@Nullable Script script, @Nullable Long ifSeqNo) {
+        return script == null || ifSeqNo != null;
+    }
+}
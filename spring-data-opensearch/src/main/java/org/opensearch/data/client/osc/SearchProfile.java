@@ -0,0 +1,132 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import java.util.List;
+import org.opensearch.client.opensearch.core.search.AggregationProfile;
+import org.opensearch.client.opensearch.core.search.Collector;
+import org.opensearch.client.opensearch.core.search.Profile;
+import org.opensearch.client.opensearch.core.search.QueryProfile;
+import org.opensearch.client.opensearch.core.search.ShardProfile;
+import org.springframework.data.elasticsearch.core.SearchHits;
+
+/**
+ * Result of the Search Profile API for one search: per shard the time spent in the queries, the collectors and the
+ * aggregations, as a tree following the structure of the request. Profiling is requested for a search with
+ * {@link SearchProfiling}; the profile is passed to its {@link SearchProfileListener} and can be looked up for the
+ * {@link SearchHits} of the search with {@link OpenSearchTemplate#getSearchProfile(SearchHits)}.
+ */
+public final class SearchProfile {
+
+    private final List<Shard> shards;
+
+    private SearchProfile(List<Shard> shards) {
+        this.shards = shards;
+    }
+
+    static SearchProfile from(Profile profile) {
+        return new SearchProfile(profile.shards().stream().map(SearchProfile::shard).toList());
+    }
+
+    public List<Shard> getShards() {
+        return shards;
+    }
+
+    /**
+     * @return the time spent in the queries of all shards in nanoseconds
+     */
+    public long getQueryTimeInNanos() {
+        return shards.stream().mapToLong(Shard::queryTimeInNanos).sum();
+    }
+
+    /**
+     * @return the time spent in the collectors of all shards in nanoseconds
+     */
+    public long getCollectorTimeInNanos() {
+        return shards.stream().mapToLong(Shard::collectorTimeInNanos).sum();
+    }
+
+    @Override
+    public String toString() {
+        return "SearchProfile{" + shards + '}';
+    }
+
+    private static Shard shard(ShardProfile shard) {
+
+        List<Timing> queries = shard.searches().stream()
+                .flatMap(search -> search.query().stream().map(SearchProfile::query)).toList();
+        List<Timing> collectors = shard.searches().stream()
+                .flatMap(search -> search.collector().stream().map(SearchProfile::collector)).toList();
+        long rewriteTimeInNanos = shard.searches().stream()
+                .mapToLong(org.opensearch.client.opensearch.core.search.SearchProfile::rewriteTime).sum();
+
+        return new Shard(shard.id(), indexOf(shard.id()), queries, collectors,
+                shard.aggregations().stream().map(SearchProfile::aggregation).toList(), rewriteTimeInNanos);
+    }
+
+    private static Timing query(QueryProfile query) {
+        return new Timing(query.type(), query.description(), query.timeInNanos(),
+                query.children().stream().map(SearchProfile::query).toList());
+    }
+
+    private static Timing collector(Collector collector) {
+        return new Timing(collector.name(), collector.reason(), collector.timeInNanos(),
+                collector.children().stream().map(SearchProfile::collector).toList());
+    }
+
+    private static Timing aggregation(AggregationProfile aggregation) {
+        return new Timing(aggregation.type(), aggregation.description(), aggregation.timeInNanos(),
+                aggregation.children().stream().map(SearchProfile::aggregation).toList());
+    }
+
+    /**
+     * Extracts the index from a shard id of the form {@code [nodeId][index][shard]}.
+     */
+    static String indexOf(String shardId) {
+
+        int start = shardId.indexOf("][");
+        int end = shardId.lastIndexOf("][");
+
+        return start >= 0 && end > start ? shardId.substring(start + 2, end) : shardId;
+    }
+
+    /**
+     * Profile of one shard.
+     *
+     * @param id the shard id of the form {@code [nodeId][index][shard]}
+     * @param index the index of the shard
+     * @param queries the query trees
+     * @param collectors the collector trees
+     * @param aggregations the aggregation trees
+     * @param rewriteTimeInNanos the time spent rewriting the queries
+     */
+    public record Shard(String id, String index, List<Timing> queries, List<Timing> collectors,
+            List<Timing> aggregations, long rewriteTimeInNanos) {
+
+        public long queryTimeInNanos() {
+            return queries.stream().mapToLong(Timing::timeInNanos).sum();
+        }
+
+        public long collectorTimeInNanos() {
+            return collectors.stream().mapToLong(Timing::timeInNanos).sum();
+        }
+    }
+
+    /**
+     * Time spent in a query, collector or aggregation, including its children.
+     *
+     * @param type the query or aggregation type or the collector name, for example {@code TermQuery}
+     * @param description the Lucene query, the aggregation name or the reason of the collector
+     * @param timeInNanos the time including the children
+     * @param children the nested queries, collectors or aggregations
+     */
+    public record Timing(String type, String description, long timeInNanos, List<Timing> children) {
+    }
+}
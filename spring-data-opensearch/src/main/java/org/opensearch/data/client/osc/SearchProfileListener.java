@@ -0,0 +1,25 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+/**
+ * Receives the {@link SearchProfile} of each profiled search, for example to track the query and collector times of
+ * the shards in metrics.
+ */
+@FunctionalInterface
+public interface SearchProfileListener {
+
+    SearchProfileListener NOOP = profile -> {};
+
+    /**
+     * Called on the thread that received the response, implementations should return quickly.
+     */
+    void onProfile(SearchProfile profile);
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import java.util.concurrent.ThreadLocalRandom;
+import org.opensearch.client.opensearch.core.search.Profile;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Decides which searches are sent with {@code "profile": true} and hands the resulting {@link SearchProfile} to a
+ * {@link SearchProfileListener}. A search is profiled when it belongs to the configured sample or when profiling was
+ * requested for the current thread, with {@link #profileSearches()} or by a repository method annotated with
+ * {@link ProfiledSearch}. Profiling makes a search considerably slower on the cluster, so the sample rate should be
+ * small in production.
+ * <p>
+ * Set on the templates with {@code setSearchProfiling}.
+ */
+public final class SearchProfiling {
+
+    public static final SearchProfiling DISABLED = builder().build();
+
+    private static final ThreadLocal<Boolean> REQUESTED = new ThreadLocal<>();
+
+    private final double sampleRate;
+    private final SearchProfileListener listener;
+
+    private SearchProfiling(Builder builder) {
+        this.sampleRate = builder.sampleRate;
+        this.listener = builder.listener;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Profiles the searches sent on this thread until the returned scope is closed.
+     */
+    public static Scope profileSearches() {
+
+        Boolean previous = REQUESTED.get();
+        REQUESTED.set(Boolean.TRUE);
+
+        return () -> {
+            if (previous == null) {
+                REQUESTED.remove();
+            }
+        };
+    }
+
+    /**
+     * @return whether the next search should be profiled
+     */
+    boolean shouldProfile() {
+        return REQUESTED.get() != null
+                || (sampleRate > 0.0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
+
+    /**
+     * Passes the profile of a response to the listener.
+     *
+     * @param profile the profile of the response, {@literal null} if the search was not profiled
+     * @return the published profile, {@literal null} if the search was not profiled
+     */
+    @Nullable
+    SearchProfile publish(@Nullable Profile profile) {
+
+        if (profile == null) {
+            return null;
+        }
+
+        SearchProfile searchProfile = SearchProfile.from(profile);
+        listener.onProfile(searchProfile);
+        return searchProfile;
+    }
+
+    /**
+     * Scope of the profiling requested with {@link #profileSearches()}.
+     */
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    public static final class Builder {
+
+        private double sampleRate;
+        private SearchProfileListener listener = SearchProfileListener.NOOP;
+
+        private Builder() {}
+
+        /**
+         * @param sampleRate the fraction of searches that are profiled, between 0 and 1
+         */
+        public Builder withSampleRate(double sampleRate) {
+
+            Assert.isTrue(sampleRate >= 0.0 && sampleRate <= 1.0, "sampleRate must be between 0 and 1");
+
+            this.sampleRate = sampleRate;
+            return this;
+        }
+
+        public Builder withListener(SearchProfileListener listener) {
+
+            Assert.notNull(listener, "listener must not be null");
+
+            this.listener = listener;
+            return this;
+        }
+
+        public SearchProfiling build() {
+            return new SearchProfiling(this);
+        }
+    }
+}
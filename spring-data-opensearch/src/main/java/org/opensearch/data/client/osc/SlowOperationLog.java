@@ -0,0 +1,347 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.data.client.osc;
+
+import jakarta.json.stream.JsonGenerator;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpSerializable;
+import org.opensearch.client.json.NdJsonpSerializable;
+import org.opensearch.client.opensearch.core.BulkRequest;
+import org.opensearch.client.transport.Endpoint;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Client side log of slow operations. Unlike the slow logs of the cluster it shows which code issued an operation: an
+ * entry holds the operation, the targeted indices, the client observed and the server reported ({@code took}) time,
+ * the repository method and the application code calling it, the request line and the serialized request body,
+ * truncated to a maximum length.
+ * <p>
+ * Only a sample of the operations is tracked and the number of entries per second is limited, further slow operations
+ * are counted and reported with the next entry. Entries are logged at {@code WARN} level to the
+ * {@code org.opensearch.data.client.osc.SlowOperationLog} category; nothing is tracked while that level is disabled.
+ * The log is applied by a {@link SlowOperationLoggingOpenSearchTransport}.
+ */
+public final class SlowOperationLog {
+
+    private static final Log LOGGER = LogFactory.getLog(SlowOperationLog.class);
+
+    private static final List<String> FRAMEWORK_PACKAGES = List.of("org.opensearch.", "org.springframework.", "java.",
+            "javax.", "jdk.", "sun.", "com.sun.", "reactor.", "io.micrometer.", "org.apache.", "kotlin.", "kotlinx.");
+
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+
+    /**
+     * Number of frames searched for the caller; application code is expected well within the frames of the template,
+     * repository proxy and transport decorators, and a deep stack must not be walked for every tracked operation.
+     */
+    private static final int MAX_CALLER_FRAMES = 64;
+
+    private static final String TRUNCATED = "... [truncated]";
+
+    private final long latencyThresholdNanos;
+    private final long tookThresholdMillis;
+    private final double sampleRate;
+    private final int maxEntriesPerSecond;
+    private final int maxRequestLength;
+
+    private final AtomicLong currentSecond = new AtomicLong();
+    private final AtomicInteger entriesInSecond = new AtomicInteger();
+    private final LongAdder suppressed = new LongAdder();
+
+    private SlowOperationLog(Builder builder) {
+        this.latencyThresholdNanos = builder.latencyThreshold.toNanos();
+        this.tookThresholdMillis = builder.tookThreshold != null ? builder.tookThreshold.toMillis() : -1;
+        this.sampleRate = builder.sampleRate;
+        this.maxEntriesPerSecond = builder.maxEntriesPerSecond;
+        this.maxRequestLength = builder.maxRequestLength;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Decides whether an operation about to be sent is tracked.
+     *
+     * @return {@literal true} if the operation belongs to the sample and the log is enabled
+     */
+    boolean sample() {
+        return LOGGER.isWarnEnabled() && (sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
+
+    /**
+     * @return whether an operation with the given client observed time and server reported {@code took} time is slow
+     */
+    boolean isSlow(long elapsedNanos, long tookMillis) {
+        return elapsedNanos >= latencyThresholdNanos || (tookThresholdMillis >= 0 && tookMillis >= tookThresholdMillis);
+    }
+
+    /**
+     * Determines the code that issued the current operation from the stack of the calling thread: the repository
+     * method, if the operation was issued through a repository, and the first frame of application code within the
+     * topmost {@value #MAX_CALLER_FRAMES} frames.
+     *
+     * @return the caller, {@literal null} if the stack only holds framework code
+     */
+    @Nullable
+    static String currentCaller() {
+        return STACK_WALKER.walk(frames -> {
+            String repositoryMethod = null;
+
+            for (var iterator = frames.limit(MAX_CALLER_FRAMES).iterator(); iterator.hasNext();) {
+                StackWalker.StackFrame frame = iterator.next();
+                Class<?> declaringClass = frame.getDeclaringClass();
+
+                if (Proxy.isProxyClass(declaringClass)) {
+                    if (repositoryMethod == null && declaringClass.getInterfaces().length > 0) {
+                        repositoryMethod = declaringClass.getInterfaces()[0].getSimpleName() + '.'
+                                + frame.getMethodName();
+                    }
+                } else if (!isFrameworkClass(frame.getClassName())) {
+                    String caller = frame.getClassName() + '.' + frame.getMethodName() + '('
+                            + Optional.ofNullable(frame.getFileName()).orElse("Unknown Source") + ':'
+                            + frame.getLineNumber() + ')';
+                    return repositoryMethod != null ? repositoryMethod + " called from " + caller : caller;
+                }
+            }
+
+            return repositoryMethod;
+        });
+    }
+
+    /**
+     * Logs a completed operation if it is slow and the rate limit allows it.
+     *
+     * @param caller the caller determined with {@link #currentCaller()}, {@literal null} if unknown
+     * @param response the response, {@literal null} if the operation failed
+     * @param error the failure, {@literal null} if the operation succeeded
+     */
+    <RequestT> void log(RequestT request, Endpoint<RequestT, ?, ?> endpoint, @Nullable String caller,
+            long elapsedNanos, @Nullable Object response, @Nullable Throwable error, JsonpMapper jsonpMapper) {
+
+        long tookMillis = RequestOperations.tookOf(response);
+
+        if (!isSlow(elapsedNanos, tookMillis)) {
+            return;
+        }
+
+        if (!tryAcquire()) {
+            suppressed.increment();
+            return;
+        }
+
+        LOGGER.warn(format(request, endpoint, caller, elapsedNanos, tookMillis, error, jsonpMapper));
+    }
+
+    private <RequestT> String format(RequestT request, Endpoint<RequestT, ?, ?> endpoint, @Nullable String caller,
+            long elapsedNanos, long tookMillis, @Nullable Throwable error, JsonpMapper jsonpMapper) {
+
+        StringBuilder entry = new StringBuilder(256 + maxRequestLength) //
+                .append("slow operation ").append(RequestOperations.operationOf(request));
+
+        List<String> indices = RequestOperations.indicesOf(request);
+        if (!indices.isEmpty()) {
+            entry.append(" on ").append(indices);
+        }
+
+        entry.append(" took ").append(TimeUnit.NANOSECONDS.toMillis(elapsedNanos)).append(" ms");
+        if (tookMillis >= 0) {
+            entry.append(" (cluster took ").append(tookMillis).append(" ms)");
+        }
+
+        if (error != null) {
+            entry.append(" and failed with ").append(error);
+        }
+
+        entry.append(", caller: ").append(caller != null ? caller : "unknown");
+
+        long suppressedEntries = suppressed.sumThenReset();
+        if (suppressedEntries > 0) {
+            entry.append(", ").append(suppressedEntries).append(" slow operations not logged before");
+        }
+
+        entry.append("\n").append(endpoint.method(request)).append(' ').append(endpoint.requestUrl(request));
+        String body = body(request, jsonpMapper);
+        if (body != null) {
+            entry.append(' ').append(body);
+        }
+
+        return entry.toString();
+    }
+
+    /**
+     * Serializes the request body up to the maximum request length; the serialization is aborted once the limit is
+     * reached, so a large request is not serialized in full only to be truncated.
+     *
+     * @return the body, {@literal null} if the request has none that can be logged
+     */
+    @Nullable
+    String body(Object request, JsonpMapper jsonpMapper) {
+
+        if (request instanceof BulkRequest bulkRequest) {
+            return "[" + bulkRequest.operations().size() + " bulk operations]";
+        }
+
+        if (!(request instanceof JsonpSerializable) || request instanceof NdJsonpSerializable) {
+            return null;
+        }
+
+        LimitedWriter writer = new LimitedWriter(maxRequestLength);
+
+        try (JsonGenerator generator = jsonpMapper.jsonProvider().createGenerator(writer)) {
+            jsonpMapper.serialize(request, generator);
+        } catch (RuntimeException e) {
+            if (!writer.limitReached) {
+                return "[request body not serializable: " + e.getMessage() + ']';
+            }
+        }
+
+        return writer.limitReached ? writer.body + TRUNCATED : writer.body.toString();
+    }
+
+    private boolean tryAcquire() {
+
+        long second = System.nanoTime() / 1_000_000_000L;
+        long current = currentSecond.get();
+
+        if (current != second && currentSecond.compareAndSet(current, second)) {
+            entriesInSecond.set(0);
+        }
+
+        return entriesInSecond.incrementAndGet() <= maxEntriesPerSecond;
+    }
+
+    private static boolean isFrameworkClass(String className) {
+
+        for (String frameworkPackage : FRAMEWORK_PACKAGES) {
+            if (className.startsWith(frameworkPackage)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Collects written characters up to a limit and fails the write that exceeds it, which aborts the serialization.
+     */
+    private static final class LimitedWriter extends Writer {
+
+        private final StringBuilder body = new StringBuilder();
+        private final int limit;
+        private boolean limitReached;
+
+        LimitedWriter(int limit) {
+            this.limit = limit;
+        }
+
+        @Override
+        public void write(char[] buffer, int offset, int length) throws IOException {
+
+            int remaining = limit - body.length();
+
+            if (length > remaining) {
+                body.append(buffer, offset, remaining);
+                limitReached = true;
+                throw new IOException("maximum request length of " + limit + " reached");
+            }
+
+            body.append(buffer, offset, length);
+        }
+
+        @Override
+        public void flush() {}
+
+        @Override
+        public void close() {}
+    }
+
+    public static final class Builder {
+
+        private Duration latencyThreshold = Duration.ofSeconds(1);
+        @Nullable private Duration tookThreshold;
+        private double sampleRate = 1.0;
+        private int maxEntriesPerSecond = 10;
+        private int maxRequestLength = 2048;
+
+        private Builder() {}
+
+        /**
+         * @param latencyThreshold operations observed by the client to take at least this long are logged
+         */
+        public Builder withLatencyThreshold(Duration latencyThreshold) {
+
+            Assert.notNull(latencyThreshold, "latencyThreshold must not be null");
+            Assert.isTrue(!latencyThreshold.isNegative(), "latencyThreshold must not be negative");
+
+            this.latencyThreshold = latencyThreshold;
+            return this;
+        }
+
+        /**
+         * @param tookThreshold operations the cluster reports to take at least this long are logged, {@literal null}
+         *          to only use the latency threshold
+         */
+        public Builder withTookThreshold(@Nullable Duration tookThreshold) {
+
+            Assert.isTrue(tookThreshold == null || !tookThreshold.isNegative(), "tookThreshold must not be negative");
+
+            this.tookThreshold = tookThreshold;
+            return this;
+        }
+
+        /**
+         * @param sampleRate the fraction of operations that are tracked, between 0 and 1
+         */
+        public Builder withSampleRate(double sampleRate) {
+
+            Assert.isTrue(sampleRate >= 0.0 && sampleRate <= 1.0, "sampleRate must be between 0 and 1");
+
+            this.sampleRate = sampleRate;
+            return this;
+        }
+
+        public Builder withMaxEntriesPerSecond(int maxEntriesPerSecond) {
+
+            Assert.isTrue(maxEntriesPerSecond > 0, "maxEntriesPerSecond must be greater than 0");
+
+            this.maxEntriesPerSecond = maxEntriesPerSecond;
+            return this;
+        }
+
+        /**
+         * @param maxRequestLength the number of characters of the serialized request that are logged
+         */
+        public Builder withMaxRequestLength(int maxRequestLength) {
+
+            Assert.isTrue(maxRequestLength >= 0, "maxRequestLength must not be negative");
+
+            this.maxRequestLength = maxRequestLength;
+            return this;
+        }
+
+        public SlowOperationLog build() {
+            return new SlowOperationLog(this);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.data.client.osc;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.opensearch.client.transport.Endpoint;
+import org.opensearch.client.transport.OpenSearchTransport;
+import org.opensearch.client.transport.TransportOptions;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link OpenSearchTransport} that writes slow operations to a {@link SlowOperationLog}. The {@link OpenSearchTemplate}
+ * and the {@link ReactiveOpenSearchTemplate} send the requests of their {@code execute} methods through the transport
+ * of their client, so this covers all their operations.
+ * <p>
+ * The caller of a blocking request is determined from the stack only once the request turned out to be slow. For
+ * asynchronous requests the stack is captured when a sampled request is sent, as the response arrives on another
+ * thread; for reactive code that is the subscribing thread, which does not always show the application code.
+ */
+public class SlowOperationLoggingOpenSearchTransport extends DelegatingOpenSearchTransport {
+
+    private final SlowOperationLog slowOperationLog;
+
+    public SlowOperationLoggingOpenSearchTransport(OpenSearchTransport delegate, SlowOperationLog slowOperationLog) {
+        super(delegate);
+
+        Assert.notNull(slowOperationLog, "slowOperationLog must not be null");
+
+        this.slowOperationLog = slowOperationLog;
+    }
+
+    @Override
+    public <RequestT, ResponseT, ErrorT> ResponseT performRequest(RequestT request,
+            Endpoint<RequestT, ResponseT, ErrorT> endpoint, @Nullable TransportOptions options) throws IOException {
+
+        if (!slowOperationLog.sample()) {
+            return delegate.performRequest(request, endpoint, options);
+        }
+
+        long start = System.nanoTime();
+        ResponseT response = null;
+        Throwable error = null;
+
+        try {
+            response = delegate.performRequest(request, endpoint, options);
+            return response;
+        } catch (IOException | RuntimeException e) {
+            error = e;
+            throw e;
+        } finally {
+            long elapsedNanos = System.nanoTime() - start;
+            if (slowOperationLog.isSlow(elapsedNanos, RequestOperations.tookOf(response))) {
+                slowOperationLog.log(request, endpoint, SlowOperationLog.currentCaller(), elapsedNanos, response, error,
+                        jsonpMapper());
+            }
+        }
+    }
+
+    @Override
+    public <RequestT, ResponseT, ErrorT> CompletableFuture<ResponseT> performRequestAsync(RequestT request,
+            Endpoint<RequestT, ResponseT, ErrorT> endpoint, @Nullable TransportOptions options) {
+
+        if (!slowOperationLog.sample()) {
+            return delegate.performRequestAsync(request, endpoint, options);
+        }
+
+        String caller = SlowOperationLog.currentCaller();
+        long start = System.nanoTime();
+
+        return delegate.performRequestAsync(request, endpoint, options).whenComplete((response, throwable) -> {
+            Throwable error = throwable instanceof CompletionException && throwable.getCause() != null
+                    ? throwable.getCause()
+                    : throwable;
+            slowOperationLog.log(request, endpoint, caller, System.nanoTime() - start, response, error, jsonpMapper());
+        });
+    }
+}
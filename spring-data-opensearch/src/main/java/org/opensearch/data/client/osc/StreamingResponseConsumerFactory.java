@@ -0,0 +1,228 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.ContentTooLongException;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.EntityDetails;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpException;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.io.entity.InputStreamEntity;
+import org.apache.hc.core5.http.message.BasicClassicHttpResponse;
+import org.apache.hc.core5.http.nio.AsyncResponseConsumer;
+import org.apache.hc.core5.http.nio.CapacityChannel;
+import org.apache.hc.core5.http.nio.support.classic.SharedInputBuffer;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.opensearch.client.HttpAsyncResponseConsumerFactory;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link HttpAsyncResponseConsumerFactory} that hands the response to the caller as soon as the response headers have
+ * arrived. The body is then read incrementally from a bounded buffer that the I/O reactor fills while the JSON parser
+ * consumes it, so a large search or scroll response is never held as one contiguous byte array on the heap like the
+ * default {@link HttpAsyncResponseConsumerFactory.HeapBufferedResponseConsumerFactory} does.
+ * <p>
+ * The body must be read on a thread other than the I/O dispatcher, which is the case for the blocking
+ * {@link org.opensearch.client.opensearch.OpenSearchClient}. The {@link ReactiveOpenSearchClient} parses responses in
+ * the completion callback on the I/O dispatcher thread and must keep using a buffering consumer.
+ *
+ * @see OpenSearchClients#withStreamingResponses(org.opensearch.client.transport.TransportOptions, long)
+ */
+public class StreamingResponseConsumerFactory implements HttpAsyncResponseConsumerFactory {
+
+    /**
+     * Size of the buffer between the I/O reactor and the reading thread.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    private final long maxResponseSize;
+    private final int bufferSize;
+
+    /**
+     * @param maxResponseSize the maximum number of body bytes accepted for a single response
+     */
+    public StreamingResponseConsumerFactory(long maxResponseSize) {
+        this(maxResponseSize, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * @param maxResponseSize the maximum number of body bytes accepted for a single response
+     * @param bufferSize the size of the buffer between the I/O reactor and the reading thread
+     */
+    public StreamingResponseConsumerFactory(long maxResponseSize, int bufferSize) {
+
+        Assert.isTrue(maxResponseSize > 0, "maxResponseSize must be greater than 0");
+        Assert.isTrue(bufferSize > 0, "bufferSize must be greater than 0");
+
+        this.maxResponseSize = maxResponseSize;
+        this.bufferSize = bufferSize;
+    }
+
+    public long getMaxResponseSize() {
+        return maxResponseSize;
+    }
+
+    @Override
+    public AsyncResponseConsumer<ClassicHttpResponse> createHttpAsyncResponseConsumer() {
+        return new StreamingResponseConsumer(maxResponseSize, bufferSize);
+    }
+
+    /**
+     * Consumer that completes with a {@link ClassicHttpResponse} whose entity streams the body from a
+     * {@link SharedInputBuffer}.
+     */
+    static class StreamingResponseConsumer implements AsyncResponseConsumer<ClassicHttpResponse> {
+
+        private final long maxResponseSize;
+        private final SharedInputBuffer buffer;
+        private long received;
+        @Nullable private volatile Thread ioThread;
+        @Nullable private volatile Exception failure;
+
+        StreamingResponseConsumer(long maxResponseSize, int bufferSize) {
+            this.maxResponseSize = maxResponseSize;
+            this.buffer = new SharedInputBuffer(bufferSize);
+        }
+
+        @Override
+        public void consumeResponse(HttpResponse response, @Nullable EntityDetails entityDetails, HttpContext context,
+                FutureCallback<ClassicHttpResponse> resultCallback) throws HttpException, IOException {
+
+            ioThread = Thread.currentThread();
+
+            BasicClassicHttpResponse classicResponse = new BasicClassicHttpResponse(response.getCode(),
+                    response.getReasonPhrase());
+            classicResponse.setVersion(response.getVersion());
+            classicResponse.setHeaders(response.getHeaders());
+
+            if (entityDetails != null) {
+                long contentLength = entityDetails.getContentLength();
+
+                if (contentLength > maxResponseSize) {
+                    throw new ContentTooLongException("entity content is too long [" + contentLength
+                            + "] for the configured max response size [" + maxResponseSize + ']');
+                }
+
+                ContentType contentType = entityDetails.getContentType() != null
+                        ? ContentType.parseLenient(entityDetails.getContentType())
+                        : null;
+                classicResponse.setEntity(new InputStreamEntity(new BufferInputStream(), contentLength, contentType,
+                        entityDetails.getContentEncoding()));
+            }
+
+            resultCallback.completed(classicResponse);
+        }
+
+        @Override
+        public void informationResponse(HttpResponse response, HttpContext context) {}
+
+        @Override
+        public void updateCapacity(CapacityChannel capacityChannel) throws IOException {
+            buffer.updateCapacity(capacityChannel);
+        }
+
+        @Override
+        public void consume(ByteBuffer src) throws IOException {
+
+            received += src.remaining();
+
+            if (received > maxResponseSize) {
+                throw new ContentTooLongException("entity content is too long [" + received
+                        + "] for the configured max response size [" + maxResponseSize + ']');
+            }
+
+            buffer.fill(src);
+        }
+
+        @Override
+        public void streamEnd(@Nullable List<? extends Header> trailers) {
+            buffer.markEndStream();
+        }
+
+        @Override
+        public void failed(Exception cause) {
+
+            failure = cause;
+            buffer.abort();
+        }
+
+        @Override
+        public void releaseResources() {
+            buffer.markEndStream();
+        }
+
+        private void checkReadable() throws IOException {
+
+            if (Thread.currentThread() == ioThread) {
+                throw new IllegalStateException(
+                        "streamed responses must not be read on the I/O dispatcher thread, use a buffering response consumer for asynchronous clients");
+            }
+
+            Exception cause = failure;
+            if (cause != null) {
+                throw cause instanceof IOException ioException ? ioException
+                        : new IOException("response stream failed: " + cause.getMessage(), cause);
+            }
+        }
+
+        /**
+         * InputStream reading from the shared buffer. Closing it drains the remainder of the body so that the
+         * connection can be returned to the pool.
+         */
+        private class BufferInputStream extends InputStream {
+
+            @Override
+            public int read() throws IOException {
+                checkReadable();
+                int b = buffer.read();
+                checkReadable();
+                return b;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+
+                if (len == 0) {
+                    return 0;
+                }
+
+                checkReadable();
+                int n = buffer.read(b, off, len);
+                checkReadable();
+                return n;
+            }
+
+            @Override
+            public int available() {
+                return buffer.length();
+            }
+
+            @Override
+            public void close() throws IOException {
+
+                if (failure != null) {
+                    return;
+                }
+
+                byte[] tmp = new byte[1024];
+                // noinspection StatementWithEmptyBody
+                while (read(tmp, 0, tmp.length) >= 0) {}
+            }
+        }
+    }
+}
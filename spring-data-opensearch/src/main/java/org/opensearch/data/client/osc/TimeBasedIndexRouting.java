@@ -0,0 +1,590 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoField;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.core.mapping.ElasticsearchPersistentEntity;
+import org.springframework.data.elasticsearch.core.mapping.ElasticsearchPersistentProperty;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Derives the index of entities with an {@link IndexTimeKey} property from the value of that property, so that log and
+ * event like entities are written to daily or monthly indices, and resolves the concrete indices covering a time range
+ * for reads. The formatter of an entity class is created once and the name of the most recently used period is kept,
+ * so the entities of a bulk request within the same period are routed without formatting.
+ * <p>
+ * The names of the existing indices of an index pattern are cached for a configurable time to restrict reads to the
+ * indices that exist; indices written through the templates are added to the cache right away. Searches for such
+ * entities can be restricted to the indices matching the time range of their query, see
+ * {@link OpenSearchTemplate#setIndexPruning(boolean)}.
+ * <p>
+ * Only writes of whole entities are routed: index and bulk operations for the index of the entity's
+ * {@code @Document}, an index set on the {@link org.springframework.data.elasticsearch.core.query.IndexQuery} or
+ * passed explicitly to the operation is used as is. Operations by id, {@code get}, {@code exists}, {@code delete}
+ * and {@code update}, cannot derive the time key and use the index of the {@code @Document}, which does not exist;
+ * they need the concrete index to be passed, or a search over the {@link #indexPattern(Class) index pattern}. A bulk
+ * request is not split by the resolved indices, each of its operations names its own index. Indices are created on
+ * the first write with dynamic mapping, an index template for the index pattern put before, with
+ * {@link org.springframework.data.elasticsearch.core.IndexOperations#putIndexTemplate}, gives them the settings and
+ * mapping of the entity.
+ */
+public class TimeBasedIndexRouting {
+
+    /**
+     * Upper bound of the index names listed for a time range.
+     */
+    static final int MAX_INDICES = 1000;
+
+    private static final Pattern DATE_MATH = Pattern.compile("now(?:([+-])(\\d+)([smhHdwMy]))?");
+
+    private final MappingContext<? extends ElasticsearchPersistentEntity<?>, //
+            ElasticsearchPersistentProperty> mappingContext;
+    private final Duration indexCacheTimeToLive;
+    private final Map<Class<?>, Optional<TimeKey>> timeKeys = new ConcurrentHashMap<>();
+    private final Map<String, CachedIndices> existingIndices = new ConcurrentHashMap<>();
+    @Nullable private Function<String, Set<String>> indexLoader;
+
+    public TimeBasedIndexRouting(MappingContext<? extends ElasticsearchPersistentEntity<?>, //
+            ElasticsearchPersistentProperty> mappingContext) {
+        this(mappingContext, Duration.ofMinutes(1));
+    }
+
+    /**
+     * @param indexCacheTimeToLive how long the names of the existing indices of an index pattern are cached
+     */
+    public TimeBasedIndexRouting(
+            MappingContext<? extends ElasticsearchPersistentEntity<?>, ElasticsearchPersistentProperty> mappingContext,
+            Duration indexCacheTimeToLive) {
+
+        Assert.notNull(mappingContext, "mappingContext must not be null");
+        Assert.notNull(indexCacheTimeToLive, "indexCacheTimeToLive must not be null");
+
+        this.mappingContext = mappingContext;
+        this.indexCacheTimeToLive = indexCacheTimeToLive;
+    }
+
+    /**
+     * @return whether the given class is an entity with an {@link IndexTimeKey} property
+     */
+    public boolean isTimeBased(Class<?> type) {
+        return timeKey(type) != null;
+    }
+
+    /**
+     * @return the index of the given entity, {@literal null} if its class has no {@link IndexTimeKey} property
+     * @throws InvalidDataAccessApiUsageException if the time key of the entity is {@literal null}
+     */
+    @Nullable
+    public String indexName(Object entity) {
+
+        Assert.notNull(entity, "entity must not be null");
+
+        TimeKey timeKey = timeKey(entity.getClass());
+        return timeKey != null ? timeKey.indexName(entity) : null;
+    }
+
+    /**
+     * @param index the index an operation was given for the entity
+     * @return the index of the given entity if the given index is the index of its {@code @Document}, {@literal null}
+     *         if its class has no {@link IndexTimeKey} property or another index was given explicitly
+     * @throws InvalidDataAccessApiUsageException if the time key of the entity is {@literal null}
+     */
+    @Nullable
+    public String indexName(Object entity, IndexCoordinates index) {
+
+        Assert.notNull(entity, "entity must not be null");
+        Assert.notNull(index, "index must not be null");
+
+        TimeKey timeKey = timeKey(entity.getClass());
+        return timeKey != null && timeKey.entity.getIndexCoordinates().getIndexName().equals(index.getIndexName())
+                ? timeKey.indexName(entity)
+                : null;
+    }
+
+    /**
+     * @return the names of the indices of the given entity class covering the time range, both ends inclusive
+     */
+    public List<String> indexNames(Class<?> type, Instant from, Instant to) {
+
+        Assert.notNull(from, "from must not be null");
+        Assert.notNull(to, "to must not be null");
+        Assert.isTrue(!from.isAfter(to), "from must not be after to");
+
+        return requiredTimeKey(type).indexNames(from, to);
+    }
+
+    /**
+     * @return the pattern matching all indices of the given entity class, like {@code logs-*}
+     */
+    public String indexPattern(Class<?> type) {
+        return requiredTimeKey(type).prefix() + '*';
+    }
+
+    /**
+     * @return the name of the field holding the time key of the given entity class
+     */
+    public String timeField(Class<?> type) {
+        return requiredTimeKey(type).property.getFieldName();
+    }
+
+    /**
+     * @return the names a query may use for the time key of the given entity class, the property and the field name
+     */
+    public Set<String> timeFieldNames(Class<?> type) {
+
+        ElasticsearchPersistentProperty property = requiredTimeKey(type).property;
+        return Set.copyOf(List.of(property.getName(), property.getFieldName()));
+    }
+
+    /**
+     * Resolves the indices to read for a time range: the existing indices whose period overlaps the range, or the index
+     * pattern if there are none. Indices whose name cannot be parsed with the pattern of the {@link IndexTimeKey} are
+     * always kept.
+     *
+     * @param from the start of the range, inclusive, {@literal null} for an open start
+     * @param to the end of the range, inclusive, {@literal null} for an open end
+     * @param existingIndices the existing indices matching the {@link #indexPattern(Class) index pattern}
+     */
+    public IndexCoordinates indexCoordinates(Class<?> type, @Nullable Instant from, @Nullable Instant to,
+            Collection<String> existingIndices) {
+
+        TimeKey timeKey = requiredTimeKey(type);
+        String[] indexNames = overlapping(timeKey, from, to, existingIndices).toArray(String[]::new);
+
+        return indexNames.length > 0 ? IndexCoordinates.of(indexNames) : IndexCoordinates.of(timeKey.prefix() + '*');
+    }
+
+    /**
+     * Resolves the indices a search for a time range is restricted to: the {@link #existingIndices(String) existing
+     * indices} whose period overlaps the range, and the indices of the periods of the range from the time their names
+     * were loaded on, up to now for an open end, which may have been created since. The search must ignore the indices
+     * that do not exist. Indices of earlier periods created since by other clients are only read once the names are
+     * loaded again.
+     *
+     * @param from the start of the range, inclusive, {@literal null} for an open start
+     * @param to the end of the range, inclusive, {@literal null} for an open end
+     * @return the indices, {@literal null} if the existing indices are not available
+     */
+    @Nullable
+    public IndexCoordinates searchIndexCoordinates(Class<?> type, @Nullable Instant from, @Nullable Instant to) {
+
+        TimeKey timeKey = requiredTimeKey(type);
+        String pattern = timeKey.prefix() + '*';
+        CachedIndices cached = existing(pattern);
+
+        if (cached == null) {
+            return null;
+        }
+
+        Set<String> indexNames = new TreeSet<>(overlapping(timeKey, from, to, cached.names));
+        Instant start = from == null || from.isBefore(cached.loadedAt) ? cached.loadedAt : from;
+        Instant end = to != null ? to : Instant.now();
+
+        if (!start.isAfter(end)) {
+            indexNames.addAll(timeKey.indexNames(start, end));
+        }
+
+        return !indexNames.isEmpty() ? IndexCoordinates.of(indexNames.toArray(String[]::new))
+                : IndexCoordinates.of(pattern);
+    }
+
+    private static List<String> overlapping(TimeKey timeKey, @Nullable Instant from, @Nullable Instant to,
+            Collection<String> existingIndices) {
+
+        String prefix = timeKey.prefix();
+
+        return existingIndices.stream() //
+                .filter(indexName -> indexName.startsWith(prefix)) //
+                .filter(indexName -> timeKey.overlaps(indexName.substring(prefix.length()), from, to)) //
+                .sorted() //
+                .toList();
+    }
+
+    /**
+     * Converts a bound of a range query on the time key to an instant. Besides the supported types of the
+     * {@link IndexTimeKey} these are strings with epoch milliseconds, ISO-8601 instants and dates, and date math of the
+     * form {@code now}, {@code now-1h} or {@code now+7d} without rounding.
+     *
+     * @return the instant, {@literal null} if the value cannot be converted
+     */
+    @Nullable
+    public Instant timeValue(Class<?> type, Object value) {
+
+        TimeKey timeKey = requiredTimeKey(type);
+
+        if (value instanceof String text) {
+            return parse(text.trim(), timeKey.zone);
+        }
+
+        try {
+            return timeKey.toInstant(value);
+        } catch (InvalidDataAccessApiUsageException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Sets the function loading the names of the existing indices matching a pattern when they are not cached. It may
+     * return {@literal null} if it loads them asynchronously and {@link #cacheIndices(String, Collection) caches} them
+     * when they are available.
+     */
+    public void setIndexLoader(@Nullable Function<String, Set<String>> indexLoader) {
+        this.indexLoader = indexLoader;
+    }
+
+    /**
+     * @return the cached or loaded names of the existing indices matching the pattern, {@literal null} if they are not
+     *         available
+     */
+    @Nullable
+    public Set<String> existingIndices(String pattern) {
+
+        CachedIndices cached = existing(pattern);
+        return cached != null ? cached.names : null;
+    }
+
+    @Nullable
+    private CachedIndices existing(String pattern) {
+
+        CachedIndices cached = cached(pattern);
+        Function<String, Set<String>> loader = indexLoader;
+
+        if (cached == null && loader != null) {
+            Instant loadedAt = Instant.now();
+            Set<String> indexNames = loader.apply(pattern);
+
+            if (indexNames != null) {
+                cacheIndices(pattern, indexNames, loadedAt);
+                cached = cached(pattern);
+            }
+        }
+
+        return cached;
+    }
+
+    /**
+     * @return the cached names of the existing indices matching the pattern, {@literal null} if they are not cached or
+     *         have expired
+     */
+    @Nullable
+    public Set<String> cachedIndices(String pattern) {
+
+        CachedIndices cached = cached(pattern);
+        return cached != null ? cached.names : null;
+    }
+
+    @Nullable
+    private CachedIndices cached(String pattern) {
+
+        CachedIndices cached = existingIndices.get(pattern);
+        return cached != null && cached.expiresAt - System.nanoTime() > 0 ? cached : null;
+    }
+
+    public void cacheIndices(String pattern, Collection<String> indexNames) {
+        cacheIndices(pattern, indexNames, Instant.now());
+    }
+
+    /**
+     * @param loadedAt the time the loading of the names was started
+     */
+    public void cacheIndices(String pattern, Collection<String> indexNames, Instant loadedAt) {
+
+        Assert.hasText(pattern, "pattern must not be empty");
+        Assert.notNull(indexNames, "indexNames must not be null");
+        Assert.notNull(loadedAt, "loadedAt must not be null");
+
+        existingIndices.put(pattern, new CachedIndices(Set.copyOf(indexNames), loadedAt,
+                System.nanoTime() + indexCacheTimeToLive.toNanos()));
+    }
+
+    /**
+     * Adds an index that has been written to the cached index patterns it matches.
+     */
+    public void indexWritten(String indexName) {
+
+        if (existingIndices.isEmpty()) {
+            return;
+        }
+
+        existingIndices.replaceAll((pattern, cached) -> {
+            if (cached.names.contains(indexName) || !indexName.startsWith(pattern.substring(0, pattern.length() - 1))) {
+                return cached;
+            }
+
+            Set<String> names = new HashSet<>(cached.names);
+            names.add(indexName);
+            return new CachedIndices(Set.copyOf(names), cached.loadedAt, cached.expiresAt);
+        });
+    }
+
+    @Nullable
+    private static Instant parse(String text, ZoneId zone) {
+
+        if (text.startsWith("now")) {
+            return dateMath(text);
+        }
+
+        if (!text.isEmpty() && text.chars().allMatch(Character::isDigit)) {
+            return Instant.ofEpochMilli(Long.parseLong(text));
+        }
+
+        try {
+            return Instant.parse(text);
+        } catch (DateTimeParseException e) {
+            // not an instant
+        }
+
+        try {
+            return LocalDate.parse(text).atStartOfDay(zone).toInstant();
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    @Nullable
+    private static Instant dateMath(String text) {
+
+        Matcher matcher = DATE_MATH.matcher(text);
+
+        if (!matcher.matches()) {
+            return null;
+        }
+
+        Instant now = Instant.now();
+
+        if (matcher.group(1) == null) {
+            return now;
+        }
+
+        long amount = Long.parseLong(matcher.group(2)) * (matcher.group(1).equals("-") ? -1 : 1);
+        ZonedDateTime time = now.atZone(ZoneOffset.UTC);
+
+        return switch (matcher.group(3)) {
+            case "s" -> time.plusSeconds(amount);
+            case "m" -> time.plusMinutes(amount);
+            case "h", "H" -> time.plusHours(amount);
+            case "d" -> time.plusDays(amount);
+            case "w" -> time.plusWeeks(amount);
+            case "M" -> time.plusMonths(amount);
+            default -> time.plusYears(amount);
+        }.toInstant();
+    }
+
+    private TimeKey requiredTimeKey(Class<?> type) {
+
+        TimeKey timeKey = timeKey(type);
+
+        if (timeKey == null) {
+            throw new InvalidDataAccessApiUsageException(type.getName() + " has no @IndexTimeKey property");
+        }
+
+        return timeKey;
+    }
+
+    @Nullable
+    private TimeKey timeKey(Class<?> type) {
+        return timeKeys.computeIfAbsent(type, this::createTimeKey).orElse(null);
+    }
+
+    private Optional<TimeKey> createTimeKey(Class<?> type) {
+
+        if (!AnnotatedElementUtils.hasAnnotation(type, Document.class)) {
+            return Optional.empty();
+        }
+
+        ElasticsearchPersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(type);
+        ElasticsearchPersistentProperty property = entity.getPersistentProperty(IndexTimeKey.class);
+
+        if (property == null) {
+            return Optional.empty();
+        }
+
+        IndexTimeKey annotation = property.getRequiredAnnotation(IndexTimeKey.class);
+        return Optional.of(new TimeKey(entity, property, annotation));
+    }
+
+    private record CachedIndices(Set<String> names, Instant loadedAt, long expiresAt) {
+    }
+
+    /**
+     * A period and the formatted time part of its index name.
+     */
+    private record Period(long start, long end, String name) {
+
+        boolean contains(long epochMilli) {
+            return start <= epochMilli && epochMilli < end;
+        }
+    }
+
+    private static final class TimeKey {
+
+        private final ElasticsearchPersistentEntity<?> entity;
+        private final ElasticsearchPersistentProperty property;
+        private final DateTimeFormatter formatter;
+        private final DateTimeFormatter parser;
+        private final ChronoUnit period;
+        private final ZoneId zone;
+        private final String separator;
+        @Nullable private volatile Period lastPeriod;
+
+        private TimeKey(ElasticsearchPersistentEntity<?> entity, ElasticsearchPersistentProperty property,
+                IndexTimeKey annotation) {
+
+            Assert.isTrue(List.of(ChronoUnit.HOURS, ChronoUnit.DAYS, ChronoUnit.WEEKS, ChronoUnit.MONTHS,
+                    ChronoUnit.YEARS).contains(annotation.period()), "Unsupported @IndexTimeKey period "
+                            + annotation.period() + " on " + entity.getType().getName());
+
+            this.entity = entity;
+            this.property = property;
+            this.zone = ZoneId.of(annotation.zone());
+            this.formatter = DateTimeFormatter.ofPattern(annotation.pattern()).withZone(zone);
+            this.parser = new DateTimeFormatterBuilder() //
+                    .appendPattern(annotation.pattern()) //
+                    .parseDefaulting(ChronoField.MONTH_OF_YEAR, 1) //
+                    .parseDefaulting(ChronoField.DAY_OF_MONTH, 1) //
+                    .parseDefaulting(ChronoField.HOUR_OF_DAY, 0) //
+                    .toFormatter();
+            this.period = annotation.period();
+            this.separator = annotation.separator();
+        }
+
+        /**
+         * The prefix is resolved for each use as the index name of the entity may be a SpEL expression.
+         */
+        String prefix() {
+            return entity.getIndexCoordinates().getIndexName() + separator;
+        }
+
+        String indexName(Object bean) {
+
+            Object value = entity.getPropertyAccessor(bean).getProperty(property);
+
+            if (value == null) {
+                throw new InvalidDataAccessApiUsageException("@IndexTimeKey property " + property.getName() + " of "
+                        + bean.getClass().getName() + " is null");
+            }
+
+            long epochMilli = toInstant(value).toEpochMilli();
+            Period last = lastPeriod;
+
+            if (last == null || !last.contains(epochMilli)) {
+                ZonedDateTime start = start(Instant.ofEpochMilli(epochMilli).atZone(zone));
+                last = new Period(start.toInstant().toEpochMilli(), start.plus(1, period).toInstant().toEpochMilli(),
+                        formatter.format(start));
+                lastPeriod = last;
+            }
+
+            return prefix() + last.name();
+        }
+
+        List<String> indexNames(Instant from, Instant to) {
+
+            String prefix = prefix();
+            List<String> indexNames = new ArrayList<>();
+            ZonedDateTime end = to.atZone(zone);
+
+            for (ZonedDateTime start = start(from.atZone(zone)); !start.isAfter(end)
+                    && indexNames.size() < MAX_INDICES; start = start.plus(1, period)) {
+                indexNames.add(prefix + formatter.format(start));
+            }
+
+            return indexNames;
+        }
+
+        /**
+         * @param name the time part of an index name
+         * @return whether the period of the index overlaps the range, {@literal true} if the name cannot be parsed
+         */
+        boolean overlaps(String name, @Nullable Instant from, @Nullable Instant to) {
+
+            ZonedDateTime start;
+            try {
+                start = start(LocalDateTime.from(parser.parse(name)).atZone(zone));
+            } catch (DateTimeException e) {
+                return true;
+            }
+
+            return (to == null || !start.toInstant().isAfter(to))
+                    && (from == null || start.plus(1, period).toInstant().isAfter(from));
+        }
+
+        private ZonedDateTime start(ZonedDateTime time) {
+            return switch (period) {
+                case HOURS -> time.truncatedTo(ChronoUnit.HOURS);
+                case WEEKS -> time.truncatedTo(ChronoUnit.DAYS).with(ChronoField.DAY_OF_WEEK, 1);
+                case MONTHS -> time.truncatedTo(ChronoUnit.DAYS).withDayOfMonth(1);
+                case YEARS -> time.truncatedTo(ChronoUnit.DAYS).withDayOfYear(1);
+                default -> time.truncatedTo(ChronoUnit.DAYS);
+            };
+        }
+
+        Instant toInstant(Object value) {
+
+            if (value instanceof Instant instant) {
+                return instant;
+            }
+
+            if (value instanceof Date date) {
+                return date.toInstant();
+            }
+
+            if (value instanceof Number number) {
+                return Instant.ofEpochMilli(number.longValue());
+            }
+
+            if (value instanceof LocalDateTime localDateTime) {
+                return localDateTime.atZone(zone).toInstant();
+            }
+
+            if (value instanceof LocalDate localDate) {
+                return localDate.atStartOfDay(zone).toInstant();
+            }
+
+            if (value instanceof TemporalAccessor temporal && temporal.isSupported(ChronoField.INSTANT_SECONDS)) {
+                return Instant.from(temporal);
+            }
+
+            throw new InvalidDataAccessApiUsageException("Unsupported @IndexTimeKey type " + value.getClass().getName()
+                    + " of property " + property.getName() + " of " + entity.getType().getName());
+        }
+    }
+}
@@ -20,6 +20,7 @@ import static org.springframework.util.StringUtils.*;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import org.opensearch.data.aot.PrecomputedIndexDefinitions;
 import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.elasticsearch.UncategorizedElasticsearchException;
@@ -96,6 +97,11 @@ public abstract class AbstractIndexTemplate implements IndexOperations {
 
         Assert.notNull(clazz, "clazz must not be null");
 
+        Settings precomputed = PrecomputedIndexDefinitions.get().settings(clazz);
+        if (precomputed != null) {
+            return precomputed;
+        }
+
         ElasticsearchPersistentEntity<?> persistentEntity = getRequiredPersistentEntity(clazz);
         String settingPath = persistentEntity.settingPath();
         return hasText(settingPath) //
@@ -202,6 +208,12 @@ public abstract class AbstractIndexTemplate implements IndexOperations {
     @Override
     public Document createMapping(Class<?> clazz) {
 
+        Document precomputed = PrecomputedIndexDefinitions.get().mapping(clazz, elasticsearchConverter,
+                mappingParametersCustomizer);
+        if (precomputed != null) {
+            return precomputed;
+        }
+
         // load mapping specified in Mapping annotation if present
         // noinspection DuplicatedCode
         Mapping mappingAnnotation = AnnotatedElementUtils.findMergedAnnotation(clazz, Mapping.class);
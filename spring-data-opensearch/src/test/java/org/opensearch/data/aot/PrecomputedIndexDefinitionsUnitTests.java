@@ -0,0 +1,159 @@
+/*
+ * Copyright OpenSearch Contributors.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.data.aot;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.opensearch.data.core.OpenSearchMappingParametersCustomizer;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.annotations.Field;
+import org.springframework.data.elasticsearch.annotations.FieldType;
+import org.springframework.data.elasticsearch.annotations.Setting;
+import org.springframework.data.elasticsearch.core.convert.MappingElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.index.MappingBuilder;
+import org.springframework.data.elasticsearch.core.index.MappingParametersCustomizer;
+import org.springframework.data.elasticsearch.core.mapping.SimpleElasticsearchMappingContext;
+import org.springframework.data.mapping.model.SnakeCaseFieldNamingStrategy;
+
+class PrecomputedIndexDefinitionsUnitTests {
+
+    private final MappingParametersCustomizer customizer = new OpenSearchMappingParametersCustomizer();
+    private MappingElasticsearchConverter converter;
+
+    @BeforeEach
+    void setUp() {
+
+        SimpleElasticsearchMappingContext mappingContext = new SimpleElasticsearchMappingContext();
+        mappingContext.setInitialEntitySet(Set.of(Book.class));
+        mappingContext.afterPropertiesSet();
+
+        converter = new MappingElasticsearchConverter(mappingContext);
+        converter.afterPropertiesSet();
+    }
+
+    @Test
+    @DisplayName("should precompute the mapping the mapping builder creates")
+    void shouldPrecomputeMapping() {
+
+        PrecomputedIndexDefinitions definitions = PrecomputedIndexDefinitions.compute(converter, customizer);
+
+        String expected = new MappingBuilder(converter, customizer).buildPropertyMapping(Book.class);
+        assertThat(definitions.mapping(Book.class, converter, customizer).toJson())
+                .isEqualTo(org.springframework.data.elasticsearch.core.document.Document.parse(expected).toJson());
+    }
+
+    @Test
+    @DisplayName("should precompute the settings of the entity")
+    void shouldPrecomputeSettings() {
+
+        PrecomputedIndexDefinitions definitions = PrecomputedIndexDefinitions.compute(converter, customizer);
+
+        assertThat(definitions.settings(Book.class).toJson()).isEqualTo(
+                converter.getMappingContext().getRequiredPersistentEntity(Book.class).getDefaultSettings().toJson());
+    }
+
+    @Test
+    @DisplayName("should only precompute the definitions of documents")
+    void shouldOnlyPrecomputeDocuments() {
+
+        PrecomputedIndexDefinitions definitions = PrecomputedIndexDefinitions.compute(converter, customizer);
+
+        assertThat(definitions.size()).isEqualTo(1);
+        assertThat(definitions.settings(Author.class)).isNull();
+    }
+
+    @Test
+    @DisplayName("should read the definitions it wrote")
+    void shouldRoundTrip() {
+
+        PrecomputedIndexDefinitions definitions = PrecomputedIndexDefinitions.compute(converter, customizer);
+        PrecomputedIndexDefinitions read = PrecomputedIndexDefinitions.parse(definitions.toJson());
+
+        assertThat(read.mapping(Book.class, converter, customizer).toJson())
+                .isEqualTo(definitions.mapping(Book.class, converter, customizer).toJson());
+        assertThat(read.settings(Book.class).toJson()).isEqualTo(definitions.settings(Book.class).toJson());
+    }
+
+    @Test
+    @DisplayName("should not hand out mappings built with another customizer")
+    void shouldIgnoreMappingOfOtherCustomizer() {
+
+        PrecomputedIndexDefinitions definitions = PrecomputedIndexDefinitions.compute(converter, customizer);
+
+        assertThat(definitions.mapping(Book.class, converter, annotation -> null)).isNull();
+    }
+
+    @Test
+    @DisplayName("should not hand out mappings built with a converter using another field naming strategy")
+    void shouldIgnoreMappingOfOtherFieldNamingStrategy() {
+
+        PrecomputedIndexDefinitions definitions = PrecomputedIndexDefinitions.compute(converter, customizer);
+
+        SimpleElasticsearchMappingContext mappingContext = new SimpleElasticsearchMappingContext();
+        mappingContext.setFieldNamingStrategy(new SnakeCaseFieldNamingStrategy());
+        mappingContext.setInitialEntitySet(Set.of(Book.class));
+        mappingContext.afterPropertiesSet();
+        MappingElasticsearchConverter snakeCaseConverter = new MappingElasticsearchConverter(mappingContext);
+        snakeCaseConverter.afterPropertiesSet();
+
+        assertThat(definitions.mapping(Book.class, snakeCaseConverter, customizer)).isNull();
+        assertThat(PrecomputedIndexDefinitions.parse(definitions.toJson())
+                .mapping(Book.class, snakeCaseConverter, customizer)).isNull();
+    }
+
+    @Test
+    @DisplayName("should not hand out mappings built with a converter writing other type hints")
+    void shouldIgnoreMappingOfOtherTypeHints() {
+
+        PrecomputedIndexDefinitions definitions = PrecomputedIndexDefinitions.compute(converter, customizer);
+
+        SimpleElasticsearchMappingContext mappingContext = new SimpleElasticsearchMappingContext();
+        mappingContext.setWriteTypeHints(false);
+        mappingContext.setInitialEntitySet(Set.of(Book.class));
+        mappingContext.afterPropertiesSet();
+        MappingElasticsearchConverter withoutTypeHints = new MappingElasticsearchConverter(mappingContext);
+        withoutTypeHints.afterPropertiesSet();
+
+        assertThat(definitions.mapping(Book.class, withoutTypeHints, customizer)).isNull();
+    }
+
+    @Test
+    @DisplayName("should hand out copies")
+    void shouldHandOutCopies() {
+
+        PrecomputedIndexDefinitions definitions = PrecomputedIndexDefinitions.compute(converter, customizer);
+
+        definitions.mapping(Book.class, converter, customizer).put("dynamic", "strict");
+
+        assertThat(definitions.mapping(Book.class, converter, customizer)).doesNotContainKey("dynamic");
+    }
+
+    @Test
+    @DisplayName("should be empty without generated artifacts")
+    void shouldBeEmptyWithoutGeneratedArtifacts() {
+
+        assertThat(PrecomputedIndexDefinitions.get().isEmpty()).isTrue();
+    }
+
+    @Document(indexName = "books")
+    @Setting(shards = 3, replicas = 2)
+    static class Book {
+        @Id String id;
+        @Field(type = FieldType.Text) String title;
+        @Field(type = FieldType.Keyword) List<String> tags;
+        @Field(type = FieldType.Integer) Integer pageCount;
+        @Field(type = FieldType.Nested) List<Author> authors;
+    }
+
+    static class Author {
+        @Field(type = FieldType.Keyword) String name;
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.apache.hc.client5.http.async.AsyncExecCallback;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.nio.AsyncDataConsumer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.opensearch.data.client.osc.AdaptiveConcurrencyLimiter.Acquisition;
+import org.opensearch.data.client.osc.AdaptiveConcurrencyLimiter.NodeLimit;
+
+class AdaptiveConcurrencyLimiterUnitTests {
+
+    private static final Runnable REQUEST = () -> {};
+
+    @Test
+    @DisplayName("should queue and then reject requests over the limit")
+    void shouldQueueAndRejectRequestsOverTheLimit() {
+
+        NodeLimit limit = new NodeLimit(2, 1, 10);
+
+        assertThat(limit.acquire(REQUEST, 1)).isEqualTo(Acquisition.ACQUIRED);
+        assertThat(limit.acquire(REQUEST, 1)).isEqualTo(Acquisition.ACQUIRED);
+        assertThat(limit.acquire(REQUEST, 1)).isEqualTo(Acquisition.QUEUED);
+        assertThat(limit.acquire(REQUEST, 1)).isEqualTo(Acquisition.REJECTED);
+        assertThat(limit.getInFlight()).isEqualTo(2);
+        assertThat(limit.getQueued()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should hand the permit of a completed request to a queued request")
+    void shouldHandPermitToQueuedRequest() {
+
+        NodeLimit limit = new NodeLimit(1, 1, 1);
+        Runnable queued = () -> {};
+        limit.acquire(REQUEST, 1);
+        limit.acquire(queued, 1);
+
+        assertThat(limit.release(1_000_000, 1, false)).isSameAs(queued);
+        assertThat(limit.getInFlight()).isEqualTo(1);
+        assertThat(limit.getQueued()).isZero();
+        assertThat(limit.release(1_000_000, 1, false)).isNull();
+        assertThat(limit.getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("should remove a queued request that waited too long")
+    void shouldDequeueWaitingRequest() {
+
+        NodeLimit limit = new NodeLimit(1, 1, 1);
+        Runnable queued = () -> {};
+        limit.acquire(REQUEST, 1);
+        limit.acquire(queued, 1);
+
+        assertThat(limit.dequeue(queued)).isTrue();
+        assertThat(limit.dequeue(queued)).isFalse();
+        assertThat(limit.release(1_000_000, 1, false)).isNull();
+    }
+
+    @Test
+    @DisplayName("should answer rejected requests with a 429 response instead of an I/O error")
+    void shouldRejectWithTooManyRequests() throws Exception {
+
+        AdaptiveConcurrencyLimiter limiter = AdaptiveConcurrencyLimiter.builder().build();
+        AsyncExecCallback callback = mock(AsyncExecCallback.class);
+        AsyncDataConsumer consumer = mock(AsyncDataConsumer.class);
+        ArgumentCaptor<HttpResponse> response = ArgumentCaptor.forClass(HttpResponse.class);
+        ArgumentCaptor<ByteBuffer> body = ArgumentCaptor.forClass(ByteBuffer.class);
+        when(callback.handleResponse(response.capture(), any())).thenReturn(consumer);
+
+        limiter.reject(new HttpHost("localhost", 9200), "concurrency limit of 1 requests exceeded", callback);
+
+        assertThat(response.getValue().getCode()).isEqualTo(429);
+        verify(consumer).consume(body.capture());
+        assertThat(StandardCharsets.UTF_8.decode(body.getValue()).toString())
+                .contains(AdaptiveConcurrencyLimiter.REJECTION_TYPE);
+        verify(callback).completed();
+        verify(callback, never()).failed(any());
+        assertThat(limiter.getRejections()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should decrease the limit when requests are dropped")
+    void shouldDecreaseLimitOnDrop() {
+
+        NodeLimit limit = new NodeLimit(10, 1, 100);
+
+        limit.acquire(REQUEST, 0);
+        limit.release(1_000_000, 10, true);
+
+        assertThat(limit.getLimit()).isEqualTo(9);
+    }
+
+    @Test
+    @DisplayName("should increase the limit while the latency stays at its minimum")
+    void shouldIncreaseLimitAtMinimumLatency() {
+
+        NodeLimit limit = new NodeLimit(10, 1, 100);
+
+        for (int i = 0; i < 5; i++) {
+            limit.acquire(REQUEST, 0);
+            limit.release(1_000_000, limit.getLimit(), false);
+        }
+
+        assertThat(limit.getLimit()).isGreaterThan(10);
+    }
+
+    @Test
+    @DisplayName("should decrease the limit when the latency grows")
+    void shouldDecreaseLimitWhenLatencyGrows() {
+
+        NodeLimit limit = new NodeLimit(50, 1, 100);
+        limit.acquire(REQUEST, 0);
+        limit.release(1_000_000, 50, false);
+        int before = limit.getLimit();
+
+        for (int i = 0; i < 5; i++) {
+            limit.acquire(REQUEST, 0);
+            limit.release(10_000_000, limit.getLimit(), false);
+        }
+
+        assertThat(limit.getLimit()).isLessThan(before);
+    }
+
+    @Test
+    @DisplayName("should not change the limit while it is not reached")
+    void shouldNotChangeLimitWhileNotReached() {
+
+        NodeLimit limit = new NodeLimit(10, 1, 100);
+
+        limit.acquire(REQUEST, 0);
+        limit.release(1_000_000, 1, false);
+
+        assertThat(limit.getLimit()).isEqualTo(10);
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+
+package org.opensearch.data.client.osc;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import jakarta.json.stream.JsonGenerator;
+import java.io.StringWriter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.opensearch.client.json.jackson.JacksonJsonpMapper;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+
+class BulkLoadSessionUnitTests {
+
+    private static final IndexCoordinates PRODUCTS = IndexCoordinates.of("products");
+
+    private final IndicesTemplate indicesTemplate = mock(IndicesTemplate.class);
+
+    @Test
+    @DisplayName("should disable refresh and replicas by default")
+    void shouldDisableRefreshAndReplicasByDefault() {
+
+        assertThat(BulkLoadOptions.defaults().loadSettings()).containsExactly(
+                entry(BulkLoadOptions.REFRESH_INTERVAL, "-1"), entry(BulkLoadOptions.NUMBER_OF_REPLICAS, 0));
+    }
+
+    @Test
+    @DisplayName("should force merge and refresh before restoring the settings")
+    void shouldOptimizeBeforeRestoring() {
+
+        BulkLoadSession session = session(BulkLoadOptions.builder().withForceMerge(1).build(), original());
+
+        session.close();
+
+        InOrder inOrder = inOrder(indicesTemplate);
+        inOrder.verify(indicesTemplate).forceMerge(PRODUCTS, 1);
+        inOrder.verify(indicesTemplate).refresh();
+        inOrder.verify(indicesTemplate).putSettings(IndexCoordinates.of("products-v1"),
+                Map.of(BulkLoadOptions.REFRESH_INTERVAL, "1s", BulkLoadOptions.NUMBER_OF_REPLICAS, "1"));
+        inOrder.verify(indicesTemplate).putSettings(IndexCoordinates.of("products-v2"),
+                Map.of(BulkLoadOptions.REFRESH_INTERVAL, "30s", BulkLoadOptions.NUMBER_OF_REPLICAS, "2"));
+    }
+
+    @Test
+    @DisplayName("should only restore the settings after a failed load")
+    void shouldOnlyRestoreAfterFailure() {
+
+        BulkLoadSession session = session(BulkLoadOptions.builder().withForceMerge(1).build(), original());
+
+        session.markFailed();
+        session.close();
+
+        verify(indicesTemplate, never()).forceMerge(any(), any());
+        verify(indicesTemplate, never()).refresh();
+        verify(indicesTemplate, times(2)).putSettings(any(), any());
+    }
+
+    @Test
+    @DisplayName("should restore all indices when restoring one fails")
+    void shouldRestoreAllIndicesWhenOneFails() {
+
+        BulkLoadSession session = session(BulkLoadOptions.defaults(), original());
+        doThrow(new IllegalStateException("first")).when(indicesTemplate)
+                .putSettings(eq(IndexCoordinates.of("products-v1")), any());
+
+        assertThatThrownBy(session::close).isInstanceOf(IllegalStateException.class).hasMessage("first");
+
+        verify(indicesTemplate).putSettings(eq(IndexCoordinates.of("products-v2")), any());
+    }
+
+    @Test
+    @DisplayName("should restore the settings when the force merge fails")
+    void shouldRestoreWhenForceMergeFails() {
+
+        BulkLoadSession session = session(BulkLoadOptions.builder().withForceMerge(1).build(), original());
+        doThrow(new IllegalStateException("merge")).when(indicesTemplate).forceMerge(any(), any());
+
+        assertThatThrownBy(session::close).hasMessage("merge");
+
+        verify(indicesTemplate, times(2)).putSettings(any(), any());
+    }
+
+    @Test
+    @DisplayName("should close only once")
+    void shouldCloseOnlyOnce() {
+
+        BulkLoadSession session = session(BulkLoadOptions.builder().withRefresh(false).build(), original());
+
+        session.close();
+        session.close();
+
+        verify(indicesTemplate, times(2)).putSettings(any(), any());
+    }
+
+    @Test
+    @DisplayName("should reset the settings the index did not set")
+    void shouldResetUnsetSettings() {
+
+        Map<String, Object> unset = new LinkedHashMap<>();
+        unset.put(BulkLoadOptions.REFRESH_INTERVAL, null);
+        unset.put(BulkLoadOptions.NUMBER_OF_REPLICAS, "1");
+        BulkLoadSession session = session(BulkLoadOptions.builder().withRefresh(false).build(),
+                Map.of("products-v1", unset));
+
+        session.close();
+
+        verify(indicesTemplate).putSettings(IndexCoordinates.of("products-v1"), unset);
+    }
+
+    @Test
+    @DisplayName("should send null settings to reset them")
+    void shouldSendNullSettings() {
+
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put(BulkLoadOptions.REFRESH_INTERVAL, null);
+        settings.put(BulkLoadOptions.NUMBER_OF_REPLICAS, 0);
+        PutFlatSettingsRequest request = new PutFlatSettingsRequest(List.of("products-v1", "products-v2"), settings);
+
+        JacksonJsonpMapper mapper = new JacksonJsonpMapper();
+        StringWriter json = new StringWriter();
+        try (JsonGenerator generator = mapper.jsonProvider().createGenerator(json)) {
+            request.serialize(generator, mapper);
+        }
+
+        assertThat(json.toString()).isEqualTo("{\"index\":{\"refresh_interval\":null,\"number_of_replicas\":\"0\"}}");
+        assertThat(PutFlatSettingsRequest.ENDPOINT.requestUrl(request)).isEqualTo("/products-v1,products-v2/_settings");
+        assertThat(PutFlatSettingsRequest.ENDPOINT.method(request)).isEqualTo("PUT");
+    }
+
+    private BulkLoadSession session(BulkLoadOptions options, Map<String, Map<String, Object>> original) {
+        return new BulkLoadSession(indicesTemplate, PRODUCTS, options, original);
+    }
+
+    private static Map<String, Map<String, Object>> original() {
+
+        Map<String, Map<String, Object>> original = new LinkedHashMap<>();
+        original.put("products-v1",
+                Map.of(BulkLoadOptions.REFRESH_INTERVAL, "1s", BulkLoadOptions.NUMBER_OF_REPLICAS, "1"));
+        original.put("products-v2",
+                Map.of(BulkLoadOptions.REFRESH_INTERVAL, "30s", BulkLoadOptions.NUMBER_OF_REPLICAS, "2"));
+        return original;
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.core5.util.Timeout;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ClientLaneUnitTests {
+
+    @Test
+    @DisplayName("should apply the timeouts of the lane")
+    void shouldApplyTimeouts() {
+
+        ClientLane lane = ClientLane.builder(ClientLane.BATCH) //
+                .withConnectTimeout(Duration.ofSeconds(2)) //
+                .withSocketTimeout(Duration.ofMinutes(5)) //
+                .build();
+
+        RequestConfig config = lane.configure(RequestConfig.custom()).build();
+
+        assertThat(config.getConnectTimeout()).isEqualTo(Timeout.ofSeconds(2));
+        assertThat(config.getResponseTimeout()).isEqualTo(Timeout.ofMinutes(5));
+    }
+
+    @Test
+    @DisplayName("should keep the configured timeouts when the lane has none")
+    void shouldKeepConfiguredTimeouts() {
+
+        ClientLane lane = ClientLane.builder(ClientLane.INTERACTIVE).build();
+
+        RequestConfig config = lane.configure(RequestConfig.custom().setResponseTimeout(Timeout.ofSeconds(30))).build();
+
+        assertThat(config.getResponseTimeout()).isEqualTo(Timeout.ofSeconds(30));
+    }
+
+    @Test
+    @DisplayName("should reject invalid settings")
+    void shouldRejectInvalidSettings() {
+
+        assertThatIllegalArgumentException().isThrownBy(() -> ClientLane.builder(""));
+        assertThatIllegalArgumentException().isThrownBy(() -> ClientLane.builder("batch").withMaxConnections(0));
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> ClientLane.builder("batch").withMaxConcurrentRequests(-1));
+    }
+}
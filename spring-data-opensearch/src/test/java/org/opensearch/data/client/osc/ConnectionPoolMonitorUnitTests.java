@@ -0,0 +1,119 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClientBuilder;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
+import org.apache.hc.client5.http.nio.AsyncClientConnectionManager;
+import org.apache.hc.client5.http.nio.AsyncConnectionEndpoint;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.reactor.IOSession;
+import org.apache.hc.core5.util.Timeout;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class ConnectionPoolMonitorUnitTests {
+
+    private static final HttpRoute ROUTE = new HttpRoute(new HttpHost("localhost", 9200));
+
+    private final ConnectionPoolMonitor monitor = new ConnectionPoolMonitor();
+    private final PoolingAsyncClientConnectionManager delegate = mock(PoolingAsyncClientConnectionManager.class);
+    private AsyncClientConnectionManager connectionManager;
+
+    @BeforeEach
+    void setUp() {
+
+        HttpAsyncClientBuilder builder = mock(HttpAsyncClientBuilder.class, RETURNS_SELF);
+        monitor.configure(builder, delegate);
+
+        ArgumentCaptor<AsyncClientConnectionManager> captor = ArgumentCaptor.forClass(AsyncClientConnectionManager.class);
+        verify(builder).setConnectionManager(captor.capture());
+        verify(builder).setIOSessionListener(monitor);
+        connectionManager = captor.getValue();
+    }
+
+    @Test
+    @DisplayName("should count leases and notify route listeners once per route")
+    @SuppressWarnings("unchecked")
+    void shouldCountLeasesAndNotifyRouteListeners() {
+
+        List<HttpRoute> routes = new ArrayList<>();
+        monitor.addRouteListener(routes::add);
+        doAnswer(invocation -> {
+            invocation.getArgument(4, FutureCallback.class).completed(mock(AsyncConnectionEndpoint.class));
+            return null;
+        }).when(delegate).lease(any(), any(), any(), any(), any());
+
+        connectionManager.lease("1", ROUTE, null, Timeout.ofSeconds(1), mock(FutureCallback.class));
+        connectionManager.lease("2", ROUTE, null, Timeout.ofSeconds(1), mock(FutureCallback.class));
+
+        assertThat(monitor.getLeases()).isEqualTo(2);
+        assertThat(monitor.getLeaseWaitNanos()).isNotNegative();
+        assertThat(monitor.getRoutes()).containsExactly(ROUTE);
+        assertThat(routes).containsExactly(ROUTE);
+    }
+
+    @Test
+    @DisplayName("should count failed leases and pass the failure on")
+    @SuppressWarnings("unchecked")
+    void shouldCountFailedLeases() {
+
+        Exception failure = new IllegalStateException("pool exhausted");
+        doAnswer(invocation -> {
+            invocation.getArgument(4, FutureCallback.class).failed(failure);
+            return null;
+        }).when(delegate).lease(any(), any(), any(), any(), any());
+        FutureCallback<AsyncConnectionEndpoint> callback = mock(FutureCallback.class);
+
+        connectionManager.lease("1", ROUTE, null, Timeout.ofSeconds(1), callback);
+
+        assertThat(monitor.getLeaseFailures()).isEqualTo(1);
+        assertThat(monitor.getLeases()).isZero();
+        verify(callback).failed(failure);
+    }
+
+    @Test
+    @DisplayName("should count I/O session events")
+    void shouldCountSessionEvents() {
+
+        IOSession session = mock(IOSession.class);
+
+        monitor.connected(session);
+        monitor.connected(session);
+        monitor.timeout(session);
+        monitor.exception(session, new IOException());
+        monitor.disconnected(session);
+
+        assertThat(monitor.getConnectionsOpened()).isEqualTo(2);
+        assertThat(monitor.getConnectionsClosed()).isEqualTo(1);
+        assertThat(monitor.getOpenConnections()).isEqualTo(1);
+        assertThat(monitor.getIoTimeouts()).isEqualTo(1);
+        assertThat(monitor.getIoExceptions()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should not monitor a second connection manager")
+    void shouldNotMonitorSecondConnectionManager() {
+
+        assertThatIllegalStateException().isThrownBy(() -> monitor.configure(mock(HttpAsyncClientBuilder.class),
+                mock(PoolingAsyncClientConnectionManager.class)));
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.opensearch.client.RequestOptions;
+import org.opensearch.client.transport.Endpoint;
+import org.opensearch.client.transport.OpenSearchTransport;
+import org.opensearch.client.transport.TransportOptions;
+import org.opensearch.client.transport.rest_client.RestClientOptions;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class CorrelatingOpenSearchTransportUnitTests {
+
+    private final OpenSearchTransport delegate = mock(OpenSearchTransport.class);
+    @SuppressWarnings("unchecked") private final Endpoint<Object, Object, Object> endpoint = mock(Endpoint.class);
+    private final CorrelatingOpenSearchTransport transport = new CorrelatingOpenSearchTransport(delegate,
+            () -> "from-provider");
+
+    @Test
+    @DisplayName("should send the correlation id bound to the thread")
+    void shouldSendBoundCorrelationId() throws Exception {
+
+        when(delegate.options()).thenReturn(new RestClientOptions(RequestOptions.DEFAULT));
+        ArgumentCaptor<TransportOptions> options = ArgumentCaptor.forClass(TransportOptions.class);
+        when(delegate.performRequest(any(), eq(endpoint), options.capture())).thenReturn("response");
+
+        try (CorrelationId.Scope ignored = CorrelationId.bind("request-1")) {
+            transport.performRequest("request", endpoint, null);
+        }
+
+        assertThat(options.getValue().headers()).contains(Map.entry("X-Opaque-Id", "request-1"));
+        assertThat(CorrelationId.current()).isNull();
+    }
+
+    @Test
+    @DisplayName("should fall back to the correlation id of the provider")
+    void shouldUseProvider() throws Exception {
+
+        when(delegate.options()).thenReturn(new RestClientOptions(RequestOptions.DEFAULT));
+        ArgumentCaptor<TransportOptions> options = ArgumentCaptor.forClass(TransportOptions.class);
+        when(delegate.performRequest(any(), eq(endpoint), options.capture())).thenReturn("response");
+
+        transport.performRequest("request", endpoint, null);
+
+        assertThat(options.getValue().headers()).contains(Map.entry("X-Opaque-Id", "from-provider"));
+    }
+
+    @Test
+    @DisplayName("should keep an X-Opaque-Id header set by the caller")
+    void shouldKeepHeaderOfCaller() throws Exception {
+
+        TransportOptions callerOptions = new RestClientOptions(RequestOptions.DEFAULT).toBuilder()
+                .addHeader("x-opaque-id", "explicit").build();
+
+        transport.performRequest("request", endpoint, callerOptions);
+
+        verify(delegate).performRequest("request", endpoint, callerOptions);
+    }
+
+    @Test
+    @DisplayName("should pass requests without correlation id on unchanged")
+    void shouldPassRequestsWithoutCorrelationIdUnchanged() throws Exception {
+
+        CorrelatingOpenSearchTransport transport = new CorrelatingOpenSearchTransport(delegate);
+
+        transport.performRequest("request", endpoint, null);
+
+        verify(delegate).performRequest("request", endpoint, null);
+        verify(delegate, never()).options();
+    }
+
+    @Test
+    @DisplayName("should bind the correlation id of the Reactor context while the request is sent")
+    void shouldBindCorrelationIdOfReactorContext() {
+
+        StepVerifier.create(CorrelationId.deferWithContext(() -> Mono.justOrEmpty(CorrelationId.current()))
+                .contextWrite(CorrelationId.context("reactive-1"))) //
+                .expectNext("reactive-1") //
+                .verifyComplete();
+
+        assertThat(CorrelationId.current()).isNull();
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.opensearch.client.opensearch.core.CountRequest;
+import org.opensearch.client.opensearch.core.CountResponse;
+import org.opensearch.client.transport.Endpoint;
+import org.opensearch.client.transport.OpenSearchTransport;
+
+class FlightRecordingOpenSearchTransportUnitTests {
+
+    private final OpenSearchTransport delegate = mock(OpenSearchTransport.class);
+    @SuppressWarnings("unchecked") private final Endpoint<Object, Object, Object> endpoint = mock(Endpoint.class);
+    private final FlightRecordingOpenSearchTransport transport = new FlightRecordingOpenSearchTransport(delegate);
+
+    @TempDir Path directory;
+
+    @Test
+    @DisplayName("should record the operation, the indices and the documents of a request")
+    void shouldRecordRequest() throws Exception {
+
+        CountResponse response = CountResponse.of(b -> b.count(42)
+                .shards(s -> s.total(1).successful(1).failed(0)));
+        when(delegate.performRequest(any(), eq(endpoint), any())).thenReturn(response);
+
+        List<RecordedEvent> events = record(() -> transport
+                .performRequest(CountRequest.of(b -> b.index("orders", "customers")), endpoint, null));
+
+        assertThat(events).singleElement().satisfies(event -> {
+            assertThat(event.getString("operation")).isEqualTo("count");
+            assertThat(event.getString("indices")).isEqualTo("orders,customers");
+            assertThat(event.getLong("documents")).isEqualTo(42);
+            assertThat(event.getString("exception")).isNull();
+            assertThat(event.getBoolean("async")).isFalse();
+        });
+    }
+
+    @Test
+    @DisplayName("should record the exception of a failed request")
+    void shouldRecordFailure() throws Exception {
+
+        when(delegate.performRequest(any(), eq(endpoint), any())).thenThrow(new IOException("connection refused"));
+
+        List<RecordedEvent> events = record(() -> {
+            assertThatIOException().isThrownBy(() -> transport
+                    .performRequest(CountRequest.of(b -> b.index("orders")), endpoint, null));
+            return null;
+        });
+
+        assertThat(events).singleElement().satisfies(event -> {
+            assertThat(event.getString("exception")).isEqualTo(IOException.class.getName());
+            assertThat(event.getInt("status")).isZero();
+            assertThat(event.getLong("documents")).isEqualTo(-1);
+        });
+    }
+
+    @Test
+    @DisplayName("should record asynchronous requests when they complete")
+    void shouldRecordAsyncRequest() throws Exception {
+
+        CountResponse response = CountResponse.of(b -> b.count(1)
+                .shards(s -> s.total(1).successful(1).failed(0)));
+        when(delegate.performRequestAsync(any(), eq(endpoint), any()))
+                .thenReturn(CompletableFuture.completedFuture(response));
+
+        List<RecordedEvent> events = record(() -> transport
+                .performRequestAsync(CountRequest.of(b -> b.index("orders")), endpoint, null).join());
+
+        assertThat(events).singleElement()
+                .satisfies(event -> assertThat(event.getBoolean("async")).isTrue());
+    }
+
+    @Test
+    @DisplayName("should pass the options unchanged while no recording includes the event")
+    void shouldPassOptionsUnchangedWhenDisabled() throws Exception {
+
+        transport.performRequest(CountRequest.of(b -> b.index("orders")), endpoint, null);
+
+        verify(delegate).performRequest(any(), eq(endpoint), isNull());
+    }
+
+    private List<RecordedEvent> record(RecordedAction action) throws Exception {
+
+        Path file = directory.resolve("recording.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(OpenSearchRequestEvent.NAME);
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+        }
+
+        return RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals(OpenSearchRequestEvent.NAME))
+                .toList();
+    }
+
+    private interface RecordedAction {
+        Object run() throws Exception;
+    }
+}
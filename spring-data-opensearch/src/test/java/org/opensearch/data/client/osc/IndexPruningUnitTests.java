@@ -0,0 +1,110 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Instant;
+import java.util.Set;
+import java.util.function.Function;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.opensearch.client.json.JsonData;
+import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.jackson.JacksonJsonpMapper;
+import org.opensearch.client.opensearch._types.query_dsl.Query;
+import org.springframework.data.elasticsearch.core.query.Criteria;
+import org.springframework.data.elasticsearch.core.query.CriteriaQuery;
+import org.springframework.data.elasticsearch.core.query.StringQuery;
+
+class IndexPruningUnitTests {
+
+    private static final Instant FROM = Instant.parse("2024-05-16T00:00:00Z");
+    private static final Instant TO = Instant.parse("2024-05-18T00:00:00Z");
+
+    private final JsonpMapper mapper = new JacksonJsonpMapper();
+    private final Set<String> fieldNames = Set.of("timestamp", "@timestamp");
+    private final Function<Object, Instant> timeValue = value -> value instanceof Instant instant ? instant
+            : Instant.parse(value.toString());
+
+    @Test
+    @DisplayName("should find the time range of criteria")
+    void shouldFindTimeRangeOfCriteria() {
+
+        CriteriaQuery query = new CriteriaQuery(new Criteria("timestamp").between(FROM, TO).and("level").is("ERROR"));
+
+        assertThat(IndexPruning.timeRange(query, fieldNames, timeValue, mapper))
+                .isEqualTo(new IndexPruning.TimeRange(FROM, TO));
+    }
+
+    @Test
+    @DisplayName("should intersect the bounds of several criteria")
+    void shouldIntersectBoundsOfCriteria() {
+
+        CriteriaQuery query = new CriteriaQuery(new Criteria("@timestamp").greaterThanEqual(FROM)
+                .and("@timestamp").greaterThan(FROM.plusSeconds(60)).and("timestamp").lessThan(TO));
+
+        assertThat(IndexPruning.timeRange(query, fieldNames, timeValue, mapper))
+                .isEqualTo(new IndexPruning.TimeRange(FROM.plusSeconds(60), TO));
+    }
+
+    @Test
+    @DisplayName("should keep open ends of criteria")
+    void shouldKeepOpenEnds() {
+
+        CriteriaQuery query = new CriteriaQuery(new Criteria("timestamp").greaterThanEqual(FROM));
+
+        assertThat(IndexPruning.timeRange(query, fieldNames, timeValue, mapper))
+                .isEqualTo(new IndexPruning.TimeRange(FROM, null));
+    }
+
+    @Test
+    @DisplayName("should not restrict criteria with or parts or without time range")
+    void shouldNotRestrictCriteriaWithOrParts() {
+
+        assertThat(IndexPruning.timeRange(new CriteriaQuery(new Criteria("timestamp").greaterThanEqual(FROM)
+                .or("level").is("ERROR")), fieldNames, timeValue, mapper)).isNull();
+        assertThat(IndexPruning.timeRange(new CriteriaQuery(new Criteria("timestamp").greaterThanEqual(FROM).not()),
+                fieldNames, timeValue, mapper)).isNull();
+        assertThat(IndexPruning.timeRange(new CriteriaQuery(new Criteria("level").is("ERROR")), fieldNames, timeValue,
+                mapper)).isNull();
+        assertThat(IndexPruning.timeRange(new StringQuery("{\"match_all\":{}}"), fieldNames, timeValue, mapper))
+                .isNull();
+    }
+
+    @Test
+    @DisplayName("should find the time range of the filter clauses of a native query")
+    void shouldFindTimeRangeOfNativeQuery() {
+
+        Query range = Query.of(q -> q.range(r -> r.field("@timestamp").gte(JsonData.of(FROM.toString()))
+                .lt(JsonData.of(TO.toString()))));
+        Query level = Query.of(q -> q.term(t -> t.field("level").value(v -> v.stringValue("ERROR"))));
+
+        NativeQuery query = NativeQuery.builder() //
+                .withQuery(q -> q.bool(b -> b.must(level).filter(range))) //
+                .build();
+
+        assertThat(IndexPruning.timeRange(query, fieldNames, timeValue, mapper))
+                .isEqualTo(new IndexPruning.TimeRange(FROM, TO));
+    }
+
+    @Test
+    @DisplayName("should not restrict optional clauses of a native query")
+    void shouldNotRestrictOptionalClauses() {
+
+        Query range = Query.of(q -> q.range(r -> r.field("@timestamp").gte(JsonData.of(FROM.toString()))));
+
+        NativeQuery query = NativeQuery.builder() //
+                .withQuery(q -> q.bool(b -> b.should(range).mustNot(range))) //
+                .build();
+
+        assertThat(IndexPruning.timeRange(query, fieldNames, timeValue, mapper)).isNull();
+    }
+}
@@ -0,0 +1,233 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static org.assertj.core.api.Assertions.*;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.apache.hc.core5.http.HttpHost;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.opensearch.client.Node;
+import org.opensearch.client.Request;
+import org.opensearch.client.RestClient;
+
+class LatencyAwareNodeSelectorUnitTests {
+
+    private static final long FAST = Duration.ofMillis(1).toNanos();
+    private static final long SLOW = Duration.ofMillis(50).toNanos();
+
+    private final Node node1 = new Node(new HttpHost("http", "node1", 9200));
+    private final Node node2 = new Node(new HttpHost("http", "node2", 9200));
+    private final Node node3 = new Node(new HttpHost("http", "node3", 9200));
+
+    @Test
+    @DisplayName("should eject a node that is much slower than the others")
+    void shouldEjectSlowNode() {
+
+        LatencyAwareNodeSelector selector = LatencyAwareNodeSelector.builder().withMinimumSamples(5)
+                .withEjectionDuration(Duration.ofMinutes(1)).build();
+
+        record(selector, node1, FAST, 5);
+        record(selector, node2, FAST, 5);
+        record(selector, node3, SLOW, 5);
+
+        List<Node> nodes = new ArrayList<>(List.of(node1, node2, node3));
+        selector.select(nodes);
+
+        assertThat(nodes).containsExactlyInAnyOrder(node1, node2);
+        assertThat(selector.getEjections()).isEqualTo(1);
+        assertThat(selector.getEjectedNodes()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should reinstate an ejected node after a successful probe")
+    void shouldReinstateNodeAfterSuccessfulProbe() {
+
+        LatencyAwareNodeSelector selector = LatencyAwareNodeSelector.builder().withMinimumSamples(5)
+                .withEjectionDuration(Duration.ZERO).build();
+
+        record(selector, node1, FAST, 5);
+        record(selector, node2, FAST, 5);
+        record(selector, node3, SLOW, 5);
+
+        List<Node> nodes = new ArrayList<>(List.of(node1, node2, node3));
+        selector.select(nodes);
+
+        assertThat(nodes).hasSize(3).startsWith(node3);
+
+        record(selector, node3, FAST, 1);
+
+        assertThat(selector.getEjectedNodes()).isZero();
+    }
+
+    @Test
+    @DisplayName("should eject a node again when its probe fails")
+    void shouldEjectNodeAgainWhenProbeFails() {
+
+        LatencyAwareNodeSelector selector = LatencyAwareNodeSelector.builder().withMinimumSamples(5)
+                .withEjectionDuration(Duration.ZERO).build();
+
+        record(selector, node1, FAST, 5);
+        record(selector, node2, FAST, 5);
+        record(selector, node3, SLOW, 5);
+        selector.select(new ArrayList<>(List.of(node1, node2, node3)));
+
+        LatencyAwareNodeSelector.NodeStats stats = selector.stats(node3.getHost());
+        stats.started();
+        selector.onCompleted(stats, FAST, true);
+
+        assertThat(selector.getEjections()).isEqualTo(2);
+        assertThat(selector.getEjectedNodes()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should eject a node after consecutive failures")
+    void shouldEjectNodeAfterConsecutiveFailures() {
+
+        LatencyAwareNodeSelector selector = LatencyAwareNodeSelector.builder().withConsecutiveFailures(3)
+                .withEjectionDuration(Duration.ofMinutes(1)).build();
+        selector.stats(node1.getHost());
+        selector.stats(node2.getHost());
+        LatencyAwareNodeSelector.NodeStats stats = selector.stats(node3.getHost());
+
+        for (int i = 0; i < 3; i++) {
+            stats.started();
+            selector.onCompleted(stats, FAST, true);
+        }
+
+        assertThat(stats.isEjected()).isTrue();
+    }
+
+    @Test
+    @DisplayName("should not eject more than the max ejected percent of the nodes")
+    void shouldNotEjectMoreThanMaxEjectedPercent() {
+
+        LatencyAwareNodeSelector selector = LatencyAwareNodeSelector.builder().withConsecutiveFailures(1)
+                .withMaxEjectedPercent(50).withEjectionDuration(Duration.ofMinutes(1)).build();
+
+        for (Node node : List.of(node1, node2)) {
+            LatencyAwareNodeSelector.NodeStats stats = selector.stats(node.getHost());
+            stats.started();
+            selector.onCompleted(stats, FAST, true);
+        }
+
+        assertThat(selector.getEjectedNodes()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should send the requests of a rest client to the faster node")
+    void shouldSendRequestsToFasterNode() throws IOException {
+
+        WireMockServer slow = new WireMockServer(options().dynamicPort());
+        WireMockServer fast = new WireMockServer(options().dynamicPort());
+        slow.start();
+        fast.start();
+
+        try {
+            for (WireMockServer server : List.of(slow, fast)) {
+                server.stubFor(get(urlEqualTo("/")).willReturn(aResponse().withStatus(200).withBody("{}")));
+            }
+
+            HttpHost slowHost = new HttpHost("http", "localhost", slow.port());
+            HttpHost fastHost = new HttpHost("http", "localhost", fast.port());
+            LatencyAwareNodeSelector selector = LatencyAwareNodeSelector.builder().build();
+            record(selector, new Node(slowHost), Duration.ofSeconds(10).toNanos(), 1);
+            record(selector, new Node(fastHost), FAST, 1);
+
+            try (RestClient client = RestClient.builder(slowHost, fastHost) //
+                    .setNodeSelector(selector) //
+                    .setHttpClientConfigCallback(selector::configure) //
+                    .build()) {
+
+                for (int i = 0; i < 10; i++) {
+                    client.performRequest(new Request("GET", "/"));
+                }
+            }
+
+            slow.verify(0, getRequestedFor(urlEqualTo("/")));
+            fast.verify(10, getRequestedFor(urlEqualTo("/")));
+        } finally {
+            slow.stop();
+            fast.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("should keep the other nodes behind the preferred node and undo the rotation of the client")
+    void shouldKeepOtherNodesBehindPreferredNode() {
+
+        LatencyAwareNodeSelector selector = LatencyAwareNodeSelector.builder().build();
+        record(selector, node1, SLOW, 1);
+        record(selector, node2, FAST, 1);
+        record(selector, node3, SLOW * 2, 1);
+
+        for (int i = 0; i < 5; i++) {
+            List<Node> nodes = new ArrayList<>(List.of(node1, node2, node3));
+            selector.select(nodes);
+            Collections.rotate(nodes, i);
+
+            assertThat(nodes).hasSize(3).containsExactlyInAnyOrder(node1, node2, node3);
+            assertThat(nodes.get(2)).isEqualTo(node3);
+        }
+    }
+
+    @Test
+    @DisplayName("should fail over to another node when the preferred node fails")
+    void shouldFailOverToAnotherNode() throws IOException {
+
+        WireMockServer failing = new WireMockServer(options().dynamicPort());
+        WireMockServer healthy = new WireMockServer(options().dynamicPort());
+        failing.start();
+        healthy.start();
+
+        try {
+            failing.stubFor(get(urlEqualTo("/")).willReturn(aResponse().withStatus(503)));
+            healthy.stubFor(get(urlEqualTo("/")).willReturn(aResponse().withStatus(200).withBody("{}")));
+
+            HttpHost failingHost = new HttpHost("http", "localhost", failing.port());
+            HttpHost healthyHost = new HttpHost("http", "localhost", healthy.port());
+            LatencyAwareNodeSelector selector = LatencyAwareNodeSelector.builder().build();
+            record(selector, new Node(failingHost), FAST, 1);
+            record(selector, new Node(healthyHost), SLOW, 1);
+
+            try (RestClient client = RestClient.builder(failingHost, healthyHost) //
+                    .setNodeSelector(selector) //
+                    .setHttpClientConfigCallback(selector::configure) //
+                    .build()) {
+
+                assertThat(client.performRequest(new Request("GET", "/")).getStatusLine().getStatusCode())
+                        .isEqualTo(200);
+            }
+
+            healthy.verify(1, getRequestedFor(urlEqualTo("/")));
+        } finally {
+            failing.stop();
+            healthy.stop();
+        }
+    }
+
+    private static void record(LatencyAwareNodeSelector selector, Node node, long rttNanos, int times) {
+
+        LatencyAwareNodeSelector.NodeStats stats = selector.stats(node.getHost());
+
+        for (int i = 0; i < times; i++) {
+            stats.started();
+            selector.onCompleted(stats, rttNanos, false);
+        }
+    }
+}
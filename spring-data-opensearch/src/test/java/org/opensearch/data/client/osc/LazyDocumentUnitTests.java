@@ -0,0 +1,42 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.jackson.JacksonJsonpMapper;
+import org.springframework.data.elasticsearch.core.convert.ElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.document.Document;
+
+class LazyDocumentUnitTests {
+
+    private final JsonpMapper mapper = new JacksonJsonpMapper();
+
+    @Test
+    @DisplayName("should map the entity only when it is serialized, without keeping the mapped document")
+    void shouldMapEntityOnSerialization() {
+
+        ElasticsearchConverter converter = mock(ElasticsearchConverter.class);
+        Object entity = new Object();
+        when(converter.mapObject(entity)).thenReturn(Document.parse("{\"name\":\"value\"}"));
+
+        LazyDocument document = new LazyDocument(entity, converter);
+        verifyNoInteractions(converter);
+
+        assertThat(JsonUtils.toJson(document, mapper)).isEqualTo("{\"name\":\"value\"}");
+        assertThat(JsonUtils.toJson(document, mapper)).isEqualTo("{\"name\":\"value\"}");
+
+        verify(converter, times(2)).mapObject(entity);
+    }
+}
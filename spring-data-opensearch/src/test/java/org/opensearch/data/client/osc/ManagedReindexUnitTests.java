@@ -0,0 +1,174 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.data.elasticsearch.core.index.AliasAction;
+import org.springframework.data.elasticsearch.core.index.AliasActions;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+
+class ManagedReindexUnitTests {
+
+    private static final IndexCoordinates PRODUCTS = IndexCoordinates.of("products");
+    private static final IndexCoordinates PRODUCTS_V2 = IndexCoordinates.of("products-v2");
+
+    @Test
+    @DisplayName("should read the progress of a running task")
+    void shouldReadProgressOfRunningTask() {
+
+        ReindexProgress progress = ReindexProgress.from("node:1", Map.of( //
+                "completed", false, //
+                "task", Map.of("status", Map.of("total", 200, "created", 40, "updated", 10, "version_conflicts", 0,
+                        "batches", 5, "requests_per_second", 500.0))));
+
+        assertThat(progress.completed()).isFalse();
+        assertThat(progress.total()).isEqualTo(200);
+        assertThat(progress.processed()).isEqualTo(50);
+        assertThat(progress.fraction()).isEqualTo(0.25);
+        assertThat(progress.batches()).isEqualTo(5);
+        assertThat(progress.requestsPerSecond()).isEqualTo(500F);
+        assertThat(progress.hasFailures()).isFalse();
+    }
+
+    @Test
+    @DisplayName("should collect the failures of a completed task")
+    void shouldCollectFailuresOfCompletedTask() {
+
+        ReindexProgress progress = ReindexProgress.from("node:1", Map.of( //
+                "completed", true, //
+                "task", Map.of("status", Map.of("total", 0)), //
+                "response", Map.of("failures", //
+                        List.of(Map.of("cause", Map.of("reason", "mapper_parsing_exception")))), //
+                "error", Map.of("reason", "task cancelled")));
+
+        assertThat(progress.fraction()).isEqualTo(1);
+        assertThat(progress.requestsPerSecond()).isEqualTo(-1F);
+        assertThat(progress.failures()).containsExactly("mapper_parsing_exception", "task cancelled");
+    }
+
+    @Test
+    @DisplayName("should move the entity index alias by default")
+    void shouldMoveEntityIndexAliasByDefault() {
+
+        ManagedReindexRequest request = ManagedReindexRequest.builder(Object.class, PRODUCTS_V2).build();
+
+        assertThat(request.source(PRODUCTS)).isEqualTo(PRODUCTS);
+        assertThat(request.aliases(PRODUCTS)).containsExactly(entry("products", false));
+        assertThat(ManagedReindexRequest.builder(Object.class, PRODUCTS_V2).withReadAlias(null).build()
+                .aliases(PRODUCTS)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should remove the aliases from the previous indices and add them to the target")
+    void shouldSwapAliases() {
+
+        ManagedReindexRequest request = ManagedReindexRequest.builder(Object.class, PRODUCTS_V2) //
+                .withWriteAlias("products-write") //
+                .build();
+
+        AliasActions aliasActions = request.aliasActions(PRODUCTS,
+                Map.of("products", Set.of("products-v1"), "products-write", Set.of("products-v1")));
+
+        assertThat(aliasActions.getActions()).hasSize(4);
+        assertThat(aliasActions.getActions().get(0)).isInstanceOf(AliasAction.Remove.class);
+        assertThat(aliasActions.getActions().get(0).getParameters().getIndices()).containsExactly("products-v1");
+        assertThat(aliasActions.getActions().get(1)).isInstanceOf(AliasAction.Add.class);
+        assertThat(aliasActions.getActions().get(1).getParameters().getIndices()).containsExactly("products-v2");
+        assertThat(aliasActions.getActions().get(1).getParameters().getWriteIndex()).isNull();
+        assertThat(aliasActions.getActions().get(3).getParameters().getAliases()).containsExactly("products-write");
+        assertThat(aliasActions.getActions().get(3).getParameters().getWriteIndex()).isTrue();
+    }
+
+    @Test
+    @DisplayName("should remove a concrete index with the name of the alias in the same update")
+    void shouldRemoveConcreteIndexWithAliasName() {
+
+        ManagedReindexRequest request = ManagedReindexRequest.builder(Object.class, PRODUCTS_V2).build();
+
+        AliasActions aliasActions = request.aliasActions(PRODUCTS, Map.of("products", Set.of("products")));
+
+        assertThat(aliasActions.getActions()).hasSize(2);
+        assertThat(aliasActions.getActions().get(0)).isInstanceOf(AliasAction.RemoveIndex.class);
+        assertThat(aliasActions.getActions().get(0).getParameters().getIndices()).containsExactly("products");
+        assertThat(aliasActions.getActions().get(1)).isInstanceOf(AliasAction.Add.class);
+        assertThat(aliasActions.getActions().get(1).getParameters().getIndices()).containsExactly("products-v2");
+        assertThat(aliasActions.getActions().get(1).getParameters().getAliases()).containsExactly("products");
+    }
+
+    @Test
+    @DisplayName("should report counts beyond the int range in the message")
+    void shouldReportLargeCounts() {
+
+        IncorrectResultSizeDataAccessException exception = ManagedReindexRequest.countMismatch("node:1", 3_000_000_000L,
+                2_999_999_999L);
+
+        assertThat(exception).hasMessageContaining("copied 2999999999 of 3000000000 documents");
+        assertThat(exception.getExpectedSize()).isEqualTo(Integer.MAX_VALUE);
+        assertThat(exception.getActualSize()).isEqualTo(Integer.MAX_VALUE);
+    }
+
+    @Test
+    @DisplayName("should only add aliases that do not exist yet")
+    void shouldOnlyAddNewAliases() {
+
+        ManagedReindexRequest request = ManagedReindexRequest.builder(Object.class, PRODUCTS_V2) //
+                .withReadAlias("catalog") //
+                .build();
+
+        assertThat(request.aliasActions(PRODUCTS, Map.of()).getActions()).singleElement()
+                .isInstanceOf(AliasAction.Add.class);
+    }
+
+    @Test
+    @DisplayName("should poll the progress until the task has completed")
+    void shouldPollUntilCompleted() {
+
+        OpenSearchTemplate template = mock(OpenSearchTemplate.class);
+        ManagedReindexRequest request = ManagedReindexRequest.builder(Object.class, PRODUCTS_V2) //
+                .withPollInterval(Duration.ofMillis(1)) //
+                .build();
+        when(template.getReindexProgress("node:1")).thenReturn(progress(false), progress(false), progress(true),
+                progress(true));
+
+        ManagedReindex reindex = new ManagedReindex(template, request, "node:1");
+
+        assertThat(reindex.progress()).extracting(ReindexProgress::completed).containsExactly(false, false, true);
+    }
+
+    @Test
+    @DisplayName("should complete the reindex with the progress of the completed task")
+    void shouldCompleteWithLastProgress() {
+
+        OpenSearchTemplate template = mock(OpenSearchTemplate.class);
+        ManagedReindexRequest request = ManagedReindexRequest.builder(Object.class, PRODUCTS_V2) //
+                .withPollInterval(Duration.ofMillis(1)) //
+                .build();
+        ReindexProgress completed = progress(true);
+        when(template.getReindexProgress("node:1")).thenReturn(progress(false), completed);
+
+        ReindexProgress progress = new ManagedReindex(template, request, "node:1").complete();
+
+        assertThat(progress).isSameAs(completed);
+        verify(template).completeManagedReindex(request, completed);
+    }
+
+    private static ReindexProgress progress(boolean completed) {
+        return new ReindexProgress("node:1", completed, 10, completed ? 10 : 5, 0, 0, 0, 0, 1, -1, List.of());
+    }
+}
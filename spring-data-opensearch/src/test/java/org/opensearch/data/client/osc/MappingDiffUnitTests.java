@@ -0,0 +1,188 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.elasticsearch.core.document.Document;
+
+class MappingDiffUnitTests {
+
+    private static final Document MAPPING = Document.parse("""
+            {
+              "properties": {
+                "name": {"type": "text", "fields": {"keyword": {"type": "keyword"}}},
+                "address": {"properties": {"city": {"type": "keyword"}, "zip": {"type": "keyword"}}},
+                "created": {"type": "date", "format": "date_optional_time||epoch_millis"}
+              }
+            }
+            """);
+
+    @Test
+    @DisplayName("should compute the same hash regardless of key order and stored hash")
+    void shouldComputeStableHash() {
+
+        Document reordered = Document.parse("""
+                {
+                  "properties": {
+                    "created": {"format": "date_optional_time||epoch_millis", "type": "date"},
+                    "address": {"properties": {"zip": {"type": "keyword"}, "city": {"type": "keyword"}}},
+                    "name": {"fields": {"keyword": {"type": "keyword"}}, "type": "text"}
+                  }
+                }
+                """);
+
+        assertThat(MappingDiff.hash(reordered)).isEqualTo(MappingDiff.hash(MAPPING));
+        assertThat(MappingDiff.hash(MappingDiff.withHash(MAPPING))).isEqualTo(MappingDiff.hash(MAPPING));
+        assertThat(MappingDiff.hash(Document.parse("{\"properties\": {\"name\": {\"type\": \"keyword\"}}}")))
+                .isNotEqualTo(MappingDiff.hash(MAPPING));
+    }
+
+    @Test
+    @DisplayName("should skip the comparison when the stored hash matches")
+    void shouldSkipWhenHashMatches() {
+
+        MappingDiff diff = MappingDiff.of(MappingDiff.withHash(MAPPING), MAPPING);
+
+        assertThat(diff.isUpToDate()).isTrue();
+        assertThat(diff.update()).isNull();
+    }
+
+    @Test
+    @DisplayName("should only store the hash when no field is missing")
+    void shouldOnlyStoreHash() {
+
+        Document live = Document.parse("""
+                {
+                  "_meta": {"owner": "search-team"},
+                  "properties": {
+                    "name": {"type": "text", "fields": {"keyword": {"type": "keyword"}}},
+                    "address": {
+                      "type": "object",
+                      "properties": {"city": {"type": "keyword"}, "zip": {"type": "keyword"}}
+                    },
+                    "created": {"type": "date"},
+                    "legacy": {"type": "keyword"}
+                  }
+                }
+                """);
+
+        MappingDiff diff = MappingDiff.of(live, MAPPING);
+
+        assertThat(diff.isUpToDate()).isFalse();
+        assertThat(diff.getAdditions()).isEmpty();
+        assertThat(diff.update()).containsOnlyKeys("_meta");
+        assertThat(diff.update().get("_meta")).isEqualTo(Map.of("owner", "search-team", MappingDiff.MAPPING_HASH,
+                MappingDiff.hash(MAPPING)));
+    }
+
+    @Test
+    @DisplayName("should add missing fields, properties and multi-fields")
+    void shouldAddMissingFields() {
+
+        Document live = Document.parse("""
+                {
+                  "properties": {
+                    "name": {"type": "text"},
+                    "address": {"type": "object", "properties": {"city": {"type": "keyword"}}}
+                  }
+                }
+                """);
+
+        MappingDiff diff = MappingDiff.of(live, MAPPING);
+
+        assertThat(diff.getConflicts()).isEmpty();
+        assertThat(diff.getAdditions()).isEqualTo(Map.of( //
+                "name", Map.of("type", "text", "fields", Map.of("keyword", Map.of("type", "keyword"))), //
+                "address", Map.of("properties", Map.of("zip", Map.of("type", "keyword"))), //
+                "created", Map.of("type", "date", "format", "date_optional_time||epoch_millis")));
+        assertThat(diff.update()).containsOnlyKeys("properties", "_meta");
+    }
+
+    @Test
+    @DisplayName("should report fields of a different type without storing the hash")
+    void shouldReportConflicts() {
+
+        Document live = Document.parse("""
+                {
+                  "properties": {
+                    "name": {"type": "keyword"},
+                    "address": {"type": "object", "properties": {"city": {"type": "text"}}}
+                  }
+                }
+                """);
+
+        MappingDiff diff = MappingDiff.of(live, MAPPING);
+
+        assertThat(diff.getConflicts()).containsExactly("name", "address.city");
+        assertThat(diff.getAdditions()).containsOnlyKeys("address", "created");
+        assertThat(diff.update()).containsOnlyKeys("properties");
+    }
+
+    @Test
+    @DisplayName("should report changes it does not apply without storing the hash")
+    void shouldReportSkippedChanges() {
+
+        Document mapping = Document.parse("""
+                {
+                  "dynamic_templates": [{"strings": {"match_mapping_type": "string", "mapping": {"type": "keyword"}}}],
+                  "properties": {
+                    "name": {"type": "text", "analyzer": "english"},
+                    "created": {"type": "date", "format": "epoch_millis"},
+                    "active": {"type": "boolean", "index": false}
+                  }
+                }
+                """);
+        Document live = Document.parse("""
+                {
+                  "_meta": {"spring_data_mapping_hash": "outdated"},
+                  "properties": {
+                    "name": {"type": "text"},
+                    "created": {"type": "date", "format": "epoch_millis"},
+                    "active": {"type": "boolean", "index": "false"}
+                  }
+                }
+                """);
+
+        MappingDiff diff = MappingDiff.of(live, mapping);
+
+        assertThat(diff.getConflicts()).isEmpty();
+        assertThat(diff.getSkipped()).containsExactly("dynamic_templates", "name.analyzer");
+        assertThat(diff.update()).isNull();
+    }
+
+    @Test
+    @DisplayName("should merge the _meta of the entity into the live one")
+    void shouldMergeEntityMeta() {
+
+        Document mapping = Document.parse("""
+                {
+                  "_meta": {"version": 2, "owner": "orders-team"},
+                  "properties": {"name": {"type": "keyword"}}
+                }
+                """);
+        Document live = Document.parse("""
+                {
+                  "_meta": {"version": 1, "created_by": "migration"},
+                  "properties": {"name": {"type": "keyword"}}
+                }
+                """);
+
+        MappingDiff diff = MappingDiff.of(live, mapping);
+
+        assertThat(diff.getSkipped()).isEmpty();
+        assertThat(diff.update()).containsOnlyKeys("_meta");
+        assertThat(diff.update().get("_meta")).isEqualTo(Map.of("version", 2, "owner", "orders-team", "created_by",
+                "migration", MappingDiff.MAPPING_HASH, MappingDiff.hash(mapping)));
+    }
+}
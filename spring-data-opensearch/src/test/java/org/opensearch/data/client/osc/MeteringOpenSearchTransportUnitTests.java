@@ -0,0 +1,105 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.HttpHeaders;
+import org.apache.hc.core5.http.impl.BasicEntityDetails;
+import org.apache.hc.core5.http.message.BasicHttpRequest;
+import org.apache.hc.core5.http.message.BasicHttpResponse;
+import org.apache.hc.core5.http.nio.AsyncResponseConsumer;
+import org.apache.hc.core5.http.protocol.HttpCoreContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.opensearch.client.RequestOptions;
+import org.opensearch.client.opensearch.core.SearchRequest;
+import org.opensearch.client.transport.Endpoint;
+import org.opensearch.client.transport.OpenSearchTransport;
+import org.opensearch.client.transport.rest_client.RestClientOptions;
+
+class MeteringOpenSearchTransportUnitTests {
+
+    private final OpenSearchTransport delegate = mock(OpenSearchTransport.class);
+    @SuppressWarnings("unchecked") private final Endpoint<Object, Object, Object> endpoint = mock(Endpoint.class);
+    @SuppressWarnings("unchecked") private final AsyncResponseConsumer<ClassicHttpResponse> consumer = mock(
+            AsyncResponseConsumer.class);
+    private final List<String> recorded = new ArrayList<>();
+    private final MeteringOpenSearchTransport transport = new MeteringOpenSearchTransport(delegate,
+            new ClientMetricsRecorder() {
+                @Override
+                public void recordRequestSize(String operation, long bytes) {
+                    recorded.add("request " + operation + ' ' + bytes);
+                }
+
+                @Override
+                public void recordResponseSize(String operation, long bytes) {
+                    recorded.add("response " + operation + ' ' + bytes);
+                }
+
+                @Override
+                public void recordTime(Stage stage, String operation, Class<?> entityType, long nanos) {
+                    recorded.add(stage + " " + operation);
+                }
+            });
+
+    @Test
+    @DisplayName("should record the body sizes and the parsing time")
+    void shouldRecordSizesAndParsingTime() throws Exception {
+
+        when(delegate.options()).thenReturn(new RestClientOptions(
+                RequestOptions.DEFAULT.toBuilder().setHttpAsyncResponseConsumerFactory(() -> consumer).build()));
+        Object request = SearchRequest.of(s -> s.index("products"));
+        when(delegate.performRequest(eq(request), eq(endpoint), any())).thenAnswer(invocation -> {
+            RestClientOptions options = invocation.getArgument(2);
+            AsyncResponseConsumer<ClassicHttpResponse> metering = options.restClientRequestOptions()
+                    .getHttpAsyncResponseConsumerFactory().createHttpAsyncResponseConsumer();
+
+            HttpCoreContext context = HttpCoreContext.create();
+            BasicHttpRequest httpRequest = new BasicHttpRequest("POST", "/products/_search");
+            httpRequest.addHeader(HttpHeaders.CONTENT_LENGTH, "42");
+            context.setAttribute(HttpCoreContext.HTTP_REQUEST, httpRequest);
+
+            metering.consumeResponse(new BasicHttpResponse(200), new BasicEntityDetails(-1, ContentType.APPLICATION_JSON),
+                    context, null);
+            metering.consume(ByteBuffer.wrap("{\"took\":".getBytes(StandardCharsets.UTF_8)));
+            metering.consume(ByteBuffer.wrap("1}".getBytes(StandardCharsets.UTF_8)));
+            metering.streamEnd(null);
+            return "response";
+        });
+
+        assertThat(transport.performRequest(request, endpoint, null)).isEqualTo("response");
+
+        assertThat(recorded).containsExactly("request search 42", "response search 10", "RESPONSE_PARSING search");
+        verify(consumer, times(2)).consume(any());
+        verify(consumer).streamEnd(null);
+    }
+
+    @Test
+    @DisplayName("should not record anything when no response was received")
+    void shouldNotRecordWithoutResponse() throws Exception {
+
+        when(delegate.options()).thenReturn(new RestClientOptions(RequestOptions.DEFAULT));
+        Object request = SearchRequest.of(s -> s.index("products"));
+        when(delegate.performRequest(eq(request), eq(endpoint), any())).thenReturn("response");
+
+        transport.performRequest(request, endpoint, null);
+
+        assertThat(recorded).isEmpty();
+    }
+}
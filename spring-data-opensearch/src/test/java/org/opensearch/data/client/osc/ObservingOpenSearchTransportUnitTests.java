@@ -0,0 +1,142 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.opensearch.client.RequestOptions;
+import org.opensearch.client.opensearch._types.ErrorResponse;
+import org.opensearch.client.opensearch._types.OpenSearchException;
+import org.opensearch.client.opensearch.core.SearchRequest;
+import org.opensearch.client.opensearch.indices.CreateIndexRequest;
+import org.opensearch.client.transport.Endpoint;
+import org.opensearch.client.transport.OpenSearchTransport;
+import org.opensearch.client.transport.TransportOptions;
+import org.opensearch.client.transport.rest_client.RestClientOptions;
+
+class ObservingOpenSearchTransportUnitTests {
+
+    private final OpenSearchTransport delegate = mock(OpenSearchTransport.class);
+    @SuppressWarnings("unchecked") private final Endpoint<Object, Object, Object> endpoint = mock(Endpoint.class);
+    private final List<OpenSearchObservationContext> stopped = new ArrayList<>();
+    private final ObservationRegistry registry = ObservationRegistry.create();
+    private final ObservingOpenSearchTransport transport = new ObservingOpenSearchTransport(delegate, registry,
+            index -> "products".equals(index) ? Product.class : null);
+
+    ObservingOpenSearchTransportUnitTests() {
+        registry.observationConfig().observationHandler(new ObservationHandler<OpenSearchObservationContext>() {
+            @Override
+            public void onStart(OpenSearchObservationContext context) {
+                context.getSetter().set(context.getCarrier(), "traceparent", "00-trace-span-01");
+            }
+
+            @Override
+            public void onStop(OpenSearchObservationContext context) {
+                stopped.add(context);
+            }
+
+            @Override
+            public boolean supportsContext(Observation.Context context) {
+                return context instanceof OpenSearchObservationContext;
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("should tag the observation with operation, index, entity and outcome")
+    void shouldTagObservation() throws Exception {
+
+        Object request = SearchRequest.of(s -> s.index("products"));
+        when(delegate.options()).thenReturn(new RestClientOptions(RequestOptions.DEFAULT));
+        when(delegate.performRequest(eq(request), eq(endpoint), any())).thenReturn("response");
+
+        transport.performRequest(request, endpoint, null);
+
+        assertThat(stopped).hasSize(1);
+        assertThat(lowCardinalityKeyValues(stopped.get(0))).containsEntry("opensearch.operation", "search")
+                .containsEntry("opensearch.entity", "Product") //
+                .containsEntry("outcome", "SUCCESS") //
+                .containsEntry("exception", "none") //
+                .doesNotContainKey("opensearch.index");
+        assertThat(DefaultOpenSearchObservationConvention.INSTANCE.getHighCardinalityKeyValues(stopped.get(0)))
+                .contains(KeyValue.of("opensearch.index", "products"));
+    }
+
+    @Test
+    @DisplayName("should send the propagated trace headers with the request")
+    void shouldSendPropagatedHeaders() throws Exception {
+
+        Object request = SearchRequest.of(s -> s.index("products"));
+        when(delegate.options()).thenReturn(new RestClientOptions(RequestOptions.DEFAULT));
+        ArgumentCaptor<TransportOptions> options = ArgumentCaptor.forClass(TransportOptions.class);
+        when(delegate.performRequest(eq(request), eq(endpoint), options.capture())).thenReturn("response");
+
+        transport.performRequest(request, endpoint, null);
+
+        assertThat(options.getValue().headers()).contains(Map.entry("traceparent", "00-trace-span-01"));
+    }
+
+    @Test
+    @DisplayName("should record the outcome of a failed asynchronous request")
+    void shouldRecordFailedAsyncRequest() {
+
+        Object request = CreateIndexRequest.of(c -> c.index("products"));
+        when(delegate.options()).thenReturn(new RestClientOptions(RequestOptions.DEFAULT));
+        when(delegate.performRequestAsync(eq(request), eq(endpoint), any()))
+                .thenReturn(CompletableFuture.failedFuture(new OpenSearchException(ErrorResponse
+                        .of(e -> e.status(503).error(c -> c.type("unavailable").reason("unavailable"))))));
+
+        assertThatThrownBy(() -> transport.performRequestAsync(request, endpoint, null).join())
+                .hasCauseInstanceOf(OpenSearchException.class);
+
+        assertThat(stopped).hasSize(1);
+        assertThat(lowCardinalityKeyValues(stopped.get(0))).containsEntry("opensearch.operation", "indices.create_index")
+                .containsEntry("outcome", "SERVER_ERROR") //
+                .containsEntry("exception", "OpenSearchException");
+    }
+
+    @Test
+    @DisplayName("should not observe requests when the registry is a no-op")
+    void shouldNotObserveWithNoopRegistry() throws Exception {
+
+        ObservingOpenSearchTransport noopTransport = new ObservingOpenSearchTransport(delegate, ObservationRegistry.NOOP);
+        Object request = SearchRequest.of(s -> s.index("products"));
+
+        noopTransport.performRequest(request, endpoint, null);
+
+        verify(delegate).performRequest(request, endpoint, null);
+        assertThat(stopped).isEmpty();
+    }
+
+    private static Map<String, String> lowCardinalityKeyValues(OpenSearchObservationContext context) {
+
+        Map<String, String> keyValues = new HashMap<>();
+        for (KeyValue keyValue : DefaultOpenSearchObservationConvention.INSTANCE.getLowCardinalityKeyValues(context)) {
+            keyValues.put(keyValue.getKey(), keyValue.getValue());
+        }
+        return keyValues;
+    }
+
+    static class Product {}
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.hc.core5.http.HttpHost;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.opensearch.client.Node;
+import org.opensearch.client.opensearch.core.BulkRequest;
+import org.opensearch.client.opensearch.core.SearchRequest;
+import org.opensearch.client.opensearch.indices.CreateIndexRequest;
+import org.opensearch.data.client.osc.OperationRoutingNodeSelector.OperationClass;
+
+class OperationRoutingNodeSelectorUnitTests {
+
+    private final Node coordinating = node("coordinating", Set.of(), Map.of());
+    private final Node ingest = node("ingest", Set.of("ingest"), Map.of());
+    private final Node hotData = node("hot", Set.of("data"), Map.of("box", List.of("hot")));
+    private final Node unknown = new Node(new HttpHost("http", "unknown", 9200));
+
+    private final OperationRoutingNodeSelector selector = new OperationRoutingNodeSelector(
+            Map.of(OperationClass.SEARCH, OperationRoutingNodeSelector.matching("coordinating_only"), //
+                    OperationClass.WRITE, OperationRoutingNodeSelector.matching("ingest", "attr:box=hot")));
+
+    @Test
+    @DisplayName("should classify requests by operation class")
+    void shouldClassifyRequests() {
+
+        assertThat(OperationClass.of(SearchRequest.of(s -> s.index("index")))).isEqualTo(OperationClass.SEARCH);
+        assertThat(OperationClass.of(BulkRequest.of(b -> b.operations(o -> o.delete(d -> d.index("index").id("1"))))))
+                .isEqualTo(OperationClass.WRITE);
+        assertThat(OperationClass.of(CreateIndexRequest.of(c -> c.index("index")))).isEqualTo(OperationClass.ADMIN);
+    }
+
+    @Test
+    @DisplayName("should select the nodes of the current operation class")
+    void shouldSelectNodesOfCurrentOperationClass() {
+
+        List<Node> nodes = new ArrayList<>(List.of(coordinating, ingest, hotData, unknown));
+
+        try (var ignored = OperationRoutingNodeSelector.withOperationClass(OperationClass.SEARCH)) {
+            selector.select(nodes);
+        }
+
+        assertThat(nodes).containsExactly(coordinating, unknown);
+
+        nodes = new ArrayList<>(List.of(coordinating, ingest, hotData, unknown));
+
+        try (var ignored = OperationRoutingNodeSelector.withOperationClass(OperationClass.WRITE)) {
+            selector.select(nodes);
+        }
+
+        assertThat(nodes).containsExactly(ingest, hotData, unknown);
+        assertThat(OperationRoutingNodeSelector.currentOperationClass()).isNull();
+    }
+
+    @Test
+    @DisplayName("should keep all nodes for operation classes without selector")
+    void shouldKeepAllNodesWithoutSelector() {
+
+        List<Node> nodes = new ArrayList<>(List.of(coordinating, ingest, hotData));
+
+        try (var ignored = OperationRoutingNodeSelector.withOperationClass(OperationClass.ADMIN)) {
+            selector.select(nodes);
+        }
+
+        assertThat(nodes).containsExactly(coordinating, ingest, hotData);
+    }
+
+    @Test
+    @DisplayName("should keep all nodes when no node matches")
+    void shouldKeepAllNodesWhenNoneMatches() {
+
+        List<Node> nodes = new ArrayList<>(List.of(ingest, hotData));
+
+        try (var ignored = OperationRoutingNodeSelector.withOperationClass(OperationClass.SEARCH)) {
+            selector.select(nodes);
+        }
+
+        assertThat(nodes).containsExactly(ingest, hotData);
+    }
+
+    @Test
+    @DisplayName("should reject an unknown node role")
+    void shouldRejectUnknownRole() {
+
+        assertThatIllegalArgumentException().isThrownBy(() -> OperationRoutingNodeSelector.matching("data_hot"))
+                .withMessageContaining("data_hot");
+    }
+
+    private static Node node(String name, Set<String> roles, Map<String, List<String>> attributes) {
+        HttpHost host = new HttpHost("http", name, 9200);
+        return new Node(host, Set.of(host), name, "3.0.0", new Node.Roles(roles), attributes);
+    }
+}
@@ -0,0 +1,457 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+
+package org.opensearch.data.client.osc;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.opensearch.client.json.jackson.JacksonJsonpMapper;
+import org.opensearch.client.opensearch.OpenSearchClient;
+import org.opensearch.client.opensearch._types.Result;
+import org.opensearch.client.opensearch.core.IndexRequest;
+import org.opensearch.client.opensearch.core.IndexResponse;
+import org.opensearch.client.opensearch.indices.CreateIndexRequest;
+import org.opensearch.client.opensearch.indices.CreateIndexResponse;
+import org.opensearch.client.opensearch.indices.ExistsRequest;
+import org.opensearch.client.opensearch.indices.GetAliasRequest;
+import org.opensearch.client.opensearch.indices.GetAliasResponse;
+import org.opensearch.client.opensearch.indices.GetMappingRequest;
+import org.opensearch.client.opensearch.indices.GetMappingResponse;
+import org.opensearch.client.opensearch.indices.PutMappingRequest;
+import org.opensearch.client.opensearch.indices.PutMappingResponse;
+import org.opensearch.client.opensearch.indices.get_alias.IndexAliases;
+import org.opensearch.client.opensearch.indices.get_mapping.IndexMappingRecord;
+import org.opensearch.client.transport.OpenSearchTransport;
+import org.opensearch.client.transport.endpoints.BooleanResponse;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.annotations.Field;
+import org.springframework.data.elasticsearch.annotations.FieldType;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.ReactiveIndexOperations;
+import org.springframework.data.elasticsearch.core.convert.MappingElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.mapping.SimpleElasticsearchMappingContext;
+import reactor.test.StepVerifier;
+
+class RepositoryIndexBootstrapUnitTests {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("should only be current on the thread while the scope is open")
+    void shouldBeCurrentWhileScopeIsOpen() {
+
+        RepositoryIndexBootstrap bootstrap = new RepositoryIndexBootstrap(executor);
+        RepositoryIndexBootstrap nested = new RepositoryIndexBootstrap(executor);
+
+        try (RepositoryIndexBootstrap.Scope ignored = bootstrap.bootstrapRepositories()) {
+            try (RepositoryIndexBootstrap.Scope inner = nested.bootstrapRepositories()) {
+                assertThat(RepositoryIndexBootstrap.current()).isSameAs(nested);
+            }
+            assertThat(RepositoryIndexBootstrap.current()).isSameAs(bootstrap);
+        }
+
+        assertThat(RepositoryIndexBootstrap.current()).isNull();
+    }
+
+    @Test
+    @DisplayName("should run the submitted bootstraps concurrently")
+    void shouldRunBootstrapsConcurrently() {
+
+        RepositoryIndexBootstrap bootstrap = new RepositoryIndexBootstrap(executor);
+        CountDownLatch started = new CountDownLatch(3);
+        AtomicInteger done = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            bootstrap.submit(IndexCoordinates.of("index-" + i), () -> {
+                started.countDown();
+                try {
+                    // only returns when all three run at the same time
+                    assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                done.incrementAndGet();
+            });
+        }
+
+        bootstrap.await(Duration.ofSeconds(10));
+
+        assertThat(bootstrap.size()).isEqualTo(3);
+        assertThat(done).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("should wait for reactive bootstraps")
+    void shouldWaitForReactiveBootstraps() {
+
+        RepositoryIndexBootstrap bootstrap = new RepositoryIndexBootstrap(executor);
+        CompletableFuture<Boolean> created = new CompletableFuture<>();
+
+        bootstrap.submitAsync(IndexCoordinates.of("index"), () -> created);
+
+        assertThat(bootstrap.completion()).isNotDone();
+        created.complete(true);
+        bootstrap.await(Duration.ofSeconds(10));
+        assertThat(bootstrap.completion()).isCompleted();
+    }
+
+    @Test
+    @DisplayName("should fail with the index of a failed bootstrap")
+    void shouldFailWithFailedIndex() {
+
+        RepositoryIndexBootstrap bootstrap = new RepositoryIndexBootstrap(executor);
+
+        bootstrap.submit(IndexCoordinates.of("good"), () -> {});
+        bootstrap.submit(IndexCoordinates.of("bad"), () -> {
+            throw new IllegalStateException("cluster unavailable");
+        });
+
+        assertThatThrownBy(() -> bootstrap.await(Duration.ofSeconds(10)))
+                .isInstanceOf(DataAccessResourceFailureException.class)
+                .hasMessageContaining("bad")
+                .hasRootCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("should answer existence checks from the index names loaded once")
+    void shouldAnswerExistenceChecksFromIndexNames() {
+
+        RepositoryIndexBootstrap bootstrap = new RepositoryIndexBootstrap(executor);
+        AtomicInteger loads = new AtomicInteger();
+        AtomicInteger checks = new AtomicInteger();
+
+        for (String index : new String[] { "products", "orders-alias", "missing" }) {
+            bootstrap.exists(IndexCoordinates.of(index), () -> {
+                loads.incrementAndGet();
+                return CompletableFuture.completedFuture(Set.of("products", "orders", "orders-alias"));
+            }, () -> {
+                checks.incrementAndGet();
+                return CompletableFuture.completedFuture(false);
+            }).join();
+        }
+
+        assertThat(loads).hasValue(1);
+        assertThat(checks).hasValue(1);
+        assertThat(bootstrap.exists(IndexCoordinates.of("missing"), () -> null,
+                () -> CompletableFuture.completedFuture(false)).join()).isFalse();
+    }
+
+    @Test
+    @DisplayName("should check each index when the index names cannot be loaded")
+    void shouldCheckIndexWhenIndexNamesCannotBeLoaded() {
+
+        RepositoryIndexBootstrap bootstrap = new RepositoryIndexBootstrap(executor);
+
+        assertThat(bootstrap.exists(IndexCoordinates.of("products"), () -> {
+            throw new IllegalStateException("forbidden");
+        }, () -> CompletableFuture.completedFuture(true)).join()).isTrue();
+    }
+
+    @Test
+    @DisplayName("should complete the bootstrap of an index only when its submitted bootstraps are done")
+    void shouldCompleteIndexBootstrap() {
+
+        RepositoryIndexBootstrap bootstrap = new RepositoryIndexBootstrap(executor);
+        CompletableFuture<Boolean> reconciled = new CompletableFuture<>();
+
+        bootstrap.submitAsync(IndexCoordinates.of("products"), () -> reconciled);
+
+        assertThat(bootstrap.whenBootstrapped(IndexCoordinates.of("products"))).isNotDone();
+        assertThat(bootstrap.whenBootstrapped(IndexCoordinates.of("orders"))).isDone();
+        reconciled.complete(true);
+        assertThat(bootstrap.whenBootstrapped(IndexCoordinates.of("products"))).succeedsWithin(Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("should drop a failed index bootstrap so it does not fail later writes")
+    void shouldDropFailedIndexBootstrap() {
+
+        RepositoryIndexBootstrap bootstrap = new RepositoryIndexBootstrap(executor);
+        CompletableFuture<Boolean> created = new CompletableFuture<>();
+
+        bootstrap.submitAsync(IndexCoordinates.of("products"), () -> created);
+        CompletableFuture<Void> waiting = bootstrap.whenBootstrapped(IndexCoordinates.of("products"));
+        created.completeExceptionally(new IllegalStateException("cluster unavailable"));
+
+        assertThat(waiting).failsWithin(Duration.ofSeconds(5));
+        assertThatCode(() -> bootstrap.awaitBootstrapped(IndexCoordinates.of("products"))).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("should create a missing index on the executor")
+    void shouldCreateMissingIndexOnExecutor() throws Exception {
+
+        OpenSearchTransport transport = mock(OpenSearchTransport.class);
+        doReturn(new JacksonJsonpMapper()).when(transport).jsonpMapper();
+        doReturn(GetAliasResponse.of(r -> r.result("other", IndexAliases.of(a -> a.aliases(Map.of())))))
+                .when(transport).performRequest(any(GetAliasRequest.class), any(), any());
+        doReturn(new BooleanResponse(false)).when(transport).performRequest(any(ExistsRequest.class), any(), any());
+        AtomicReference<String> creatingThread = new AtomicReference<>();
+        doAnswer(invocation -> {
+            creatingThread.set(Thread.currentThread().getName());
+            return CreateIndexResponse.of(r -> r.index("bootstrap-entities").acknowledged(true)
+                    .shardsAcknowledged(true));
+        }).when(transport).performRequest(any(CreateIndexRequest.class), any(), any());
+
+        OpenSearchTemplate template = new OpenSearchTemplate(new OpenSearchClient(transport), converter(),
+                new OpenSearchMappingParametersCustomizer());
+
+        RepositoryIndexBootstrap bootstrap = new RepositoryIndexBootstrap(executor);
+        try (RepositoryIndexBootstrap.Scope ignored = bootstrap.bootstrapRepositories()) {
+            IndexOperations indexOps = template.indexOps(BootstrapEntity.class);
+            assertThat(indexOps.exists()).isFalse();
+            assertThat(indexOps.createWithMapping()).isTrue();
+        }
+        bootstrap.await(Duration.ofSeconds(10));
+
+        verify(transport).performRequest(any(CreateIndexRequest.class), any(), any());
+        assertThat(creatingThread.get()).isNotNull().isNotEqualTo(Thread.currentThread().getName());
+    }
+
+    @Test
+    @DisplayName("should hold back a write that arrives before the bootstrap of its index is done")
+    void shouldHoldBackWriteUntilIndexIsBootstrapped() throws Exception {
+
+        OpenSearchTransport transport = mock(OpenSearchTransport.class);
+        doReturn(new JacksonJsonpMapper()).when(transport).jsonpMapper();
+        doReturn(GetAliasResponse.of(r -> r.result("bootstrap-entities", IndexAliases.of(a -> a.aliases(Map.of())))))
+                .when(transport).performRequest(any(GetAliasRequest.class), any(), any());
+        doReturn(IndexResponse.of(r -> r.index("bootstrap-entities").id("1").result(Result.Created).version(1)
+                .seqNo(0).primaryTerm(1).shards(s -> s.total(1).successful(1).failed(0))))
+                .when(transport).performRequest(any(IndexRequest.class), any(), any());
+
+        SimpleElasticsearchMappingContext mappingContext = new SimpleElasticsearchMappingContext();
+        mappingContext.afterPropertiesSet();
+        MappingElasticsearchConverter converter = new MappingElasticsearchConverter(mappingContext);
+        converter.afterPropertiesSet();
+        OpenSearchTemplate template = new OpenSearchTemplate(new OpenSearchClient(transport), converter,
+                new OpenSearchMappingParametersCustomizer());
+
+        RepositoryIndexBootstrap bootstrap = new RepositoryIndexBootstrap(executor);
+        try (RepositoryIndexBootstrap.Scope ignored = bootstrap.bootstrapRepositories()) {
+            assertThat(template.indexOps(BootstrapEntity.class).exists()).isTrue();
+        }
+        verify(transport, never()).performRequest(any(ExistsRequest.class), any(), any());
+
+        CountDownLatch reconciled = new CountDownLatch(1);
+        bootstrap.submit(IndexCoordinates.of("bootstrap-entities"), () -> {
+            try {
+                reconciled.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        BootstrapEntity entity = new BootstrapEntity();
+        entity.id = "1";
+        CompletableFuture<BootstrapEntity> write = CompletableFuture.supplyAsync(() -> template.save(entity), executor);
+
+        assertThat(write).failsWithin(Duration.ofMillis(200)).withThrowableOfType(TimeoutException.class);
+        verify(transport, never()).performRequest(any(IndexRequest.class), any(), any());
+
+        reconciled.countDown();
+
+        assertThat(write).succeedsWithin(Duration.ofSeconds(5));
+        verify(transport).performRequest(any(IndexRequest.class), any(), any());
+    }
+
+    @Test
+    @DisplayName("should add the missing fields to the mapping of an existing index")
+    void shouldReconcileMapping() throws Exception {
+
+        OpenSearchTransport transport = reconcilingTransport();
+        OpenSearchTemplate template = new OpenSearchTemplate(new OpenSearchClient(transport), converter(),
+                new OpenSearchMappingParametersCustomizer());
+
+        RepositoryIndexBootstrap bootstrap = new RepositoryIndexBootstrap(executor, true);
+        IndexOperations indexOps;
+        try (RepositoryIndexBootstrap.Scope ignored = bootstrap.bootstrapRepositories()) {
+            indexOps = template.indexOps(ReconciledEntity.class);
+            assertThat(indexOps.exists()).isTrue();
+        }
+        bootstrap.await(Duration.ofSeconds(10));
+
+        ArgumentCaptor<PutMappingRequest> putMapping = ArgumentCaptor.forClass(PutMappingRequest.class);
+        verify(transport).performRequest(putMapping.capture(), any(), any());
+        assertThat(putMapping.getValue().properties()).containsKey("category").doesNotContainKey("name");
+        assertThat(putMapping.getValue().meta()).containsKey(MappingDiff.MAPPING_HASH);
+
+        // the repository does not put the mapping of the entity, so a later put is not swallowed
+        assertThat(indexOps.putMapping()).isTrue();
+        verify(transport, times(2)).performRequest(any(PutMappingRequest.class), any(), any());
+    }
+
+    @Test
+    @DisplayName("should skip the mapping put of the repository after reconciling the mapping")
+    void shouldSkipRepositoryMappingPut() throws Exception {
+
+        OpenSearchTransport transport = reconcilingTransport();
+        OpenSearchTemplate template = new OpenSearchTemplate(new OpenSearchClient(transport), converter(),
+                new OpenSearchMappingParametersCustomizer());
+
+        RepositoryIndexBootstrap bootstrap = new RepositoryIndexBootstrap(executor, true);
+        try (RepositoryIndexBootstrap.Scope ignored = bootstrap.bootstrapRepositories()) {
+            IndexOperations indexOps = template.indexOps(AlwaysWrittenEntity.class);
+            assertThat(indexOps.exists()).isTrue();
+            assertThat(indexOps.putMapping()).isTrue();
+            assertThat(indexOps.putMapping()).isTrue();
+        }
+        bootstrap.await(Duration.ofSeconds(10));
+
+        verify(transport, times(2)).performRequest(any(PutMappingRequest.class), any(), any());
+    }
+
+    @Test
+    @DisplayName("should add the missing fields to the mapping of an existing index reactively")
+    void shouldReconcileMappingReactively() {
+
+        OpenSearchTransport transport = reconcilingTransport();
+        ReactiveOpenSearchTemplate template = new ReactiveOpenSearchTemplate(new ReactiveOpenSearchClient(transport),
+                converter());
+
+        RepositoryIndexBootstrap bootstrap = new RepositoryIndexBootstrap(executor, true);
+        ReactiveIndexOperations indexOps;
+        try (RepositoryIndexBootstrap.Scope ignored = bootstrap.bootstrapRepositories()) {
+            indexOps = template.indexOps(ReconciledEntity.class);
+            indexOps.exists().as(StepVerifier::create).expectNext(true).verifyComplete();
+        }
+        bootstrap.await(Duration.ofSeconds(10));
+
+        ArgumentCaptor<PutMappingRequest> putMapping = ArgumentCaptor.forClass(PutMappingRequest.class);
+        verify(transport).performRequestAsync(putMapping.capture(), any(), any());
+        assertThat(putMapping.getValue().properties()).containsKey("category").doesNotContainKey("name");
+        assertThat(putMapping.getValue().meta()).containsKey(MappingDiff.MAPPING_HASH);
+
+        indexOps.putMapping().as(StepVerifier::create).expectNext(true).verifyComplete();
+        verify(transport, times(2)).performRequestAsync(any(PutMappingRequest.class), any(), any());
+    }
+
+    @Test
+    @DisplayName("should skip the mapping put of the repository after reconciling the mapping reactively")
+    void shouldSkipRepositoryMappingPutReactively() {
+
+        OpenSearchTransport transport = reconcilingTransport();
+        ReactiveOpenSearchTemplate template = new ReactiveOpenSearchTemplate(new ReactiveOpenSearchClient(transport),
+                converter());
+
+        RepositoryIndexBootstrap bootstrap = new RepositoryIndexBootstrap(executor, true);
+        try (RepositoryIndexBootstrap.Scope ignored = bootstrap.bootstrapRepositories()) {
+            ReactiveIndexOperations indexOps = template.indexOps(AlwaysWrittenEntity.class);
+            indexOps.exists().as(StepVerifier::create).expectNext(true).verifyComplete();
+            indexOps.putMapping().as(StepVerifier::create).expectNext(true).verifyComplete();
+        }
+        bootstrap.await(Duration.ofSeconds(10));
+
+        verify(transport).performRequestAsync(any(PutMappingRequest.class), any(), any());
+    }
+
+    /**
+     * A transport of a cluster with the indices of {@link ReconciledEntity} and {@link AlwaysWrittenEntity}, both
+     * mapping only the name field.
+     */
+    private static OpenSearchTransport reconcilingTransport() {
+
+        OpenSearchTransport transport = mock(OpenSearchTransport.class);
+        doReturn(new JacksonJsonpMapper()).when(transport).jsonpMapper();
+
+        GetAliasResponse aliases = GetAliasResponse.of(r -> r //
+                .result("reconciled-entities", IndexAliases.of(a -> a.aliases(Map.of()))) //
+                .result("always-written-entities", IndexAliases.of(a -> a.aliases(Map.of()))));
+        IndexMappingRecord mapping = IndexMappingRecord.of(m -> m.mappings(t -> t //
+                .properties("name", p -> p.keyword(k -> k))));
+        GetMappingResponse mappings = GetMappingResponse.of(r -> r //
+                .result("reconciled-entities", mapping) //
+                .result("always-written-entities", mapping));
+        PutMappingResponse acknowledged = PutMappingResponse.of(r -> r.acknowledged(true));
+
+        try {
+            doReturn(aliases).when(transport).performRequest(any(GetAliasRequest.class), any(), any());
+            doReturn(mappings).when(transport).performRequest(any(GetMappingRequest.class), any(), any());
+            doReturn(acknowledged).when(transport).performRequest(any(PutMappingRequest.class), any(), any());
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+
+        doReturn(CompletableFuture.completedFuture(aliases)).when(transport)
+                .performRequestAsync(any(GetAliasRequest.class), any(), any());
+        doReturn(CompletableFuture.completedFuture(mappings)).when(transport)
+                .performRequestAsync(any(GetMappingRequest.class), any(), any());
+        doReturn(CompletableFuture.completedFuture(acknowledged)).when(transport)
+                .performRequestAsync(any(PutMappingRequest.class), any(), any());
+        return transport;
+    }
+
+    private static MappingElasticsearchConverter converter() {
+
+        SimpleElasticsearchMappingContext mappingContext = new SimpleElasticsearchMappingContext();
+        mappingContext.afterPropertiesSet();
+        MappingElasticsearchConverter converter = new MappingElasticsearchConverter(mappingContext);
+        converter.afterPropertiesSet();
+        return converter;
+    }
+
+    @Test
+    @DisplayName("should fail when the bootstraps do not finish in time")
+    void shouldFailOnTimeout() {
+
+        RepositoryIndexBootstrap bootstrap = new RepositoryIndexBootstrap(executor);
+
+        bootstrap.submitAsync(IndexCoordinates.of("index"), CompletableFuture::new);
+
+        assertThatThrownBy(() -> bootstrap.await(Duration.ofMillis(50)))
+                .isInstanceOf(DataAccessResourceFailureException.class)
+                .hasMessageContaining("did not finish");
+    }
+
+    @Document(indexName = "bootstrap-entities")
+    static class BootstrapEntity {
+        @Id String id;
+    }
+
+    @Document(indexName = "reconciled-entities")
+    static class ReconciledEntity {
+        @Id String id;
+        @Field(type = FieldType.Keyword) String name;
+        @Field(type = FieldType.Keyword) String category;
+    }
+
+    @Document(indexName = "always-written-entities", alwaysWriteMapping = true)
+    static class AlwaysWrittenEntity {
+        @Id String id;
+        @Field(type = FieldType.Keyword) String name;
+        @Field(type = FieldType.Keyword) String category;
+    }
+}
@@ -19,6 +19,7 @@ import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import org.junit.jupiter.api.DisplayName;
@@ -34,10 +35,12 @@ import org.springframework.data.elasticsearch.annotations.FieldType;
 import org.springframework.data.elasticsearch.core.convert.MappingElasticsearchConverter;
 import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
 import org.springframework.data.elasticsearch.core.mapping.SimpleElasticsearchMappingContext;
+import org.springframework.data.elasticsearch.core.query.BulkOptions;
 import org.springframework.data.elasticsearch.core.query.Criteria;
 import org.springframework.data.elasticsearch.core.query.CriteriaQuery;
 import org.springframework.data.elasticsearch.core.query.DeleteQuery;
 import org.springframework.data.elasticsearch.core.query.DocValueField;
+import org.springframework.data.elasticsearch.core.query.IndexQueryBuilder;
 import org.springframework.data.elasticsearch.core.query.StringQuery;
 import org.springframework.lang.Nullable;
 
@@ -94,6 +97,31 @@ class RequestConverterTest {
     }
 
 
+    @Test
+    @DisplayName("should ignore unavailable indices of pruned searches")
+    void shouldIgnoreUnavailableIndicesOfPrunedSearches() {
+
+        var requestConverter = new RequestConverter(converter, jsonpMapper);
+        requestConverter.setIndexPruning(true);
+        requestConverter.getTimeBasedIndexRouting().cacheIndices("logs-*", List.of("logs-2024.05.17"),
+                Instant.parse("2024-05-18T00:00:00Z"));
+        var query = new CriteriaQuery(new Criteria("timestamp").between(Instant.parse("2024-05-17T00:00:00Z"),
+                Instant.parse("2024-05-18T12:00:00Z")));
+
+        var searchRequest = requestConverter.searchRequest(query, null, LogEntry.class, IndexCoordinates.of("logs"),
+                false);
+
+        assertThat(searchRequest.index()).containsExactly("logs-2024.05.17", "logs-2024.05.18");
+        assertThat(searchRequest.ignoreUnavailable()).isTrue();
+        assertThat(searchRequest.allowNoIndices()).isTrue();
+
+        var unprunedRequest = requestConverter.searchRequest(query, null, LogEntry.class,
+                IndexCoordinates.of("logs-archive"), false);
+
+        assertThat(unprunedRequest.index()).containsExactly("logs-archive");
+        assertThat(unprunedRequest.ignoreUnavailable()).isNull();
+    }
+
     @Test // #542
     @DisplayName("should set track_total_hits to true on searchMsearchRequest")
     void shouldSetTrackTotalTrueOnMultiSearch() {
@@ -164,6 +192,23 @@ class RequestConverterTest {
         assertThat(trackTotalHits.count()).isEqualTo(countValue);
     }
 
+    @Test
+    @DisplayName("should map entities of a lazy bulk request only on serialization")
+    void shouldMapEntitiesOfLazyBulkRequestOnSerialization() {
+        var entity = new SampleEntity();
+        entity.id = "42";
+        entity.text = "lazy";
+        var indexQuery = new IndexQueryBuilder().withObject(entity).build();
+
+        var bulkRequest = requestConverter.documentBulkRequest(List.of(indexQuery), BulkOptions.defaultOptions(),
+                IndexCoordinates.of("foo"), null, true);
+
+        var document = bulkRequest.operations().getFirst().index().document();
+        assertThat(document).isInstanceOf(LazyDocument.class);
+        assertThat(bulkRequest.operations().getFirst().index().id()).isEqualTo("42");
+        assertThat(JsonUtils.toJson(document, jsonpMapper)).contains("\"text\":\"lazy\"");
+    }
+
     @Document(indexName = "does-not-matter")
     static class SampleEntity {
         @Nullable
@@ -172,6 +217,26 @@ class RequestConverterTest {
         @Field(type = FieldType.Text) private String text;
     }
 
+    @Document(indexName = "logs")
+    record LogEntry(@Id String id, @IndexTimeKey @Field(type = FieldType.Date) Instant timestamp) {
+    }
+
+    @Test
+    @DisplayName("should only profile single searches")
+    void shouldOnlyProfileSingleSearches() {
+
+        requestConverter.setSearchProfiling(SearchProfiling.builder().withSampleRate(1.0).build());
+        var query = StringQuery.builder("{\"match_all\":{}}").build();
+        var index = IndexCoordinates.of("foo");
+
+        assertThat(requestConverter.searchRequest(query, null, SampleEntity.class, index, false).profile()).isTrue();
+        assertThat(requestConverter.searchRequest(query, null, SampleEntity.class, index, true).profile()).isNull();
+        assertThat(requestConverter.searchRequest(query, null, SampleEntity.class, index, false, 1000L).profile())
+                .isNull();
+        assertThat(requestConverter.searchRequest(query, null, SampleEntity.class, index, false, true).profile())
+                .isNull();
+    }
+
     @Test
     void getRouting() {
 
@@ -0,0 +1,143 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.net.SocketException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.opensearch.client.opensearch._types.ErrorResponse;
+import org.opensearch.client.opensearch._types.OpenSearchException;
+import org.opensearch.client.opensearch.core.BulkRequest;
+import org.opensearch.client.opensearch.core.IndexRequest;
+import org.opensearch.client.opensearch.core.SearchRequest;
+import org.opensearch.client.opensearch.core.UpdateRequest;
+import org.opensearch.client.transport.Endpoint;
+import org.opensearch.client.transport.OpenSearchTransport;
+
+class RetryingOpenSearchTransportUnitTests {
+
+    private final OpenSearchTransport delegate = mock(OpenSearchTransport.class);
+    @SuppressWarnings("unchecked") private final Endpoint<Object, Object, Object> endpoint = mock(Endpoint.class);
+    private final RetryingOpenSearchTransport transport = new RetryingOpenSearchTransport(delegate,
+            RetryPolicy.builder().withInitialBackoff(Duration.ZERO).withJitter(0).build());
+
+    @Test
+    @DisplayName("should retry a search that failed with 503")
+    void shouldRetrySearchOnServiceUnavailable() throws Exception {
+
+        Object request = SearchRequest.of(s -> s.index("index"));
+        when(delegate.performRequest(eq(request), eq(endpoint), any())).thenThrow(status(503)).thenReturn("response");
+
+        assertThat(transport.performRequest(request, endpoint, null)).isEqualTo("response");
+        verify(delegate, times(2)).performRequest(eq(request), eq(endpoint), any());
+        assertThat(transport.getStatistics().getRetries()).isEqualTo(1);
+        assertThat(transport.getStatistics().getRecovered()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should not retry a request that failed with a non retryable status")
+    void shouldNotRetryNonRetryableStatus() throws Exception {
+
+        Object request = SearchRequest.of(s -> s.index("index"));
+        when(delegate.performRequest(eq(request), eq(endpoint), any())).thenThrow(status(400));
+
+        assertThatThrownBy(() -> transport.performRequest(request, endpoint, null))
+                .isInstanceOf(OpenSearchException.class);
+        verify(delegate, times(1)).performRequest(eq(request), eq(endpoint), any());
+    }
+
+    @Test
+    @DisplayName("should not retry an index request without id")
+    void shouldNotRetryIndexRequestWithoutId() throws Exception {
+
+        Object request = IndexRequest.of(i -> i.index("index").document(Map.of("field", "value")));
+        when(delegate.performRequest(eq(request), eq(endpoint), any())).thenThrow(status(429));
+
+        assertThatThrownBy(() -> transport.performRequest(request, endpoint, null))
+                .isInstanceOf(OpenSearchException.class);
+        verify(delegate, times(1)).performRequest(eq(request), eq(endpoint), any());
+        assertThat(transport.getStatistics().getNotIdempotent()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should give up after the max attempts")
+    void shouldGiveUpAfterMaxAttempts() throws Exception {
+
+        Object request = IndexRequest.of(i -> i.index("index").id("42").document(Map.of("field", "value")));
+        when(delegate.performRequest(eq(request), eq(endpoint), any())).thenThrow(new SocketException("reset"));
+
+        assertThatThrownBy(() -> transport.performRequest(request, endpoint, null))
+                .isInstanceOf(SocketException.class);
+        verify(delegate, times(3)).performRequest(eq(request), eq(endpoint), any());
+        assertThat(transport.getStatistics().getExhausted()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should retry asynchronous requests")
+    void shouldRetryAsynchronousRequests() throws Exception {
+
+        Object request = SearchRequest.of(s -> s.index("index"));
+        when(delegate.performRequestAsync(eq(request), eq(endpoint), any()))
+                .thenReturn(CompletableFuture.failedFuture(status(502)))
+                .thenReturn(CompletableFuture.completedFuture("response"));
+
+        assertThat(transport.performRequestAsync(request, endpoint, null).get()).isEqualTo("response");
+    }
+
+    @Test
+    @DisplayName("should consider bulk requests idempotent only if all operations are")
+    void shouldCheckAllBulkOperationsForIdempotency() {
+
+        when(endpoint.method(any())).thenReturn("POST");
+
+        BulkRequest withIds = BulkRequest.of(b -> b //
+                .operations(o -> o.index(i -> i.index("index").id("1").document(Map.of()))) //
+                .operations(o -> o.delete(d -> d.index("index").id("2"))));
+        BulkRequest withoutId = BulkRequest.of(b -> b //
+                .operations(o -> o.index(i -> i.index("index").id("1").document(Map.of()))) //
+                .operations(o -> o.index(i -> i.index("index").document(Map.of()))));
+
+        assertThat(RetryingOpenSearchTransport.isIdempotent(withIds, endpoint)).isTrue();
+        assertThat(RetryingOpenSearchTransport.isIdempotent(withoutId, endpoint)).isFalse();
+    }
+
+    @Test
+    @DisplayName("should apply the same idempotency rule to single and bulk updates")
+    void shouldApplySameRuleToUpdates() {
+
+        when(endpoint.method(any())).thenReturn("POST");
+
+        UpdateRequest<Object, Object> partialUpdate = UpdateRequest.of(u -> u.index("index").id("1").doc(Map.of()));
+        UpdateRequest<Object, Object> scriptedUpdate = UpdateRequest.of(u -> u.index("index").id("1")
+                .script(s -> s.inline(i -> i.source("ctx._source.count++"))));
+        BulkRequest bulkPartialUpdate = BulkRequest.of(b -> b //
+                .operations(o -> o.update(u -> u.index("index").id("1").document(Map.of()))));
+        BulkRequest bulkScriptedUpdate = BulkRequest.of(b -> b //
+                .operations(o -> o.update(u -> u.index("index").id("1")
+                        .script(s -> s.inline(i -> i.source("ctx._source.count++"))))));
+
+        assertThat(RetryingOpenSearchTransport.isIdempotent(partialUpdate, endpoint)).isTrue();
+        assertThat(RetryingOpenSearchTransport.isIdempotent(bulkPartialUpdate, endpoint)).isTrue();
+        assertThat(RetryingOpenSearchTransport.isIdempotent(scriptedUpdate, endpoint)).isFalse();
+        assertThat(RetryingOpenSearchTransport.isIdempotent(bulkScriptedUpdate, endpoint)).isFalse();
+    }
+
+    private static OpenSearchException status(int status) {
+        return new OpenSearchException(
+                ErrorResponse.of(e -> e.status(status).error(c -> c.type("exception").reason("status " + status))));
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SearchProfilingUnitTests {
+
+    @Test
+    @DisplayName("should not profile searches by default")
+    void shouldNotProfileByDefault() {
+
+        assertThat(SearchProfiling.DISABLED.shouldProfile()).isFalse();
+    }
+
+    @Test
+    @DisplayName("should profile all searches with a sample rate of 1")
+    void shouldProfileAllSearchesWithSampleRateOne() {
+
+        SearchProfiling profiling = SearchProfiling.builder().withSampleRate(1.0).build();
+
+        assertThat(profiling.shouldProfile()).isTrue();
+    }
+
+    @Test
+    @DisplayName("should profile the searches of the current thread while requested")
+    void shouldProfileWhileRequested() {
+
+        try (SearchProfiling.Scope ignored = SearchProfiling.profileSearches()) {
+            try (SearchProfiling.Scope nested = SearchProfiling.profileSearches()) {
+                assertThat(SearchProfiling.DISABLED.shouldProfile()).isTrue();
+            }
+            assertThat(SearchProfiling.DISABLED.shouldProfile()).isTrue();
+        }
+
+        assertThat(SearchProfiling.DISABLED.shouldProfile()).isFalse();
+    }
+
+    @Test
+    @DisplayName("should not call the listener for responses without profile")
+    void shouldIgnoreResponsesWithoutProfile() {
+
+        List<SearchProfile> profiles = new ArrayList<>();
+        SearchProfiling profiling = SearchProfiling.builder().withListener(profiles::add).build();
+
+        assertThat(profiling.publish(null)).isNull();
+
+        assertThat(profiles).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should extract the index from a shard id")
+    void shouldExtractIndexFromShardId() {
+
+        assertThat(SearchProfile.indexOf("[node-1][products-2024.01][0]")).isEqualTo("products-2024.01");
+        assertThat(SearchProfile.indexOf("unknown")).isEqualTo("unknown");
+    }
+}
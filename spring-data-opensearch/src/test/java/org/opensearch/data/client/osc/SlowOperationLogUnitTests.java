@@ -0,0 +1,86 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.opensearch.client.json.jackson.JacksonJsonpMapper;
+import org.opensearch.client.opensearch._types.FieldValue;
+import org.opensearch.client.opensearch.core.SearchRequest;
+
+class SlowOperationLogUnitTests {
+
+    @Test
+    @DisplayName("should consider operations over the latency threshold slow")
+    void shouldConsiderOperationsOverLatencyThresholdSlow() {
+
+        SlowOperationLog log = SlowOperationLog.builder().withLatencyThreshold(Duration.ofMillis(500)).build();
+
+        assertThat(log.isSlow(TimeUnit.MILLISECONDS.toNanos(499), 499)).isFalse();
+        assertThat(log.isSlow(TimeUnit.MILLISECONDS.toNanos(500), -1)).isTrue();
+    }
+
+    @Test
+    @DisplayName("should consider operations over the took threshold slow")
+    void shouldConsiderOperationsOverTookThresholdSlow() {
+
+        SlowOperationLog log = SlowOperationLog.builder() //
+                .withLatencyThreshold(Duration.ofSeconds(5)) //
+                .withTookThreshold(Duration.ofMillis(100)) //
+                .build();
+
+        assertThat(log.isSlow(TimeUnit.MILLISECONDS.toNanos(150), 99)).isFalse();
+        assertThat(log.isSlow(TimeUnit.MILLISECONDS.toNanos(150), 100)).isTrue();
+        assertThat(log.isSlow(TimeUnit.MILLISECONDS.toNanos(150), -1)).isFalse();
+    }
+
+    @Test
+    @DisplayName("should name the repository method the operation was issued through")
+    void shouldNameRepositoryMethod() {
+
+        PersonRepository repository = (PersonRepository) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] { PersonRepository.class }, (proxy, method, args) -> SlowOperationLog.currentCaller());
+
+        assertThat(repository.findByName()).startsWith("PersonRepository.findByName called from ");
+    }
+
+    @Test
+    @DisplayName("should stop serializing the request body at the maximum request length")
+    void shouldTruncateRequestBody() {
+
+        SlowOperationLog log = SlowOperationLog.builder().withMaxRequestLength(100).build();
+        List<FieldValue> values = IntStream.range(0, 100_000).mapToObj(i -> FieldValue.of("value-" + i)).toList();
+        SearchRequest request = SearchRequest.of(s -> s.index("index")
+                .query(q -> q.terms(t -> t.field("name").terms(v -> v.value(values)))));
+
+        assertThat(log.body(request, new JacksonJsonpMapper())).hasSize(100 + "... [truncated]".length())
+                .endsWith("... [truncated]");
+        assertThat(SlowOperationLog.builder().build().body(SearchRequest.of(s -> s.index("index")),
+                new JacksonJsonpMapper())).isEqualTo("{}");
+    }
+
+    @Test
+    @DisplayName("should reject a sample rate outside of 0 and 1")
+    void shouldRejectInvalidSampleRate() {
+
+        assertThatIllegalArgumentException().isThrownBy(() -> SlowOperationLog.builder().withSampleRate(1.5));
+    }
+
+    interface PersonRepository {
+        String findByName();
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.ContentTooLongException;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.impl.BasicEntityDetails;
+import org.apache.hc.core5.http.message.BasicHttpResponse;
+import org.apache.hc.core5.http.nio.AsyncResponseConsumer;
+import org.apache.hc.core5.http.protocol.BasicHttpContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class StreamingResponseConsumerFactoryUnitTests {
+
+    private static final String BODY = "{\"hits\":{\"hits\":[{\"_id\":\"1\"},{\"_id\":\"2\"}]}}";
+
+    @Test
+    @DisplayName("should stream the response body to the reader")
+    void shouldStreamTheResponseBody() throws Exception {
+
+        var consumer = new StreamingResponseConsumerFactory(1024).createHttpAsyncResponseConsumer();
+        var response = new CompletableFuture<ClassicHttpResponse>();
+        byte[] bytes = BODY.getBytes(StandardCharsets.UTF_8);
+
+        // the I/O reactor side must not run on the reading thread
+        CompletableFuture.runAsync(() -> {
+            try {
+                consumer.consumeResponse(new BasicHttpResponse(200),
+                        new BasicEntityDetails(-1, ContentType.APPLICATION_JSON), new BasicHttpContext(), callback(response));
+                consumer.consume(ByteBuffer.wrap(bytes, 0, 10));
+                consumer.consume(ByteBuffer.wrap(bytes, 10, bytes.length - 10));
+                consumer.streamEnd(null);
+            } catch (Exception e) {
+                response.completeExceptionally(e);
+            }
+        }).get(10, TimeUnit.SECONDS);
+
+        try (var content = response.get(10, TimeUnit.SECONDS).getEntity().getContent()) {
+            assertThat(new String(content.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(BODY);
+        }
+    }
+
+    @Test
+    @DisplayName("should reject a response with a content length above the max response size")
+    void shouldRejectTooLongContentLength() {
+
+        var consumer = new StreamingResponseConsumerFactory(10).createHttpAsyncResponseConsumer();
+
+        assertThatThrownBy(() -> consumer.consumeResponse(new BasicHttpResponse(200),
+                new BasicEntityDetails(11, ContentType.APPLICATION_JSON), new BasicHttpContext(),
+                callback(new CompletableFuture<>()))).isInstanceOf(ContentTooLongException.class);
+    }
+
+    @Test
+    @DisplayName("should fail the reader when the streamed body exceeds the max response size")
+    void shouldFailReaderWhenBodyExceedsMaxResponseSize() throws Exception {
+
+        AsyncResponseConsumer<ClassicHttpResponse> consumer = new StreamingResponseConsumerFactory(10)
+                .createHttpAsyncResponseConsumer();
+        var response = new CompletableFuture<ClassicHttpResponse>();
+
+        CompletableFuture.runAsync(() -> {
+            try {
+                consumer.consumeResponse(new BasicHttpResponse(200),
+                        new BasicEntityDetails(-1, ContentType.APPLICATION_JSON), new BasicHttpContext(), callback(response));
+                consumer.consume(ByteBuffer.wrap(BODY.getBytes(StandardCharsets.UTF_8)));
+            } catch (Exception e) {
+                consumer.failed(e);
+            }
+        }).get(10, TimeUnit.SECONDS);
+
+        var content = response.get(10, TimeUnit.SECONDS).getEntity().getContent();
+        assertThatThrownBy(content::readAllBytes).isInstanceOf(ContentTooLongException.class);
+    }
+
+    @Test
+    @DisplayName("should not allow reading on the I/O dispatcher thread")
+    void shouldNotAllowReadingOnTheDispatcherThread() {
+
+        var consumer = new StreamingResponseConsumerFactory(1024).createHttpAsyncResponseConsumer();
+        var response = new CompletableFuture<ClassicHttpResponse>();
+
+        assertThatThrownBy(() -> {
+            consumer.consumeResponse(new BasicHttpResponse(200), new BasicEntityDetails(-1, ContentType.APPLICATION_JSON),
+                    new BasicHttpContext(), callback(response));
+            response.get().getEntity().getContent().read();
+        }).isInstanceOf(IllegalStateException.class);
+    }
+
+    private static FutureCallback<ClassicHttpResponse> callback(CompletableFuture<ClassicHttpResponse> future) {
+        return new FutureCallback<>() {
+            @Override
+            public void completed(ClassicHttpResponse result) {
+                future.complete(result);
+            }
+
+            @Override
+            public void failed(Exception ex) {
+                future.completeExceptionally(ex);
+            }
+
+            @Override
+            public void cancelled() {
+                future.cancel(false);
+            }
+        };
+    }
+}
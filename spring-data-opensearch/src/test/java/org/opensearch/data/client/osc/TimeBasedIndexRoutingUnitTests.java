@@ -0,0 +1,210 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.annotations.Field;
+import org.springframework.data.elasticsearch.annotations.FieldType;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.mapping.SimpleElasticsearchMappingContext;
+
+class TimeBasedIndexRoutingUnitTests {
+
+    private final TimeBasedIndexRouting routing = new TimeBasedIndexRouting(new SimpleElasticsearchMappingContext());
+
+    @Test
+    @DisplayName("should derive the index from the time key")
+    void shouldDeriveIndexFromTimeKey() {
+
+        assertThat(routing.indexName(new LogEntry("1", Instant.parse("2024-05-17T23:59:59Z"))))
+                .isEqualTo("logs-2024.05.17");
+        assertThat(routing.indexName(new LogEntry("2", Instant.parse("2024-05-18T00:00:00Z"))))
+                .isEqualTo("logs-2024.05.18");
+        assertThat(routing.indexName(new LogEntry("3", Instant.parse("2024-05-17T12:00:00Z"))))
+                .isEqualTo("logs-2024.05.17");
+    }
+
+    @Test
+    @DisplayName("should only route entities written to the index of their document")
+    void shouldOnlyRouteEntitiesWrittenToTheirIndex() {
+
+        LogEntry entry = new LogEntry("1", Instant.parse("2024-05-17T12:00:00Z"));
+
+        assertThat(routing.indexName(entry, IndexCoordinates.of("logs"))).isEqualTo("logs-2024.05.17");
+        assertThat(routing.indexName(entry, IndexCoordinates.of("logs-archive"))).isNull();
+        assertThat(routing.indexName(new Product("1"), IndexCoordinates.of("products"))).isNull();
+    }
+
+    @Test
+    @DisplayName("should limit the index names of a time range")
+    void shouldLimitIndexNamesOfTimeRange() {
+
+        Instant from = Instant.parse("2024-05-16T00:00:00Z");
+
+        assertThat(routing.indexNames(LogEntry.class, from, from.plus(TimeBasedIndexRouting.MAX_INDICES + 10,
+                ChronoUnit.DAYS))).hasSize(TimeBasedIndexRouting.MAX_INDICES);
+    }
+
+    @Test
+    @DisplayName("should derive monthly indices from local dates")
+    void shouldDeriveMonthlyIndices() {
+
+        assertThat(routing.indexName(new Invoice("1", LocalDate.of(2024, 2, 29)))).isEqualTo("invoices_2024-02");
+        assertThat(routing.indexNames(Invoice.class, Instant.parse("2023-12-31T00:00:00Z"),
+                Instant.parse("2024-02-01T00:00:00Z"))).containsExactly("invoices_2023-12", "invoices_2024-01",
+                        "invoices_2024-02");
+    }
+
+    @Test
+    @DisplayName("should not route entities without time key")
+    void shouldNotRouteEntitiesWithoutTimeKey() {
+
+        assertThat(routing.isTimeBased(Product.class)).isFalse();
+        assertThat(routing.indexName(new Product("1"))).isNull();
+        assertThatThrownBy(() -> routing.indexPattern(Product.class))
+                .isInstanceOf(InvalidDataAccessApiUsageException.class);
+    }
+
+    @Test
+    @DisplayName("should reject entities without time")
+    void shouldRejectEntitiesWithoutTime() {
+        assertThatThrownBy(() -> routing.indexName(new LogEntry("1", null)))
+                .isInstanceOf(InvalidDataAccessApiUsageException.class);
+    }
+
+    @Test
+    @DisplayName("should resolve the indices of a time range")
+    void shouldResolveIndicesOfTimeRange() {
+
+        assertThat(routing.indexPattern(LogEntry.class)).isEqualTo("logs-*");
+        assertThat(routing.timeField(LogEntry.class)).isEqualTo("@timestamp");
+        assertThat(routing.indexNames(LogEntry.class, Instant.parse("2024-05-16T22:00:00Z"),
+                Instant.parse("2024-05-18T01:00:00Z"))).containsExactly("logs-2024.05.16", "logs-2024.05.17",
+                        "logs-2024.05.18");
+    }
+
+    @Test
+    @DisplayName("should only read existing indices of a time range")
+    void shouldOnlyReadExistingIndices() {
+
+        Instant from = Instant.parse("2024-05-16T00:00:00Z");
+        Instant to = Instant.parse("2024-05-18T00:00:00Z");
+
+        assertThat(routing.indexCoordinates(LogEntry.class, from, to, Set.of("logs-2024.05.17", "logs-2024.05.18",
+                "logs-2024.05.19"))).isEqualTo(IndexCoordinates.of("logs-2024.05.17", "logs-2024.05.18"));
+        assertThat(routing.indexCoordinates(LogEntry.class, from, to, Set.of()))
+                .isEqualTo(IndexCoordinates.of("logs-*"));
+        assertThat(routing.indexCoordinates(LogEntry.class, from, from.plus(TimeBasedIndexRouting.MAX_INDICES + 1,
+                ChronoUnit.DAYS), Set.of("logs-2024.05.17"))).isEqualTo(IndexCoordinates.of("logs-2024.05.17"));
+    }
+
+    @Test
+    @DisplayName("should resolve the indices of open time ranges")
+    void shouldResolveIndicesOfOpenTimeRanges() {
+
+        Set<String> existingIndices = Set.of("logs-2024.05.16", "logs-2024.05.17", "logs-2024.05.18", "logs-archive");
+
+        assertThat(routing.indexCoordinates(LogEntry.class, Instant.parse("2024-05-17T12:00:00Z"), null,
+                existingIndices)).isEqualTo(IndexCoordinates.of("logs-2024.05.17", "logs-2024.05.18", "logs-archive"));
+        assertThat(routing.indexCoordinates(LogEntry.class, null, Instant.parse("2024-05-16T23:59:59Z"),
+                existingIndices)).isEqualTo(IndexCoordinates.of("logs-2024.05.16", "logs-archive"));
+    }
+
+    @Test
+    @DisplayName("should add the indices of the periods after loading the existing indices to searches")
+    void shouldAddIndicesOfPeriodsAfterLoading() {
+
+        routing.cacheIndices("logs-*", Set.of("logs-2024.05.16", "logs-2024.05.17"),
+                Instant.parse("2024-05-17T12:00:00Z"));
+
+        assertThat(routing.searchIndexCoordinates(LogEntry.class, Instant.parse("2024-05-16T00:00:00Z"),
+                Instant.parse("2024-05-19T00:00:00Z"))).isEqualTo(IndexCoordinates.of("logs-2024.05.16",
+                        "logs-2024.05.17", "logs-2024.05.18", "logs-2024.05.19"));
+        assertThat(routing.searchIndexCoordinates(LogEntry.class, Instant.parse("2024-05-16T00:00:00Z"),
+                Instant.parse("2024-05-16T12:00:00Z"))).isEqualTo(IndexCoordinates.of("logs-2024.05.16"));
+        assertThat(routing.searchIndexCoordinates(Invoice.class, null, null)).isNull();
+
+        Instant loadedAt = Instant.now().minus(1, ChronoUnit.DAYS);
+        routing.cacheIndices("logs-*", Set.of("logs-2024.05.16"), loadedAt);
+
+        assertThat(routing.searchIndexCoordinates(LogEntry.class, Instant.parse("2024-05-16T12:00:00Z"), null)
+                .getIndexNames()).containsExactly("logs-2024.05.16", routing.indexName(new LogEntry("1", loadedAt)),
+                        routing.indexName(new LogEntry("2", Instant.now())));
+    }
+
+    @Test
+    @DisplayName("should convert range bounds to instants")
+    void shouldConvertRangeBounds() {
+
+        assertThat(routing.timeValue(LogEntry.class, "2024-05-17T10:15:30.000Z"))
+                .isEqualTo(Instant.parse("2024-05-17T10:15:30Z"));
+        assertThat(routing.timeValue(LogEntry.class, "2024-05-17")).isEqualTo(Instant.parse("2024-05-17T00:00:00Z"));
+        assertThat(routing.timeValue(LogEntry.class, "1715940930000"))
+                .isEqualTo(Instant.parse("2024-05-17T10:15:30Z"));
+        assertThat(routing.timeValue(LogEntry.class, 1715940930000L)).isEqualTo(Instant.parse("2024-05-17T10:15:30Z"));
+        assertThat(routing.timeValue(LogEntry.class, "now-1d")).isBetween(Instant.now().minus(1, ChronoUnit.DAYS)
+                .minusSeconds(5), Instant.now().minus(1, ChronoUnit.DAYS));
+        assertThat(routing.timeValue(LogEntry.class, "now/d")).isNull();
+        assertThat(routing.timeValue(LogEntry.class, "yesterday")).isNull();
+    }
+
+    @Test
+    @DisplayName("should load and cache the existing indices")
+    void shouldLoadAndCacheExistingIndices() {
+
+        List<String> loaded = new ArrayList<>();
+        routing.setIndexLoader(pattern -> {
+            loaded.add(pattern);
+            return Set.of("logs-2024.05.17");
+        });
+
+        assertThat(routing.existingIndices("logs-*")).containsExactly("logs-2024.05.17");
+        assertThat(routing.existingIndices("logs-*")).containsExactly("logs-2024.05.17");
+        assertThat(loaded).containsExactly("logs-*");
+    }
+
+    @Test
+    @DisplayName("should add written indices to the cached index patterns")
+    void shouldAddWrittenIndicesToCache() {
+
+        routing.cacheIndices("logs-*", List.of("logs-2024.05.17"));
+
+        routing.indexWritten("logs-2024.05.18");
+        routing.indexWritten("invoices_2024-05");
+
+        assertThat(routing.cachedIndices("logs-*")).containsExactlyInAnyOrder("logs-2024.05.17", "logs-2024.05.18");
+        assertThat(routing.cachedIndices("invoices_*")).isNull();
+    }
+
+    @Document(indexName = "logs")
+    record LogEntry(@Id String id, @IndexTimeKey @Field(name = "@timestamp", type = FieldType.Date) Instant timestamp) {
+    }
+
+    @Document(indexName = "invoices")
+    record Invoice(@Id String id,
+            @IndexTimeKey(pattern = "yyyy-MM", period = ChronoUnit.MONTHS, separator = "_") LocalDate date) {
+    }
+
+    @Document(indexName = "products")
+    record Product(@Id String id) {
+    }
+}